@@ -1,5 +1,8 @@
 package tn.itdevspace.easytask.config;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,7 +13,260 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final IndexAdvisor indexAdvisor = new IndexAdvisor();
+
+    private final Cache cache = new Cache();
+
+    private final ResponseCache responseCache = new ResponseCache();
+
+    private final Datasource datasource = new Datasource();
+
     // jhipster-needle-application-properties-property
+
+    public IndexAdvisor getIndexAdvisor() {
+        return indexAdvisor;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public Datasource getDatasource() {
+        return datasource;
+    }
+
     // jhipster-needle-application-properties-property-getter
+
+    public static class IndexAdvisor {
+
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Sizing of the Ehcache regions. Regions not listed use the {@code jhipster.cache.ehcache} settings, on heap only.
+     */
+    public static class Cache {
+
+        /**
+         * Directory of the disk tier, used only if a region has a disk size.
+         */
+        private String diskPath;
+
+        /**
+         * Sizing by region, keyed by the region name without the domain package, for example {@code ChargeJournaliere},
+         * {@code "[Projet.livrables]"} or {@code usersByLogin}.
+         */
+        private Map<String, Region> regions = new HashMap<>();
+
+        public String getDiskPath() {
+            return diskPath;
+        }
+
+        public void setDiskPath(String diskPath) {
+            this.diskPath = diskPath;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(Map<String, Region> regions) {
+            this.regions = regions;
+        }
+
+        public static class Region {
+
+            /**
+             * Number of entries kept on heap, {@code jhipster.cache.ehcache.max-entries} by default.
+             */
+            private Long heapEntries;
+
+            /**
+             * Size of the off-heap tier in megabytes, 0 for none.
+             */
+            private long offheapMb = 0;
+
+            /**
+             * Size of the disk tier in megabytes, 0 for none. Must be larger than the off-heap tier.
+             */
+            private long diskMb = 0;
+
+            /**
+             * Time to live of the entries, {@code jhipster.cache.ehcache.time-to-live-seconds} by default.
+             */
+            private Long timeToLiveSeconds;
+
+            public Long getHeapEntries() {
+                return heapEntries;
+            }
+
+            public void setHeapEntries(Long heapEntries) {
+                this.heapEntries = heapEntries;
+            }
+
+            public long getOffheapMb() {
+                return offheapMb;
+            }
+
+            public void setOffheapMb(long offheapMb) {
+                this.offheapMb = offheapMb;
+            }
+
+            public long getDiskMb() {
+                return diskMb;
+            }
+
+            public void setDiskMb(long diskMb) {
+                this.diskMb = diskMb;
+            }
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+        }
+    }
+
+    /**
+     * Cache of the serialized listings, see {@link tn.itdevspace.easytask.service.ResponseCacheService}.
+     */
+    public static class ResponseCache {
+
+        /**
+         * Whether to also keep a gzip-compressed copy of the responses, sent to the clients accepting it.
+         */
+        private boolean gzip = false;
+
+        /**
+         * Size in bytes from which a response is compressed.
+         */
+        private int gzipMinSize = 1024;
+
+        public boolean isGzip() {
+            return gzip;
+        }
+
+        public void setGzip(boolean gzip) {
+            this.gzip = gzip;
+        }
+
+        public int getGzipMinSize() {
+            return gzipMinSize;
+        }
+
+        public void setGzipMinSize(int gzipMinSize) {
+            this.gzipMinSize = gzipMinSize;
+        }
+    }
+
+    /**
+     * Read replica, see {@link DatabaseConfiguration}.
+     */
+    public static class Datasource {
+
+        private final Replica replica = new Replica();
+
+        public Replica getReplica() {
+            return replica;
+        }
+
+        public static class Replica {
+
+            /**
+             * JDBC URL of the replica. Read-only transactions use the primary when unset.
+             */
+            private String url;
+
+            /**
+             * User of the replica, the one of the primary when unset.
+             */
+            private String username;
+
+            /**
+             * Password of the replica, the one of the primary when unset.
+             */
+            private String password;
+
+            /**
+             * Size of the replica pool, the one of the primary when unset.
+             */
+            private Integer maximumPoolSize;
+
+            /**
+             * Replication lag, as measured on the replica, above which read-only transactions use the primary. Also the
+             * delay after a write during which they still use the primary, to read what was written.
+             */
+            private Duration maxLag = Duration.ofSeconds(1);
+
+            /**
+             * Delay during which the measured replication lag is reused before being measured again.
+             */
+            private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public Integer getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(Integer maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+
+            public Duration getMaxLag() {
+                return maxLag;
+            }
+
+            public void setMaxLag(Duration maxLag) {
+                this.maxLag = maxLag;
+            }
+
+            public Duration getLagCheckInterval() {
+                return lagCheckInterval;
+            }
+
+            public void setLagCheckInterval(Duration lagCheckInterval) {
+                this.lagCheckInterval = lagCheckInterval;
+            }
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,9 +1,19 @@
 package tn.itdevspace.easytask.config;
 
+import java.io.File;
 import java.time.Duration;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -19,20 +29,40 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final String DOMAIN_PACKAGE = "tn.itdevspace.easytask.domain.";
+
+    private final Logger log = LoggerFactory.getLogger(CacheConfiguration.class);
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final ApplicationProperties.Cache cacheProperties;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
+    }
 
-        jcacheConfiguration =
-            Eh107Configuration.fromEhcacheCacheConfiguration(
-                CacheConfigurationBuilder
-                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(ehcache.getMaxEntries()))
-                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                    .build()
-            );
+    /**
+     * The JCache manager, created here rather than by Spring Boot so that a disk tier can be given a directory.
+     */
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> cacheManagerCustomizers) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        DefaultConfiguration configuration;
+        if (cacheProperties.getRegions().values().stream().anyMatch(region -> region.getDiskMb() > 0)) {
+            log.debug("Ehcache disk tier stored in {}", cacheProperties.getDiskPath());
+            configuration =
+                new DefaultConfiguration(
+                    provider.getDefaultClassLoader(),
+                    new DefaultPersistenceConfiguration(new File(cacheProperties.getDiskPath()))
+                );
+        } else {
+            configuration = new DefaultConfiguration(provider.getDefaultClassLoader());
+        }
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), configuration);
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        return cacheManager;
     }
 
     @Bean
@@ -50,20 +80,17 @@ public class CacheConfiguration {
             createCache(cm, tn.itdevspace.easytask.domain.User.class.getName() + ".authorities");
             createCache(cm, tn.itdevspace.easytask.domain.ChargeJournaliere.class.getName());
             createCache(cm, tn.itdevspace.easytask.domain.Projet.class.getName());
-            createCache(cm, tn.itdevspace.easytask.domain.Projet.class.getName() + ".livrables");
-            createCache(cm, tn.itdevspace.easytask.domain.Projet.class.getName() + ".estimations");
+            createCache(cm, tn.itdevspace.easytask.domain.Projet.class.getName() + "##NaturalId");
             createCache(cm, tn.itdevspace.easytask.domain.Livrable.class.getName());
-            createCache(cm, tn.itdevspace.easytask.domain.Livrable.class.getName() + ".activites");
-            createCache(cm, tn.itdevspace.easytask.domain.Livrable.class.getName() + ".estimations");
+            createCache(cm, tn.itdevspace.easytask.domain.Livrable.class.getName() + "##NaturalId");
             createCache(cm, tn.itdevspace.easytask.domain.Activite.class.getName());
-            createCache(cm, tn.itdevspace.easytask.domain.Activite.class.getName() + ".estimations");
+            createCache(cm, tn.itdevspace.easytask.domain.Activite.class.getName() + "##NaturalId");
             createCache(cm, tn.itdevspace.easytask.domain.Maintenance.class.getName());
             createCache(cm, tn.itdevspace.easytask.domain.Ressource.class.getName());
-            createCache(cm, tn.itdevspace.easytask.domain.Ressource.class.getName() + ".maintenances");
-            createCache(cm, tn.itdevspace.easytask.domain.Ressource.class.getName() + ".chargeJournalieres");
             createCache(cm, tn.itdevspace.easytask.domain.Client.class.getName());
-            createCache(cm, tn.itdevspace.easytask.domain.Client.class.getName() + ".projets");
+            createCache(cm, tn.itdevspace.easytask.domain.Client.class.getName() + "##NaturalId");
             createCache(cm, tn.itdevspace.easytask.domain.Estimation.class.getName());
+            createCache(cm, tn.itdevspace.easytask.service.ResponseCacheService.LISTINGS_CACHE);
             // jhipster-needle-ehcache-add-entry
         };
     }
@@ -73,8 +100,35 @@ public class CacheConfiguration {
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, jcacheConfiguration(cacheName));
+        }
+        // Read by the JCacheMetrics of MetricsConfiguration
+        cm.enableStatistics(cacheName, true);
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(String cacheName) {
+        String regionKey = cacheName.startsWith(DOMAIN_PACKAGE) ? cacheName.substring(DOMAIN_PACKAGE.length()) : cacheName;
+        ApplicationProperties.Cache.Region region = cacheProperties.getRegions().get(regionKey);
+        long heapEntries = ehcache.getMaxEntries();
+        long timeToLiveSeconds = ehcache.getTimeToLiveSeconds();
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.newResourcePoolsBuilder();
+        if (region != null) {
+            heapEntries = region.getHeapEntries() != null ? region.getHeapEntries() : heapEntries;
+            timeToLiveSeconds = region.getTimeToLiveSeconds() != null ? region.getTimeToLiveSeconds() : timeToLiveSeconds;
+            if (region.getOffheapMb() > 0) {
+                resourcePools = resourcePools.offheap(region.getOffheapMb(), MemoryUnit.MB);
+            }
+            if (region.getDiskMb() > 0) {
+                resourcePools = resourcePools.disk(region.getDiskMb(), MemoryUnit.MB, false);
+            }
         }
+        resourcePools = resourcePools.heap(heapEntries, EntryUnit.ENTRIES);
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(timeToLiveSeconds)))
+                .build()
+        );
     }
 
     @Autowired(required = false)
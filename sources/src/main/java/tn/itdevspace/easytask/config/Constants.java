@@ -11,5 +11,8 @@ public final class Constants {
     public static final String SYSTEM = "system";
     public static final String DEFAULT_LANGUAGE = "en";
 
+    // JDBC fetch size of the forward-only export streams, honoured by MySQL thanks to useCursorFetch=true
+    public static final String EXPORT_FETCH_SIZE = "500";
+
     private Constants() {}
 }
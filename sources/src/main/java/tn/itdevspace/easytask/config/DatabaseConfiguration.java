@@ -1,16 +1,231 @@
 package tn.itdevspace.easytask.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
-import tech.jhipster.config.JHipsterConstants;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tn.itdevspace.easytask.repository.SimpleNaturalIdRepository;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
 
 @Configuration
-@EnableJpaRepositories({ "tn.itdevspace.easytask.repository" })
+@EnableJpaRepositories(value = { "tn.itdevspace.easytask.repository" }, repositoryBaseClass = SimpleNaturalIdRepository.class)
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
 @EnableTransactionManagement
-public class DatabaseConfiguration {}
+public class DatabaseConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseConfiguration.class);
+
+    /**
+     * Send the read-only transactions to the replica of {@code application.datasource.replica}, when its URL is set.
+     * <p>
+     * The pool of the primary is wrapped in a {@link ReadReplicaDataSource}, with a replica pool copying its settings.
+     * Read-only transactions still use the primary while the replica lags more than {@code max-lag}, as measured by a
+     * {@link ReplicaLagProbe}, and for {@code max-lag} after a write, as seen by {@link EntityVersionService}.
+     * <p>
+     * The post-processor runs first, while the {@link DataSource} is still the pool: the other post-processors, such as
+     * the one of {@link IndexAdvisorConfiguration}, wrap the routing.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.datasource.replica", name = "url")
+    public static BeanPostProcessor readReplicaPostProcessor(
+        ObjectProvider<ApplicationProperties> applicationProperties,
+        ObjectProvider<EntityVersionService> entityVersionService
+    ) {
+        return new ReadReplicaPostProcessor(applicationProperties, entityVersionService);
+    }
+
+    static final class ReadReplicaPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ApplicationProperties> applicationProperties;
+
+        private final ObjectProvider<EntityVersionService> entityVersionService;
+
+        ReadReplicaPostProcessor(
+            ObjectProvider<ApplicationProperties> applicationProperties,
+            ObjectProvider<EntityVersionService> entityVersionService
+        ) {
+            this.applicationProperties = applicationProperties;
+            this.entityVersionService = entityVersionService;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource) {
+                ApplicationProperties.Datasource.Replica replica = applicationProperties.getObject().getDatasource().getReplica();
+                log.info("Sending the read-only transactions of DataSource {} to {}", beanName, replica.getUrl());
+                HikariDataSource primary = (HikariDataSource) bean;
+                HikariDataSource replicaDataSource = createReplica(primary, replica);
+                ReplicaLagProbe lagProbe = new ReplicaLagProbe(replicaDataSource, replica.getMaxLag(), replica.getLagCheckInterval());
+                return new ReadReplicaDataSource(
+                    primary,
+                    replicaDataSource,
+                    () -> entityVersionService.getObject().isChangedWithin(replica.getMaxLag()) || lagProbe.getAsBoolean()
+                );
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private static HikariDataSource createReplica(HikariDataSource primary, ApplicationProperties.Datasource.Replica properties) {
+        HikariDataSource replica = new HikariDataSource();
+        primary.copyStateTo(replica);
+        replica.setPoolName((primary.getPoolName() == null ? "Hikari" : primary.getPoolName()) + "-replica");
+        replica.setJdbcUrl(properties.getUrl());
+        if (properties.getUsername() != null) {
+            replica.setUsername(properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            replica.setPassword(properties.getPassword());
+        }
+        if (properties.getMaximumPoolSize() != null) {
+            replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+        }
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    /**
+     * {@link DataSource} sending the read-only transactions to a replica, and everything else to the primary.
+     * <p>
+     * Hibernate gets its connection when the transaction begins, before it is flagged read-only: the target is chosen
+     * lazily, when the first statement is created. Read-only transactions use the primary while {@code unsafe} holds,
+     * so that the lag of the replica does not hide what was just written. As the writes of the other instances are not
+     * seen here, the reads from the replica are recorded to {@link ResponseCacheService}, which does not cache them.
+     */
+    static final class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+        private static final String PRIMARY = "primary";
+
+        private static final String REPLICA = "replica";
+
+        private final DataSource primary;
+
+        private final DataSource replica;
+
+        ReadReplicaDataSource(DataSource primary, DataSource replica, BooleanSupplier unsafe) {
+            this.primary = primary;
+            this.replica = replica;
+            AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+                @Override
+                protected Object determineCurrentLookupKey() {
+                    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !unsafe.getAsBoolean()) {
+                        ResponseCacheService.recordReplicaRead();
+                        return REPLICA;
+                    }
+                    return PRIMARY;
+                }
+            };
+            router.setTargetDataSources(Map.<Object, Object>of(PRIMARY, primary, REPLICA, replica));
+            router.setDefaultTargetDataSource(primary);
+            router.afterPropertiesSet();
+            setTargetDataSource(router);
+            afterPropertiesSet();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (replica instanceof Closeable) {
+                    ((Closeable) replica).close();
+                }
+            } finally {
+                if (primary instanceof Closeable) {
+                    ((Closeable) primary).close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Check of the lag of a MySQL replica, from the {@code Seconds_Behind_Source} of {@code SHOW REPLICA STATUS}.
+     * <p>
+     * The lag is measured at most once per {@code checkInterval}, by the first thread needing it, the others using the
+     * last measure meanwhile. A replica which is not replicating, or whose status cannot be read, is lagging.
+     */
+    static final class ReplicaLagProbe implements BooleanSupplier {
+
+        private final DataSource replica;
+
+        private final long maxLagSeconds;
+
+        private final long checkIntervalNanos;
+
+        private final AtomicBoolean checking = new AtomicBoolean();
+
+        private volatile boolean lagging = true;
+
+        private volatile long lastCheck;
+
+        ReplicaLagProbe(DataSource replica, Duration maxLag, Duration checkInterval) {
+            this.replica = replica;
+            this.maxLagSeconds = maxLag.getSeconds();
+            this.checkIntervalNanos = checkInterval.toNanos();
+            this.lastCheck = System.nanoTime() - checkIntervalNanos;
+        }
+
+        /**
+         * @return {@code true} if the replica lags more than the max lag.
+         */
+        @Override
+        public boolean getAsBoolean() {
+            if (System.nanoTime() - lastCheck >= checkIntervalNanos && checking.compareAndSet(false, true)) {
+                try {
+                    lagging = measureLag().map(lag -> lag > maxLagSeconds).orElse(true);
+                    lastCheck = System.nanoTime();
+                } finally {
+                    checking.set(false);
+                }
+            }
+            return lagging;
+        }
+
+        /**
+         * @return the lag of the replica in seconds, empty if it is not replicating.
+         */
+        Optional<Long> measureLag() {
+            try (
+                Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")
+            ) {
+                if (status.next()) {
+                    long lag = status.getLong("Seconds_Behind_Source");
+                    return status.wasNull() ? Optional.empty() : Optional.of(lag);
+                }
+                return Optional.empty();
+            } catch (SQLException e) {
+                log.warn("Could not measure the lag of the replica: {}", e.getMessage());
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package tn.itdevspace.easytask.config;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import tech.jhipster.config.JHipsterConstants;
+
+/**
+ * Development index advisor.
+ * <p>
+ * Wraps the {@link DataSource} so that every distinct select sent by Hibernate is run once through {@code EXPLAIN},
+ * on the same connection and with the parameters of its first execution. The plan is logged in debug, and the tables
+ * read with a full scan ({@code type = ALL}) are logged as warnings with the query, pointing at the missing indexes.
+ * <p>
+ * Enabled with {@code application.index-advisor.enabled} in the dev profile only.
+ */
+@Configuration
+@Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
+@ConditionalOnProperty(prefix = "application.index-advisor", name = "enabled", havingValue = "true")
+public class IndexAdvisorConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexAdvisorConfiguration.class);
+
+    private static final int MAX_EXPLAINED_STATEMENTS = 10_000;
+
+    /**
+     * Wrap the {@link DataSource} last, once the other post-processors are done with it: the routing of
+     * {@link DatabaseConfiguration#readReplicaPostProcessor} must still see the pool.
+     */
+    @Bean
+    public static BeanPostProcessor indexAdvisorPostProcessor() {
+        return new IndexAdvisorPostProcessor(new IndexAdvisor());
+    }
+
+    static final class IndexAdvisorPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final IndexAdvisor indexAdvisor;
+
+        IndexAdvisorPostProcessor(IndexAdvisor indexAdvisor) {
+            this.indexAdvisor = indexAdvisor;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource) {
+                log.debug("Explaining the queries of DataSource {}", beanName);
+                return indexAdvisor.wrap((DataSource) bean);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    static final class IndexAdvisor {
+
+        private final Set<String> explained = ConcurrentHashMap.newKeySet();
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(
+                DataSource.class,
+                (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection ? wrap((Connection) result) : result;
+                }
+            );
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(
+                Connection.class,
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement && "prepareStatement".equals(method.getName())) {
+                        return wrap((PreparedStatement) result, connection, ((String) args[0]).trim());
+                    }
+                    return result;
+                }
+            );
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement, Connection connection, String sql) {
+            Map<Integer, Object> parameters = new HashMap<>();
+            return proxy(
+                PreparedStatement.class,
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        parameters.put((Integer) args[0], "setNull".equals(name) ? null : args[1]);
+                    } else if ("clearParameters".equals(name)) {
+                        parameters.clear();
+                    } else if (("executeQuery".equals(name) || "execute".equals(name)) && (args == null || args.length == 0)) {
+                        explain(connection, sql, parameters);
+                    }
+                    return invoke(statement, method, args);
+                }
+            );
+        }
+
+        private void explain(Connection connection, String sql, Map<Integer, Object> parameters) {
+            if (!sql.regionMatches(true, 0, "select", 0, 6) || explained.size() >= MAX_EXPLAINED_STATEMENTS) {
+                return;
+            }
+            if (!explained.add(sql)) {
+                return;
+            }
+            try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+                for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                    Object value = parameter.getValue();
+                    if (value instanceof InputStream || value instanceof Reader || value instanceof Blob || value instanceof Clob) {
+                        // Streams can only be read once, by the query itself
+                        return;
+                    }
+                    if (value == null) {
+                        explain.setNull(parameter.getKey(), Types.NULL);
+                    } else {
+                        explain.setObject(parameter.getKey(), value);
+                    }
+                }
+                List<String> plan = new ArrayList<>();
+                List<String> fullScans = new ArrayList<>();
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    while (resultSet.next()) {
+                        String table = resultSet.getString("table");
+                        String type = resultSet.getString("type");
+                        String rows = resultSet.getString("rows");
+                        String key = resultSet.getString("key");
+                        plan.add(table + ": type=" + type + ", key=" + key + ", rows=" + rows + ", extra=" + resultSet.getString("Extra"));
+                        if ("ALL".equals(type)) {
+                            fullScans.add(table + " (" + rows + " rows)");
+                        }
+                    }
+                }
+                if (!fullScans.isEmpty()) {
+                    log.warn("Full scan of {} in: {}", fullScans, sql);
+                }
+                log.debug("Plan of {}: {}", sql, plan);
+            } catch (SQLException e) {
+                log.debug("Could not explain {}: {}", sql, e.getMessage());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(IndexAdvisor.class.getClassLoader(), new Class<?>[] { type }, handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package tn.itdevspace.easytask.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Export of the second-level cache and Hibernate statistics to Micrometer, on top of the Spring Boot auto-configuration.
+ * <p>
+ * Every JCache region, entity, collection, natural id and the {@code usersByLogin} / {@code usersByEmail} caches, is bound
+ * with its gets (hits and misses), puts, evictions and removals: the hit ratio is derived from the gets where it is
+ * shown. Hibernate statistics are bound by Spring Boot as the {@code hibernate.*} meters, and the execution time of each
+ * query is added as the {@code hibernate.query} meters to find the slow ones.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Name of the Spring cache manager, used as {@code cache.manager} tag like the Spring Boot cache metrics, so both bind the same meters.
+     */
+    private static final String CACHE_MANAGER_TAG = "cacheManager";
+
+    /**
+     * Name of the entity manager factory, used as {@code entityManagerFactory} tag like the Spring Boot Hibernate metrics.
+     */
+    private static final String ENTITY_MANAGER_FACTORY_NAME = "entityManagerFactory";
+
+    @Bean
+    public MeterBinder jCacheRegionsMeterBinder(javax.cache.CacheManager cacheManager) {
+        return registry -> {
+            for (String cacheName : cacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, cacheManager.getCache(cacheName), Tags.of("cache.manager", CACHE_MANAGER_TAG));
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateQueryMeterBinder(EntityManagerFactory entityManagerFactory) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        return registry -> HibernateQueryMetrics.monitor(registry, sessionFactory, ENTITY_MANAGER_FACTORY_NAME, Tags.empty());
+    }
+}
@@ -1,15 +1,21 @@
 package tn.itdevspace.easytask.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import javax.persistence.*;
 import javax.validation.constraints.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.Type;
 import tn.itdevspace.easytask.domain.enumeration.Etat;
 
 /**
@@ -17,17 +23,26 @@ import tn.itdevspace.easytask.domain.enumeration.Etat;
  */
 @Entity
 @Table(name = "activite")
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Activite implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activiteSequenceGenerator")
+    @SequenceGenerator(name = "activiteSequenceGenerator", sequenceName = "activite_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @NaturalId(mutable = true)
     @NotNull
     @Size(max = 20)
     @Column(name = "ref_act", length = 20, nullable = false, unique = true)
@@ -52,7 +67,7 @@ public class Activite implements Serializable {
     private Etat etat;
 
     @OneToMany(mappedBy = "activite")
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 100)
     @JsonIgnoreProperties(value = { "activite", "projet", "livrable" }, allowSetters = true)
     private Set<Estimation> estimations = new HashSet<>();
 
@@ -76,6 +91,14 @@ public class Activite implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getRefAct() {
         return this.refAct;
     }
@@ -213,8 +236,9 @@ public class Activite implements Serializable {
 
     @Override
     public int hashCode() {
-        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
-        return getClass().hashCode();
+        // Hashed on the natural reference, which is set before the id is generated on persist: it must not change while
+        // the entity is in a hashed collection
+        return Objects.hashCode(refAct);
     }
 
     // prettier-ignore
@@ -1,30 +1,46 @@
 package tn.itdevspace.easytask.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import javax.persistence.*;
 import javax.validation.constraints.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.Type;
 
 /**
  * A Client.
  */
 @Entity
 @Table(name = "client")
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Client implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientSequenceGenerator")
+    @SequenceGenerator(name = "clientSequenceGenerator", sequenceName = "client_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @NaturalId(mutable = true)
     @NotNull
     @Size(max = 20)
     @Column(name = "ref_client", length = 20, nullable = false, unique = true)
@@ -42,7 +58,7 @@ public class Client implements Serializable {
     private String contact;
 
     @OneToMany(mappedBy = "client")
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 100)
     @JsonIgnoreProperties(value = { "livrables", "estimations", "client" }, allowSetters = true)
     private Set<Projet> projets = new HashSet<>();
 
@@ -61,6 +77,14 @@ public class Client implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getRefClient() {
         return this.refClient;
     }
@@ -159,8 +183,9 @@ public class Client implements Serializable {
 
     @Override
     public int hashCode() {
-        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
-        return getClass().hashCode();
+        // Hashed on the natural reference, which is set before the id is generated on persist: it must not change while
+        // the entity is in a hashed collection
+        return Objects.hashCode(refClient);
     }
 
     // prettier-ignore
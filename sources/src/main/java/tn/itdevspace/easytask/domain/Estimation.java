@@ -1,12 +1,16 @@
 package tn.itdevspace.easytask.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Objects;
 import java.util.UUID;
 import javax.persistence.*;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
 
@@ -15,17 +19,25 @@ import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
  */
 @Entity
 @Table(name = "estimation")
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Estimation implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Assigned at construction, so that the hash code does not change when the entity is persisted
     @Id
-    @GeneratedValue
-    @Type(type = "uuid-char")
-    @Column(name = "id", length = 36)
-    private UUID id;
+    @GeneratedValue(generator = "timeOrderedUuid")
+    @GenericGenerator(name = "timeOrderedUuid", strategy = "tn.itdevspace.easytask.domain.TimeOrderedUuidGenerator")
+    @Type(type = "uuid-binary")
+    @Column(name = "id", length = 16)
+    private UUID id = TimeOrderedUuidGenerator.next();
+
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     @Column(name = "date")
     private LocalDate date;
@@ -70,6 +82,14 @@ public class Estimation implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDate getDate() {
         return this.date;
     }
@@ -189,8 +209,7 @@ public class Estimation implements Serializable {
 
     @Override
     public int hashCode() {
-        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 
     // prettier-ignore
@@ -1,15 +1,21 @@
 package tn.itdevspace.easytask.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import javax.persistence.*;
 import javax.validation.constraints.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.Type;
 import tn.itdevspace.easytask.domain.enumeration.Etat;
 
 /**
@@ -17,17 +23,26 @@ import tn.itdevspace.easytask.domain.enumeration.Etat;
  */
 @Entity
 @Table(name = "livrable")
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Livrable implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "livrableSequenceGenerator")
+    @SequenceGenerator(name = "livrableSequenceGenerator", sequenceName = "livrable_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @NaturalId(mutable = true)
     @NotNull
     @Size(max = 20)
     @Column(name = "ref_livrable", length = 20, nullable = false, unique = true)
@@ -49,12 +64,12 @@ public class Livrable implements Serializable {
     private Etat etat;
 
     @OneToMany(mappedBy = "livrable")
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 100)
     @JsonIgnoreProperties(value = { "estimations", "livrable" }, allowSetters = true)
     private Set<Activite> activites = new HashSet<>();
 
     @OneToMany(mappedBy = "livrable")
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 100)
     @JsonIgnoreProperties(value = { "activite", "projet", "livrable" }, allowSetters = true)
     private Set<Estimation> estimations = new HashSet<>();
 
@@ -78,6 +93,14 @@ public class Livrable implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getRefLivrable() {
         return this.refLivrable;
     }
@@ -233,8 +256,9 @@ public class Livrable implements Serializable {
 
     @Override
     public int hashCode() {
-        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
-        return getClass().hashCode();
+        // Hashed on the natural reference, which is set before the id is generated on persist: it must not change while
+        // the entity is in a hashed collection
+        return Objects.hashCode(refLivrable);
     }
 
     // prettier-ignore
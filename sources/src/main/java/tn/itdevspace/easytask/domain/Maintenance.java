@@ -1,13 +1,17 @@
 package tn.itdevspace.easytask.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Objects;
 import java.util.UUID;
 import javax.persistence.*;
 import javax.validation.constraints.*;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import tn.itdevspace.easytask.domain.enumeration.Etat;
 
@@ -16,17 +20,25 @@ import tn.itdevspace.easytask.domain.enumeration.Etat;
  */
 @Entity
 @Table(name = "maintenance")
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Maintenance implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Assigned at construction, so that the hash code does not change when the entity is persisted
     @Id
-    @GeneratedValue
-    @Type(type = "uuid-char")
-    @Column(name = "id", length = 36)
-    private UUID id;
+    @GeneratedValue(generator = "timeOrderedUuid")
+    @GenericGenerator(name = "timeOrderedUuid", strategy = "tn.itdevspace.easytask.domain.TimeOrderedUuidGenerator")
+    @Type(type = "uuid-binary")
+    @Column(name = "id", length = 16)
+    private UUID id = TimeOrderedUuidGenerator.next();
+
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     @NotNull
     @Column(name = "description", nullable = false)
@@ -72,6 +84,14 @@ public class Maintenance implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getDescription() {
         return this.description;
     }
@@ -191,8 +211,7 @@ public class Maintenance implements Serializable {
 
     @Override
     public int hashCode() {
-        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 
     // prettier-ignore
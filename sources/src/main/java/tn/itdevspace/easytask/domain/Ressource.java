@@ -1,14 +1,19 @@
 package tn.itdevspace.easytask.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import javax.persistence.*;
 import javax.validation.constraints.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
 /**
@@ -16,17 +21,25 @@ import org.hibernate.annotations.Type;
  */
 @Entity
 @Table(name = "ressource")
+@DynamicUpdate
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Ressource implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Assigned at construction, so that the hash code does not change when the entity is persisted
     @Id
-    @GeneratedValue
-    @Type(type = "uuid-char")
-    @Column(name = "id", length = 36)
-    private UUID id;
+    @GeneratedValue(generator = "timeOrderedUuid")
+    @GenericGenerator(name = "timeOrderedUuid", strategy = "tn.itdevspace.easytask.domain.TimeOrderedUuidGenerator")
+    @Type(type = "uuid-binary")
+    @Column(name = "id", length = 16)
+    private UUID id = TimeOrderedUuidGenerator.next();
+
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     @NotNull
     @Column(name = "nom", nullable = false)
@@ -37,12 +50,12 @@ public class Ressource implements Serializable {
     private String prenom;
 
     @OneToMany(mappedBy = "ressource")
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 100)
     @JsonIgnoreProperties(value = { "ressource" }, allowSetters = true)
     private Set<Maintenance> maintenances = new HashSet<>();
 
     @OneToMany(mappedBy = "ressource")
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 100)
     @JsonIgnoreProperties(value = { "ressource" }, allowSetters = true)
     private Set<ChargeJournaliere> chargeJournalieres = new HashSet<>();
 
@@ -61,6 +74,14 @@ public class Ressource implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getNom() {
         return this.nom;
     }
@@ -164,8 +185,7 @@ public class Ressource implements Serializable {
 
     @Override
     public int hashCode() {
-        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 
     // prettier-ignore
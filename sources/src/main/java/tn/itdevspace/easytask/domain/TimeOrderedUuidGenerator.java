@@ -0,0 +1,62 @@
+package tn.itdevspace.easytask.domain;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.UUID;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate generator of time-ordered UUIDs, laid out as the version 7 of RFC 9562.
+ * <p>
+ * The 48 most significant bits are the Unix time in milliseconds, followed by the version, a 12 bits counter seeded
+ * randomly each millisecond, the variant and 62 random bits. Stored as {@code BINARY(16)}, the ids of new rows sort
+ * after the existing ones: inserts append to the clustered index of InnoDB instead of splitting random pages.
+ * <p>
+ * The ids stay increasing within the JVM when more than 4096 are generated in a millisecond, or when the clock goes
+ * back, by borrowing from the next milliseconds.
+ * <p>
+ * The entities assign their id with {@link #next()} when they are constructed, and hash on it: an id already assigned is
+ * kept, a new one is only generated for an entity whose id was cleared. Whether an entity is new is therefore told by
+ * its {@code @Version}, not by a null id.
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int COUNTER_MAX = 0xFFF;
+
+    private static long lastTimestamp;
+
+    private static int counter;
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        Serializable id = session.getEntityPersister(null, object).getIdentifier(object, session);
+        return id != null ? id : next();
+    }
+
+    /**
+     * @return a new time-ordered UUID, greater than the ones previously returned.
+     */
+    public static UUID next() {
+        long timestamp;
+        int sequence;
+        synchronized (TimeOrderedUuidGenerator.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                // Seeded in the lower half, leaving room to increment
+                counter = RANDOM.nextInt(COUNTER_MAX / 2);
+            } else if (++counter > COUNTER_MAX) {
+                lastTimestamp++;
+                counter = 0;
+            }
+            timestamp = lastTimestamp;
+            sequence = counter;
+        }
+        long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
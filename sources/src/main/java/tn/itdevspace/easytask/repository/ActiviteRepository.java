@@ -1,19 +1,27 @@
 package tn.itdevspace.easytask.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.itdevspace.easytask.config.Constants;
 import tn.itdevspace.easytask.domain.Activite;
 
 /**
  * Spring Data JPA repository for the Activite entity.
  */
 @Repository
-public interface ActiviteRepository extends JpaRepository<Activite, Long> {
+public interface ActiviteRepository extends NaturalIdRepository<Activite, Long>, JpaSpecificationExecutor<Activite> {
     default Optional<Activite> findOneWithEagerRelationships(Long id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -26,6 +34,17 @@ public interface ActiviteRepository extends JpaRepository<Activite, Long> {
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(attributePaths = "livrable")
+    List<Activite> findAll(Specification<Activite> spec);
+
+    @Override
+    @EntityGraph(attributePaths = "livrable")
+    Page<Activite> findAll(Specification<Activite> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "livrable")
+    Page<Activite> findByLivrableId(Long livrableId, Pageable pageable);
+
     @Query(
         value = "select distinct activite from Activite activite left join fetch activite.livrable",
         countQuery = "select count(distinct activite) from Activite activite"
@@ -37,4 +56,13 @@ public interface ActiviteRepository extends JpaRepository<Activite, Long> {
 
     @Query("select activite from Activite activite left join fetch activite.livrable where activite.id =:id")
     Optional<Activite> findOneWithToOneRelationships(@Param("id") Long id);
+
+    @QueryHints(
+        { @QueryHint(name = HINT_FETCH_SIZE, value = Constants.EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true") }
+    )
+    @Query("select activite from Activite activite left join fetch activite.livrable")
+    Stream<Activite> streamAllWithToOneRelationships();
+
+    @Query("select activite from Activite activite left join fetch activite.livrable where activite.refAct in :refs")
+    List<Activite> findAllByRefActIn(@Param("refs") Collection<String> refs);
 }
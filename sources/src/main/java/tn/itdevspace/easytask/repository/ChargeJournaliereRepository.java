@@ -1,20 +1,28 @@
 package tn.itdevspace.easytask.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.itdevspace.easytask.config.Constants;
 import tn.itdevspace.easytask.domain.ChargeJournaliere;
 
 /**
  * Spring Data JPA repository for the ChargeJournaliere entity.
  */
 @Repository
-public interface ChargeJournaliereRepository extends JpaRepository<ChargeJournaliere, UUID> {
+public interface ChargeJournaliereRepository extends JpaRepository<ChargeJournaliere, UUID>, JpaSpecificationExecutor<ChargeJournaliere> {
     default Optional<ChargeJournaliere> findOneWithEagerRelationships(UUID id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -27,6 +35,17 @@ public interface ChargeJournaliereRepository extends JpaRepository<ChargeJournal
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(attributePaths = "ressource")
+    List<ChargeJournaliere> findAll(Specification<ChargeJournaliere> spec);
+
+    @Override
+    @EntityGraph(attributePaths = "ressource")
+    Page<ChargeJournaliere> findAll(Specification<ChargeJournaliere> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "ressource")
+    Page<ChargeJournaliere> findByRessourceId(UUID ressourceId, Pageable pageable);
+
     @Query(
         value = "select distinct chargeJournaliere from ChargeJournaliere chargeJournaliere left join fetch chargeJournaliere.ressource",
         countQuery = "select count(distinct chargeJournaliere) from ChargeJournaliere chargeJournaliere"
@@ -40,4 +59,144 @@ public interface ChargeJournaliereRepository extends JpaRepository<ChargeJournal
         "select chargeJournaliere from ChargeJournaliere chargeJournaliere left join fetch chargeJournaliere.ressource where chargeJournaliere.id =:id"
     )
     Optional<ChargeJournaliere> findOneWithToOneRelationships(@Param("id") UUID id);
+
+    /**
+     * First page of the keyset (seek) listing, ordered by {@code date} then {@code id}.
+     * Rows without a date have no position in the cursor order and are not returned.
+     *
+     * @param pageable only the page size is used, the offset must be 0.
+     * @return the first chargeJournalieres in cursor order.
+     */
+    @Query(
+        "select chargeJournaliere from ChargeJournaliere chargeJournaliere left join fetch chargeJournaliere.ressource " +
+        "where chargeJournaliere.date is not null " +
+        "order by chargeJournaliere.date asc, chargeJournaliere.id asc"
+    )
+    List<ChargeJournaliere> findFirstOrderByDateAndId(Pageable pageable);
+
+    /**
+     * Next page of the keyset (seek) listing: the rows strictly after the ({@code date}, {@code id}) cursor.
+     *
+     * @param date the date of the last row of the previous page.
+     * @param id the id of the last row of the previous page.
+     * @param pageable only the page size is used, the offset must be 0.
+     * @return the chargeJournalieres following the cursor.
+     */
+    @Query(
+        "select chargeJournaliere from ChargeJournaliere chargeJournaliere left join fetch chargeJournaliere.ressource " +
+        "where chargeJournaliere.date > :date or (chargeJournaliere.date = :date and chargeJournaliere.id > :id) " +
+        "order by chargeJournaliere.date asc, chargeJournaliere.id asc"
+    )
+    List<ChargeJournaliere> findAfterOrderByDateAndId(@Param("date") LocalDate date, @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * @return the number of rows of the keyset (seek) listing, those with a date.
+     */
+    long countByDateIsNotNull();
+
+    /**
+     * Total {@code duree} of the chargeJournalieres per ressource, type and ISO week, computed by the database.
+     * The period is the MySQL {@code YEARWEEK(date, 3)} value, e.g. {@code 202305}. As in the monthly rollup, the
+     * chargeJournalieres without type are left out.
+     */
+    @Query(
+        value = "select bin_to_uuid(c.ressource_id) as ressourceId, r.nom as nom, r.prenom as prenom, c.type as type, " +
+        "yearweek(c.date, 3) as period, sum(c.duree) as totalDuree, count(*) as nombre " +
+        "from charge_journaliere c join ressource r on r.id = c.ressource_id " +
+        "where c.date is not null and c.type is not null and (:from is null or c.date >= :from) and (:to is null or c.date <= :to) " +
+        "and (:ressourceId is null or c.ressource_id = uuid_to_bin(:ressourceId)) " +
+        "group by c.ressource_id, r.nom, r.prenom, c.type, yearweek(c.date, 3) " +
+        "order by period, r.nom, r.prenom, c.type",
+        nativeQuery = true
+    )
+    List<ChargeTotal> sumDureeByRessourceAndTypeAndWeek(
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("ressourceId") String ressourceId
+    );
+
+    /**
+     * Total {@code duree} of the chargeJournalieres per ressource, type and month, computed by the database.
+     * The period is {@code year * 100 + month}, e.g. {@code 202301}. As in the monthly rollup, the chargeJournalieres
+     * without type are left out.
+     */
+    @Query(
+        value = "select bin_to_uuid(c.ressource_id) as ressourceId, r.nom as nom, r.prenom as prenom, c.type as type, " +
+        "year(c.date) * 100 + month(c.date) as period, sum(c.duree) as totalDuree, count(*) as nombre " +
+        "from charge_journaliere c join ressource r on r.id = c.ressource_id " +
+        "where c.date is not null and c.type is not null and (:from is null or c.date >= :from) and (:to is null or c.date <= :to) " +
+        "and (:ressourceId is null or c.ressource_id = uuid_to_bin(:ressourceId)) " +
+        "group by c.ressource_id, r.nom, r.prenom, c.type, year(c.date), month(c.date) " +
+        "order by period, r.nom, r.prenom, c.type",
+        nativeQuery = true
+    )
+    List<ChargeTotal> sumDureeByRessourceAndTypeAndMonth(
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("ressourceId") String ressourceId
+    );
+
+    /**
+     * Monthly totals read from the {@code charge_mensuelle} rollup, one row per ressource, type and month.
+     * The period is {@code year * 100 + month}, e.g. {@code 202301}.
+     */
+    @Query(
+        value = "select bin_to_uuid(m.ressource_id) as ressourceId, r.nom as nom, r.prenom as prenom, m.type as type, " +
+        "m.mois as period, m.total_duree as totalDuree, m.nombre as nombre " +
+        "from charge_mensuelle m join ressource r on r.id = m.ressource_id " +
+        "where m.nombre > 0 and (:fromMois is null or m.mois >= :fromMois) and (:toMois is null or m.mois <= :toMois) " +
+        "and (:ressourceId is null or m.ressource_id = uuid_to_bin(:ressourceId)) " +
+        "order by m.mois, r.nom, r.prenom, m.type",
+        nativeQuery = true
+    )
+    List<ChargeTotal> findMonthlyRollup(
+        @Param("fromMois") Integer fromMois,
+        @Param("toMois") Integer toMois,
+        @Param("ressourceId") String ressourceId
+    );
+
+    @Query(
+        value = "select bin_to_uuid(m.ressource_id) as ressourceId, m.type as type, m.mois as period, " +
+        "m.total_duree as totalDuree, m.nombre as nombre from charge_mensuelle m",
+        nativeQuery = true
+    )
+    List<ChargeTotal> findAllMonthlyRollup();
+
+    @Modifying
+    @Query(value = "delete from charge_mensuelle where mois = :mois", nativeQuery = true)
+    void deleteMonthlyRollup(@Param("mois") int mois);
+
+    @Modifying
+    @Query(
+        value = "insert into charge_mensuelle (ressource_id, type, mois, total_duree, nombre) " +
+        "select ressource_id, type, :mois, sum(coalesce(duree, 0)), count(*) from charge_journaliere " +
+        "where date >= :from and date < :to and type is not null group by ressource_id, type",
+        nativeQuery = true
+    )
+    void insertMonthlyRollup(@Param("mois") int mois, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Row of the chargeJournaliere aggregates.
+     */
+    interface ChargeTotal {
+        String getRessourceId();
+
+        String getNom();
+
+        String getPrenom();
+
+        String getType();
+
+        Integer getPeriod();
+
+        Double getTotalDuree();
+
+        Long getNombre();
+    }
+
+    @QueryHints(
+        { @QueryHint(name = HINT_FETCH_SIZE, value = Constants.EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true") }
+    )
+    @Query("select chargeJournaliere from ChargeJournaliere chargeJournaliere left join fetch chargeJournaliere.ressource")
+    Stream<ChargeJournaliere> streamAllWithToOneRelationships();
 }
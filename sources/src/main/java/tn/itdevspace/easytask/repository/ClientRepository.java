@@ -1,5 +1,7 @@
 package tn.itdevspace.easytask.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 import tn.itdevspace.easytask.domain.Client;
@@ -9,4 +11,6 @@ import tn.itdevspace.easytask.domain.Client;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> {}
+public interface ClientRepository extends NaturalIdRepository<Client, Long>, JpaSpecificationExecutor<Client> {
+    List<Client> findAllByRefClientIn(Collection<String> refs);
+}
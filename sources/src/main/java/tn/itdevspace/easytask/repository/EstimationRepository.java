@@ -1,20 +1,29 @@
 package tn.itdevspace.easytask.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.itdevspace.easytask.config.Constants;
 import tn.itdevspace.easytask.domain.Estimation;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
 
 /**
  * Spring Data JPA repository for the Estimation entity.
  */
 @Repository
-public interface EstimationRepository extends JpaRepository<Estimation, UUID> {
+public interface EstimationRepository extends JpaRepository<Estimation, UUID>, JpaSpecificationExecutor<Estimation> {
     default Optional<Estimation> findOneWithEagerRelationships(UUID id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -27,6 +36,23 @@ public interface EstimationRepository extends JpaRepository<Estimation, UUID> {
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(attributePaths = { "projet", "livrable", "activite" })
+    List<Estimation> findAll(Specification<Estimation> spec);
+
+    @Override
+    @EntityGraph(attributePaths = { "projet", "livrable", "activite" })
+    Page<Estimation> findAll(Specification<Estimation> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "projet", "livrable", "activite" })
+    Page<Estimation> findByProjetId(Long projetId, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "projet", "livrable", "activite" })
+    Page<Estimation> findByLivrableId(Long livrableId, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "projet", "livrable", "activite" })
+    Page<Estimation> findByActiviteId(Long activiteId, Pageable pageable);
+
     @Query(
         value = "select distinct estimation from Estimation estimation left join fetch estimation.activite left join fetch estimation.projet left join fetch estimation.livrable",
         countQuery = "select count(distinct estimation) from Estimation estimation"
@@ -42,4 +68,86 @@ public interface EstimationRepository extends JpaRepository<Estimation, UUID> {
         "select estimation from Estimation estimation left join fetch estimation.activite left join fetch estimation.projet left join fetch estimation.livrable where estimation.id =:id"
     )
     Optional<Estimation> findOneWithToOneRelationships(@Param("id") UUID id);
+
+    /**
+     * The projet with the sums of its own estimations: those of type {@code Projet}, and the others linked to no livrable
+     * and no activite.
+     */
+    @Query(
+        "select projet.id as id, projet.refProjet as ref, projet.description as description, projet.etat as etat, " +
+        "projet.client.id as parentId, sum(estimation.valeurJour) as valeurJour, sum(estimation.valeurHeure) as valeurHeure " +
+        "from Projet projet left join projet.estimations estimation " +
+        "on (estimation.type = :projet or (estimation.livrable is null and estimation.activite is null)) " +
+        "where projet.id = :projetId " +
+        "group by projet.id, projet.refProjet, projet.description, projet.etat, projet.client.id"
+    )
+    Optional<EstimationTotal> sumByProjet(@Param("projetId") Long projetId, @Param("projet") TypeEntite projet);
+
+    /**
+     * All the livrables of a projet, each with the sums of its own estimations: those of type {@code Livrable}, and the
+     * others linked to no activite, unless they are of type {@code Projet} and linked to a projet.
+     */
+    @Query(
+        "select livrable.id as id, livrable.refLivrable as ref, livrable.description as description, livrable.etat as etat, " +
+        "livrable.projet.id as parentId, sum(estimation.valeurJour) as valeurJour, sum(estimation.valeurHeure) as valeurHeure " +
+        "from Livrable livrable left join livrable.estimations estimation " +
+        "on (estimation.type = :livrable or (estimation.activite is null " +
+        "and (estimation.type is null or estimation.type <> :projet or estimation.projet is null))) " +
+        "where livrable.projet.id = :projetId " +
+        "group by livrable.id, livrable.refLivrable, livrable.description, livrable.etat, livrable.projet.id " +
+        "order by livrable.refLivrable"
+    )
+    List<EstimationTotal> sumByLivrableOfProjet(
+        @Param("projetId") Long projetId,
+        @Param("livrable") TypeEntite livrable,
+        @Param("projet") TypeEntite projet
+    );
+
+    /**
+     * All the activites of a projet, each with the sums of its own estimations: those of type {@code Activite} or
+     * without type, and those of another type but not linked to an entity of that type.
+     */
+    @Query(
+        "select activite.id as id, activite.refAct as ref, activite.description as description, activite.etat as etat, " +
+        "activite.livrable.id as parentId, sum(estimation.valeurJour) as valeurJour, sum(estimation.valeurHeure) as valeurHeure " +
+        "from Activite activite left join activite.estimations estimation " +
+        "on (estimation.type is null or estimation.type = :activite " +
+        "or (estimation.type = :livrable and estimation.livrable is null) or (estimation.type = :projet and estimation.projet is null)) " +
+        "where activite.livrable.projet.id = :projetId " +
+        "group by activite.id, activite.refAct, activite.description, activite.etat, activite.livrable.id " +
+        "order by activite.refAct"
+    )
+    List<EstimationTotal> sumByActiviteOfProjet(
+        @Param("projetId") Long projetId,
+        @Param("activite") TypeEntite activite,
+        @Param("livrable") TypeEntite livrable,
+        @Param("projet") TypeEntite projet
+    );
+
+    /**
+     * A node of the estimation tree with the sums of the estimations attached directly to it.
+     */
+    interface EstimationTotal {
+        Long getId();
+
+        String getRef();
+
+        String getDescription();
+
+        Etat getEtat();
+
+        Long getParentId();
+
+        Double getValeurJour();
+
+        Double getValeurHeure();
+    }
+
+    @QueryHints(
+        { @QueryHint(name = HINT_FETCH_SIZE, value = Constants.EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true") }
+    )
+    @Query(
+        "select estimation from Estimation estimation left join fetch estimation.activite left join fetch estimation.projet left join fetch estimation.livrable"
+    )
+    Stream<Estimation> streamAllWithToOneRelationships();
 }
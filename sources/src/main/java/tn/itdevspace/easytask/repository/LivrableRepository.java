@@ -1,19 +1,27 @@
 package tn.itdevspace.easytask.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.itdevspace.easytask.config.Constants;
 import tn.itdevspace.easytask.domain.Livrable;
 
 /**
  * Spring Data JPA repository for the Livrable entity.
  */
 @Repository
-public interface LivrableRepository extends JpaRepository<Livrable, Long> {
+public interface LivrableRepository extends NaturalIdRepository<Livrable, Long>, JpaSpecificationExecutor<Livrable> {
     default Optional<Livrable> findOneWithEagerRelationships(Long id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -26,6 +34,17 @@ public interface LivrableRepository extends JpaRepository<Livrable, Long> {
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(attributePaths = "projet")
+    List<Livrable> findAll(Specification<Livrable> spec);
+
+    @Override
+    @EntityGraph(attributePaths = "projet")
+    Page<Livrable> findAll(Specification<Livrable> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "projet")
+    Page<Livrable> findByProjetId(Long projetId, Pageable pageable);
+
     @Query(
         value = "select distinct livrable from Livrable livrable left join fetch livrable.projet",
         countQuery = "select count(distinct livrable) from Livrable livrable"
@@ -37,4 +56,13 @@ public interface LivrableRepository extends JpaRepository<Livrable, Long> {
 
     @Query("select livrable from Livrable livrable left join fetch livrable.projet where livrable.id =:id")
     Optional<Livrable> findOneWithToOneRelationships(@Param("id") Long id);
+
+    @QueryHints(
+        { @QueryHint(name = HINT_FETCH_SIZE, value = Constants.EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true") }
+    )
+    @Query("select livrable from Livrable livrable left join fetch livrable.projet")
+    Stream<Livrable> streamAllWithToOneRelationships();
+
+    @Query("select livrable from Livrable livrable left join fetch livrable.projet where livrable.refLivrable in :refs")
+    List<Livrable> findAllByRefLivrableIn(@Param("refs") Collection<String> refs);
 }
@@ -1,20 +1,27 @@
 package tn.itdevspace.easytask.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.itdevspace.easytask.config.Constants;
 import tn.itdevspace.easytask.domain.Maintenance;
 
 /**
  * Spring Data JPA repository for the Maintenance entity.
  */
 @Repository
-public interface MaintenanceRepository extends JpaRepository<Maintenance, UUID> {
+public interface MaintenanceRepository extends JpaRepository<Maintenance, UUID>, JpaSpecificationExecutor<Maintenance> {
     default Optional<Maintenance> findOneWithEagerRelationships(UUID id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -27,6 +34,17 @@ public interface MaintenanceRepository extends JpaRepository<Maintenance, UUID>
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(attributePaths = "ressource")
+    List<Maintenance> findAll(Specification<Maintenance> spec);
+
+    @Override
+    @EntityGraph(attributePaths = "ressource")
+    Page<Maintenance> findAll(Specification<Maintenance> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "ressource")
+    Page<Maintenance> findByRessourceId(UUID ressourceId, Pageable pageable);
+
     @Query(
         value = "select distinct maintenance from Maintenance maintenance left join fetch maintenance.ressource",
         countQuery = "select count(distinct maintenance) from Maintenance maintenance"
@@ -38,4 +56,10 @@ public interface MaintenanceRepository extends JpaRepository<Maintenance, UUID>
 
     @Query("select maintenance from Maintenance maintenance left join fetch maintenance.ressource where maintenance.id =:id")
     Optional<Maintenance> findOneWithToOneRelationships(@Param("id") UUID id);
+
+    @QueryHints(
+        { @QueryHint(name = HINT_FETCH_SIZE, value = Constants.EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true") }
+    )
+    @Query("select maintenance from Maintenance maintenance left join fetch maintenance.ressource")
+    Stream<Maintenance> streamAllWithToOneRelationships();
 }
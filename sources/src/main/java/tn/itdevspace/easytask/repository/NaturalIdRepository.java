@@ -0,0 +1,23 @@
+package tn.itdevspace.easytask.repository;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Spring Data JPA repository of an entity having a simple {@link org.hibernate.annotations.NaturalId}.
+ *
+ * @param <T> the entity type.
+ * @param <ID> the entity id type.
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, ID> extends JpaRepository<T, ID> {
+    /**
+     * Load an entity by its natural id. The natural id to id resolution and the entity itself are read
+     * from the second-level cache when they are there, without any SQL query.
+     *
+     * @param naturalId the natural id of the entity.
+     * @return the entity, or empty if there is none with this natural id.
+     */
+    Optional<T> findBySimpleNaturalId(Object naturalId);
+}
@@ -1,19 +1,27 @@
 package tn.itdevspace.easytask.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.itdevspace.easytask.config.Constants;
 import tn.itdevspace.easytask.domain.Projet;
 
 /**
  * Spring Data JPA repository for the Projet entity.
  */
 @Repository
-public interface ProjetRepository extends JpaRepository<Projet, Long> {
+public interface ProjetRepository extends NaturalIdRepository<Projet, Long>, JpaSpecificationExecutor<Projet> {
     default Optional<Projet> findOneWithEagerRelationships(Long id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -26,6 +34,17 @@ public interface ProjetRepository extends JpaRepository<Projet, Long> {
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(attributePaths = "client")
+    List<Projet> findAll(Specification<Projet> spec);
+
+    @Override
+    @EntityGraph(attributePaths = "client")
+    Page<Projet> findAll(Specification<Projet> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "client")
+    Page<Projet> findByClientId(Long clientId, Pageable pageable);
+
     @Query(
         value = "select distinct projet from Projet projet left join fetch projet.client",
         countQuery = "select count(distinct projet) from Projet projet"
@@ -37,4 +56,13 @@ public interface ProjetRepository extends JpaRepository<Projet, Long> {
 
     @Query("select projet from Projet projet left join fetch projet.client where projet.id =:id")
     Optional<Projet> findOneWithToOneRelationships(@Param("id") Long id);
+
+    @QueryHints(
+        { @QueryHint(name = HINT_FETCH_SIZE, value = Constants.EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true") }
+    )
+    @Query("select projet from Projet projet left join fetch projet.client")
+    Stream<Projet> streamAllWithToOneRelationships();
+
+    @Query("select projet from Projet projet left join fetch projet.client where projet.refProjet in :refs")
+    List<Projet> findAllByRefProjetIn(@Param("refs") Collection<String> refs);
 }
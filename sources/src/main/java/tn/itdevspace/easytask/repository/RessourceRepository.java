@@ -10,4 +10,4 @@ import tn.itdevspace.easytask.domain.Ressource;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface RessourceRepository extends JpaRepository<Ressource, UUID> {}
+public interface RessourceRepository extends JpaRepository<Ressource, UUID>, JpaSpecificationExecutor<Ressource> {}
@@ -0,0 +1,31 @@
+package tn.itdevspace.easytask.repository;
+
+import java.io.Serializable;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+/**
+ * Base class of the Spring Data JPA repositories, implementing {@link NaturalIdRepository} with the Hibernate natural id API.
+ *
+ * @param <T> the entity type.
+ * @param <ID> the entity id type.
+ */
+public class SimpleNaturalIdRepository<T, ID extends Serializable>
+    extends SimpleJpaRepository<T, ID>
+    implements NaturalIdRepository<T, ID> {
+
+    private final EntityManager entityManager;
+
+    public SimpleNaturalIdRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<T> findBySimpleNaturalId(Object naturalId) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(getDomainClass()).loadOptional(naturalId);
+    }
+}
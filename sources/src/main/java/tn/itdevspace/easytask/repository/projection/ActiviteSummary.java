@@ -0,0 +1,26 @@
+package tn.itdevspace.easytask.repository.projection;
+
+import java.time.LocalDate;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+
+/**
+ * Summary of a {@link tn.itdevspace.easytask.domain.Activite} for the list views: its columns without the description,
+ * and the id and reference of its parent.
+ */
+public interface ActiviteSummary {
+    Long getId();
+
+    String getRefAct();
+
+    LocalDate getDateDebut();
+
+    LocalDate getDateFin();
+
+    String getRaf();
+
+    Etat getEtat();
+
+    Long getLivrableId();
+
+    String getLivrableRefLivrable();
+}
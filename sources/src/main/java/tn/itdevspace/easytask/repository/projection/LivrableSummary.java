@@ -0,0 +1,24 @@
+package tn.itdevspace.easytask.repository.projection;
+
+import java.time.LocalDate;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+
+/**
+ * Summary of a {@link tn.itdevspace.easytask.domain.Livrable} for the list views: its columns without the description,
+ * and the id and reference of its parent.
+ */
+public interface LivrableSummary {
+    Long getId();
+
+    String getRefLivrable();
+
+    LocalDate getDateDebut();
+
+    LocalDate getDateFin();
+
+    Etat getEtat();
+
+    Long getProjetId();
+
+    String getProjetRefProjet();
+}
@@ -0,0 +1,29 @@
+package tn.itdevspace.easytask.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+
+/**
+ * Summary of a {@link tn.itdevspace.easytask.domain.Maintenance} for the list views: its columns without the description
+ * and solution, and the id and name of its ressource.
+ */
+public interface MaintenanceSummary {
+    UUID getId();
+
+    String getProduit();
+
+    Etat getEtat();
+
+    LocalDate getDateDebut();
+
+    LocalDate getDateFin();
+
+    Double getDuree();
+
+    UUID getRessourceId();
+
+    String getRessourceNom();
+
+    String getRessourcePrenom();
+}
@@ -0,0 +1,27 @@
+package tn.itdevspace.easytask.repository.projection;
+
+import java.time.LocalDate;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.Type;
+
+/**
+ * Summary of a {@link tn.itdevspace.easytask.domain.Projet} for the list views: its columns without the description,
+ * and the id and reference of its parent.
+ */
+public interface ProjetSummary {
+    Long getId();
+
+    String getRefProjet();
+
+    Type getType();
+
+    LocalDate getDatedebut();
+
+    LocalDate getDatefin();
+
+    Etat getEtat();
+
+    Long getClientId();
+
+    String getClientRefClient();
+}
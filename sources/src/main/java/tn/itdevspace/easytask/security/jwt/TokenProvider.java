@@ -4,9 +4,13 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +33,8 @@ public class TokenProvider {
 
     private static final String INVALID_JWT_TOKEN = "Invalid JWT token.";
 
+    static final int MAX_CACHED_TOKENS = 10_000;
+
     private final Key key;
 
     private final JwtParser jwtParser;
@@ -39,6 +45,8 @@ public class TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
+    private final Map<ByteBuffer, CachedAuthentication> authentications = new ConcurrentHashMap<>();
+
     public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
@@ -82,9 +90,53 @@ public class TokenProvider {
             .compact();
     }
 
+    /**
+     * Validate a token and get its authentication.
+     * <p>
+     * The authentications of the verified tokens are cached until the expiration of the tokens, keyed by the SHA-256
+     * hash of the tokens: as the same token comes with every call of the client, most calls skip its parsing and HMAC
+     * verification. The returned authentication is then shared by these calls, and must not be modified.
+     *
+     * @param token the token.
+     * @return the authentication, or {@code null} if the token is invalid.
+     */
+    public Authentication authenticate(String token) {
+        ByteBuffer hash = hash(token);
+        long now = System.currentTimeMillis();
+        CachedAuthentication cached = authentications.get(hash);
+        if (cached != null && cached.expiration > now) {
+            this.securityMetersService.trackTokenCacheHit();
+            return cached.authentication;
+        }
+        this.securityMetersService.trackTokenCacheMiss();
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            authentications.remove(hash);
+            return null;
+        }
+        Authentication authentication = getAuthentication(claims, token);
+        if (claims.getExpiration() != null) {
+            if (authentications.size() >= MAX_CACHED_TOKENS) {
+                authentications.values().removeIf(entry -> entry.expiration <= now);
+                if (authentications.size() >= MAX_CACHED_TOKENS) {
+                    authentications.clear();
+                }
+            }
+            authentications.put(hash, new CachedAuthentication(authentication, claims.getExpiration().getTime()));
+        }
+        return authentication;
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return getAuthentication(jwtParser.parseClaimsJws(token).getBody(), token);
+    }
+
+    public boolean validateToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
 
+    private Authentication getAuthentication(Claims claims, String token) {
         Collection<? extends GrantedAuthority> authorities = Arrays
             .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
             .filter(auth -> !auth.trim().isEmpty())
@@ -96,11 +148,9 @@ public class TokenProvider {
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
-    public boolean validateToken(String authToken) {
+    private Claims parseClaims(String authToken) {
         try {
-            jwtParser.parseClaimsJws(authToken);
-
-            return true;
+            return jwtParser.parseClaimsJws(authToken).getBody();
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
 
@@ -121,6 +171,26 @@ public class TokenProvider {
             log.error("Token validation error {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CachedAuthentication {
+
+        private final Authentication authentication;
+
+        private final long expiration;
+
+        private CachedAuthentication(Authentication authentication, long expiration) {
+            this.authentication = authentication;
+            this.expiration = expiration;
+        }
     }
 }
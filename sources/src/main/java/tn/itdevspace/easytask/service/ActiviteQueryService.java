@@ -0,0 +1,207 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tech.jhipster.service.filter.Filter;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.Activite;
+import tn.itdevspace.easytask.repository.ActiviteRepository;
+import tn.itdevspace.easytask.repository.projection.ActiviteSummary;
+import tn.itdevspace.easytask.service.criteria.ActiviteCriteria;
+
+/**
+ * Service for executing complex queries for {@link Activite} entities in the database.
+ * The main input is a {@link ActiviteCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Activite} or a {@link Page} of {@link Activite} which fulfills the criteria,
+ * or a {@link Page} of their {@link ActiviteSummary}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ActiviteQueryService extends QueryService<Activite> {
+
+    /**
+     * Collections which can be loaded with the activites of a page.
+     */
+    public static final FetchProfile<Activite> FETCH_PROFILE = new FetchProfile<Activite>()
+        .add("estimations", Estimation.class, Activite::getEstimations);
+
+    private final Logger log = LoggerFactory.getLogger(ActiviteQueryService.class);
+
+    private final ActiviteRepository activiteRepository;
+
+    private final SummaryQueryService summaryQueryService;
+
+    public ActiviteQueryService(ActiviteRepository activiteRepository, SummaryQueryService summaryQueryService) {
+        this.activiteRepository = activiteRepository;
+        this.summaryQueryService = summaryQueryService;
+    }
+
+    /**
+     * Return a {@link List} of {@link Activite} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Activite> findByCriteria(ActiviteCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Activite> specification = createSpecification(criteria);
+        return activiteRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Activite} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Activite> findByCriteria(ActiviteCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Activite> specification = createSpecification(criteria);
+        return activiteRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Activite} which matches the criteria from the database, with some of their collections.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fetch The names of the collections to load, from {@link #FETCH_PROFILE}, or {@code null} for none.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Activite> findByCriteria(ActiviteCriteria criteria, Pageable page, Set<String> fetch) {
+        log.debug("find by criteria : {}, page: {}, fetch: {}", criteria, page, fetch);
+        Page<Activite> result = findByCriteria(criteria, page);
+        FETCH_PROFILE.fetch(result.getContent(), fetch);
+        return result;
+    }
+
+    /**
+     * Return a {@link Page} of {@link ActiviteSummary} of the entities which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the summaries of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ActiviteSummary> findSummariesByCriteria(ActiviteCriteria criteria, Pageable page) {
+        log.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        return summaryQueryService.findAll(
+            Activite.class,
+            ActiviteSummary.class,
+            createSpecification(criteria),
+            root -> {
+                Join<Activite, Livrable> livrable = root.join(Activite_.livrable, JoinType.LEFT);
+                return List.of(
+                    root.get(Activite_.id).alias("id"),
+                    root.get(Activite_.refAct).alias("refAct"),
+                    root.get(Activite_.dateDebut).alias("dateDebut"),
+                    root.get(Activite_.dateFin).alias("dateFin"),
+                    root.get(Activite_.raf).alias("raf"),
+                    root.get(Activite_.etat).alias("etat"),
+                    livrable.get(Livrable_.id).alias("livrableId"),
+                    livrable.get(Livrable_.refLivrable).alias("livrableRefLivrable")
+                );
+            },
+            page
+        );
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ActiviteCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Activite> specification = createSpecification(criteria);
+        return activiteRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ActiviteCriteria} to the filters of {@link EntityBulkService}, keyed by attribute path.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the filters, {@code null} for the criteria not given.
+     * @throws IllegalArgumentException if a filter applies to a collection, which bulk statements can't join.
+     */
+    public Map<String, Filter<?>> createBulkFilters(ActiviteCriteria criteria) {
+        if (criteria.getEstimationsId() != null) {
+            throw new IllegalArgumentException("Bulk statements can't filter on estimationsId");
+        }
+        Map<String, Filter<?>> filters = new LinkedHashMap<>();
+        filters.put(Activite_.id.getName(), criteria.getId());
+        filters.put(Activite_.refAct.getName(), criteria.getRefAct());
+        filters.put(Activite_.description.getName(), criteria.getDescription());
+        filters.put(Activite_.dateDebut.getName(), criteria.getDateDebut());
+        filters.put(Activite_.dateFin.getName(), criteria.getDateFin());
+        filters.put(Activite_.raf.getName(), criteria.getRaf());
+        filters.put(Activite_.etat.getName(), criteria.getEtat());
+        filters.put(Activite_.livrable.getName() + '.' + Livrable_.id.getName(), criteria.getLivrableId());
+        return filters;
+    }
+
+    /**
+     * Function to convert {@link ActiviteCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Activite> createSpecification(ActiviteCriteria criteria) {
+        Specification<Activite> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Activite_.id));
+            }
+            if (criteria.getRefAct() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getRefAct(), Activite_.refAct));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Activite_.description));
+            }
+            if (criteria.getDateDebut() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateDebut(), Activite_.dateDebut));
+            }
+            if (criteria.getDateFin() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateFin(), Activite_.dateFin));
+            }
+            if (criteria.getRaf() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getRaf(), Activite_.raf));
+            }
+            if (criteria.getEtat() != null) {
+                specification = specification.and(buildSpecification(criteria.getEtat(), Activite_.etat));
+            }
+            if (criteria.getEstimationsId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getEstimationsId(),
+                            root -> root.join(Activite_.estimations, JoinType.LEFT).get(Estimation_.id)
+                        )
+                    );
+            }
+            if (criteria.getLivrableId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getLivrableId(), root -> root.join(Activite_.livrable, JoinType.LEFT).get(Livrable_.id))
+                    );
+            }
+        }
+        return specification;
+    }
+}
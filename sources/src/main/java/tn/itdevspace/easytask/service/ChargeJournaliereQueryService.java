@@ -0,0 +1,131 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tech.jhipster.service.filter.Filter;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.service.criteria.ChargeJournaliereCriteria;
+
+/**
+ * Service for executing complex queries for {@link ChargeJournaliere} entities in the database.
+ * The main input is a {@link ChargeJournaliereCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link ChargeJournaliere} or a {@link Page} of {@link ChargeJournaliere} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChargeJournaliereQueryService extends QueryService<ChargeJournaliere> {
+
+    private final Logger log = LoggerFactory.getLogger(ChargeJournaliereQueryService.class);
+
+    private final ChargeJournaliereRepository chargeJournaliereRepository;
+
+    public ChargeJournaliereQueryService(ChargeJournaliereRepository chargeJournaliereRepository) {
+        this.chargeJournaliereRepository = chargeJournaliereRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link ChargeJournaliere} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<ChargeJournaliere> findByCriteria(ChargeJournaliereCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<ChargeJournaliere> specification = createSpecification(criteria);
+        return chargeJournaliereRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ChargeJournaliere} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ChargeJournaliere> findByCriteria(ChargeJournaliereCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<ChargeJournaliere> specification = createSpecification(criteria);
+        return chargeJournaliereRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ChargeJournaliereCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<ChargeJournaliere> specification = createSpecification(criteria);
+        return chargeJournaliereRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ChargeJournaliereCriteria} to the filters of {@link EntityBulkService}, keyed by attribute path.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the filters, {@code null} for the criteria not given.
+     */
+    public Map<String, Filter<?>> createBulkFilters(ChargeJournaliereCriteria criteria) {
+        Map<String, Filter<?>> filters = new LinkedHashMap<>();
+        filters.put(ChargeJournaliere_.id.getName(), criteria.getId());
+        filters.put(ChargeJournaliere_.date.getName(), criteria.getDate());
+        filters.put(ChargeJournaliere_.type.getName(), criteria.getType());
+        filters.put(ChargeJournaliere_.duree.getName(), criteria.getDuree());
+        filters.put(ChargeJournaliere_.description.getName(), criteria.getDescription());
+        filters.put(ChargeJournaliere_.ressource.getName() + '.' + Ressource_.id.getName(), criteria.getRessourceId());
+        return filters;
+    }
+
+    /**
+     * Function to convert {@link ChargeJournaliereCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<ChargeJournaliere> createSpecification(ChargeJournaliereCriteria criteria) {
+        Specification<ChargeJournaliere> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), ChargeJournaliere_.id));
+            }
+            if (criteria.getDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDate(), ChargeJournaliere_.date));
+            }
+            if (criteria.getType() != null) {
+                specification = specification.and(buildSpecification(criteria.getType(), ChargeJournaliere_.type));
+            }
+            if (criteria.getDuree() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDuree(), ChargeJournaliere_.duree));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), ChargeJournaliere_.description));
+            }
+            if (criteria.getRessourceId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getRessourceId(),
+                            root -> root.join(ChargeJournaliere_.ressource, JoinType.LEFT).get(Ressource_.id)
+                        )
+                    );
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,94 @@
+package tn.itdevspace.easytask.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.itdevspace.easytask.domain.enumeration.TypeCharge;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository.ChargeTotal;
+import tn.itdevspace.easytask.service.dto.ChargeReportDTO;
+
+/**
+ * Service computing the workload reports of the ressources.
+ * <p>
+ * The totals are aggregated by the database, only one row per ressource, type and period is transferred.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChargeReportService {
+
+    private final Logger log = LoggerFactory.getLogger(ChargeReportService.class);
+
+    private final ChargeJournaliereRepository chargeJournaliereRepository;
+
+    public ChargeReportService(ChargeJournaliereRepository chargeJournaliereRepository) {
+        this.chargeJournaliereRepository = chargeJournaliereRepository;
+    }
+
+    /**
+     * Total workload per ressource, type and ISO week.
+     *
+     * @param from the first day included, or {@code null}.
+     * @param to the last day included, or {@code null}.
+     * @param ressourceId the ressource to report on, or {@code null} for all of them.
+     * @return the totals, ordered by week.
+     */
+    public List<ChargeReportDTO> getWeeklyTotals(LocalDate from, LocalDate to, UUID ressourceId) {
+        log.debug("Request to get weekly charge totals : {}, {}, {}", from, to, ressourceId);
+        return toDTOs(chargeJournaliereRepository.sumDureeByRessourceAndTypeAndWeek(from, to, toParameter(ressourceId)), true);
+    }
+
+    /**
+     * Total workload per ressource, type and month.
+     * <p>
+     * When the range covers whole months, the totals are read from the {@code charge_mensuelle} rollup
+     * instead of being aggregated from {@code charge_journaliere}. Both leave out the charges without a type, so the
+     * totals of a month do not depend on the bounds of the range.
+     *
+     * @param from the first day included, or {@code null}.
+     * @param to the last day included, or {@code null}.
+     * @param ressourceId the ressource to report on, or {@code null} for all of them.
+     * @return the totals, ordered by month.
+     */
+    public List<ChargeReportDTO> getMonthlyTotals(LocalDate from, LocalDate to, UUID ressourceId) {
+        log.debug("Request to get monthly charge totals : {}, {}, {}", from, to, ressourceId);
+        if ((from == null || from.getDayOfMonth() == 1) && (to == null || to.equals(to.withDayOfMonth(to.lengthOfMonth())))) {
+            return toDTOs(chargeJournaliereRepository.findMonthlyRollup(toMois(from), toMois(to), toParameter(ressourceId)), false);
+        }
+        return toDTOs(chargeJournaliereRepository.sumDureeByRessourceAndTypeAndMonth(from, to, toParameter(ressourceId)), false);
+    }
+
+    private static Integer toMois(LocalDate date) {
+        return date == null ? null : date.getYear() * 100 + date.getMonthValue();
+    }
+
+    private static String toParameter(UUID ressourceId) {
+        return ressourceId == null ? null : ressourceId.toString();
+    }
+
+    private static List<ChargeReportDTO> toDTOs(List<ChargeTotal> totals, boolean weekly) {
+        return totals
+            .stream()
+            .map(total ->
+                new ChargeReportDTO(
+                    UUID.fromString(total.getRessourceId()),
+                    total.getNom(),
+                    total.getPrenom(),
+                    total.getType() == null ? null : TypeCharge.valueOf(total.getType()),
+                    formatPeriod(total.getPeriod(), weekly),
+                    total.getTotalDuree(),
+                    total.getNombre()
+                )
+            )
+            .collect(Collectors.toList());
+    }
+
+    private static String formatPeriod(int period, boolean weekly) {
+        return String.format(weekly ? "%04d-W%02d" : "%04d-%02d", period / 100, period % 100);
+    }
+}
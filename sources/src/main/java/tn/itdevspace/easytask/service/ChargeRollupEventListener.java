@@ -0,0 +1,235 @@
+package tn.itdevspace.easytask.service;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.domain.Ressource;
+import tn.itdevspace.easytask.domain.enumeration.TypeCharge;
+
+/**
+ * Hibernate listener keeping the {@code charge_mensuelle} rollup in step with {@link ChargeJournaliere} writes.
+ * <p>
+ * Every insert, update and delete of a chargeJournaliere adds its delta to the matching (ressource, type, month)
+ * row of the rollup, in the same transaction. The deltas of a transaction are summed per row and written as one
+ * JDBC batch once the session is flushed, right before the commit, so that a batch of chargeJournalieres costs
+ * one statement per touched rollup row rather than one per chargeJournaliere.
+ */
+@Component
+public class ChargeRollupEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String UPSERT_SQL =
+        "insert into charge_mensuelle (ressource_id, type, mois, total_duree, nombre) values (?, ?, ?, ?, ?) " +
+        "on duplicate key update total_duree = total_duree + values(total_duree), nombre = nombre + values(nombre)";
+
+    private final Logger log = LoggerFactory.getLogger(ChargeRollupEventListener.class);
+
+    private final transient Map<SessionImplementor, Map<RollupRow, RollupDelta>> pendingDeltas = new ConcurrentHashMap<>();
+
+    public ChargeRollupEventListener(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof ChargeJournaliere) {
+            apply(event.getSession(), RollupKey.of(event.getPersister(), event.getState()), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof ChargeJournaliere)) {
+            return;
+        }
+        if (event.getOldState() == null) {
+            log.debug("No previous state for {}, the rollup will be fixed by the next reconciliation", event.getEntity());
+            return;
+        }
+        RollupKey before = RollupKey.of(event.getPersister(), event.getOldState());
+        RollupKey after = RollupKey.of(event.getPersister(), event.getState());
+        if (!Objects.equals(before, after)) {
+            apply(event.getSession(), before, -1);
+            apply(event.getSession(), after, 1);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof ChargeJournaliere) {
+            apply(event.getSession(), RollupKey.of(event.getPersister(), event.getDeletedState()), -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void apply(EventSource session, RollupKey key, int sign) {
+        if (key == null) {
+            return;
+        }
+        Map<RollupRow, RollupDelta> deltas = pendingDeltas.get(session);
+        if (deltas == null) {
+            deltas = new HashMap<>();
+            pendingDeltas.put(session, deltas);
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::writeDeltas);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> pendingDeltas.remove(s));
+        }
+        RollupDelta delta = deltas.computeIfAbsent(key.row, row -> new RollupDelta());
+        delta.duree += sign * key.duree;
+        delta.nombre += sign;
+    }
+
+    private void writeDeltas(SessionImplementor session) {
+        Map<RollupRow, RollupDelta> deltas = pendingDeltas.remove(session);
+        if (deltas == null) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                for (Map.Entry<RollupRow, RollupDelta> entry : deltas.entrySet()) {
+                    RollupRow row = entry.getKey();
+                    RollupDelta delta = entry.getValue();
+                    if (delta.nombre == 0 && delta.duree == 0) {
+                        continue;
+                    }
+                    statement.setBytes(1, toBytes(row.ressourceId));
+                    statement.setString(2, row.type.name());
+                    statement.setInt(3, row.mois);
+                    statement.setDouble(4, delta.duree);
+                    statement.setLong(5, delta.nombre);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * The {@code binary(16)} value of a UUID column, as Hibernate's {@code uuid-binary} type writes it.
+     */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+
+    /**
+     * The change of one rollup row pending in a transaction.
+     */
+    private static final class RollupDelta {
+
+        private double duree;
+        private long nombre;
+    }
+
+    /**
+     * A row of the rollup.
+     */
+    private static final class RollupRow {
+
+        private final UUID ressourceId;
+        private final TypeCharge type;
+        private final int mois;
+
+        private RollupRow(UUID ressourceId, TypeCharge type, int mois) {
+            this.ressourceId = ressourceId;
+            this.type = type;
+            this.mois = mois;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RollupRow)) {
+                return false;
+            }
+            RollupRow other = (RollupRow) o;
+            return mois == other.mois && ressourceId.equals(other.ressourceId) && type == other.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ressourceId, type, mois);
+        }
+    }
+
+    /**
+     * The rollup row touched by a chargeJournaliere state, with the duree it contributes.
+     */
+    private static final class RollupKey {
+
+        private final RollupRow row;
+        private final double duree;
+
+        private RollupKey(RollupRow row, double duree) {
+            this.row = row;
+            this.duree = duree;
+        }
+
+        static RollupKey of(EntityPersister persister, Object[] state) {
+            if (state == null) {
+                return null;
+            }
+            Ressource ressource = (Ressource) state[persister.getEntityMetamodel().getPropertyIndex("ressource")];
+            TypeCharge type = (TypeCharge) state[persister.getEntityMetamodel().getPropertyIndex("type")];
+            LocalDate date = (LocalDate) state[persister.getEntityMetamodel().getPropertyIndex("date")];
+            Double duree = (Double) state[persister.getEntityMetamodel().getPropertyIndex("duree")];
+            if (ressource == null || ressource.getId() == null || type == null || date == null) {
+                return null;
+            }
+            RollupRow row = new RollupRow(ressource.getId(), type, date.getYear() * 100 + date.getMonthValue());
+            return new RollupKey(row, duree == null ? 0 : duree);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RollupKey)) {
+                return false;
+            }
+            RollupKey other = (RollupKey) o;
+            return row.equals(other.row) && Double.compare(duree, other.duree) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(row, duree);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package tn.itdevspace.easytask.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.filter.Filter;
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository.ChargeTotal;
+
+/**
+ * Service maintaining the {@code charge_mensuelle} rollup of the chargeJournalieres.
+ * <p>
+ * The rollup is updated incrementally by {@link ChargeRollupEventListener}. Writes that bypass Hibernate events
+ * (bulk statements, manual SQL) can make it drift, so it is compared with the source table every night and the
+ * months that differ are rebuilt.
+ */
+@Service
+@Transactional
+public class ChargeRollupService {
+
+    private static final double EPSILON = 1e-6;
+
+    private static final String MONTH_OF_DATE = "year(e.date) * 100 + month(e.date)";
+
+    private final Logger log = LoggerFactory.getLogger(ChargeRollupService.class);
+
+    private final ChargeJournaliereRepository chargeJournaliereRepository;
+
+    private final EntityBulkService entityBulkService;
+
+    public ChargeRollupService(ChargeJournaliereRepository chargeJournaliereRepository, EntityBulkService entityBulkService) {
+        this.chargeJournaliereRepository = chargeJournaliereRepository;
+        this.entityBulkService = entityBulkService;
+    }
+
+    /**
+     * Rebuild the months of the rollup which no longer match {@code charge_journaliere}.
+     * <p>
+     * This is scheduled to get fired everyday, at 02:30 (am).
+     */
+    @Scheduled(cron = "0 30 2 * * ?")
+    public void reconcile() {
+        Set<Integer> drifted = findDriftedMonths();
+        drifted.forEach(this::rebuildMonth);
+        if (!drifted.isEmpty()) {
+            log.info("Rebuilt the charge rollup of months {}", drifted);
+        }
+    }
+
+    /**
+     * Rebuild one month of the rollup from {@code charge_journaliere}.
+     *
+     * @param mois the month, as {@code year * 100 + month}.
+     */
+    public void rebuildMonth(int mois) {
+        log.debug("Rebuilding the charge rollup of month {}", mois);
+        LocalDate from = LocalDate.of(mois / 100, mois % 100, 1);
+        chargeJournaliereRepository.deleteMonthlyRollup(mois);
+        chargeJournaliereRepository.insertMonthlyRollup(mois, from, from.plusMonths(1));
+    }
+
+    /**
+     * Delete chargeJournalieres with a bulk statement, then rebuild the months of the rollup they were counted in, as
+     * the statement bypasses {@link ChargeRollupEventListener}.
+     *
+     * @param filters the filters of the chargeJournalieres to delete, see {@link EntityBulkService}.
+     * @return the number of deleted chargeJournalieres.
+     */
+    public int deleteChargeJournalieres(Map<String, Filter<?>> filters) {
+        List<Integer> months = entityBulkService.findDistinct(ChargeJournaliere.class, MONTH_OF_DATE, Integer.class, filters);
+        int count = entityBulkService.delete(ChargeJournaliere.class, filters);
+        months.stream().filter(Objects::nonNull).forEach(this::rebuildMonth);
+        return count;
+    }
+
+    /**
+     * Compare the rollup with the totals aggregated from {@code charge_journaliere}.
+     *
+     * @return the months, as {@code year * 100 + month}, having at least one differing row.
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> findDriftedMonths() {
+        Map<String, ChargeTotal> expected = index(chargeJournaliereRepository.sumDureeByRessourceAndTypeAndMonth(null, null, null));
+        Map<String, ChargeTotal> actual = index(chargeJournaliereRepository.findAllMonthlyRollup());
+        Set<String> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        Set<Integer> drifted = new TreeSet<>();
+        for (String key : keys) {
+            ChargeTotal source = expected.get(key);
+            ChargeTotal rollup = actual.get(key);
+            if (nombre(source) != nombre(rollup) || Math.abs(totalDuree(source) - totalDuree(rollup)) > EPSILON) {
+                drifted.add(source != null ? source.getPeriod() : rollup.getPeriod());
+            }
+        }
+        return drifted;
+    }
+
+    private static Map<String, ChargeTotal> index(List<ChargeTotal> totals) {
+        Map<String, ChargeTotal> index = new HashMap<>();
+        for (ChargeTotal total : totals) {
+            if (total.getType() != null) {
+                index.put(total.getRessourceId() + '|' + total.getType() + '|' + total.getPeriod(), total);
+            }
+        }
+        return index;
+    }
+
+    private static long nombre(ChargeTotal total) {
+        return total == null || total.getNombre() == null ? 0 : total.getNombre();
+    }
+
+    private static double totalDuree(ChargeTotal total) {
+        return total == null || total.getTotalDuree() == null ? 0 : total.getTotalDuree();
+    }
+}
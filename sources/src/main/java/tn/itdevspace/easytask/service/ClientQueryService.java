@@ -0,0 +1,131 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.List;
+import java.util.Set;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.repository.ClientRepository;
+import tn.itdevspace.easytask.service.criteria.ClientCriteria;
+
+/**
+ * Service for executing complex queries for {@link Client} entities in the database.
+ * The main input is a {@link ClientCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Client} or a {@link Page} of {@link Client} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ClientQueryService extends QueryService<Client> {
+
+    /**
+     * Collections which can be loaded with the clients of a page.
+     */
+    public static final FetchProfile<Client> FETCH_PROFILE = new FetchProfile<Client>()
+        .add("projets", Projet.class, Client::getProjets);
+
+    private final Logger log = LoggerFactory.getLogger(ClientQueryService.class);
+
+    private final ClientRepository clientRepository;
+
+    public ClientQueryService(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link Client} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Client> findByCriteria(ClientCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Client> specification = createSpecification(criteria);
+        return clientRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Client} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Client> findByCriteria(ClientCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Client> specification = createSpecification(criteria);
+        return clientRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Client} which matches the criteria from the database, with some of their collections.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fetch The names of the collections to load, from {@link #FETCH_PROFILE}, or {@code null} for none.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Client> findByCriteria(ClientCriteria criteria, Pageable page, Set<String> fetch) {
+        log.debug("find by criteria : {}, page: {}, fetch: {}", criteria, page, fetch);
+        Page<Client> result = findByCriteria(criteria, page);
+        FETCH_PROFILE.fetch(result.getContent(), fetch);
+        return result;
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ClientCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Client> specification = createSpecification(criteria);
+        return clientRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ClientCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Client> createSpecification(ClientCriteria criteria) {
+        Specification<Client> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Client_.id));
+            }
+            if (criteria.getRefClient() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getRefClient(), Client_.refClient));
+            }
+            if (criteria.getNom() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getNom(), Client_.nom));
+            }
+            if (criteria.getPrenom() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getPrenom(), Client_.prenom));
+            }
+            if (criteria.getContact() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getContact(), Client_.contact));
+            }
+            if (criteria.getProjetsId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getProjetsId(), root -> root.join(Client_.projets, JoinType.LEFT).get(Projet_.id))
+                    );
+            }
+        }
+        return specification;
+    }
+}
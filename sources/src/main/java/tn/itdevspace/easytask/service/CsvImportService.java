@@ -0,0 +1,430 @@
+package tn.itdevspace.easytask.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.itdevspace.easytask.domain.Activite;
+import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Livrable;
+import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.Type;
+import tn.itdevspace.easytask.repository.ActiviteRepository;
+import tn.itdevspace.easytask.repository.ClientRepository;
+import tn.itdevspace.easytask.repository.LivrableRepository;
+import tn.itdevspace.easytask.repository.ProjetRepository;
+import tn.itdevspace.easytask.service.dto.ImportReportDTO;
+import tn.itdevspace.easytask.service.dto.ImportRowErrorDTO;
+
+/**
+ * Service importing {@link Projet}, {@link Livrable} and {@link Activite} rows from CSV files.
+ * <p>
+ * The file is read one record at a time and processed in chunks of {@link #CHUNK_SIZE} rows. For each chunk the
+ * existing entities and their parents are loaded with one query per natural key ({@code refProjet}, {@code refClient}...),
+ * then the rows are validated and upserted in their own transaction, so the memory used does not depend on the size
+ * of the file and a failing chunk does not roll back the previous ones. Invalid rows are skipped and reported with
+ * their line number.
+ * <p>
+ * The first record is the header and names the columns after the entity fields, parents being referenced by their
+ * natural key. Columns may come in any order. Missing optional columns are imported as empty on new entities, and
+ * left unchanged on existing ones.
+ */
+@Service
+public class CsvImportService {
+
+    public static final int CHUNK_SIZE = 500;
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(CsvImportService.class);
+
+    private final ProjetRepository projetRepository;
+
+    private final LivrableRepository livrableRepository;
+
+    private final ActiviteRepository activiteRepository;
+
+    private final ClientRepository clientRepository;
+
+    private final Validator validator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CsvImportService(
+        ProjetRepository projetRepository,
+        LivrableRepository livrableRepository,
+        ActiviteRepository activiteRepository,
+        ClientRepository clientRepository,
+        Validator validator,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.projetRepository = projetRepository;
+        this.livrableRepository = livrableRepository;
+        this.activiteRepository = activiteRepository;
+        this.clientRepository = clientRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Import projets, with the columns {@code refProjet, type, description, datedebut, datefin, etat, refClient}.
+     *
+     * @param input the CSV file, encoded in UTF-8.
+     * @param separator the field separator.
+     * @return the import report.
+     * @throws IOException if the file can't be read.
+     * @throws InvalidCsvException if the file isn't valid CSV or misses a key column.
+     */
+    public ImportReportDTO importProjets(InputStream input, char separator) throws IOException {
+        log.debug("Request to import Projets");
+        return importCsv(input, separator, "refProjet", List.of("refProjet", "refClient"), this::saveProjets);
+    }
+
+    /**
+     * Import livrables, with the columns {@code refLivrable, dateDebut, dateFin, description, etat, refProjet}.
+     *
+     * @param input the CSV file, encoded in UTF-8.
+     * @param separator the field separator.
+     * @return the import report.
+     * @throws IOException if the file can't be read.
+     * @throws InvalidCsvException if the file isn't valid CSV or misses a key column.
+     */
+    public ImportReportDTO importLivrables(InputStream input, char separator) throws IOException {
+        log.debug("Request to import Livrables");
+        return importCsv(input, separator, "refLivrable", List.of("refLivrable", "refProjet"), this::saveLivrables);
+    }
+
+    /**
+     * Import activites, with the columns {@code refAct, description, dateDebut, dateFin, raf, etat, refLivrable}.
+     *
+     * @param input the CSV file, encoded in UTF-8.
+     * @param separator the field separator.
+     * @return the import report.
+     * @throws IOException if the file can't be read.
+     * @throws InvalidCsvException if the file isn't valid CSV or misses a key column.
+     */
+    public ImportReportDTO importActivites(InputStream input, char separator) throws IOException {
+        log.debug("Request to import Activites");
+        return importCsv(input, separator, "refAct", List.of("refAct", "refLivrable"), this::saveActivites);
+    }
+
+    private ChunkResult saveProjets(List<CsvRow> rows) {
+        Map<String, Projet> projets = index(projetRepository.findAllByRefProjetIn(refs(rows, "refProjet")), Projet::getRefProjet);
+        Map<String, Client> clients = index(clientRepository.findAllByRefClientIn(refs(rows, "refClient")), Client::getRefClient);
+        ChunkResult result = new ChunkResult();
+        for (CsvRow row : rows) {
+            Projet parsed = new Projet()
+                .refProjet(row.text("refProjet"))
+                .type(row.enumValue("type", Type.class))
+                .description(row.text("description"))
+                .datedebut(row.date("datedebut"))
+                .datefin(row.date("datefin"))
+                .etat(row.enumValue("etat", Etat.class))
+                .client(row.parent("refClient", clients));
+            Projet projet = projets.get(parsed.getRefProjet());
+            if (!validate(row, parsed, projet != null)) {
+                result.rejected.add(row);
+                continue;
+            }
+            if (projet == null) {
+                projets.put(parsed.getRefProjet(), projetRepository.save(parsed));
+                result.created++;
+            } else {
+                row.copy("type", parsed.getType(), projet::type);
+                row.copy("description", parsed.getDescription(), projet::description);
+                row.copy("datedebut", parsed.getDatedebut(), projet::datedebut);
+                row.copy("datefin", parsed.getDatefin(), projet::datefin);
+                row.copy("etat", parsed.getEtat(), projet::etat);
+                row.copy("refClient", parsed.getClient(), projet::client);
+                result.updated++;
+            }
+        }
+        return result;
+    }
+
+    private ChunkResult saveLivrables(List<CsvRow> rows) {
+        Map<String, Livrable> livrables = index(
+            livrableRepository.findAllByRefLivrableIn(refs(rows, "refLivrable")),
+            Livrable::getRefLivrable
+        );
+        Map<String, Projet> projets = index(projetRepository.findAllByRefProjetIn(refs(rows, "refProjet")), Projet::getRefProjet);
+        ChunkResult result = new ChunkResult();
+        for (CsvRow row : rows) {
+            Livrable parsed = new Livrable()
+                .refLivrable(row.text("refLivrable"))
+                .dateDebut(row.date("dateDebut"))
+                .dateFin(row.date("dateFin"))
+                .description(row.text("description"))
+                .etat(row.enumValue("etat", Etat.class))
+                .projet(row.parent("refProjet", projets));
+            Livrable livrable = livrables.get(parsed.getRefLivrable());
+            if (!validate(row, parsed, livrable != null)) {
+                result.rejected.add(row);
+                continue;
+            }
+            if (livrable == null) {
+                livrables.put(parsed.getRefLivrable(), livrableRepository.save(parsed));
+                result.created++;
+            } else {
+                row.copy("dateDebut", parsed.getDateDebut(), livrable::dateDebut);
+                row.copy("dateFin", parsed.getDateFin(), livrable::dateFin);
+                row.copy("description", parsed.getDescription(), livrable::description);
+                row.copy("etat", parsed.getEtat(), livrable::etat);
+                row.copy("refProjet", parsed.getProjet(), livrable::projet);
+                result.updated++;
+            }
+        }
+        return result;
+    }
+
+    private ChunkResult saveActivites(List<CsvRow> rows) {
+        Map<String, Activite> activites = index(activiteRepository.findAllByRefActIn(refs(rows, "refAct")), Activite::getRefAct);
+        Map<String, Livrable> livrables = index(
+            livrableRepository.findAllByRefLivrableIn(refs(rows, "refLivrable")),
+            Livrable::getRefLivrable
+        );
+        ChunkResult result = new ChunkResult();
+        for (CsvRow row : rows) {
+            Activite parsed = new Activite()
+                .refAct(row.text("refAct"))
+                .description(row.text("description"))
+                .dateDebut(row.date("dateDebut"))
+                .dateFin(row.date("dateFin"))
+                .raf(row.text("raf"))
+                .etat(row.enumValue("etat", Etat.class))
+                .livrable(row.parent("refLivrable", livrables));
+            Activite activite = activites.get(parsed.getRefAct());
+            if (!validate(row, parsed, activite != null)) {
+                result.rejected.add(row);
+                continue;
+            }
+            if (activite == null) {
+                activites.put(parsed.getRefAct(), activiteRepository.save(parsed));
+                result.created++;
+            } else {
+                row.copy("description", parsed.getDescription(), activite::description);
+                row.copy("dateDebut", parsed.getDateDebut(), activite::dateDebut);
+                row.copy("dateFin", parsed.getDateFin(), activite::dateFin);
+                row.copy("raf", parsed.getRaf(), activite::raf);
+                row.copy("etat", parsed.getEtat(), activite::etat);
+                row.copy("refLivrable", parsed.getLivrable(), activite::livrable);
+                result.updated++;
+            }
+        }
+        return result;
+    }
+
+    private ImportReportDTO importCsv(
+        InputStream input,
+        char separator,
+        String keyColumn,
+        List<String> requiredColumns,
+        Function<List<CsvRow>, ChunkResult> saveChunk
+    ) throws IOException {
+        ImportReportDTO report = new ImportReportDTO();
+        long start = System.nanoTime();
+        try (CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8), separator)) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new InvalidCsvException("The file is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            for (String column : requiredColumns) {
+                if (!columns.containsKey(column)) {
+                    throw new InvalidCsvException("Missing column " + column);
+                }
+            }
+
+            List<CsvRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> values;
+            while ((values = reader.readRecord()) != null) {
+                chunk.add(new CsvRow(reader.getRecordLine(), columns, values, keyColumn));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, saveChunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, saveChunk, report);
+            }
+        }
+        long elapsed = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.debug("Imported CSV in {} ms: {}", elapsed, report);
+        return report;
+    }
+
+    private void importChunk(List<CsvRow> chunk, Function<List<CsvRow>, ChunkResult> saveChunk, ImportReportDTO report) {
+        try {
+            ChunkResult result = transactionTemplate.execute(status -> saveChunk.apply(chunk));
+            report.setCreated(report.getCreated() + result.created);
+            report.setUpdated(report.getUpdated() + result.updated);
+            result.rejected.forEach(row -> reject(report, row));
+        } catch (RuntimeException e) {
+            // The chunk was rolled back, none of its rows was saved
+            log.warn("CSV chunk starting line {} rolled back: {}", chunk.get(0).line, e.getMessage());
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (CsvRow row : chunk) {
+                row.errors.add("chunk rolled back: " + message);
+                reject(report, row);
+            }
+        }
+    }
+
+    private void reject(ImportReportDTO report, CsvRow row) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new ImportRowErrorDTO(row.line, row.text(row.keyColumn), row.errors));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private <T> boolean validate(CsvRow row, T entity, boolean update) {
+        for (ConstraintViolation<T> violation : validator.validate(entity)) {
+            String property = violation.getPropertyPath().toString();
+            // Parents are referenced by natural key, missing ones have already been reported.
+            // An update keeps the current values of the columns missing from the file.
+            if (!row.unresolvedParents.contains(property) && (!update || row.hasColumnOf(property))) {
+                row.errors.add(property + ": " + violation.getMessage());
+            }
+        }
+        return row.errors.isEmpty();
+    }
+
+    private static Set<String> refs(List<CsvRow> rows, String column) {
+        return rows
+            .stream()
+            .map(row -> row.text(column))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static <T> Map<String, T> index(Collection<T> entities, Function<T, String> ref) {
+        Map<String, T> index = new HashMap<>();
+        entities.forEach(entity -> index.put(ref.apply(entity), entity));
+        return index;
+    }
+
+    private static final class ChunkResult {
+
+        private long created;
+
+        private long updated;
+
+        private final List<CsvRow> rejected = new ArrayList<>();
+    }
+
+    private static final class CsvRow {
+
+        private final long line;
+
+        private final Map<String, Integer> columns;
+
+        private final List<String> values;
+
+        private final String keyColumn;
+
+        private final List<String> errors = new ArrayList<>();
+
+        private final Set<String> unresolvedParents = new LinkedHashSet<>();
+
+        private CsvRow(long line, Map<String, Integer> columns, List<String> values, String keyColumn) {
+            this.line = line;
+            this.columns = columns;
+            this.values = values;
+            this.keyColumn = keyColumn;
+        }
+
+        /**
+         * @param property a property of the entity.
+         * @return {@code true} if the file has its column, named after the property or after the natural key of a parent.
+         */
+        private boolean hasColumnOf(String property) {
+            String parentColumn = "ref" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            return columns.containsKey(property) || columns.containsKey(parentColumn);
+        }
+
+        /**
+         * Copy a parsed value to an existing entity, only if its column is in the file.
+         */
+        private <V> void copy(String column, V value, Consumer<V> setter) {
+            if (columns.containsKey(column)) {
+                setter.accept(value);
+            }
+        }
+
+        private String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private LocalDate date(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                errors.add(column + ": invalid date '" + value + "', expected yyyy-MM-dd");
+                return null;
+            }
+        }
+
+        private <E extends Enum<E>> E enumValue(String column, Class<E> type) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, value);
+            } catch (IllegalArgumentException e) {
+                errors.add(column + ": invalid value '" + value + "', expected one of " + Arrays.toString(type.getEnumConstants()));
+                return null;
+            }
+        }
+
+        private <T> T parent(String column, Map<String, T> parents) {
+            String ref = text(column);
+            T parent = ref == null ? null : parents.get(ref);
+            if (parent == null) {
+                errors.add(column + (ref == null ? ": must not be null" : ": '" + ref + "' not found"));
+                // The property validated on the entity is the column name without the "ref" prefix
+                unresolvedParents.add(Character.toLowerCase(column.charAt(3)) + column.substring(4));
+            }
+            return parent;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package tn.itdevspace.easytask.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader returning one record at a time, so that a file is never loaded in memory.
+ * <p>
+ * Fields may be quoted, quoted fields may contain the separator, line breaks and doubled quotes.
+ */
+final class CsvReader implements Closeable {
+
+    static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+
+    private final char separator;
+
+    private final StringBuilder field = new StringBuilder();
+
+    private long line = 1;
+
+    private long recordLine;
+
+    private int next = -2;
+
+    private boolean started;
+
+    CsvReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Read the next record, skipping empty lines.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input.
+     * @throws IOException if the input can't be read.
+     * @throws InvalidCsvException if the input isn't valid CSV.
+     */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = skipLineBreak(c);
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidCsvException("Unterminated quoted field starting line " + recordLine);
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                append(c);
+                c = read();
+                continue;
+            }
+            if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == separator) {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                record.add(field.toString());
+                if (c != -1) {
+                    next = skipLineBreak(c);
+                }
+                return record;
+            } else {
+                append(c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return the line where the last record read starts.
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (next != -2) {
+            int c = next;
+            next = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private int skipLineBreak(int c) throws IOException {
+        line++;
+        int following = read();
+        if (c == '\r' && following == '\n') {
+            following = read();
+        }
+        return following;
+    }
+
+    private void append(int c) {
+        if (field.length() == MAX_FIELD_LENGTH) {
+            throw new InvalidCsvException("Field longer than " + MAX_FIELD_LENGTH + " characters line " + recordLine);
+        }
+        field.append((char) c);
+    }
+}
@@ -0,0 +1,150 @@
+package tn.itdevspace.easytask.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.itdevspace.easytask.service.dto.BatchItemResultDTO;
+import tn.itdevspace.easytask.service.dto.BatchItemResultDTO.Status;
+
+/**
+ * Service saving lists of entities in a single transaction.
+ * <p>
+ * The whole list is validated first, including the versions of the updated entities, and nothing is written if one
+ * item is rejected. Otherwise all the items are saved and flushed together, so that Hibernate sends the inserts and
+ * updates as JDBC batches of {@code hibernate.jdbc.batch_size} statements. This requires ids generated by Hibernate
+ * (UUIDs or pooled sequences), IDENTITY columns disable insert batching.
+ */
+@Service
+@Transactional
+public class EntityBatchService {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final String VERSION = "version";
+
+    private final Logger log = LoggerFactory.getLogger(EntityBatchService.class);
+
+    private final Validator validator;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    public EntityBatchService(Validator validator, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Validate then save a list of entities.
+     * <p>
+     * The items are the JSON of the entities, as returned by the entity endpoints. An item without {@code version} is
+     * created. An item with a {@code version} updates the entity of this id, only if it still has this version: the
+     * update is sent with it, so that an entity modified concurrently is not overwritten.
+     *
+     * @param items the JSON of the entities to save.
+     * @param entityClass the entity class.
+     * @param idGetter the accessor of the entity id.
+     * @param repository the repository of the entity.
+     * @param <T> the entity type.
+     * @param <ID> the entity id type.
+     * @return one result per item, in the order of the request. If one of them {@link BatchItemResultDTO#isFailed() failed}, nothing was saved.
+     */
+    public <T, ID> List<BatchItemResultDTO> saveAll(
+        List<ObjectNode> items,
+        Class<T> entityClass,
+        Function<T, ID> idGetter,
+        JpaRepository<T, ID> repository
+    ) {
+        log.debug("Request to save a batch of {} entities", items.size());
+        List<BatchItemResultDTO> results = new ArrayList<>(items.size());
+        List<T> entities = new ArrayList<>(items.size());
+        List<Long> versions = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchItemResultDTO result = new BatchItemResultDTO(i, null);
+            T entity = null;
+            Long version = null;
+            try {
+                // The version is read-only in the entities, it is read from the JSON
+                entity = objectMapper.treeToValue(items.get(i), entityClass);
+                version = objectMapper.treeToValue(items.get(i).get(VERSION), Long.class);
+                result.setId(Objects.toString(idGetter.apply(entity), null));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                result.getErrors().add(e.getMessage());
+                result.setStatus(Status.INVALID);
+            }
+            results.add(result);
+            entities.add(entity);
+            versions.add(version);
+        }
+
+        List<ID> ids = entities.stream().filter(Objects::nonNull).map(idGetter).filter(Objects::nonNull).collect(Collectors.toList());
+        Map<ID, T> existing = new HashMap<>();
+        if (!ids.isEmpty()) {
+            repository.findAllById(ids).forEach(entity -> existing.put(idGetter.apply(entity), entity));
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(entityClass);
+        boolean failed = false;
+        for (int i = 0; i < items.size(); i++) {
+            BatchItemResultDTO result = results.get(i);
+            T entity = entities.get(i);
+            Long version = versions.get(i);
+            if (entity != null) {
+                ID id = idGetter.apply(entity);
+                for (ConstraintViolation<T> violation : validator.validate(entity)) {
+                    result.getErrors().add(violation.getPropertyPath() + ": " + violation.getMessage());
+                }
+                if (!result.getErrors().isEmpty()) {
+                    result.setStatus(Status.INVALID);
+                } else if (version == null) {
+                    if (id != null && existing.containsKey(id)) {
+                        result.getErrors().add("version: required to update an existing entity");
+                        result.setStatus(Status.INVALID);
+                    } else {
+                        result.setStatus(Status.CREATED);
+                    }
+                } else if (id == null || !existing.containsKey(id)) {
+                    result.getErrors().add("id: entity not found");
+                    result.setStatus(Status.NOT_FOUND);
+                } else if (!version.equals(persister.getVersion(existing.get(id)))) {
+                    result.getErrors().add("version: entity has been modified");
+                    result.setStatus(Status.PRECONDITION_FAILED);
+                } else {
+                    // Checked again by the update, against a concurrent transaction
+                    persister.setPropertyValue(entity, persister.getVersionProperty(), version);
+                    result.setStatus(Status.UPDATED);
+                }
+            }
+            failed |= result.isFailed();
+        }
+        if (failed) {
+            return results;
+        }
+
+        List<T> saved = repository.saveAllAndFlush(entities);
+        for (int i = 0; i < saved.size(); i++) {
+            results.get(i).setId(String.valueOf(idGetter.apply(saved.get(i))));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,208 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.RangeFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Service updating and deleting all the entities matching filters with a single JPQL statement.
+ * <p>
+ * The filters are the ones of the criteria of the listings, keyed by the path of the attribute they apply to, e.g.
+ * {@code livrable.id}. Only the columns of the entity can be filtered: bulk statements can't join its collections.
+ * <p>
+ * Bulk statements bypass the persistence context and Hibernate events. Hibernate invalidates the second-level cache
+ * regions of the entity written, with its natural id region, leaving the other regions untouched. The
+ * {@link EntityVersionService} counter of the entity is bumped here, like {@link EntityVersionEventListener} does.
+ */
+@Service
+@Transactional
+public class EntityBulkService {
+
+    private static final String ALIAS = "e";
+
+    private final Logger log = LoggerFactory.getLogger(EntityBulkService.class);
+
+    private final EntityManager entityManager;
+
+    private final EntityVersionService entityVersionService;
+
+    public EntityBulkService(EntityManager entityManager, EntityVersionService entityVersionService) {
+        this.entityManager = entityManager;
+        this.entityVersionService = entityVersionService;
+    }
+
+    /**
+     * Update the matching entities, incrementing their {@code @Version}.
+     *
+     * @param entityClass the entity.
+     * @param values the new values, keyed by the name of their attribute.
+     * @param filters the filters the entities should match, keyed by the path of their attribute, {@code null} ones being ignored.
+     * @return the number of updated entities.
+     * @throws IllegalArgumentException if there is no value or no filter, or a filter is not supported.
+     */
+    public int update(Class<?> entityClass, Map<String, ?> values, Map<String, Filter<?>> filters) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No value to update");
+        }
+        Where where = new Where(filters);
+        StringBuilder jpql = new StringBuilder("update versioned ").append(entityClass.getSimpleName()).append(' ').append(ALIAS);
+        String separator = " set ";
+        for (Map.Entry<String, ?> value : values.entrySet()) {
+            jpql.append(separator).append(ALIAS).append('.').append(value.getKey()).append(" = ").append(where.parameter(value.getValue()));
+            separator = ", ";
+        }
+        return execute(entityClass, jpql.append(where), where);
+    }
+
+    /**
+     * Delete the matching entities.
+     *
+     * @param entityClass the entity.
+     * @param filters the filters the entities should match, keyed by the path of their attribute, {@code null} ones being ignored.
+     * @return the number of deleted entities.
+     * @throws IllegalArgumentException if there is no filter, or a filter is not supported.
+     */
+    public int delete(Class<?> entityClass, Map<String, Filter<?>> filters) {
+        Where where = new Where(filters);
+        StringBuilder jpql = new StringBuilder("delete from ").append(entityClass.getSimpleName()).append(' ').append(ALIAS);
+        return execute(entityClass, jpql.append(where), where);
+    }
+
+    /**
+     * Select the distinct values of an expression over the matching entities, e.g. what a bulk statement will change.
+     *
+     * @param entityClass the entity.
+     * @param expression the JPQL expression, the entity being aliased {@code e}.
+     * @param type the type of the expression.
+     * @param filters the filters the entities should match, keyed by the path of their attribute, {@code null} ones being ignored.
+     * @param <V> the type of the expression.
+     * @return the distinct values of the expression.
+     * @throws IllegalArgumentException if there is no filter, or a filter is not supported.
+     */
+    @Transactional(readOnly = true)
+    public <V> List<V> findDistinct(Class<?> entityClass, String expression, Class<V> type, Map<String, Filter<?>> filters) {
+        Where where = new Where(filters);
+        String jpql = "select distinct " + expression + " from " + entityClass.getSimpleName() + ' ' + ALIAS + where;
+        TypedQuery<V> query = entityManager.createQuery(jpql, type);
+        where.bind(query);
+        return query.getResultList();
+    }
+
+    private int execute(Class<?> entityClass, CharSequence jpql, Where where) {
+        Query query = entityManager.createQuery(jpql.toString());
+        where.bind(query);
+        int count = query.executeUpdate();
+        log.debug("{} {} written by: {}", count, entityClass.getSimpleName(), jpql);
+        if (count > 0) {
+            String entityName = entityClass.getName();
+            entityVersionService.increment(entityName);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            entityVersionService.increment(entityName);
+                        }
+                    }
+                );
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The where clause of the filters, with its positional parameters.
+     */
+    private static final class Where {
+
+        private final List<String> predicates = new ArrayList<>();
+
+        private final List<Object> parameters = new ArrayList<>();
+
+        private Where(Map<String, Filter<?>> filters) {
+            filters.forEach((path, filter) -> {
+                if (filter != null) {
+                    add(ALIAS + '.' + path, filter);
+                }
+            });
+            if (predicates.isEmpty()) {
+                throw new IllegalArgumentException("At least one filter is required");
+            }
+        }
+
+        private void add(String path, Filter<?> filter) {
+            if (filter.getEquals() != null) {
+                predicates.add(path + " = " + parameter(filter.getEquals()));
+            }
+            if (filter.getNotEquals() != null) {
+                predicates.add(path + " <> " + parameter(filter.getNotEquals()));
+            }
+            if (filter.getSpecified() != null) {
+                predicates.add(path + (filter.getSpecified() ? " is not null" : " is null"));
+            }
+            if (filter.getIn() != null) {
+                predicates.add(path + " in (" + parameter(filter.getIn()) + ')');
+            }
+            if (filter.getNotIn() != null) {
+                predicates.add(path + " not in (" + parameter(filter.getNotIn()) + ')');
+            }
+            if (filter instanceof RangeFilter) {
+                RangeFilter<?> range = (RangeFilter<?>) filter;
+                if (range.getGreaterThan() != null) {
+                    predicates.add(path + " > " + parameter(range.getGreaterThan()));
+                }
+                if (range.getGreaterThanOrEqual() != null) {
+                    predicates.add(path + " >= " + parameter(range.getGreaterThanOrEqual()));
+                }
+                if (range.getLessThan() != null) {
+                    predicates.add(path + " < " + parameter(range.getLessThan()));
+                }
+                if (range.getLessThanOrEqual() != null) {
+                    predicates.add(path + " <= " + parameter(range.getLessThanOrEqual()));
+                }
+            }
+            if (filter instanceof StringFilter) {
+                StringFilter string = (StringFilter) filter;
+                if (string.getContains() != null) {
+                    predicates.add("upper(" + path + ") like " + parameter(likePattern(string.getContains())));
+                }
+                if (string.getDoesNotContain() != null) {
+                    predicates.add("upper(" + path + ") not like " + parameter(likePattern(string.getDoesNotContain())));
+                }
+            }
+        }
+
+        private String parameter(Object value) {
+            parameters.add(value instanceof Collection ? new ArrayList<>((Collection<?>) value) : value);
+            return "?" + parameters.size();
+        }
+
+        private void bind(Query query) {
+            for (int i = 0; i < parameters.size(); i++) {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+        }
+
+        private static String likePattern(String value) {
+            return '%' + value.toUpperCase() + '%';
+        }
+
+        @Override
+        public String toString() {
+            return " where " + String.join(" and ", predicates);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package tn.itdevspace.easytask.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Service writing whole entity tables as newline-delimited JSON.
+ * <p>
+ * Rows are read through a forward-only repository {@link Stream} and written one by one to the response,
+ * and the persistence context is cleared every {@link #CLEAR_EVERY} rows, so the heap used by an export
+ * does not depend on the size of the table.
+ */
+@Service
+public class EntityExportService {
+
+    private static final int CLEAR_EVERY = 500;
+
+    private final Logger log = LoggerFactory.getLogger(EntityExportService.class);
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    public EntityExportService(EntityManager entityManager, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Build the response body exporting the given rows.
+     * <p>
+     * The body is written after the controller has returned, on an async request thread, so the rows are
+     * opened in their own read-only transaction.
+     *
+     * @param type the exported entity class.
+     * @param rows supplier of the repository stream to export, called once the transaction is open.
+     * @param <T> the exported entity type.
+     * @return the streaming response body.
+     */
+    public <T> StreamingResponseBody export(Class<T> type, Supplier<Stream<T>> rows) {
+        ObjectWriter writer = objectMapper
+            .writerFor(type)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out ->
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    long count = write(writer, stream, out);
+                    log.debug("Exported {} {} rows", count, type.getSimpleName());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    private <T> long write(ObjectWriter writer, Stream<T> stream, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++count % CLEAR_EVERY == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
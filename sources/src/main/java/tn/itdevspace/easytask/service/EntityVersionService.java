@@ -0,0 +1,143 @@
+package tn.itdevspace.easytask.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Service keeping a change counter per entity, to build the ETags of the entity endpoints.
+ * <p>
+ * The counters are bumped by {@link EntityVersionEventListener} on each insert, update and delete, so the ETag of a
+ * response can be computed, and compared with {@code If-None-Match}, before the database is queried. They are kept
+ * in memory and start again at zero with the application, the start time being part of the ETags.
+ */
+@Service
+public class EntityVersionService {
+
+    private static final char VERSION_SEPARATOR = ':';
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private volatile long lastChange = System.nanoTime();
+
+    /**
+     * Get the current version of an entity.
+     *
+     * @param entityName the name of the entity, i.e. its class name.
+     * @return the number of committed changes of the entity since the application started.
+     */
+    public long getVersion(String entityName) {
+        AtomicLong version = versions.get(entityName);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * Record a change of an entity.
+     *
+     * @param entityName the name of the entity, i.e. its class name.
+     */
+    public void increment(String entityName) {
+        versions.computeIfAbsent(entityName, name -> new AtomicLong()).incrementAndGet();
+        lastChange = System.nanoTime();
+    }
+
+    /**
+     * @param duration a duration.
+     * @return {@code true} if an entity changed during the last {@code duration}, or the application started.
+     */
+    public boolean isChangedWithin(Duration duration) {
+        return System.nanoTime() - lastChange < duration.toNanos();
+    }
+
+    /**
+     * Get the strong ETag of a response built from some entities.
+     *
+     * @param entityClasses the entities serialized in the response, including the ones serialized as relationships.
+     * @return the ETag, which changes as soon as one of the entities changes.
+     */
+    public String getETag(Class<?>... entityClasses) {
+        StringBuilder etag = new StringBuilder("\"").append(epoch);
+        for (Class<?> entityClass : entityClasses) {
+            etag.append('-').append(getVersion(entityClass.getName()));
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Get the strong ETag of a response built from one entity, sent back in {@code If-Match} to update it.
+     * <p>
+     * It is the ETag of the response followed by the {@code @Version} of the entity: {@link #checkNotModified} still
+     * matches it without reading the entity, while {@link #matchesIfMatch} only compares the version.
+     *
+     * @param version the version of the entity.
+     * @param entityClasses the entities serialized in the response, including the ones serialized as relationships.
+     * @return the ETag.
+     */
+    public String getETag(Long version, Class<?>... entityClasses) {
+        String etag = getETag(entityClasses);
+        return etag.substring(0, etag.length() - 1) + VERSION_SEPARATOR + version + '"';
+    }
+
+    /**
+     * Check the {@code If-Match} header of an update against the version of the entity to update.
+     *
+     * @param ifMatch the {@code If-Match} header, {@code null} if absent.
+     * @param version the current version of the entity.
+     * @return {@code true} if the header is {@code *}, or has an ETag of this version of the entity.
+     */
+    public boolean matchesIfMatch(String ifMatch, Long version) {
+        if (ifMatch == null) {
+            return false;
+        }
+        String suffix = VERSION_SEPARATOR + String.valueOf(version) + '"';
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            // Strong comparison: weak ETags never match
+            if (value.equals("*") || (value.startsWith("\"") && value.endsWith(suffix))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check a request against the ETag of a response built from some entities.
+     * <p>
+     * The ETag, or the matching {@link #getETag(Long, Class[]) ETag of an entity}, is added to the response, with a
+     * {@code Cache-Control: private, no-cache} header so that browsers keep the response and revalidate it instead of
+     * obeying the default {@code no-store} of Spring Security.
+     *
+     * @param request the request, with its {@code If-None-Match} header.
+     * @param entityClasses the entities serialized in the response, including the ones serialized as relationships.
+     * @return {@code true} if the response status has been set to {@code 304 (Not Modified)}, the handler then returning {@code null}.
+     */
+    public boolean checkNotModified(ServletWebRequest request, Class<?>... entityClasses) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        String etag = getETag(entityClasses);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // ETags of a single entity are still current while their prefix is
+            String prefix = etag.substring(0, etag.length() - 1) + VERSION_SEPARATOR;
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                int start = value.startsWith("W/") ? 2 : 0;
+                if (value.startsWith(prefix, start)) {
+                    etag = value.substring(start);
+                    break;
+                }
+            }
+        }
+        return request.checkNotModified(etag);
+    }
+}
@@ -0,0 +1,130 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.List;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.Estimation;
+import tn.itdevspace.easytask.repository.EstimationRepository;
+import tn.itdevspace.easytask.service.criteria.EstimationCriteria;
+
+/**
+ * Service for executing complex queries for {@link Estimation} entities in the database.
+ * The main input is a {@link EstimationCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Estimation} or a {@link Page} of {@link Estimation} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EstimationQueryService extends QueryService<Estimation> {
+
+    private final Logger log = LoggerFactory.getLogger(EstimationQueryService.class);
+
+    private final EstimationRepository estimationRepository;
+
+    public EstimationQueryService(EstimationRepository estimationRepository) {
+        this.estimationRepository = estimationRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link Estimation} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Estimation> findByCriteria(EstimationCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Estimation> specification = createSpecification(criteria);
+        return estimationRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Estimation} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Estimation> findByCriteria(EstimationCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Estimation> specification = createSpecification(criteria);
+        return estimationRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(EstimationCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Estimation> specification = createSpecification(criteria);
+        return estimationRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link EstimationCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Estimation> createSpecification(EstimationCriteria criteria) {
+        Specification<Estimation> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), Estimation_.id));
+            }
+            if (criteria.getDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDate(), Estimation_.date));
+            }
+            if (criteria.getValeurJour() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getValeurJour(), Estimation_.valeurJour));
+            }
+            if (criteria.getValeurHeure() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getValeurHeure(), Estimation_.valeurHeure));
+            }
+            if (criteria.getPriseEnCharge() != null) {
+                specification = specification.and(buildSpecification(criteria.getPriseEnCharge(), Estimation_.priseEnCharge));
+            }
+            if (criteria.getType() != null) {
+                specification = specification.and(buildSpecification(criteria.getType(), Estimation_.type));
+            }
+            if (criteria.getActiviteId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getActiviteId(),
+                            root -> root.join(Estimation_.activite, JoinType.LEFT).get(Activite_.id)
+                        )
+                    );
+            }
+            if (criteria.getProjetId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getProjetId(), root -> root.join(Estimation_.projet, JoinType.LEFT).get(Projet_.id))
+                    );
+            }
+            if (criteria.getLivrableId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getLivrableId(),
+                            root -> root.join(Estimation_.livrable, JoinType.LEFT).get(Livrable_.id)
+                        )
+                    );
+            }
+        }
+        return specification;
+    }
+}
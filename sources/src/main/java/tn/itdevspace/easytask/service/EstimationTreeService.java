@@ -0,0 +1,82 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
+import tn.itdevspace.easytask.repository.EstimationRepository;
+import tn.itdevspace.easytask.repository.EstimationRepository.EstimationTotal;
+import tn.itdevspace.easytask.service.dto.EstimationTreeDTO;
+
+/**
+ * Service rolling the estimations up the projet, livrable and activite tree.
+ * <p>
+ * The tree is read with one aggregate query per level, whatever the number of livrables and activites.
+ * Each estimation counts on exactly one level, so that it is not added twice to the totals: the level of its
+ * {@link TypeEntite} when it is linked to an entity of this level, otherwise the deepest level it is linked to.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EstimationTreeService {
+
+    private final Logger log = LoggerFactory.getLogger(EstimationTreeService.class);
+
+    private final EstimationRepository estimationRepository;
+
+    public EstimationTreeService(EstimationRepository estimationRepository) {
+        this.estimationRepository = estimationRepository;
+    }
+
+    /**
+     * Get the estimation tree of a projet.
+     *
+     * @param projetId the id of the projet.
+     * @return the projet node with its livrables and activites, or empty if the projet does not exist.
+     */
+    public Optional<EstimationTreeDTO> getEstimationTree(Long projetId) {
+        log.debug("Request to get the estimation tree of Projet : {}", projetId);
+        return estimationRepository
+            .sumByProjet(projetId, TypeEntite.Projet)
+            .map(projet -> {
+                EstimationTreeDTO root = toNode(TypeEntite.Projet, projet);
+                Map<Long, EstimationTreeDTO> livrableNodes = new HashMap<>();
+                List<EstimationTotal> livrables = estimationRepository.sumByLivrableOfProjet(
+                    projetId,
+                    TypeEntite.Livrable,
+                    TypeEntite.Projet
+                );
+                for (EstimationTotal livrable : livrables) {
+                    EstimationTreeDTO node = toNode(TypeEntite.Livrable, livrable);
+                    livrableNodes.put(livrable.getId(), node);
+                    root.getChildren().add(node);
+                }
+                List<EstimationTotal> activites = estimationRepository.sumByActiviteOfProjet(
+                    projetId,
+                    TypeEntite.Activite,
+                    TypeEntite.Livrable,
+                    TypeEntite.Projet
+                );
+                for (EstimationTotal activite : activites) {
+                    livrableNodes.get(activite.getParentId()).getChildren().add(toNode(TypeEntite.Activite, activite));
+                }
+                return root.computeTotals();
+            });
+    }
+
+    private static EstimationTreeDTO toNode(TypeEntite type, EstimationTotal total) {
+        return new EstimationTreeDTO(
+            type,
+            total.getId(),
+            total.getRef(),
+            total.getDescription(),
+            total.getEtat(),
+            total.getValeurJour(),
+            total.getValeurHeure()
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.hibernate.Hibernate;
+
+/**
+ * Collections of an entity that its listing can load on demand, named in the {@code fetch} request parameter.
+ * <p>
+ * The collections are initialized once the page is read rather than fetch-joined by its query, so that the paging
+ * stays in the database. With {@code @BatchSize} on them, each collection costs one select for the whole page instead
+ * of one per entity.
+ *
+ * @param <E> the type of the entity.
+ */
+public final class FetchProfile<E> {
+
+    private final Map<String, Association<E>> associations = new LinkedHashMap<>();
+
+    /**
+     * Add a collection to the profile.
+     *
+     * @param name the name of the collection in the {@code fetch} request parameter.
+     * @param elementClass the type of the elements of the collection.
+     * @param getter the getter of the collection.
+     * @return this profile.
+     */
+    public FetchProfile<E> add(String name, Class<?> elementClass, Function<E, Collection<?>> getter) {
+        associations.put(name, new Association<>(elementClass, getter));
+        return this;
+    }
+
+    /**
+     * @param names the names of collections.
+     * @return {@code true} if all the collections belong to the profile.
+     */
+    public boolean supports(Collection<String> names) {
+        return names == null || associations.keySet().containsAll(names);
+    }
+
+    /**
+     * Get the entities a listing is built from, for its ETag.
+     *
+     * @param names the names of the collections fetched.
+     * @param entityClasses the entities of the listing without the fetched collections.
+     * @return the given entities, followed by the elements of the fetched collections.
+     */
+    public Class<?>[] getEntityClasses(Collection<String> names, Class<?>... entityClasses) {
+        List<Class<?>> result = new ArrayList<>(Arrays.asList(entityClasses));
+        if (names != null) {
+            associations.forEach((name, association) -> {
+                if (names.contains(name) && !result.contains(association.elementClass)) {
+                    result.add(association.elementClass);
+                }
+            });
+        }
+        return result.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * Initialize collections of managed entities.
+     *
+     * @param entities the entities.
+     * @param names the names of the collections to initialize, {@code null} for none.
+     */
+    public void fetch(Collection<E> entities, Collection<String> names) {
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            Association<E> association = associations.get(name);
+            if (association == null) {
+                throw new IllegalArgumentException("Unknown collection: " + name);
+            }
+            for (E entity : entities) {
+                Hibernate.initialize(association.getter.apply(entity));
+            }
+        }
+    }
+
+    private static final class Association<E> {
+
+        private final Class<?> elementClass;
+        private final Function<E, Collection<?>> getter;
+
+        private Association(Class<?> elementClass, Function<E, Collection<?>> getter) {
+            this.elementClass = elementClass;
+            this.getter = getter;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package tn.itdevspace.easytask.service;
+
+public class InvalidCsvException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCsvException(String message) {
+        super(message);
+    }
+}
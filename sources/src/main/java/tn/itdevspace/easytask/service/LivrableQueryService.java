@@ -0,0 +1,188 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.List;
+import java.util.Set;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.Livrable;
+import tn.itdevspace.easytask.repository.LivrableRepository;
+import tn.itdevspace.easytask.repository.projection.LivrableSummary;
+import tn.itdevspace.easytask.service.criteria.LivrableCriteria;
+
+/**
+ * Service for executing complex queries for {@link Livrable} entities in the database.
+ * The main input is a {@link LivrableCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Livrable} or a {@link Page} of {@link Livrable} which fulfills the criteria,
+ * or a {@link Page} of their {@link LivrableSummary}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class LivrableQueryService extends QueryService<Livrable> {
+
+    /**
+     * Collections which can be loaded with the livrables of a page.
+     */
+    public static final FetchProfile<Livrable> FETCH_PROFILE = new FetchProfile<Livrable>()
+        .add("activites", Activite.class, Livrable::getActivites)
+        .add("estimations", Estimation.class, Livrable::getEstimations);
+
+    private final Logger log = LoggerFactory.getLogger(LivrableQueryService.class);
+
+    private final LivrableRepository livrableRepository;
+
+    private final SummaryQueryService summaryQueryService;
+
+    public LivrableQueryService(LivrableRepository livrableRepository, SummaryQueryService summaryQueryService) {
+        this.livrableRepository = livrableRepository;
+        this.summaryQueryService = summaryQueryService;
+    }
+
+    /**
+     * Return a {@link List} of {@link Livrable} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Livrable> findByCriteria(LivrableCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Livrable> specification = createSpecification(criteria);
+        return livrableRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Livrable} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Livrable> findByCriteria(LivrableCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Livrable> specification = createSpecification(criteria);
+        return livrableRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Livrable} which matches the criteria from the database, with some of their collections.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fetch The names of the collections to load, from {@link #FETCH_PROFILE}, or {@code null} for none.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Livrable> findByCriteria(LivrableCriteria criteria, Pageable page, Set<String> fetch) {
+        log.debug("find by criteria : {}, page: {}, fetch: {}", criteria, page, fetch);
+        Page<Livrable> result = findByCriteria(criteria, page);
+        FETCH_PROFILE.fetch(result.getContent(), fetch);
+        return result;
+    }
+
+    /**
+     * Return a {@link Page} of {@link LivrableSummary} of the entities which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the summaries of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<LivrableSummary> findSummariesByCriteria(LivrableCriteria criteria, Pageable page) {
+        log.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        return summaryQueryService.findAll(
+            Livrable.class,
+            LivrableSummary.class,
+            createSpecification(criteria),
+            root -> {
+                Join<Livrable, Projet> projet = root.join(Livrable_.projet, JoinType.LEFT);
+                return List.of(
+                    root.get(Livrable_.id).alias("id"),
+                    root.get(Livrable_.refLivrable).alias("refLivrable"),
+                    root.get(Livrable_.dateDebut).alias("dateDebut"),
+                    root.get(Livrable_.dateFin).alias("dateFin"),
+                    root.get(Livrable_.etat).alias("etat"),
+                    projet.get(Projet_.id).alias("projetId"),
+                    projet.get(Projet_.refProjet).alias("projetRefProjet")
+                );
+            },
+            page
+        );
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(LivrableCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Livrable> specification = createSpecification(criteria);
+        return livrableRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link LivrableCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Livrable> createSpecification(LivrableCriteria criteria) {
+        Specification<Livrable> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Livrable_.id));
+            }
+            if (criteria.getRefLivrable() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getRefLivrable(), Livrable_.refLivrable));
+            }
+            if (criteria.getDateDebut() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateDebut(), Livrable_.dateDebut));
+            }
+            if (criteria.getDateFin() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateFin(), Livrable_.dateFin));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Livrable_.description));
+            }
+            if (criteria.getEtat() != null) {
+                specification = specification.and(buildSpecification(criteria.getEtat(), Livrable_.etat));
+            }
+            if (criteria.getActivitesId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getActivitesId(),
+                            root -> root.join(Livrable_.activites, JoinType.LEFT).get(Activite_.id)
+                        )
+                    );
+            }
+            if (criteria.getEstimationsId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getEstimationsId(),
+                            root -> root.join(Livrable_.estimations, JoinType.LEFT).get(Estimation_.id)
+                        )
+                    );
+            }
+            if (criteria.getProjetId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getProjetId(), root -> root.join(Livrable_.projet, JoinType.LEFT).get(Projet_.id))
+                    );
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,158 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.List;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.Maintenance;
+import tn.itdevspace.easytask.repository.MaintenanceRepository;
+import tn.itdevspace.easytask.repository.projection.MaintenanceSummary;
+import tn.itdevspace.easytask.service.criteria.MaintenanceCriteria;
+
+/**
+ * Service for executing complex queries for {@link Maintenance} entities in the database.
+ * The main input is a {@link MaintenanceCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Maintenance} or a {@link Page} of {@link Maintenance} which fulfills the criteria,
+ * or a {@link Page} of their {@link MaintenanceSummary}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MaintenanceQueryService extends QueryService<Maintenance> {
+
+    private final Logger log = LoggerFactory.getLogger(MaintenanceQueryService.class);
+
+    private final MaintenanceRepository maintenanceRepository;
+
+    private final SummaryQueryService summaryQueryService;
+
+    public MaintenanceQueryService(MaintenanceRepository maintenanceRepository, SummaryQueryService summaryQueryService) {
+        this.maintenanceRepository = maintenanceRepository;
+        this.summaryQueryService = summaryQueryService;
+    }
+
+    /**
+     * Return a {@link List} of {@link Maintenance} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Maintenance> findByCriteria(MaintenanceCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Maintenance> specification = createSpecification(criteria);
+        return maintenanceRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Maintenance} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Maintenance> findByCriteria(MaintenanceCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Maintenance> specification = createSpecification(criteria);
+        return maintenanceRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link MaintenanceSummary} of the entities which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the summaries of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MaintenanceSummary> findSummariesByCriteria(MaintenanceCriteria criteria, Pageable page) {
+        log.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        return summaryQueryService.findAll(
+            Maintenance.class,
+            MaintenanceSummary.class,
+            createSpecification(criteria),
+            root -> {
+                Join<Maintenance, Ressource> ressource = root.join(Maintenance_.ressource, JoinType.LEFT);
+                return List.of(
+                    root.get(Maintenance_.id).alias("id"),
+                    root.get(Maintenance_.produit).alias("produit"),
+                    root.get(Maintenance_.etat).alias("etat"),
+                    root.get(Maintenance_.dateDebut).alias("dateDebut"),
+                    root.get(Maintenance_.dateFin).alias("dateFin"),
+                    root.get(Maintenance_.duree).alias("duree"),
+                    ressource.get(Ressource_.id).alias("ressourceId"),
+                    ressource.get(Ressource_.nom).alias("ressourceNom"),
+                    ressource.get(Ressource_.prenom).alias("ressourcePrenom")
+                );
+            },
+            page
+        );
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(MaintenanceCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Maintenance> specification = createSpecification(criteria);
+        return maintenanceRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link MaintenanceCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Maintenance> createSpecification(MaintenanceCriteria criteria) {
+        Specification<Maintenance> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), Maintenance_.id));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Maintenance_.description));
+            }
+            if (criteria.getProduit() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getProduit(), Maintenance_.produit));
+            }
+            if (criteria.getSolution() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getSolution(), Maintenance_.solution));
+            }
+            if (criteria.getEtat() != null) {
+                specification = specification.and(buildSpecification(criteria.getEtat(), Maintenance_.etat));
+            }
+            if (criteria.getDateDebut() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateDebut(), Maintenance_.dateDebut));
+            }
+            if (criteria.getDateFin() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateFin(), Maintenance_.dateFin));
+            }
+            if (criteria.getDuree() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDuree(), Maintenance_.duree));
+            }
+            if (criteria.getRessourceId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getRessourceId(),
+                            root -> root.join(Maintenance_.ressource, JoinType.LEFT).get(Ressource_.id)
+                        )
+                    );
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,189 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.List;
+import java.util.Set;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.repository.ProjetRepository;
+import tn.itdevspace.easytask.repository.projection.ProjetSummary;
+import tn.itdevspace.easytask.service.criteria.ProjetCriteria;
+
+/**
+ * Service for executing complex queries for {@link Projet} entities in the database.
+ * The main input is a {@link ProjetCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Projet} or a {@link Page} of {@link Projet} which fulfills the criteria,
+ * or a {@link Page} of their {@link ProjetSummary}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProjetQueryService extends QueryService<Projet> {
+
+    /**
+     * Collections which can be loaded with the projets of a page.
+     */
+    public static final FetchProfile<Projet> FETCH_PROFILE = new FetchProfile<Projet>()
+        .add("livrables", Livrable.class, Projet::getLivrables)
+        .add("estimations", Estimation.class, Projet::getEstimations);
+
+    private final Logger log = LoggerFactory.getLogger(ProjetQueryService.class);
+
+    private final ProjetRepository projetRepository;
+
+    private final SummaryQueryService summaryQueryService;
+
+    public ProjetQueryService(ProjetRepository projetRepository, SummaryQueryService summaryQueryService) {
+        this.projetRepository = projetRepository;
+        this.summaryQueryService = summaryQueryService;
+    }
+
+    /**
+     * Return a {@link List} of {@link Projet} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Projet> findByCriteria(ProjetCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Projet> specification = createSpecification(criteria);
+        return projetRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Projet} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Projet> findByCriteria(ProjetCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Projet> specification = createSpecification(criteria);
+        return projetRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Projet} which matches the criteria from the database, with some of their collections.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fetch The names of the collections to load, from {@link #FETCH_PROFILE}, or {@code null} for none.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Projet> findByCriteria(ProjetCriteria criteria, Pageable page, Set<String> fetch) {
+        log.debug("find by criteria : {}, page: {}, fetch: {}", criteria, page, fetch);
+        Page<Projet> result = findByCriteria(criteria, page);
+        FETCH_PROFILE.fetch(result.getContent(), fetch);
+        return result;
+    }
+
+    /**
+     * Return a {@link Page} of {@link ProjetSummary} of the entities which match the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the summaries of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjetSummary> findSummariesByCriteria(ProjetCriteria criteria, Pageable page) {
+        log.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        return summaryQueryService.findAll(
+            Projet.class,
+            ProjetSummary.class,
+            createSpecification(criteria),
+            root -> {
+                Join<Projet, Client> client = root.join(Projet_.client, JoinType.LEFT);
+                return List.of(
+                    root.get(Projet_.id).alias("id"),
+                    root.get(Projet_.refProjet).alias("refProjet"),
+                    root.get(Projet_.type).alias("type"),
+                    root.get(Projet_.datedebut).alias("datedebut"),
+                    root.get(Projet_.datefin).alias("datefin"),
+                    root.get(Projet_.etat).alias("etat"),
+                    client.get(Client_.id).alias("clientId"),
+                    client.get(Client_.refClient).alias("clientRefClient")
+                );
+            },
+            page
+        );
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ProjetCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Projet> specification = createSpecification(criteria);
+        return projetRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ProjetCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Projet> createSpecification(ProjetCriteria criteria) {
+        Specification<Projet> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Projet_.id));
+            }
+            if (criteria.getRefProjet() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getRefProjet(), Projet_.refProjet));
+            }
+            if (criteria.getType() != null) {
+                specification = specification.and(buildSpecification(criteria.getType(), Projet_.type));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Projet_.description));
+            }
+            if (criteria.getDatedebut() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDatedebut(), Projet_.datedebut));
+            }
+            if (criteria.getDatefin() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDatefin(), Projet_.datefin));
+            }
+            if (criteria.getEtat() != null) {
+                specification = specification.and(buildSpecification(criteria.getEtat(), Projet_.etat));
+            }
+            if (criteria.getLivrablesId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getLivrablesId(), root -> root.join(Projet_.livrables, JoinType.LEFT).get(Livrable_.id))
+                    );
+            }
+            if (criteria.getEstimationsId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getEstimationsId(),
+                            root -> root.join(Projet_.estimations, JoinType.LEFT).get(Estimation_.id)
+                        )
+                    );
+            }
+            if (criteria.getClientId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getClientId(), root -> root.join(Projet_.client, JoinType.LEFT).get(Client_.id))
+                    );
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,212 @@
+package tn.itdevspace.easytask.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import tn.itdevspace.easytask.config.ApplicationProperties;
+
+/**
+ * Service caching the serialized JSON responses of the hot listings.
+ * <p>
+ * A response is keyed by its URL and by the {@link EntityVersionService} versions of the entities it is built from: it
+ * is loaded and serialized once, optionally gzip-compressed, then served as is until one of these entities is written,
+ * which changes the key. The stale responses are left to the eviction of the cache region.
+ * <p>
+ * The version ETag is sent with the responses, and requests sending it back in {@code If-None-Match} get a
+ * {@code 304 Not Modified} without body, before the cache is even read.
+ * <p>
+ * The versions only see the writes of this instance: a response read from a lagging replica, or while another instance
+ * writes, could be older than its key. The responses read from the replica are thus neither cached nor sent with an ETag.
+ */
+@Service
+public class ResponseCacheService {
+
+    public static final String LISTINGS_CACHE = "listingResponses";
+
+    private static final List<String> CACHED_HEADERS = List.of(HttpHeaders.LINK, "X-Total-Count");
+
+    private static final String GZIP = "gzip";
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private final Logger log = LoggerFactory.getLogger(ResponseCacheService.class);
+
+    private final CacheManager cacheManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ApplicationProperties.ResponseCache properties;
+
+    public ResponseCacheService(
+        CacheManager cacheManager,
+        ObjectMapper objectMapper,
+        EntityVersionService entityVersionService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.entityVersionService = entityVersionService;
+        this.properties = applicationProperties.getResponseCache();
+    }
+
+    /**
+     * Record that the current thread reads from the replica of the database, while a response is loaded.
+     */
+    public static void recordReplicaRead() {
+        if (REPLICA_READ.get() != null) {
+            REPLICA_READ.set(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Get the response of a request from the cache, or load it and cache it.
+     *
+     * @param request the request, its URL and query string being part of the cache key.
+     * @param loader the loader of the response, whose body is serialized to JSON.
+     * @param entityClasses the entities serialized in the response, including the ones serialized as relationships.
+     * @return the response, with status {@code 304 (Not Modified)} if the request has a matching {@code If-None-Match} header.
+     */
+    public ResponseEntity<byte[]> getOrLoad(HttpServletRequest request, Supplier<ResponseEntity<?>> loader, Class<?>... entityClasses) {
+        String etag = entityVersionService.getETag(entityClasses);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(LISTINGS_CACHE));
+        StringBuilder key = new StringBuilder(etag).append(' ').append(request.getRequestURL());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        CachedResponse cached = cache.get(key.toString(), CachedResponse.class);
+        if (cached == null) {
+            ResponseEntity<?> response;
+            boolean replicaRead;
+            REPLICA_READ.set(Boolean.FALSE);
+            try {
+                response = loader.get();
+                replicaRead = REPLICA_READ.get();
+            } finally {
+                REPLICA_READ.remove();
+            }
+            cached = serialize(response);
+            if (replicaRead) {
+                log.debug("Response of {} read from the replica, not cached", key);
+                headers.remove(HttpHeaders.ETAG);
+            } else {
+                cache.put(key.toString(), cached);
+            }
+        } else {
+            log.debug("Response of {} found in cache", key);
+        }
+
+        cached.getHeaders().forEach(headers::addAll);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (cached.getGzippedBody() != null) {
+            headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+            if (acceptsGzip(request)) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                return ResponseEntity.ok().headers(headers).body(cached.getGzippedBody());
+            }
+        }
+        return ResponseEntity.ok().headers(headers).body(cached.getBody());
+    }
+
+    private CachedResponse serialize(ResponseEntity<?> response) {
+        byte[] body;
+        byte[] gzippedBody = null;
+        try {
+            body = objectMapper.writeValueAsBytes(response.getBody());
+            if (properties.isGzip() && body.length >= properties.getGzipMinSize()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(body);
+                }
+                gzippedBody = out.toByteArray();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize the response", e);
+        }
+        LinkedHashMap<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : CACHED_HEADERS) {
+            List<String> values = response.getHeaders().get(name);
+            if (values != null) {
+                headers.put(name, new ArrayList<>(values));
+            }
+        }
+        return new CachedResponse(body, gzippedBody, headers);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A serialized response, with its gzip-compressed copy if any and the headers to send back with it.
+     */
+    public static class CachedResponse implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] body;
+
+        private final byte[] gzippedBody;
+
+        private final LinkedHashMap<String, List<String>> headers;
+
+        public CachedResponse(byte[] body, byte[] gzippedBody, LinkedHashMap<String, List<String>> headers) {
+            this.body = body;
+            this.gzippedBody = gzippedBody;
+            this.headers = headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public byte[] getGzippedBody() {
+            return gzippedBody;
+        }
+
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+    }
+}
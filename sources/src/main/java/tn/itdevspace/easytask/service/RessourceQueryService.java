@@ -0,0 +1,138 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.List;
+import java.util.Set;
+import javax.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tn.itdevspace.easytask.domain.*; // for static metamodels
+import tn.itdevspace.easytask.domain.Ressource;
+import tn.itdevspace.easytask.repository.RessourceRepository;
+import tn.itdevspace.easytask.service.criteria.RessourceCriteria;
+
+/**
+ * Service for executing complex queries for {@link Ressource} entities in the database.
+ * The main input is a {@link RessourceCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Ressource} or a {@link Page} of {@link Ressource} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RessourceQueryService extends QueryService<Ressource> {
+
+    /**
+     * Collections which can be loaded with the ressources of a page.
+     */
+    public static final FetchProfile<Ressource> FETCH_PROFILE = new FetchProfile<Ressource>()
+        .add("maintenances", Maintenance.class, Ressource::getMaintenances)
+        .add("chargeJournalieres", ChargeJournaliere.class, Ressource::getChargeJournalieres);
+
+    private final Logger log = LoggerFactory.getLogger(RessourceQueryService.class);
+
+    private final RessourceRepository ressourceRepository;
+
+    public RessourceQueryService(RessourceRepository ressourceRepository) {
+        this.ressourceRepository = ressourceRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link Ressource} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Ressource> findByCriteria(RessourceCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Ressource> specification = createSpecification(criteria);
+        return ressourceRepository.findAll(specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Ressource} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Ressource> findByCriteria(RessourceCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Ressource> specification = createSpecification(criteria);
+        return ressourceRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Ressource} which matches the criteria from the database, with some of their collections.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fetch The names of the collections to load, from {@link #FETCH_PROFILE}, or {@code null} for none.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Ressource> findByCriteria(RessourceCriteria criteria, Pageable page, Set<String> fetch) {
+        log.debug("find by criteria : {}, page: {}, fetch: {}", criteria, page, fetch);
+        Page<Ressource> result = findByCriteria(criteria, page);
+        FETCH_PROFILE.fetch(result.getContent(), fetch);
+        return result;
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(RessourceCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Ressource> specification = createSpecification(criteria);
+        return ressourceRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link RessourceCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Ressource> createSpecification(RessourceCriteria criteria) {
+        Specification<Ressource> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), Ressource_.id));
+            }
+            if (criteria.getNom() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getNom(), Ressource_.nom));
+            }
+            if (criteria.getPrenom() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getPrenom(), Ressource_.prenom));
+            }
+            if (criteria.getMaintenancesId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getMaintenancesId(),
+                            root -> root.join(Ressource_.maintenances, JoinType.LEFT).get(Maintenance_.id)
+                        )
+                    );
+            }
+            if (criteria.getChargeJournalieresId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(
+                            criteria.getChargeJournalieresId(),
+                            root -> root.join(Ressource_.chargeJournalieres, JoinType.LEFT).get(ChargeJournaliere_.id)
+                        )
+                    );
+            }
+        }
+        return specification;
+    }
+}
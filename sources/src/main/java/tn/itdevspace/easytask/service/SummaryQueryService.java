@@ -0,0 +1,107 @@
+package tn.itdevspace.easytask.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service selecting summaries of the entities matching a {@link Specification}, as interface projections.
+ * <p>
+ * Only the selected columns are read, as {@link Tuple} rows which are not managed by the persistence context. The
+ * specification being the one built from the criteria of the full listing, the summary view is filtered the same way.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SummaryQueryService {
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private final EntityManager entityManager;
+
+    public SummaryQueryService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Select a page of summaries of the entities matching a specification.
+     *
+     * @param entityClass the entity.
+     * @param summaryClass the projection interface, with a getter named after the alias of each column.
+     * @param specification the specification which the entities should match.
+     * @param columns the aliased columns to select from the root of the entity, and from the to-one relationships it joins.
+     * @param pageable the pagination information, sorted on the attributes of the entity.
+     * @param <T> the type of the entity.
+     * @param <S> the type of the summaries.
+     * @return the page of summaries.
+     */
+    public <T, S> Page<S> findAll(
+        Class<T> entityClass,
+        Class<S> summaryClass,
+        Specification<T> specification,
+        Function<Root<T>, List<Selection<?>>> columns,
+        Pageable pageable
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        query.multiselect(columns.apply(root));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<S> summaries = typedQuery
+            .getResultList()
+            .stream()
+            .map(tuple -> projectionFactory.createProjection(summaryClass, toMap(tuple)))
+            .collect(Collectors.toList());
+        return PageableExecutionUtils.getPage(summaries, pageable, () -> count(entityClass, specification));
+    }
+
+    private <T> long count(Class<T> entityClass, Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // The specification may have made the query distinct
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,272 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.Activite} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.ActiviteResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /activites?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class ActiviteCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering Etat
+     */
+    public static class EtatFilter extends Filter<Etat> {
+
+        public EtatFilter() {}
+
+        public EtatFilter(EtatFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public EtatFilter copy() {
+            return new EtatFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter refAct;
+
+    private StringFilter description;
+
+    private LocalDateFilter dateDebut;
+
+    private LocalDateFilter dateFin;
+
+    private StringFilter raf;
+
+    private EtatFilter etat;
+
+    private UUIDFilter estimationsId;
+
+    private LongFilter livrableId;
+
+    private Boolean distinct;
+
+    public ActiviteCriteria() {}
+
+    public ActiviteCriteria(ActiviteCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.refAct = other.refAct == null ? null : other.refAct.copy();
+        this.description = other.description == null ? null : other.description.copy();
+        this.dateDebut = other.dateDebut == null ? null : other.dateDebut.copy();
+        this.dateFin = other.dateFin == null ? null : other.dateFin.copy();
+        this.raf = other.raf == null ? null : other.raf.copy();
+        this.etat = other.etat == null ? null : other.etat.copy();
+        this.estimationsId = other.estimationsId == null ? null : other.estimationsId.copy();
+        this.livrableId = other.livrableId == null ? null : other.livrableId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ActiviteCriteria copy() {
+        return new ActiviteCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getRefAct() {
+        return refAct;
+    }
+
+    public StringFilter refAct() {
+        if (refAct == null) {
+            refAct = new StringFilter();
+        }
+        return refAct;
+    }
+
+    public void setRefAct(StringFilter refAct) {
+        this.refAct = refAct;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public StringFilter description() {
+        if (description == null) {
+            description = new StringFilter();
+        }
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public LocalDateFilter getDateDebut() {
+        return dateDebut;
+    }
+
+    public LocalDateFilter dateDebut() {
+        if (dateDebut == null) {
+            dateDebut = new LocalDateFilter();
+        }
+        return dateDebut;
+    }
+
+    public void setDateDebut(LocalDateFilter dateDebut) {
+        this.dateDebut = dateDebut;
+    }
+
+    public LocalDateFilter getDateFin() {
+        return dateFin;
+    }
+
+    public LocalDateFilter dateFin() {
+        if (dateFin == null) {
+            dateFin = new LocalDateFilter();
+        }
+        return dateFin;
+    }
+
+    public void setDateFin(LocalDateFilter dateFin) {
+        this.dateFin = dateFin;
+    }
+
+    public StringFilter getRaf() {
+        return raf;
+    }
+
+    public StringFilter raf() {
+        if (raf == null) {
+            raf = new StringFilter();
+        }
+        return raf;
+    }
+
+    public void setRaf(StringFilter raf) {
+        this.raf = raf;
+    }
+
+    public EtatFilter getEtat() {
+        return etat;
+    }
+
+    public EtatFilter etat() {
+        if (etat == null) {
+            etat = new EtatFilter();
+        }
+        return etat;
+    }
+
+    public void setEtat(EtatFilter etat) {
+        this.etat = etat;
+    }
+
+    public UUIDFilter getEstimationsId() {
+        return estimationsId;
+    }
+
+    public UUIDFilter estimationsId() {
+        if (estimationsId == null) {
+            estimationsId = new UUIDFilter();
+        }
+        return estimationsId;
+    }
+
+    public void setEstimationsId(UUIDFilter estimationsId) {
+        this.estimationsId = estimationsId;
+    }
+
+    public LongFilter getLivrableId() {
+        return livrableId;
+    }
+
+    public LongFilter livrableId() {
+        if (livrableId == null) {
+            livrableId = new LongFilter();
+        }
+        return livrableId;
+    }
+
+    public void setLivrableId(LongFilter livrableId) {
+        this.livrableId = livrableId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ActiviteCriteria that = (ActiviteCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(refAct, that.refAct) &&
+            Objects.equals(description, that.description) &&
+            Objects.equals(dateDebut, that.dateDebut) &&
+            Objects.equals(dateFin, that.dateFin) &&
+            Objects.equals(raf, that.raf) &&
+            Objects.equals(etat, that.etat) &&
+            Objects.equals(estimationsId, that.estimationsId) &&
+            Objects.equals(livrableId, that.livrableId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, refAct, description, dateDebut, dateFin, raf, etat, estimationsId, livrableId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ActiviteCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (refAct != null ? "refAct=" + refAct + ", " : "") +
+            (description != null ? "description=" + description + ", " : "") +
+            (dateDebut != null ? "dateDebut=" + dateDebut + ", " : "") +
+            (dateFin != null ? "dateFin=" + dateFin + ", " : "") +
+            (raf != null ? "raf=" + raf + ", " : "") +
+            (etat != null ? "etat=" + etat + ", " : "") +
+            (estimationsId != null ? "estimationsId=" + estimationsId + ", " : "") +
+            (livrableId != null ? "livrableId=" + livrableId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,212 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.DoubleFilter;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.StringFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+import tn.itdevspace.easytask.domain.enumeration.TypeCharge;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.ChargeJournaliere} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.ChargeJournaliereResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /charge-journalieres?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class ChargeJournaliereCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering TypeCharge
+     */
+    public static class TypeChargeFilter extends Filter<TypeCharge> {
+
+        public TypeChargeFilter() {}
+
+        public TypeChargeFilter(TypeChargeFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TypeChargeFilter copy() {
+            return new TypeChargeFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private UUIDFilter id;
+
+    private LocalDateFilter date;
+
+    private TypeChargeFilter type;
+
+    private DoubleFilter duree;
+
+    private StringFilter description;
+
+    private UUIDFilter ressourceId;
+
+    private Boolean distinct;
+
+    public ChargeJournaliereCriteria() {}
+
+    public ChargeJournaliereCriteria(ChargeJournaliereCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.date = other.date == null ? null : other.date.copy();
+        this.type = other.type == null ? null : other.type.copy();
+        this.duree = other.duree == null ? null : other.duree.copy();
+        this.description = other.description == null ? null : other.description.copy();
+        this.ressourceId = other.ressourceId == null ? null : other.ressourceId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ChargeJournaliereCriteria copy() {
+        return new ChargeJournaliereCriteria(this);
+    }
+
+    public UUIDFilter getId() {
+        return id;
+    }
+
+    public UUIDFilter id() {
+        if (id == null) {
+            id = new UUIDFilter();
+        }
+        return id;
+    }
+
+    public void setId(UUIDFilter id) {
+        this.id = id;
+    }
+
+    public LocalDateFilter getDate() {
+        return date;
+    }
+
+    public LocalDateFilter date() {
+        if (date == null) {
+            date = new LocalDateFilter();
+        }
+        return date;
+    }
+
+    public void setDate(LocalDateFilter date) {
+        this.date = date;
+    }
+
+    public TypeChargeFilter getType() {
+        return type;
+    }
+
+    public TypeChargeFilter type() {
+        if (type == null) {
+            type = new TypeChargeFilter();
+        }
+        return type;
+    }
+
+    public void setType(TypeChargeFilter type) {
+        this.type = type;
+    }
+
+    public DoubleFilter getDuree() {
+        return duree;
+    }
+
+    public DoubleFilter duree() {
+        if (duree == null) {
+            duree = new DoubleFilter();
+        }
+        return duree;
+    }
+
+    public void setDuree(DoubleFilter duree) {
+        this.duree = duree;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public StringFilter description() {
+        if (description == null) {
+            description = new StringFilter();
+        }
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public UUIDFilter getRessourceId() {
+        return ressourceId;
+    }
+
+    public UUIDFilter ressourceId() {
+        if (ressourceId == null) {
+            ressourceId = new UUIDFilter();
+        }
+        return ressourceId;
+    }
+
+    public void setRessourceId(UUIDFilter ressourceId) {
+        this.ressourceId = ressourceId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ChargeJournaliereCriteria that = (ChargeJournaliereCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(date, that.date) &&
+            Objects.equals(type, that.type) &&
+            Objects.equals(duree, that.duree) &&
+            Objects.equals(description, that.description) &&
+            Objects.equals(ressourceId, that.ressourceId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, date, type, duree, description, ressourceId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ChargeJournaliereCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (date != null ? "date=" + date + ", " : "") +
+            (type != null ? "type=" + type + ", " : "") +
+            (duree != null ? "duree=" + duree + ", " : "") +
+            (description != null ? "description=" + description + ", " : "") +
+            (ressourceId != null ? "ressourceId=" + ressourceId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
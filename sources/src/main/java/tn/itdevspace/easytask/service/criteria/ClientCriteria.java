@@ -0,0 +1,191 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.Client} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.ClientResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /clients?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class ClientCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter refClient;
+
+    private StringFilter nom;
+
+    private StringFilter prenom;
+
+    private StringFilter contact;
+
+    private LongFilter projetsId;
+
+    private Boolean distinct;
+
+    public ClientCriteria() {}
+
+    public ClientCriteria(ClientCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.refClient = other.refClient == null ? null : other.refClient.copy();
+        this.nom = other.nom == null ? null : other.nom.copy();
+        this.prenom = other.prenom == null ? null : other.prenom.copy();
+        this.contact = other.contact == null ? null : other.contact.copy();
+        this.projetsId = other.projetsId == null ? null : other.projetsId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ClientCriteria copy() {
+        return new ClientCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getRefClient() {
+        return refClient;
+    }
+
+    public StringFilter refClient() {
+        if (refClient == null) {
+            refClient = new StringFilter();
+        }
+        return refClient;
+    }
+
+    public void setRefClient(StringFilter refClient) {
+        this.refClient = refClient;
+    }
+
+    public StringFilter getNom() {
+        return nom;
+    }
+
+    public StringFilter nom() {
+        if (nom == null) {
+            nom = new StringFilter();
+        }
+        return nom;
+    }
+
+    public void setNom(StringFilter nom) {
+        this.nom = nom;
+    }
+
+    public StringFilter getPrenom() {
+        return prenom;
+    }
+
+    public StringFilter prenom() {
+        if (prenom == null) {
+            prenom = new StringFilter();
+        }
+        return prenom;
+    }
+
+    public void setPrenom(StringFilter prenom) {
+        this.prenom = prenom;
+    }
+
+    public StringFilter getContact() {
+        return contact;
+    }
+
+    public StringFilter contact() {
+        if (contact == null) {
+            contact = new StringFilter();
+        }
+        return contact;
+    }
+
+    public void setContact(StringFilter contact) {
+        this.contact = contact;
+    }
+
+    public LongFilter getProjetsId() {
+        return projetsId;
+    }
+
+    public LongFilter projetsId() {
+        if (projetsId == null) {
+            projetsId = new LongFilter();
+        }
+        return projetsId;
+    }
+
+    public void setProjetsId(LongFilter projetsId) {
+        this.projetsId = projetsId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ClientCriteria that = (ClientCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(refClient, that.refClient) &&
+            Objects.equals(nom, that.nom) &&
+            Objects.equals(prenom, that.prenom) &&
+            Objects.equals(contact, that.contact) &&
+            Objects.equals(projetsId, that.projetsId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, refClient, nom, prenom, contact, projetsId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ClientCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (refClient != null ? "refClient=" + refClient + ", " : "") +
+            (nom != null ? "nom=" + nom + ", " : "") +
+            (prenom != null ? "prenom=" + prenom + ", " : "") +
+            (contact != null ? "contact=" + contact + ", " : "") +
+            (projetsId != null ? "projetsId=" + projetsId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,273 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.BooleanFilter;
+import tech.jhipster.service.filter.DoubleFilter;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.Estimation} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.EstimationResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /estimations?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class EstimationCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering TypeEntite
+     */
+    public static class TypeEntiteFilter extends Filter<TypeEntite> {
+
+        public TypeEntiteFilter() {}
+
+        public TypeEntiteFilter(TypeEntiteFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TypeEntiteFilter copy() {
+            return new TypeEntiteFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private UUIDFilter id;
+
+    private LocalDateFilter date;
+
+    private DoubleFilter valeurJour;
+
+    private DoubleFilter valeurHeure;
+
+    private BooleanFilter priseEnCharge;
+
+    private TypeEntiteFilter type;
+
+    private LongFilter activiteId;
+
+    private LongFilter projetId;
+
+    private LongFilter livrableId;
+
+    private Boolean distinct;
+
+    public EstimationCriteria() {}
+
+    public EstimationCriteria(EstimationCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.date = other.date == null ? null : other.date.copy();
+        this.valeurJour = other.valeurJour == null ? null : other.valeurJour.copy();
+        this.valeurHeure = other.valeurHeure == null ? null : other.valeurHeure.copy();
+        this.priseEnCharge = other.priseEnCharge == null ? null : other.priseEnCharge.copy();
+        this.type = other.type == null ? null : other.type.copy();
+        this.activiteId = other.activiteId == null ? null : other.activiteId.copy();
+        this.projetId = other.projetId == null ? null : other.projetId.copy();
+        this.livrableId = other.livrableId == null ? null : other.livrableId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public EstimationCriteria copy() {
+        return new EstimationCriteria(this);
+    }
+
+    public UUIDFilter getId() {
+        return id;
+    }
+
+    public UUIDFilter id() {
+        if (id == null) {
+            id = new UUIDFilter();
+        }
+        return id;
+    }
+
+    public void setId(UUIDFilter id) {
+        this.id = id;
+    }
+
+    public LocalDateFilter getDate() {
+        return date;
+    }
+
+    public LocalDateFilter date() {
+        if (date == null) {
+            date = new LocalDateFilter();
+        }
+        return date;
+    }
+
+    public void setDate(LocalDateFilter date) {
+        this.date = date;
+    }
+
+    public DoubleFilter getValeurJour() {
+        return valeurJour;
+    }
+
+    public DoubleFilter valeurJour() {
+        if (valeurJour == null) {
+            valeurJour = new DoubleFilter();
+        }
+        return valeurJour;
+    }
+
+    public void setValeurJour(DoubleFilter valeurJour) {
+        this.valeurJour = valeurJour;
+    }
+
+    public DoubleFilter getValeurHeure() {
+        return valeurHeure;
+    }
+
+    public DoubleFilter valeurHeure() {
+        if (valeurHeure == null) {
+            valeurHeure = new DoubleFilter();
+        }
+        return valeurHeure;
+    }
+
+    public void setValeurHeure(DoubleFilter valeurHeure) {
+        this.valeurHeure = valeurHeure;
+    }
+
+    public BooleanFilter getPriseEnCharge() {
+        return priseEnCharge;
+    }
+
+    public BooleanFilter priseEnCharge() {
+        if (priseEnCharge == null) {
+            priseEnCharge = new BooleanFilter();
+        }
+        return priseEnCharge;
+    }
+
+    public void setPriseEnCharge(BooleanFilter priseEnCharge) {
+        this.priseEnCharge = priseEnCharge;
+    }
+
+    public TypeEntiteFilter getType() {
+        return type;
+    }
+
+    public TypeEntiteFilter type() {
+        if (type == null) {
+            type = new TypeEntiteFilter();
+        }
+        return type;
+    }
+
+    public void setType(TypeEntiteFilter type) {
+        this.type = type;
+    }
+
+    public LongFilter getActiviteId() {
+        return activiteId;
+    }
+
+    public LongFilter activiteId() {
+        if (activiteId == null) {
+            activiteId = new LongFilter();
+        }
+        return activiteId;
+    }
+
+    public void setActiviteId(LongFilter activiteId) {
+        this.activiteId = activiteId;
+    }
+
+    public LongFilter getProjetId() {
+        return projetId;
+    }
+
+    public LongFilter projetId() {
+        if (projetId == null) {
+            projetId = new LongFilter();
+        }
+        return projetId;
+    }
+
+    public void setProjetId(LongFilter projetId) {
+        this.projetId = projetId;
+    }
+
+    public LongFilter getLivrableId() {
+        return livrableId;
+    }
+
+    public LongFilter livrableId() {
+        if (livrableId == null) {
+            livrableId = new LongFilter();
+        }
+        return livrableId;
+    }
+
+    public void setLivrableId(LongFilter livrableId) {
+        this.livrableId = livrableId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final EstimationCriteria that = (EstimationCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(date, that.date) &&
+            Objects.equals(valeurJour, that.valeurJour) &&
+            Objects.equals(valeurHeure, that.valeurHeure) &&
+            Objects.equals(priseEnCharge, that.priseEnCharge) &&
+            Objects.equals(type, that.type) &&
+            Objects.equals(activiteId, that.activiteId) &&
+            Objects.equals(projetId, that.projetId) &&
+            Objects.equals(livrableId, that.livrableId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, date, valeurJour, valeurHeure, priseEnCharge, type, activiteId, projetId, livrableId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "EstimationCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (date != null ? "date=" + date + ", " : "") +
+            (valeurJour != null ? "valeurJour=" + valeurJour + ", " : "") +
+            (valeurHeure != null ? "valeurHeure=" + valeurHeure + ", " : "") +
+            (priseEnCharge != null ? "priseEnCharge=" + priseEnCharge + ", " : "") +
+            (type != null ? "type=" + type + ", " : "") +
+            (activiteId != null ? "activiteId=" + activiteId + ", " : "") +
+            (projetId != null ? "projetId=" + projetId + ", " : "") +
+            (livrableId != null ? "livrableId=" + livrableId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,272 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.Livrable} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.LivrableResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /livrables?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class LivrableCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering Etat
+     */
+    public static class EtatFilter extends Filter<Etat> {
+
+        public EtatFilter() {}
+
+        public EtatFilter(EtatFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public EtatFilter copy() {
+            return new EtatFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter refLivrable;
+
+    private LocalDateFilter dateDebut;
+
+    private LocalDateFilter dateFin;
+
+    private StringFilter description;
+
+    private EtatFilter etat;
+
+    private LongFilter activitesId;
+
+    private UUIDFilter estimationsId;
+
+    private LongFilter projetId;
+
+    private Boolean distinct;
+
+    public LivrableCriteria() {}
+
+    public LivrableCriteria(LivrableCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.refLivrable = other.refLivrable == null ? null : other.refLivrable.copy();
+        this.dateDebut = other.dateDebut == null ? null : other.dateDebut.copy();
+        this.dateFin = other.dateFin == null ? null : other.dateFin.copy();
+        this.description = other.description == null ? null : other.description.copy();
+        this.etat = other.etat == null ? null : other.etat.copy();
+        this.activitesId = other.activitesId == null ? null : other.activitesId.copy();
+        this.estimationsId = other.estimationsId == null ? null : other.estimationsId.copy();
+        this.projetId = other.projetId == null ? null : other.projetId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public LivrableCriteria copy() {
+        return new LivrableCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getRefLivrable() {
+        return refLivrable;
+    }
+
+    public StringFilter refLivrable() {
+        if (refLivrable == null) {
+            refLivrable = new StringFilter();
+        }
+        return refLivrable;
+    }
+
+    public void setRefLivrable(StringFilter refLivrable) {
+        this.refLivrable = refLivrable;
+    }
+
+    public LocalDateFilter getDateDebut() {
+        return dateDebut;
+    }
+
+    public LocalDateFilter dateDebut() {
+        if (dateDebut == null) {
+            dateDebut = new LocalDateFilter();
+        }
+        return dateDebut;
+    }
+
+    public void setDateDebut(LocalDateFilter dateDebut) {
+        this.dateDebut = dateDebut;
+    }
+
+    public LocalDateFilter getDateFin() {
+        return dateFin;
+    }
+
+    public LocalDateFilter dateFin() {
+        if (dateFin == null) {
+            dateFin = new LocalDateFilter();
+        }
+        return dateFin;
+    }
+
+    public void setDateFin(LocalDateFilter dateFin) {
+        this.dateFin = dateFin;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public StringFilter description() {
+        if (description == null) {
+            description = new StringFilter();
+        }
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public EtatFilter getEtat() {
+        return etat;
+    }
+
+    public EtatFilter etat() {
+        if (etat == null) {
+            etat = new EtatFilter();
+        }
+        return etat;
+    }
+
+    public void setEtat(EtatFilter etat) {
+        this.etat = etat;
+    }
+
+    public LongFilter getActivitesId() {
+        return activitesId;
+    }
+
+    public LongFilter activitesId() {
+        if (activitesId == null) {
+            activitesId = new LongFilter();
+        }
+        return activitesId;
+    }
+
+    public void setActivitesId(LongFilter activitesId) {
+        this.activitesId = activitesId;
+    }
+
+    public UUIDFilter getEstimationsId() {
+        return estimationsId;
+    }
+
+    public UUIDFilter estimationsId() {
+        if (estimationsId == null) {
+            estimationsId = new UUIDFilter();
+        }
+        return estimationsId;
+    }
+
+    public void setEstimationsId(UUIDFilter estimationsId) {
+        this.estimationsId = estimationsId;
+    }
+
+    public LongFilter getProjetId() {
+        return projetId;
+    }
+
+    public LongFilter projetId() {
+        if (projetId == null) {
+            projetId = new LongFilter();
+        }
+        return projetId;
+    }
+
+    public void setProjetId(LongFilter projetId) {
+        this.projetId = projetId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LivrableCriteria that = (LivrableCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(refLivrable, that.refLivrable) &&
+            Objects.equals(dateDebut, that.dateDebut) &&
+            Objects.equals(dateFin, that.dateFin) &&
+            Objects.equals(description, that.description) &&
+            Objects.equals(etat, that.etat) &&
+            Objects.equals(activitesId, that.activitesId) &&
+            Objects.equals(estimationsId, that.estimationsId) &&
+            Objects.equals(projetId, that.projetId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, refLivrable, dateDebut, dateFin, description, etat, activitesId, estimationsId, projetId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LivrableCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (refLivrable != null ? "refLivrable=" + refLivrable + ", " : "") +
+            (dateDebut != null ? "dateDebut=" + dateDebut + ", " : "") +
+            (dateFin != null ? "dateFin=" + dateFin + ", " : "") +
+            (description != null ? "description=" + description + ", " : "") +
+            (etat != null ? "etat=" + etat + ", " : "") +
+            (activitesId != null ? "activitesId=" + activitesId + ", " : "") +
+            (estimationsId != null ? "estimationsId=" + estimationsId + ", " : "") +
+            (projetId != null ? "projetId=" + projetId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
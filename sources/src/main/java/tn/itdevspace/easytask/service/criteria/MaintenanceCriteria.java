@@ -0,0 +1,272 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.DoubleFilter;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.StringFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.Maintenance} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.MaintenanceResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /maintenances?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class MaintenanceCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering Etat
+     */
+    public static class EtatFilter extends Filter<Etat> {
+
+        public EtatFilter() {}
+
+        public EtatFilter(EtatFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public EtatFilter copy() {
+            return new EtatFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private UUIDFilter id;
+
+    private StringFilter description;
+
+    private StringFilter produit;
+
+    private StringFilter solution;
+
+    private EtatFilter etat;
+
+    private LocalDateFilter dateDebut;
+
+    private LocalDateFilter dateFin;
+
+    private DoubleFilter duree;
+
+    private UUIDFilter ressourceId;
+
+    private Boolean distinct;
+
+    public MaintenanceCriteria() {}
+
+    public MaintenanceCriteria(MaintenanceCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.description = other.description == null ? null : other.description.copy();
+        this.produit = other.produit == null ? null : other.produit.copy();
+        this.solution = other.solution == null ? null : other.solution.copy();
+        this.etat = other.etat == null ? null : other.etat.copy();
+        this.dateDebut = other.dateDebut == null ? null : other.dateDebut.copy();
+        this.dateFin = other.dateFin == null ? null : other.dateFin.copy();
+        this.duree = other.duree == null ? null : other.duree.copy();
+        this.ressourceId = other.ressourceId == null ? null : other.ressourceId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public MaintenanceCriteria copy() {
+        return new MaintenanceCriteria(this);
+    }
+
+    public UUIDFilter getId() {
+        return id;
+    }
+
+    public UUIDFilter id() {
+        if (id == null) {
+            id = new UUIDFilter();
+        }
+        return id;
+    }
+
+    public void setId(UUIDFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public StringFilter description() {
+        if (description == null) {
+            description = new StringFilter();
+        }
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public StringFilter getProduit() {
+        return produit;
+    }
+
+    public StringFilter produit() {
+        if (produit == null) {
+            produit = new StringFilter();
+        }
+        return produit;
+    }
+
+    public void setProduit(StringFilter produit) {
+        this.produit = produit;
+    }
+
+    public StringFilter getSolution() {
+        return solution;
+    }
+
+    public StringFilter solution() {
+        if (solution == null) {
+            solution = new StringFilter();
+        }
+        return solution;
+    }
+
+    public void setSolution(StringFilter solution) {
+        this.solution = solution;
+    }
+
+    public EtatFilter getEtat() {
+        return etat;
+    }
+
+    public EtatFilter etat() {
+        if (etat == null) {
+            etat = new EtatFilter();
+        }
+        return etat;
+    }
+
+    public void setEtat(EtatFilter etat) {
+        this.etat = etat;
+    }
+
+    public LocalDateFilter getDateDebut() {
+        return dateDebut;
+    }
+
+    public LocalDateFilter dateDebut() {
+        if (dateDebut == null) {
+            dateDebut = new LocalDateFilter();
+        }
+        return dateDebut;
+    }
+
+    public void setDateDebut(LocalDateFilter dateDebut) {
+        this.dateDebut = dateDebut;
+    }
+
+    public LocalDateFilter getDateFin() {
+        return dateFin;
+    }
+
+    public LocalDateFilter dateFin() {
+        if (dateFin == null) {
+            dateFin = new LocalDateFilter();
+        }
+        return dateFin;
+    }
+
+    public void setDateFin(LocalDateFilter dateFin) {
+        this.dateFin = dateFin;
+    }
+
+    public DoubleFilter getDuree() {
+        return duree;
+    }
+
+    public DoubleFilter duree() {
+        if (duree == null) {
+            duree = new DoubleFilter();
+        }
+        return duree;
+    }
+
+    public void setDuree(DoubleFilter duree) {
+        this.duree = duree;
+    }
+
+    public UUIDFilter getRessourceId() {
+        return ressourceId;
+    }
+
+    public UUIDFilter ressourceId() {
+        if (ressourceId == null) {
+            ressourceId = new UUIDFilter();
+        }
+        return ressourceId;
+    }
+
+    public void setRessourceId(UUIDFilter ressourceId) {
+        this.ressourceId = ressourceId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MaintenanceCriteria that = (MaintenanceCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(description, that.description) &&
+            Objects.equals(produit, that.produit) &&
+            Objects.equals(solution, that.solution) &&
+            Objects.equals(etat, that.etat) &&
+            Objects.equals(dateDebut, that.dateDebut) &&
+            Objects.equals(dateFin, that.dateFin) &&
+            Objects.equals(duree, that.duree) &&
+            Objects.equals(ressourceId, that.ressourceId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, description, produit, solution, etat, dateDebut, dateFin, duree, ressourceId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MaintenanceCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (description != null ? "description=" + description + ", " : "") +
+            (produit != null ? "produit=" + produit + ", " : "") +
+            (solution != null ? "solution=" + solution + ", " : "") +
+            (etat != null ? "etat=" + etat + ", " : "") +
+            (dateDebut != null ? "dateDebut=" + dateDebut + ", " : "") +
+            (dateFin != null ? "dateFin=" + dateFin + ", " : "") +
+            (duree != null ? "duree=" + duree + ", " : "") +
+            (ressourceId != null ? "ressourceId=" + ressourceId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,310 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.LocalDateFilter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.Type;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.Projet} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.ProjetResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /projets?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class ProjetCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering Etat
+     */
+    public static class EtatFilter extends Filter<Etat> {
+
+        public EtatFilter() {}
+
+        public EtatFilter(EtatFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public EtatFilter copy() {
+            return new EtatFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering Type
+     */
+    public static class TypeFilter extends Filter<Type> {
+
+        public TypeFilter() {}
+
+        public TypeFilter(TypeFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TypeFilter copy() {
+            return new TypeFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter refProjet;
+
+    private TypeFilter type;
+
+    private StringFilter description;
+
+    private LocalDateFilter datedebut;
+
+    private LocalDateFilter datefin;
+
+    private EtatFilter etat;
+
+    private LongFilter livrablesId;
+
+    private UUIDFilter estimationsId;
+
+    private LongFilter clientId;
+
+    private Boolean distinct;
+
+    public ProjetCriteria() {}
+
+    public ProjetCriteria(ProjetCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.refProjet = other.refProjet == null ? null : other.refProjet.copy();
+        this.type = other.type == null ? null : other.type.copy();
+        this.description = other.description == null ? null : other.description.copy();
+        this.datedebut = other.datedebut == null ? null : other.datedebut.copy();
+        this.datefin = other.datefin == null ? null : other.datefin.copy();
+        this.etat = other.etat == null ? null : other.etat.copy();
+        this.livrablesId = other.livrablesId == null ? null : other.livrablesId.copy();
+        this.estimationsId = other.estimationsId == null ? null : other.estimationsId.copy();
+        this.clientId = other.clientId == null ? null : other.clientId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ProjetCriteria copy() {
+        return new ProjetCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getRefProjet() {
+        return refProjet;
+    }
+
+    public StringFilter refProjet() {
+        if (refProjet == null) {
+            refProjet = new StringFilter();
+        }
+        return refProjet;
+    }
+
+    public void setRefProjet(StringFilter refProjet) {
+        this.refProjet = refProjet;
+    }
+
+    public TypeFilter getType() {
+        return type;
+    }
+
+    public TypeFilter type() {
+        if (type == null) {
+            type = new TypeFilter();
+        }
+        return type;
+    }
+
+    public void setType(TypeFilter type) {
+        this.type = type;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public StringFilter description() {
+        if (description == null) {
+            description = new StringFilter();
+        }
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public LocalDateFilter getDatedebut() {
+        return datedebut;
+    }
+
+    public LocalDateFilter datedebut() {
+        if (datedebut == null) {
+            datedebut = new LocalDateFilter();
+        }
+        return datedebut;
+    }
+
+    public void setDatedebut(LocalDateFilter datedebut) {
+        this.datedebut = datedebut;
+    }
+
+    public LocalDateFilter getDatefin() {
+        return datefin;
+    }
+
+    public LocalDateFilter datefin() {
+        if (datefin == null) {
+            datefin = new LocalDateFilter();
+        }
+        return datefin;
+    }
+
+    public void setDatefin(LocalDateFilter datefin) {
+        this.datefin = datefin;
+    }
+
+    public EtatFilter getEtat() {
+        return etat;
+    }
+
+    public EtatFilter etat() {
+        if (etat == null) {
+            etat = new EtatFilter();
+        }
+        return etat;
+    }
+
+    public void setEtat(EtatFilter etat) {
+        this.etat = etat;
+    }
+
+    public LongFilter getLivrablesId() {
+        return livrablesId;
+    }
+
+    public LongFilter livrablesId() {
+        if (livrablesId == null) {
+            livrablesId = new LongFilter();
+        }
+        return livrablesId;
+    }
+
+    public void setLivrablesId(LongFilter livrablesId) {
+        this.livrablesId = livrablesId;
+    }
+
+    public UUIDFilter getEstimationsId() {
+        return estimationsId;
+    }
+
+    public UUIDFilter estimationsId() {
+        if (estimationsId == null) {
+            estimationsId = new UUIDFilter();
+        }
+        return estimationsId;
+    }
+
+    public void setEstimationsId(UUIDFilter estimationsId) {
+        this.estimationsId = estimationsId;
+    }
+
+    public LongFilter getClientId() {
+        return clientId;
+    }
+
+    public LongFilter clientId() {
+        if (clientId == null) {
+            clientId = new LongFilter();
+        }
+        return clientId;
+    }
+
+    public void setClientId(LongFilter clientId) {
+        this.clientId = clientId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ProjetCriteria that = (ProjetCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(refProjet, that.refProjet) &&
+            Objects.equals(type, that.type) &&
+            Objects.equals(description, that.description) &&
+            Objects.equals(datedebut, that.datedebut) &&
+            Objects.equals(datefin, that.datefin) &&
+            Objects.equals(etat, that.etat) &&
+            Objects.equals(livrablesId, that.livrablesId) &&
+            Objects.equals(estimationsId, that.estimationsId) &&
+            Objects.equals(clientId, that.clientId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, refProjet, type, description, datedebut, datefin, etat, livrablesId, estimationsId, clientId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ProjetCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (refProjet != null ? "refProjet=" + refProjet + ", " : "") +
+            (type != null ? "type=" + type + ", " : "") +
+            (description != null ? "description=" + description + ", " : "") +
+            (datedebut != null ? "datedebut=" + datedebut + ", " : "") +
+            (datefin != null ? "datefin=" + datefin + ", " : "") +
+            (etat != null ? "etat=" + etat + ", " : "") +
+            (livrablesId != null ? "livrablesId=" + livrablesId + ", " : "") +
+            (estimationsId != null ? "estimationsId=" + estimationsId + ", " : "") +
+            (clientId != null ? "clientId=" + clientId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,171 @@
+package tn.itdevspace.easytask.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.StringFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+
+/**
+ * Criteria class for the {@link tn.itdevspace.easytask.domain.Ressource} entity. This class is used
+ * in {@link tn.itdevspace.easytask.web.rest.RessourceResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /ressources?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class RessourceCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private UUIDFilter id;
+
+    private StringFilter nom;
+
+    private StringFilter prenom;
+
+    private UUIDFilter maintenancesId;
+
+    private UUIDFilter chargeJournalieresId;
+
+    private Boolean distinct;
+
+    public RessourceCriteria() {}
+
+    public RessourceCriteria(RessourceCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.nom = other.nom == null ? null : other.nom.copy();
+        this.prenom = other.prenom == null ? null : other.prenom.copy();
+        this.maintenancesId = other.maintenancesId == null ? null : other.maintenancesId.copy();
+        this.chargeJournalieresId = other.chargeJournalieresId == null ? null : other.chargeJournalieresId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public RessourceCriteria copy() {
+        return new RessourceCriteria(this);
+    }
+
+    public UUIDFilter getId() {
+        return id;
+    }
+
+    public UUIDFilter id() {
+        if (id == null) {
+            id = new UUIDFilter();
+        }
+        return id;
+    }
+
+    public void setId(UUIDFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getNom() {
+        return nom;
+    }
+
+    public StringFilter nom() {
+        if (nom == null) {
+            nom = new StringFilter();
+        }
+        return nom;
+    }
+
+    public void setNom(StringFilter nom) {
+        this.nom = nom;
+    }
+
+    public StringFilter getPrenom() {
+        return prenom;
+    }
+
+    public StringFilter prenom() {
+        if (prenom == null) {
+            prenom = new StringFilter();
+        }
+        return prenom;
+    }
+
+    public void setPrenom(StringFilter prenom) {
+        this.prenom = prenom;
+    }
+
+    public UUIDFilter getMaintenancesId() {
+        return maintenancesId;
+    }
+
+    public UUIDFilter maintenancesId() {
+        if (maintenancesId == null) {
+            maintenancesId = new UUIDFilter();
+        }
+        return maintenancesId;
+    }
+
+    public void setMaintenancesId(UUIDFilter maintenancesId) {
+        this.maintenancesId = maintenancesId;
+    }
+
+    public UUIDFilter getChargeJournalieresId() {
+        return chargeJournalieresId;
+    }
+
+    public UUIDFilter chargeJournalieresId() {
+        if (chargeJournalieresId == null) {
+            chargeJournalieresId = new UUIDFilter();
+        }
+        return chargeJournalieresId;
+    }
+
+    public void setChargeJournalieresId(UUIDFilter chargeJournalieresId) {
+        this.chargeJournalieresId = chargeJournalieresId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RessourceCriteria that = (RessourceCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(nom, that.nom) &&
+            Objects.equals(prenom, that.prenom) &&
+            Objects.equals(maintenancesId, that.maintenancesId) &&
+            Objects.equals(chargeJournalieresId, that.chargeJournalieresId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, nom, prenom, maintenancesId, chargeJournalieresId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RessourceCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (nom != null ? "nom=" + nom + ", " : "") +
+            (prenom != null ? "prenom=" + prenom + ", " : "") +
+            (maintenancesId != null ? "maintenancesId=" + maintenancesId + ", " : "") +
+            (chargeJournalieresId != null ? "chargeJournalieresId=" + chargeJournalieresId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
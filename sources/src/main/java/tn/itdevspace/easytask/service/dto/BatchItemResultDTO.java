@@ -0,0 +1,108 @@
+package tn.itdevspace.easytask.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of one item of a batch request.
+ */
+public class BatchItemResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The outcome of a batch item, with the status code a single request would have answered.
+     */
+    public enum Status {
+        CREATED(201),
+        UPDATED(200),
+        INVALID(400),
+        NOT_FOUND(404),
+        PRECONDITION_FAILED(412);
+
+        private final int code;
+
+        Status(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+
+    private int index;
+
+    private String id;
+
+    private Status status;
+
+    private List<String> errors = new ArrayList<>();
+
+    public BatchItemResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BatchItemResultDTO(int index, Object id) {
+        this.index = index;
+        this.id = id == null ? null : id.toString();
+    }
+
+    /**
+     * @return the position of the item in the request.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * @return the HTTP status code of the item.
+     */
+    public Integer getCode() {
+        return status == null ? null : status.getCode();
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isFailed() {
+        return status == Status.INVALID || status == Status.NOT_FOUND || status == Status.PRECONDITION_FAILED;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BatchItemResultDTO{" +
+            "index=" + index +
+            ", id='" + id + "'" +
+            ", status='" + status + "'" +
+            ", errors=" + errors +
+            "}";
+    }
+}
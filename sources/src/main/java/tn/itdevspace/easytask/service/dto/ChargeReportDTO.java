@@ -0,0 +1,115 @@
+package tn.itdevspace.easytask.service.dto;
+
+import java.io.Serializable;
+import java.util.UUID;
+import tn.itdevspace.easytask.domain.enumeration.TypeCharge;
+
+/**
+ * A DTO representing the total workload of a ressource for one type of charge over one period.
+ */
+public class ChargeReportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private UUID ressourceId;
+
+    private String nom;
+
+    private String prenom;
+
+    private TypeCharge type;
+
+    private String period;
+
+    private Double totalDuree;
+
+    private Long nombre;
+
+    public ChargeReportDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ChargeReportDTO(UUID ressourceId, String nom, String prenom, TypeCharge type, String period, Double totalDuree, Long nombre) {
+        this.ressourceId = ressourceId;
+        this.nom = nom;
+        this.prenom = prenom;
+        this.type = type;
+        this.period = period;
+        this.totalDuree = totalDuree;
+        this.nombre = nombre;
+    }
+
+    public UUID getRessourceId() {
+        return ressourceId;
+    }
+
+    public void setRessourceId(UUID ressourceId) {
+        this.ressourceId = ressourceId;
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    public void setNom(String nom) {
+        this.nom = nom;
+    }
+
+    public String getPrenom() {
+        return prenom;
+    }
+
+    public void setPrenom(String prenom) {
+        this.prenom = prenom;
+    }
+
+    public TypeCharge getType() {
+        return type;
+    }
+
+    public void setType(TypeCharge type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the period, as an ISO week ({@code 2023-W05}) or a month ({@code 2023-01}).
+     */
+    public String getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    public Double getTotalDuree() {
+        return totalDuree;
+    }
+
+    public void setTotalDuree(Double totalDuree) {
+        this.totalDuree = totalDuree;
+    }
+
+    /**
+     * @return the number of chargeJournalieres summed in {@link #getTotalDuree()}.
+     */
+    public Long getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(Long nombre) {
+        this.nombre = nombre;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ChargeReportDTO{" +
+            "ressourceId=" + ressourceId +
+            ", type='" + type + "'" +
+            ", period='" + period + "'" +
+            ", totalDuree=" + totalDuree +
+            ", nombre=" + nombre +
+            "}";
+    }
+}
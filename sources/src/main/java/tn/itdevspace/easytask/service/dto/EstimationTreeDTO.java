@@ -0,0 +1,160 @@
+package tn.itdevspace.easytask.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
+
+/**
+ * A DTO representing a node of the estimation tree of a projet: the projet itself, one of its livrables or one of their activites.
+ * <p>
+ * {@code valeurJour}/{@code valeurHeure} sum the estimations counted on the node, {@code totalValeurJour}/{@code totalValeurHeure}
+ * add those of all its descendants.
+ */
+public class EstimationTreeDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private TypeEntite type;
+
+    private Long id;
+
+    private String ref;
+
+    private String description;
+
+    private Etat etat;
+
+    private double valeurJour;
+
+    private double valeurHeure;
+
+    private double totalValeurJour;
+
+    private double totalValeurHeure;
+
+    private List<EstimationTreeDTO> children = new ArrayList<>();
+
+    public EstimationTreeDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public EstimationTreeDTO(TypeEntite type, Long id, String ref, String description, Etat etat, Double valeurJour, Double valeurHeure) {
+        this.type = type;
+        this.id = id;
+        this.ref = ref;
+        this.description = description;
+        this.etat = etat;
+        this.valeurJour = valeurJour == null ? 0 : valeurJour;
+        this.valeurHeure = valeurHeure == null ? 0 : valeurHeure;
+    }
+
+    /**
+     * Compute the totals of this node and of all its descendants, bottom-up.
+     *
+     * @return this node.
+     */
+    public EstimationTreeDTO computeTotals() {
+        totalValeurJour = valeurJour;
+        totalValeurHeure = valeurHeure;
+        for (EstimationTreeDTO child : children) {
+            child.computeTotals();
+            totalValeurJour += child.totalValeurJour;
+            totalValeurHeure += child.totalValeurHeure;
+        }
+        return this;
+    }
+
+    public TypeEntite getType() {
+        return type;
+    }
+
+    public void setType(TypeEntite type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public void setRef(String ref) {
+        this.ref = ref;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Etat getEtat() {
+        return etat;
+    }
+
+    public void setEtat(Etat etat) {
+        this.etat = etat;
+    }
+
+    public double getValeurJour() {
+        return valeurJour;
+    }
+
+    public void setValeurJour(double valeurJour) {
+        this.valeurJour = valeurJour;
+    }
+
+    public double getValeurHeure() {
+        return valeurHeure;
+    }
+
+    public void setValeurHeure(double valeurHeure) {
+        this.valeurHeure = valeurHeure;
+    }
+
+    public double getTotalValeurJour() {
+        return totalValeurJour;
+    }
+
+    public void setTotalValeurJour(double totalValeurJour) {
+        this.totalValeurJour = totalValeurJour;
+    }
+
+    public double getTotalValeurHeure() {
+        return totalValeurHeure;
+    }
+
+    public void setTotalValeurHeure(double totalValeurHeure) {
+        this.totalValeurHeure = totalValeurHeure;
+    }
+
+    public List<EstimationTreeDTO> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<EstimationTreeDTO> children) {
+        this.children = children;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "EstimationTreeDTO{" +
+            "type='" + type + "'" +
+            ", id=" + id +
+            ", ref='" + ref + "'" +
+            ", totalValeurJour=" + totalValeurJour +
+            ", totalValeurHeure=" + totalValeurHeure +
+            "}";
+    }
+}
@@ -0,0 +1,82 @@
+package tn.itdevspace.easytask.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of a CSV import.
+ */
+public class ImportReportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long created;
+
+    private long updated;
+
+    private long failed;
+
+    private boolean errorsTruncated;
+
+    private List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+    public ImportReportDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * @return {@code true} if more rows failed than the number of errors reported.
+     */
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public List<ImportRowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportRowErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ImportReportDTO{" +
+            "created=" + created +
+            ", updated=" + updated +
+            ", failed=" + failed +
+            ", errorsTruncated=" + errorsTruncated +
+            ", errors=" + errors.size() +
+            "}";
+    }
+}
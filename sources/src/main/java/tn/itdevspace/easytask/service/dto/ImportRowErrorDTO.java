@@ -0,0 +1,66 @@
+package tn.itdevspace.easytask.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing a row rejected by a CSV import.
+ */
+public class ImportRowErrorDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long line;
+
+    private String ref;
+
+    private List<String> errors = new ArrayList<>();
+
+    public ImportRowErrorDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ImportRowErrorDTO(long line, String ref, List<String> errors) {
+        this.line = line;
+        this.ref = ref;
+        this.errors = errors;
+    }
+
+    /**
+     * @return the line of the file where the row starts, the header being line 1.
+     */
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public void setRef(String ref) {
+        this.ref = ref;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ImportRowErrorDTO{" +
+            "line=" + line +
+            ", ref='" + ref + "'" +
+            ", errors=" + errors +
+            "}";
+    }
+}
@@ -1,23 +1,53 @@
 package tn.itdevspace.easytask.web.rest;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tn.itdevspace.easytask.domain.Activite;
+import tn.itdevspace.easytask.domain.Estimation;
+import tn.itdevspace.easytask.domain.Livrable;
+import tn.itdevspace.easytask.domain.Projet;
 import tn.itdevspace.easytask.repository.ActiviteRepository;
+import tn.itdevspace.easytask.repository.EstimationRepository;
+import tn.itdevspace.easytask.repository.projection.ActiviteSummary;
+import tn.itdevspace.easytask.service.ActiviteQueryService;
+import tn.itdevspace.easytask.service.CsvImportService;
+import tn.itdevspace.easytask.service.EntityBulkService;
+import tn.itdevspace.easytask.service.EntityExportService;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.InvalidCsvException;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.ActiviteCriteria;
+import tn.itdevspace.easytask.service.dto.ImportReportDTO;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.Activite}.
@@ -36,8 +66,38 @@ public class ActiviteResource {
 
     private final ActiviteRepository activiteRepository;
 
-    public ActiviteResource(ActiviteRepository activiteRepository) {
+    private final EntityExportService entityExportService;
+
+    private final CsvImportService csvImportService;
+
+    private final ActiviteQueryService activiteQueryService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ResponseCacheService responseCacheService;
+
+    private final EstimationRepository estimationRepository;
+
+    private final EntityBulkService entityBulkService;
+
+    public ActiviteResource(
+        ActiviteRepository activiteRepository,
+        EntityExportService entityExportService,
+        CsvImportService csvImportService,
+        ActiviteQueryService activiteQueryService,
+        EntityVersionService entityVersionService,
+        ResponseCacheService responseCacheService,
+        EstimationRepository estimationRepository,
+        EntityBulkService entityBulkService
+    ) {
         this.activiteRepository = activiteRepository;
+        this.entityExportService = entityExportService;
+        this.csvImportService = csvImportService;
+        this.activiteQueryService = activiteQueryService;
+        this.entityVersionService = entityVersionService;
+        this.responseCacheService = responseCacheService;
+        this.estimationRepository = estimationRepository;
+        this.entityBulkService = entityBulkService;
     }
 
     /**
@@ -60,20 +120,49 @@ public class ActiviteResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /activites/import} : Create or update activites from a CSV file, matched on their reference.
+     * <p>
+     * The file is imported in chunks, each one in its own transaction: valid rows are saved even if others are rejected.
+     *
+     * @param file the CSV file, encoded in UTF-8, with a header row naming the columns.
+     * @param separator the field separator, {@code ;} by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the import report listing the rejected rows,
+     * or with status {@code 400 (Bad Request)} if the file can't be read as CSV.
+     * @throws IOException if the file can't be read.
+     */
+    @PostMapping(value = "/activites/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ImportReportDTO> importActivites(
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(value = "separator", required = false, defaultValue = ";") char separator
+    ) throws IOException {
+        log.debug("REST request to import Activites from {}", file.getOriginalFilename());
+        try {
+            return ResponseEntity.ok().body(csvImportService.importActivites(file.getInputStream(), separator));
+        } catch (InvalidCsvException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "csvinvalid");
+        }
+    }
+
     /**
      * {@code PUT  /activites/:id} : Updates an existing activite.
      *
      * @param id the id of the activite to save.
      * @param activite the activite to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the activite to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated activite,
      * or with status {@code 400 (Bad Request)} if the activite is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the activite has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the activite couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/activites/{id}")
     public ResponseEntity<Activite> updateActivite(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody Activite activite
+        @Valid @RequestBody Activite activite,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Activite : {}, {}", id, activite);
         if (activite.getId() == null) {
@@ -83,14 +172,17 @@ public class ActiviteResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!activiteRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Activite result = activiteRepository.save(activite);
+        Activite existingActivite = activiteRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingActivite);
+        // Merged into the loaded activite without selecting it again, the version being checked by the update
+        activite.setVersion(existingActivite.getVersion());
+        Activite result = activiteRepository.saveAndFlush(activite);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, activite.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -99,8 +191,11 @@ public class ActiviteResource {
      *
      * @param id the id of the activite to save.
      * @param activite the activite to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the activite to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated activite,
      * or with status {@code 400 (Bad Request)} if the activite is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the activite has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the activite is not found,
      * or with status {@code 500 (Internal Server Error)} if the activite couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -108,7 +203,8 @@ public class ActiviteResource {
     @PatchMapping(value = "/activites/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Activite> partialUpdateActivite(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody Activite activite
+        @NotNull @RequestBody Activite activite,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Activite partially : {}, {}", id, activite);
         if (activite.getId() == null) {
@@ -118,13 +214,10 @@ public class ActiviteResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!activiteRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Activite> result = activiteRepository
-            .findById(activite.getId())
+        Activite result = activiteRepository
+            .findById(id)
             .map(existingActivite -> {
+                checkIfMatch(ifMatch, existingActivite);
                 if (activite.getRefAct() != null) {
                     existingActivite.setRefAct(activite.getRefAct());
                 }
@@ -146,41 +239,219 @@ public class ActiviteResource {
 
                 return existingActivite;
             })
-            .map(activiteRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(activiteRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, activite.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, activite.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
+    }
+
+    /**
+     * {@code PATCH  /activites} : Partial updates given fields of all the activites matching the criteria, with a single statement.
+     * Fields will be ignored if they are null, and the reference and livrable can't be updated in bulk.
+     *
+     * @param criteria the criteria which the activites to update should match, at least one being required.
+     * @param activite the fields to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the number of updated activites,
+     * or with status {@code 400 (Bad Request)} if there is no field to update or no criteria, or one of them is not supported.
+     */
+    @PatchMapping(value = "/activites", consumes = { "application/json", "application/merge-patch+json" })
+    public ResponseEntity<Integer> bulkUpdateActivites(ActiviteCriteria criteria, @NotNull @RequestBody Activite activite) {
+        log.debug("REST request to bulk update Activites by criteria: {}, {}", criteria, activite);
+        if (activite.getId() != null || activite.getRefAct() != null || activite.getLivrable() != null) {
+            throw new BadRequestAlertException("The id, reference and livrable can't be updated in bulk", ENTITY_NAME, "bulkinvalid");
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (activite.getDescription() != null) {
+            values.put("description", activite.getDescription());
+        }
+        if (activite.getDateDebut() != null) {
+            values.put("dateDebut", activite.getDateDebut());
+        }
+        if (activite.getDateFin() != null) {
+            values.put("dateFin", activite.getDateFin());
+        }
+        if (activite.getRaf() != null) {
+            values.put("raf", activite.getRaf());
+        }
+        if (activite.getEtat() != null) {
+            values.put("etat", activite.getEtat());
+        }
+        try {
+            int count = entityBulkService.update(Activite.class, values, activiteQueryService.createBulkFilters(criteria));
+            return ResponseEntity.ok().body(count);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "bulkinvalid");
+        }
     }
 
     /**
      * {@code GET  /activites} : get all the activites.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param pageable the pagination information, a page of the max page size when neither {@code page} nor {@code size} is given.
+     * @param criteria the criteria which the requested entities should match.
+     * @param fetch the collections to load with the activites, among {@link ActiviteQueryService#FETCH_PROFILE}.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of activites in body.
      */
-    @GetMapping("/activites")
-    public List<Activite> getAllActivites(@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
-        log.debug("REST request to get all Activites");
-        if (eagerload) {
-            return activiteRepository.findAllWithEagerRelationships();
-        } else {
-            return activiteRepository.findAll();
+    @GetMapping(value = "/activites", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllActivites(
+        ActiviteCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(required = false) Set<String> fetch,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get Activites by criteria: {}, fetch: {}", criteria, fetch);
+        if (!ActiviteQueryService.FETCH_PROFILE.supports(fetch)) {
+            throw new BadRequestAlertException("Unknown collection to fetch", ENTITY_NAME, "fetchinvalid");
         }
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Activite> page = activiteQueryService.findByCriteria(criteria, pageable, fetch);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            ActiviteQueryService.FETCH_PROFILE.getEntityClasses(fetch, Activite.class, Livrable.class)
+        );
+    }
+
+    /**
+     * {@code GET  /activites?view=summary} : get the summaries of all the activites.
+     * <p>
+     * Only the columns of the list view are selected, as {@link ActiviteSummary} rows which are not managed by the
+     * persistence context. Filtered by the criteria of the full listing, and cached like it.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries in body.
+     */
+    @GetMapping(value = "/activites", params = "view=summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllActiviteSummaries(
+        ActiviteCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Activite summaries by criteria: {}", criteria);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<ActiviteSummary> page = activiteQueryService.findSummariesByCriteria(criteria, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Activite.class,
+            Livrable.class
+        );
+    }
+
+    /**
+     * {@code GET  /activites/count} : count all the activites.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/activites/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countActivites(ActiviteCriteria criteria) {
+        log.debug("REST request to count Activites by criteria: {}", criteria);
+        return ResponseEntity.ok().body(activiteQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /activites/export} : export all the activites as newline-delimited JSON.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the activites in body, one per line.
+     */
+    @GetMapping(value = "/activites/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> exportActivites() {
+        log.debug("REST request to export all Activites");
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(entityExportService.export(Activite.class, activiteRepository::streamAllWithToOneRelationships));
     }
 
     /**
      * {@code GET  /activites/:id} : get the "id" activite.
      *
      * @param id the id of the activite to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the activite, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/activites/{id}")
-    public ResponseEntity<Activite> getActivite(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Activite> getActivite(@PathVariable Long id, ServletWebRequest request) {
         log.debug("REST request to get Activite : {}", id);
-        Optional<Activite> activite = activiteRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(activite);
+        if (entityVersionService.checkNotModified(request, Activite.class, Livrable.class)) {
+            return null;
+        }
+        return activiteRepository
+            .findOneWithEagerRelationships(id)
+            .map(activite -> ResponseEntity.ok().eTag(getETag(activite)).body(activite))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /activites/by-ref/:ref} : get the activite by its reference.
+     *
+     * @param ref the reference of the activite to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the activite, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/activites/by-ref/{ref}")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Activite> getActiviteByRef(@PathVariable String ref, ServletWebRequest request) {
+        log.debug("REST request to get Activite by ref : {}", ref);
+        if (entityVersionService.checkNotModified(request, Activite.class, Livrable.class)) {
+            return null;
+        }
+        return activiteRepository
+            .findBySimpleNaturalId(ref)
+            .map(activite -> ResponseEntity.ok().eTag(getETag(activite)).body(activite))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /activites/:id/estimations} : get the estimations of the "id" activite.
+     * <p>
+     * Paged replacement of the {@code estimations} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the activite.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of estimations in body.
+     */
+    @GetMapping(value = "/activites/{id}/estimations", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getEstimationsOfActivite(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Estimations of Activite : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Estimation> page = estimationRepository.findByActiviteId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Estimation.class,
+            Projet.class,
+            Livrable.class,
+            Activite.class
+        );
     }
 
     /**
@@ -198,4 +469,17 @@ public class ActiviteResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(Activite activite) {
+        return entityVersionService.getETag(activite.getVersion(), Activite.class, Livrable.class);
+    }
+
+    private void checkIfMatch(String ifMatch, Activite activite) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, activite.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
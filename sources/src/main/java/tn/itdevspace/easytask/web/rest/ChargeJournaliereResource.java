@@ -1,24 +1,48 @@
 package tn.itdevspace.easytask.web.rest;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.domain.Ressource;
 import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.service.ChargeJournaliereQueryService;
+import tn.itdevspace.easytask.service.ChargeRollupService;
+import tn.itdevspace.easytask.service.EntityBatchService;
+import tn.itdevspace.easytask.service.EntityExportService;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.ChargeJournaliereCriteria;
+import tn.itdevspace.easytask.service.dto.BatchItemResultDTO;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.ChargeJournaliere}.
@@ -32,28 +56,59 @@ public class ChargeJournaliereResource {
 
     private static final String ENTITY_NAME = "chargeJournaliere";
 
+    private static final int MAX_SEEK_SIZE = 2000;
+
+    private static final String HEADER_X_TOTAL_COUNT = "X-Total-Count";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final ChargeJournaliereRepository chargeJournaliereRepository;
 
-    public ChargeJournaliereResource(ChargeJournaliereRepository chargeJournaliereRepository) {
+    private final EntityExportService entityExportService;
+
+    private final EntityBatchService entityBatchService;
+
+    private final ChargeJournaliereQueryService chargeJournaliereQueryService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ResponseCacheService responseCacheService;
+
+    private final ChargeRollupService chargeRollupService;
+
+    public ChargeJournaliereResource(
+        ChargeJournaliereRepository chargeJournaliereRepository,
+        EntityExportService entityExportService,
+        EntityBatchService entityBatchService,
+        ChargeJournaliereQueryService chargeJournaliereQueryService,
+        EntityVersionService entityVersionService,
+        ResponseCacheService responseCacheService,
+        ChargeRollupService chargeRollupService
+    ) {
         this.chargeJournaliereRepository = chargeJournaliereRepository;
+        this.entityExportService = entityExportService;
+        this.entityBatchService = entityBatchService;
+        this.chargeJournaliereQueryService = chargeJournaliereQueryService;
+        this.entityVersionService = entityVersionService;
+        this.responseCacheService = responseCacheService;
+        this.chargeRollupService = chargeRollupService;
     }
 
     /**
      * {@code POST  /charge-journalieres} : Create a new chargeJournaliere.
      *
      * @param chargeJournaliere the chargeJournaliere to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new chargeJournaliere, or with status {@code 400 (Bad Request)} if the chargeJournaliere has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new chargeJournaliere, or with status {@code 400 (Bad Request)} if the ID of the chargeJournaliere is already used.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/charge-journalieres")
     public ResponseEntity<ChargeJournaliere> createChargeJournaliere(@Valid @RequestBody ChargeJournaliere chargeJournaliere)
         throws URISyntaxException {
         log.debug("REST request to save ChargeJournaliere : {}", chargeJournaliere);
-        if (chargeJournaliere.getId() != null) {
-            throw new BadRequestAlertException("A new chargeJournaliere cannot already have an ID", ENTITY_NAME, "idexists");
+        // The id is assigned when the entity is constructed: only the id of an existing chargeJournaliere is refused
+        if (chargeJournaliere.getId() != null && chargeJournaliereRepository.existsById(chargeJournaliere.getId())) {
+            throw new BadRequestAlertException("A new chargeJournaliere cannot have the ID of an existing one", ENTITY_NAME, "idexists");
         }
         ChargeJournaliere result = chargeJournaliereRepository.save(chargeJournaliere);
         return ResponseEntity
@@ -62,20 +117,53 @@ public class ChargeJournaliereResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /charge-journalieres/batch} : Create or update a list of chargeJournalieres in one transaction.
+     *
+     * @param chargeJournalieres the JSON of the chargeJournalieres to save: those without version are created, the others update
+     * the chargeJournaliere of this version, or get the item status {@code 412 (Precondition Failed)} if it has been updated since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of each item,
+     * or with status {@code 400 (Bad Request)} and the same body if one of the items is not valid, in which case none is saved.
+     */
+    @PostMapping("/charge-journalieres/batch")
+    public ResponseEntity<List<BatchItemResultDTO>> saveChargeJournalieres(@RequestBody List<ObjectNode> chargeJournalieres) {
+        log.debug("REST request to save a batch of {} ChargeJournalieres", chargeJournalieres.size());
+        if (chargeJournalieres.isEmpty() || chargeJournalieres.size() > EntityBatchService.MAX_BATCH_SIZE || chargeJournalieres.contains(null)) {
+            throw new BadRequestAlertException("Invalid batch size", ENTITY_NAME, "batchsize");
+        }
+        List<BatchItemResultDTO> results = entityBatchService.saveAll(
+            chargeJournalieres,
+            ChargeJournaliere.class,
+            ChargeJournaliere::getId,
+            chargeJournaliereRepository
+        );
+        if (results.stream().anyMatch(BatchItemResultDTO::isFailed)) {
+            return ResponseEntity
+                .badRequest()
+                .headers(HeaderUtil.createFailureAlert(applicationName, true, ENTITY_NAME, "batchinvalid", "Invalid batch"))
+                .body(results);
+        }
+        return ResponseEntity.ok().body(results);
+    }
+
     /**
      * {@code PUT  /charge-journalieres/:id} : Updates an existing chargeJournaliere.
      *
      * @param id the id of the chargeJournaliere to save.
      * @param chargeJournaliere the chargeJournaliere to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the chargeJournaliere to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated chargeJournaliere,
      * or with status {@code 400 (Bad Request)} if the chargeJournaliere is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the chargeJournaliere has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the chargeJournaliere couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/charge-journalieres/{id}")
     public ResponseEntity<ChargeJournaliere> updateChargeJournaliere(
         @PathVariable(value = "id", required = false) final UUID id,
-        @Valid @RequestBody ChargeJournaliere chargeJournaliere
+        @Valid @RequestBody ChargeJournaliere chargeJournaliere,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update ChargeJournaliere : {}, {}", id, chargeJournaliere);
         if (chargeJournaliere.getId() == null) {
@@ -85,14 +173,17 @@ public class ChargeJournaliereResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!chargeJournaliereRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        ChargeJournaliere result = chargeJournaliereRepository.save(chargeJournaliere);
+        ChargeJournaliere existingChargeJournaliere = chargeJournaliereRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingChargeJournaliere);
+        // Merged into the loaded chargeJournaliere without selecting it again, the version being checked by the update
+        chargeJournaliere.setVersion(existingChargeJournaliere.getVersion());
+        ChargeJournaliere result = chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, chargeJournaliere.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -101,8 +192,11 @@ public class ChargeJournaliereResource {
      *
      * @param id the id of the chargeJournaliere to save.
      * @param chargeJournaliere the chargeJournaliere to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the chargeJournaliere to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated chargeJournaliere,
      * or with status {@code 400 (Bad Request)} if the chargeJournaliere is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the chargeJournaliere has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the chargeJournaliere is not found,
      * or with status {@code 500 (Internal Server Error)} if the chargeJournaliere couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -110,7 +204,8 @@ public class ChargeJournaliereResource {
     @PatchMapping(value = "/charge-journalieres/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<ChargeJournaliere> partialUpdateChargeJournaliere(
         @PathVariable(value = "id", required = false) final UUID id,
-        @NotNull @RequestBody ChargeJournaliere chargeJournaliere
+        @NotNull @RequestBody ChargeJournaliere chargeJournaliere,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update ChargeJournaliere partially : {}, {}", id, chargeJournaliere);
         if (chargeJournaliere.getId() == null) {
@@ -120,13 +215,10 @@ public class ChargeJournaliereResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!chargeJournaliereRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<ChargeJournaliere> result = chargeJournaliereRepository
-            .findById(chargeJournaliere.getId())
+        ChargeJournaliere result = chargeJournaliereRepository
+            .findById(id)
             .map(existingChargeJournaliere -> {
+                checkIfMatch(ifMatch, existingChargeJournaliere);
                 if (chargeJournaliere.getDate() != null) {
                     existingChargeJournaliere.setDate(chargeJournaliere.getDate());
                 }
@@ -142,41 +234,164 @@ public class ChargeJournaliereResource {
 
                 return existingChargeJournaliere;
             })
-            .map(chargeJournaliereRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(chargeJournaliereRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, chargeJournaliere.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, chargeJournaliere.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
     }
 
     /**
      * {@code GET  /charge-journalieres} : get all the chargeJournalieres.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of chargeJournalieres in body.
      */
-    @GetMapping("/charge-journalieres")
-    public List<ChargeJournaliere> getAllChargeJournalieres(@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
-        log.debug("REST request to get all ChargeJournalieres");
-        if (eagerload) {
-            return chargeJournaliereRepository.findAllWithEagerRelationships();
-        } else {
-            return chargeJournaliereRepository.findAll();
+    @GetMapping(value = "/charge-journalieres", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllChargeJournalieres(
+        ChargeJournaliereCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get ChargeJournalieres by criteria: {}", criteria);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<ChargeJournaliere> page = chargeJournaliereQueryService.findByCriteria(criteria, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            ChargeJournaliere.class,
+            Ressource.class
+        );
+    }
+
+    /**
+     * {@code GET  /charge-journalieres/count} : count all the chargeJournalieres.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/charge-journalieres/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countChargeJournalieres(ChargeJournaliereCriteria criteria) {
+        log.debug("REST request to count ChargeJournalieres by criteria: {}", criteria);
+        return ResponseEntity.ok().body(chargeJournaliereQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /charge-journalieres/seek} : get the chargeJournalieres following a ({@code date}, {@code id}) cursor.
+     * <p>
+     * Unlike offset pagination, the cost of a page does not grow with its position in the table.
+     * The {@code Link} header holds the URL of the next page, built from the last row of this one, and is omitted on the last page.
+     * The {@code X-Total-Count} header is only sent with the first page, the count scanning what the cursor avoids reading.
+     *
+     * @param afterDate the date of the last row already read, omitted for the first page.
+     * @param afterId the id of the last row already read, omitted for the first page.
+     * @param size the maximum number of rows to return.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of chargeJournalieres in body,
+     * or with status {@code 400 (Bad Request)} if only one half of the cursor is given.
+     */
+    @GetMapping("/charge-journalieres/seek")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ChargeJournaliere>> seekChargeJournalieres(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate afterDate,
+        @RequestParam(required = false) UUID afterId,
+        @RequestParam(required = false, defaultValue = "20") int size,
+        ServletWebRequest request
+    ) {
+        log.debug("REST request to seek ChargeJournalieres after : {}, {}", afterDate, afterId);
+        if (entityVersionService.checkNotModified(request, ChargeJournaliere.class, Ressource.class)) {
+            return null;
         }
+        if ((afterDate == null) != (afterId == null)) {
+            throw new BadRequestAlertException("afterDate and afterId must be given together", ENTITY_NAME, "cursorinvalid");
+        }
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_SEEK_SIZE)));
+        List<ChargeJournaliere> content = afterDate == null
+            ? chargeJournaliereRepository.findFirstOrderByDateAndId(limit)
+            : chargeJournaliereRepository.findAfterOrderByDateAndId(afterDate, afterId, limit);
+
+        HttpHeaders headers = new HttpHeaders();
+        if (afterDate == null) {
+            headers.add(HEADER_X_TOTAL_COUNT, Long.toString(chargeJournaliereRepository.countByDateIsNotNull()));
+        }
+        if (content.size() == limit.getPageSize()) {
+            ChargeJournaliere last = content.get(content.size() - 1);
+            String next = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQueryParam("afterDate", last.getDate())
+                .replaceQueryParam("afterId", last.getId())
+                .replaceQueryParam("size", limit.getPageSize())
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return new ResponseEntity<>(content, headers, HttpStatus.OK);
+    }
+
+    /**
+     * {@code GET  /charge-journalieres/export} : export all the chargeJournalieres as newline-delimited JSON.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the chargeJournalieres in body, one per line.
+     */
+    @GetMapping(value = "/charge-journalieres/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> exportChargeJournalieres() {
+        log.debug("REST request to export all ChargeJournalieres");
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(entityExportService.export(ChargeJournaliere.class, chargeJournaliereRepository::streamAllWithToOneRelationships));
     }
 
     /**
      * {@code GET  /charge-journalieres/:id} : get the "id" chargeJournaliere.
      *
      * @param id the id of the chargeJournaliere to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the chargeJournaliere, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/charge-journalieres/{id}")
-    public ResponseEntity<ChargeJournaliere> getChargeJournaliere(@PathVariable UUID id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<ChargeJournaliere> getChargeJournaliere(@PathVariable UUID id, ServletWebRequest request) {
         log.debug("REST request to get ChargeJournaliere : {}", id);
-        Optional<ChargeJournaliere> chargeJournaliere = chargeJournaliereRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(chargeJournaliere);
+        if (entityVersionService.checkNotModified(request, ChargeJournaliere.class, Ressource.class)) {
+            return null;
+        }
+        return chargeJournaliereRepository
+            .findOneWithEagerRelationships(id)
+            .map(chargeJournaliere -> ResponseEntity.ok().eTag(getETag(chargeJournaliere)).body(chargeJournaliere))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code DELETE  /charge-journalieres} : delete all the chargeJournalieres matching the criteria, with a single statement.
+     * <p>
+     * The months of the {@code charge_mensuelle} rollup they were counted in are rebuilt in the same transaction.
+     *
+     * @param criteria the criteria which the chargeJournalieres to delete should match, at least one being required.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the number of deleted chargeJournalieres,
+     * or with status {@code 400 (Bad Request)} if there is no criteria.
+     */
+    @DeleteMapping("/charge-journalieres")
+    public ResponseEntity<Integer> bulkDeleteChargeJournalieres(ChargeJournaliereCriteria criteria) {
+        log.debug("REST request to bulk delete ChargeJournalieres by criteria: {}", criteria);
+        try {
+            int count = chargeRollupService.deleteChargeJournalieres(chargeJournaliereQueryService.createBulkFilters(criteria));
+            return ResponseEntity.ok().body(count);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "bulkinvalid");
+        }
     }
 
     /**
@@ -194,4 +409,17 @@ public class ChargeJournaliereResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(ChargeJournaliere chargeJournaliere) {
+        return entityVersionService.getETag(chargeJournaliere.getVersion(), ChargeJournaliere.class, Ressource.class);
+    }
+
+    private void checkIfMatch(String ifMatch, ChargeJournaliere chargeJournaliere) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, chargeJournaliere.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package tn.itdevspace.easytask.web.rest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import tn.itdevspace.easytask.service.ChargeReportService;
+import tn.itdevspace.easytask.service.dto.ChargeReportDTO;
+
+/**
+ * REST controller for the workload reports computed over {@link tn.itdevspace.easytask.domain.ChargeJournaliere}.
+ */
+@RestController
+@RequestMapping("/api/reports/charge")
+public class ChargeReportResource {
+
+    private final Logger log = LoggerFactory.getLogger(ChargeReportResource.class);
+
+    private final ChargeReportService chargeReportService;
+
+    public ChargeReportResource(ChargeReportService chargeReportService) {
+        this.chargeReportService = chargeReportService;
+    }
+
+    /**
+     * {@code GET  /reports/charge/weekly} : get the total workload per ressource, type of charge and ISO week.
+     *
+     * @param from the first day included in the report, optional.
+     * @param to the last day included in the report, optional.
+     * @param ressourceId the ressource to report on, all of them if omitted.
+     * @return the list of totals, ordered by week.
+     */
+    @GetMapping("/weekly")
+    public List<ChargeReportDTO> getWeeklyCharge(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) UUID ressourceId
+    ) {
+        log.debug("REST request to get weekly charge report : {}, {}, {}", from, to, ressourceId);
+        return chargeReportService.getWeeklyTotals(from, to, ressourceId);
+    }
+
+    /**
+     * {@code GET  /reports/charge/monthly} : get the total workload per ressource, type of charge and month.
+     *
+     * @param from the first day included in the report, optional.
+     * @param to the last day included in the report, optional.
+     * @param ressourceId the ressource to report on, all of them if omitted.
+     * @return the list of totals, ordered by month.
+     */
+    @GetMapping("/monthly")
+    public List<ChargeReportDTO> getMonthlyCharge(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) UUID ressourceId
+    ) {
+        log.debug("REST request to get monthly charge report : {}, {}, {}", from, to, ressourceId);
+        return chargeReportService.getMonthlyTotals(from, to, ressourceId);
+    }
+}
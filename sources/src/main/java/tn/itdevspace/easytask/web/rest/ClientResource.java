@@ -2,22 +2,38 @@ package tn.itdevspace.easytask.web.rest;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Projet;
 import tn.itdevspace.easytask.repository.ClientRepository;
+import tn.itdevspace.easytask.repository.ProjetRepository;
+import tn.itdevspace.easytask.service.ClientQueryService;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.ClientCriteria;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.Client}.
@@ -36,8 +52,26 @@ public class ClientResource {
 
     private final ClientRepository clientRepository;
 
-    public ClientResource(ClientRepository clientRepository) {
+    private final ClientQueryService clientQueryService;
+
+    private final ResponseCacheService responseCacheService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ProjetRepository projetRepository;
+
+    public ClientResource(
+        ClientRepository clientRepository,
+        ClientQueryService clientQueryService,
+        ResponseCacheService responseCacheService,
+        EntityVersionService entityVersionService,
+        ProjetRepository projetRepository
+    ) {
         this.clientRepository = clientRepository;
+        this.clientQueryService = clientQueryService;
+        this.responseCacheService = responseCacheService;
+        this.entityVersionService = entityVersionService;
+        this.projetRepository = projetRepository;
     }
 
     /**
@@ -65,15 +99,19 @@ public class ClientResource {
      *
      * @param id the id of the client to save.
      * @param client the client to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the client to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated client,
      * or with status {@code 400 (Bad Request)} if the client is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the client has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the client couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/clients/{id}")
     public ResponseEntity<Client> updateClient(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody Client client
+        @Valid @RequestBody Client client,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Client : {}, {}", id, client);
         if (client.getId() == null) {
@@ -83,14 +121,17 @@ public class ClientResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!clientRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Client result = clientRepository.save(client);
+        Client existingClient = clientRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingClient);
+        // Merged into the loaded client without selecting it again, the version being checked by the update
+        client.setVersion(existingClient.getVersion());
+        Client result = clientRepository.saveAndFlush(client);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, client.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -99,8 +140,11 @@ public class ClientResource {
      *
      * @param id the id of the client to save.
      * @param client the client to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the client to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated client,
      * or with status {@code 400 (Bad Request)} if the client is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the client has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the client is not found,
      * or with status {@code 500 (Internal Server Error)} if the client couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -108,7 +152,8 @@ public class ClientResource {
     @PatchMapping(value = "/clients/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Client> partialUpdateClient(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody Client client
+        @NotNull @RequestBody Client client,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Client partially : {}, {}", id, client);
         if (client.getId() == null) {
@@ -118,13 +163,10 @@ public class ClientResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!clientRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Client> result = clientRepository
-            .findById(client.getId())
+        Client result = clientRepository
+            .findById(id)
             .map(existingClient -> {
+                checkIfMatch(ifMatch, existingClient);
                 if (client.getRefClient() != null) {
                     existingClient.setRefClient(client.getRefClient());
                 }
@@ -140,36 +182,132 @@ public class ClientResource {
 
                 return existingClient;
             })
-            .map(clientRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(clientRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, client.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, client.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
     }
 
     /**
      * {@code GET  /clients} : get all the clients.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
+     * @param pageable the pagination information, a page of the max page size when neither {@code page} nor {@code size} is given.
+     * @param criteria the criteria which the requested entities should match.
+     * @param fetch the collections to load with the clients, among {@link ClientQueryService#FETCH_PROFILE}.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of clients in body.
      */
-    @GetMapping("/clients")
-    public List<Client> getAllClients() {
-        log.debug("REST request to get all Clients");
-        return clientRepository.findAll();
+    @GetMapping(value = "/clients", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllClients(
+        ClientCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(required = false) Set<String> fetch,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get Clients by criteria: {}, fetch: {}", criteria, fetch);
+        if (!ClientQueryService.FETCH_PROFILE.supports(fetch)) {
+            throw new BadRequestAlertException("Unknown collection to fetch", ENTITY_NAME, "fetchinvalid");
+        }
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Client> page = clientQueryService.findByCriteria(criteria, pageable, fetch);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            ClientQueryService.FETCH_PROFILE.getEntityClasses(fetch, Client.class)
+        );
+    }
+
+    /**
+     * {@code GET  /clients/count} : count all the clients.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/clients/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countClients(ClientCriteria criteria) {
+        log.debug("REST request to count Clients by criteria: {}", criteria);
+        return ResponseEntity.ok().body(clientQueryService.countByCriteria(criteria));
     }
 
     /**
      * {@code GET  /clients/:id} : get the "id" client.
      *
      * @param id the id of the client to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the client, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/clients/{id}")
-    public ResponseEntity<Client> getClient(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Client> getClient(@PathVariable Long id, ServletWebRequest request) {
         log.debug("REST request to get Client : {}", id);
-        Optional<Client> client = clientRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(client);
+        if (entityVersionService.checkNotModified(request, Client.class)) {
+            return null;
+        }
+        return clientRepository
+            .findById(id)
+            .map(client -> ResponseEntity.ok().eTag(getETag(client)).body(client))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /clients/by-ref/:ref} : get the client by its reference.
+     *
+     * @param ref the reference of the client to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the client, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/clients/by-ref/{ref}")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Client> getClientByRef(@PathVariable String ref, ServletWebRequest request) {
+        log.debug("REST request to get Client by ref : {}", ref);
+        if (entityVersionService.checkNotModified(request, Client.class)) {
+            return null;
+        }
+        return clientRepository
+            .findBySimpleNaturalId(ref)
+            .map(client -> ResponseEntity.ok().eTag(getETag(client)).body(client))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /clients/:id/projets} : get the projets of the "id" client.
+     * <p>
+     * Paged replacement of the {@code projets} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the client.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of projets in body.
+     */
+    @GetMapping(value = "/clients/{id}/projets", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getProjetsOfClient(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Projets of Client : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Projet> page = projetRepository.findByClientId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Projet.class,
+            Client.class
+        );
     }
 
     /**
@@ -187,4 +325,17 @@ public class ClientResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(Client client) {
+        return entityVersionService.getETag(client.getVersion(), Client.class);
+    }
+
+    private void checkIfMatch(String ifMatch, Client client) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, client.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
@@ -1,22 +1,44 @@
 package tn.itdevspace.easytask.web.rest;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tn.itdevspace.easytask.domain.Activite;
 import tn.itdevspace.easytask.domain.Estimation;
+import tn.itdevspace.easytask.domain.Livrable;
+import tn.itdevspace.easytask.domain.Projet;
 import tn.itdevspace.easytask.repository.EstimationRepository;
+import tn.itdevspace.easytask.service.EntityBatchService;
+import tn.itdevspace.easytask.service.EntityExportService;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.EstimationQueryService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.EstimationCriteria;
+import tn.itdevspace.easytask.service.dto.BatchItemResultDTO;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.Estimation}.
@@ -35,22 +57,45 @@ public class EstimationResource {
 
     private final EstimationRepository estimationRepository;
 
-    public EstimationResource(EstimationRepository estimationRepository) {
+    private final EntityExportService entityExportService;
+
+    private final EntityBatchService entityBatchService;
+
+    private final EstimationQueryService estimationQueryService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ResponseCacheService responseCacheService;
+
+    public EstimationResource(
+        EstimationRepository estimationRepository,
+        EntityExportService entityExportService,
+        EntityBatchService entityBatchService,
+        EstimationQueryService estimationQueryService,
+        EntityVersionService entityVersionService,
+        ResponseCacheService responseCacheService
+    ) {
         this.estimationRepository = estimationRepository;
+        this.entityExportService = entityExportService;
+        this.entityBatchService = entityBatchService;
+        this.estimationQueryService = estimationQueryService;
+        this.entityVersionService = entityVersionService;
+        this.responseCacheService = responseCacheService;
     }
 
     /**
      * {@code POST  /estimations} : Create a new estimation.
      *
      * @param estimation the estimation to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new estimation, or with status {@code 400 (Bad Request)} if the estimation has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new estimation, or with status {@code 400 (Bad Request)} if the ID of the estimation is already used.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/estimations")
     public ResponseEntity<Estimation> createEstimation(@RequestBody Estimation estimation) throws URISyntaxException {
         log.debug("REST request to save Estimation : {}", estimation);
-        if (estimation.getId() != null) {
-            throw new BadRequestAlertException("A new estimation cannot already have an ID", ENTITY_NAME, "idexists");
+        // The id is assigned when the entity is constructed: only the id of an existing estimation is refused
+        if (estimation.getId() != null && estimationRepository.existsById(estimation.getId())) {
+            throw new BadRequestAlertException("A new estimation cannot have the ID of an existing one", ENTITY_NAME, "idexists");
         }
         Estimation result = estimationRepository.save(estimation);
         return ResponseEntity
@@ -59,20 +104,53 @@ public class EstimationResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /estimations/batch} : Create or update a list of estimations in one transaction.
+     *
+     * @param estimations the JSON of the estimations to save: those without version are created, the others update
+     * the estimation of this version, or get the item status {@code 412 (Precondition Failed)} if it has been updated since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of each item,
+     * or with status {@code 400 (Bad Request)} and the same body if one of the items is not valid, in which case none is saved.
+     */
+    @PostMapping("/estimations/batch")
+    public ResponseEntity<List<BatchItemResultDTO>> saveEstimations(@RequestBody List<ObjectNode> estimations) {
+        log.debug("REST request to save a batch of {} Estimations", estimations.size());
+        if (estimations.isEmpty() || estimations.size() > EntityBatchService.MAX_BATCH_SIZE || estimations.contains(null)) {
+            throw new BadRequestAlertException("Invalid batch size", ENTITY_NAME, "batchsize");
+        }
+        List<BatchItemResultDTO> results = entityBatchService.saveAll(
+            estimations,
+            Estimation.class,
+            Estimation::getId,
+            estimationRepository
+        );
+        if (results.stream().anyMatch(BatchItemResultDTO::isFailed)) {
+            return ResponseEntity
+                .badRequest()
+                .headers(HeaderUtil.createFailureAlert(applicationName, true, ENTITY_NAME, "batchinvalid", "Invalid batch"))
+                .body(results);
+        }
+        return ResponseEntity.ok().body(results);
+    }
+
     /**
      * {@code PUT  /estimations/:id} : Updates an existing estimation.
      *
      * @param id the id of the estimation to save.
      * @param estimation the estimation to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the estimation to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated estimation,
      * or with status {@code 400 (Bad Request)} if the estimation is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the estimation has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the estimation couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/estimations/{id}")
     public ResponseEntity<Estimation> updateEstimation(
         @PathVariable(value = "id", required = false) final UUID id,
-        @RequestBody Estimation estimation
+        @RequestBody Estimation estimation,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Estimation : {}, {}", id, estimation);
         if (estimation.getId() == null) {
@@ -82,14 +160,17 @@ public class EstimationResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!estimationRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Estimation result = estimationRepository.save(estimation);
+        Estimation existingEstimation = estimationRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingEstimation);
+        // Merged into the loaded estimation without selecting it again, the version being checked by the update
+        estimation.setVersion(existingEstimation.getVersion());
+        Estimation result = estimationRepository.saveAndFlush(estimation);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, estimation.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -98,8 +179,11 @@ public class EstimationResource {
      *
      * @param id the id of the estimation to save.
      * @param estimation the estimation to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the estimation to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated estimation,
      * or with status {@code 400 (Bad Request)} if the estimation is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the estimation has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the estimation is not found,
      * or with status {@code 500 (Internal Server Error)} if the estimation couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -107,7 +191,8 @@ public class EstimationResource {
     @PatchMapping(value = "/estimations/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Estimation> partialUpdateEstimation(
         @PathVariable(value = "id", required = false) final UUID id,
-        @RequestBody Estimation estimation
+        @RequestBody Estimation estimation,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Estimation partially : {}, {}", id, estimation);
         if (estimation.getId() == null) {
@@ -117,13 +202,10 @@ public class EstimationResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!estimationRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Estimation> result = estimationRepository
-            .findById(estimation.getId())
+        Estimation result = estimationRepository
+            .findById(id)
             .map(existingEstimation -> {
+                checkIfMatch(ifMatch, existingEstimation);
                 if (estimation.getDate() != null) {
                     existingEstimation.setDate(estimation.getDate());
                 }
@@ -142,41 +224,95 @@ public class EstimationResource {
 
                 return existingEstimation;
             })
-            .map(estimationRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(estimationRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, estimation.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, estimation.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
     }
 
     /**
      * {@code GET  /estimations} : get all the estimations.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param pageable the pagination information, a page of the max page size when neither {@code page} nor {@code size} is given.
+     * @param criteria the criteria which the requested entities should match.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of estimations in body.
      */
-    @GetMapping("/estimations")
-    public List<Estimation> getAllEstimations(@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
-        log.debug("REST request to get all Estimations");
-        if (eagerload) {
-            return estimationRepository.findAllWithEagerRelationships();
-        } else {
-            return estimationRepository.findAll();
-        }
+    @GetMapping(value = "/estimations", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllEstimations(
+        EstimationCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get Estimations by criteria: {}", criteria);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Estimation> page = estimationQueryService.findByCriteria(criteria, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Estimation.class,
+            Projet.class,
+            Livrable.class,
+            Activite.class
+        );
+    }
+
+    /**
+     * {@code GET  /estimations/count} : count all the estimations.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/estimations/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countEstimations(EstimationCriteria criteria) {
+        log.debug("REST request to count Estimations by criteria: {}", criteria);
+        return ResponseEntity.ok().body(estimationQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /estimations/export} : export all the estimations as newline-delimited JSON.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the estimations in body, one per line.
+     */
+    @GetMapping(value = "/estimations/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> exportEstimations() {
+        log.debug("REST request to export all Estimations");
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(entityExportService.export(Estimation.class, estimationRepository::streamAllWithToOneRelationships));
     }
 
     /**
      * {@code GET  /estimations/:id} : get the "id" estimation.
      *
      * @param id the id of the estimation to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the estimation, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/estimations/{id}")
-    public ResponseEntity<Estimation> getEstimation(@PathVariable UUID id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Estimation> getEstimation(@PathVariable UUID id, ServletWebRequest request) {
         log.debug("REST request to get Estimation : {}", id);
-        Optional<Estimation> estimation = estimationRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(estimation);
+        if (entityVersionService.checkNotModified(request, Estimation.class, Projet.class, Livrable.class, Activite.class)) {
+            return null;
+        }
+        return estimationRepository
+            .findOneWithEagerRelationships(id)
+            .map(estimation -> ResponseEntity.ok().eTag(getETag(estimation)).body(estimation))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -194,4 +330,17 @@ public class EstimationResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(Estimation estimation) {
+        return entityVersionService.getETag(estimation.getVersion(), Estimation.class, Projet.class, Livrable.class, Activite.class);
+    }
+
+    private void checkIfMatch(String ifMatch, Estimation estimation) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, estimation.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
@@ -1,23 +1,51 @@
 package tn.itdevspace.easytask.web.rest;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tn.itdevspace.easytask.domain.Activite;
+import tn.itdevspace.easytask.domain.Estimation;
 import tn.itdevspace.easytask.domain.Livrable;
+import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.repository.ActiviteRepository;
+import tn.itdevspace.easytask.repository.EstimationRepository;
 import tn.itdevspace.easytask.repository.LivrableRepository;
+import tn.itdevspace.easytask.repository.projection.LivrableSummary;
+import tn.itdevspace.easytask.service.CsvImportService;
+import tn.itdevspace.easytask.service.EntityExportService;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.InvalidCsvException;
+import tn.itdevspace.easytask.service.LivrableQueryService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.LivrableCriteria;
+import tn.itdevspace.easytask.service.dto.ImportReportDTO;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.Livrable}.
@@ -36,8 +64,38 @@ public class LivrableResource {
 
     private final LivrableRepository livrableRepository;
 
-    public LivrableResource(LivrableRepository livrableRepository) {
+    private final EntityExportService entityExportService;
+
+    private final CsvImportService csvImportService;
+
+    private final LivrableQueryService livrableQueryService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ResponseCacheService responseCacheService;
+
+    private final ActiviteRepository activiteRepository;
+
+    private final EstimationRepository estimationRepository;
+
+    public LivrableResource(
+        LivrableRepository livrableRepository,
+        EntityExportService entityExportService,
+        CsvImportService csvImportService,
+        LivrableQueryService livrableQueryService,
+        EntityVersionService entityVersionService,
+        ResponseCacheService responseCacheService,
+        ActiviteRepository activiteRepository,
+        EstimationRepository estimationRepository
+    ) {
         this.livrableRepository = livrableRepository;
+        this.entityExportService = entityExportService;
+        this.csvImportService = csvImportService;
+        this.livrableQueryService = livrableQueryService;
+        this.entityVersionService = entityVersionService;
+        this.responseCacheService = responseCacheService;
+        this.activiteRepository = activiteRepository;
+        this.estimationRepository = estimationRepository;
     }
 
     /**
@@ -60,20 +118,49 @@ public class LivrableResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /livrables/import} : Create or update livrables from a CSV file, matched on their reference.
+     * <p>
+     * The file is imported in chunks, each one in its own transaction: valid rows are saved even if others are rejected.
+     *
+     * @param file the CSV file, encoded in UTF-8, with a header row naming the columns.
+     * @param separator the field separator, {@code ;} by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the import report listing the rejected rows,
+     * or with status {@code 400 (Bad Request)} if the file can't be read as CSV.
+     * @throws IOException if the file can't be read.
+     */
+    @PostMapping(value = "/livrables/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ImportReportDTO> importLivrables(
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(value = "separator", required = false, defaultValue = ";") char separator
+    ) throws IOException {
+        log.debug("REST request to import Livrables from {}", file.getOriginalFilename());
+        try {
+            return ResponseEntity.ok().body(csvImportService.importLivrables(file.getInputStream(), separator));
+        } catch (InvalidCsvException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "csvinvalid");
+        }
+    }
+
     /**
      * {@code PUT  /livrables/:id} : Updates an existing livrable.
      *
      * @param id the id of the livrable to save.
      * @param livrable the livrable to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the livrable to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated livrable,
      * or with status {@code 400 (Bad Request)} if the livrable is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the livrable has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the livrable couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/livrables/{id}")
     public ResponseEntity<Livrable> updateLivrable(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody Livrable livrable
+        @Valid @RequestBody Livrable livrable,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Livrable : {}, {}", id, livrable);
         if (livrable.getId() == null) {
@@ -83,14 +170,17 @@ public class LivrableResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!livrableRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Livrable result = livrableRepository.save(livrable);
+        Livrable existingLivrable = livrableRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingLivrable);
+        // Merged into the loaded livrable without selecting it again, the version being checked by the update
+        livrable.setVersion(existingLivrable.getVersion());
+        Livrable result = livrableRepository.saveAndFlush(livrable);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, livrable.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -99,8 +189,11 @@ public class LivrableResource {
      *
      * @param id the id of the livrable to save.
      * @param livrable the livrable to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the livrable to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated livrable,
      * or with status {@code 400 (Bad Request)} if the livrable is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the livrable has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the livrable is not found,
      * or with status {@code 500 (Internal Server Error)} if the livrable couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -108,7 +201,8 @@ public class LivrableResource {
     @PatchMapping(value = "/livrables/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Livrable> partialUpdateLivrable(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody Livrable livrable
+        @NotNull @RequestBody Livrable livrable,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Livrable partially : {}, {}", id, livrable);
         if (livrable.getId() == null) {
@@ -118,13 +212,10 @@ public class LivrableResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!livrableRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Livrable> result = livrableRepository
-            .findById(livrable.getId())
+        Livrable result = livrableRepository
+            .findById(id)
             .map(existingLivrable -> {
+                checkIfMatch(ifMatch, existingLivrable);
                 if (livrable.getRefLivrable() != null) {
                     existingLivrable.setRefLivrable(livrable.getRefLivrable());
                 }
@@ -143,41 +234,210 @@ public class LivrableResource {
 
                 return existingLivrable;
             })
-            .map(livrableRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(livrableRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, livrable.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, livrable.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
     }
 
     /**
      * {@code GET  /livrables} : get all the livrables.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param pageable the pagination information, a page of the max page size when neither {@code page} nor {@code size} is given.
+     * @param criteria the criteria which the requested entities should match.
+     * @param fetch the collections to load with the livrables, among {@link LivrableQueryService#FETCH_PROFILE}.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of livrables in body.
      */
-    @GetMapping("/livrables")
-    public List<Livrable> getAllLivrables(@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
-        log.debug("REST request to get all Livrables");
-        if (eagerload) {
-            return livrableRepository.findAllWithEagerRelationships();
-        } else {
-            return livrableRepository.findAll();
+    @GetMapping(value = "/livrables", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllLivrables(
+        LivrableCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(required = false) Set<String> fetch,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get Livrables by criteria: {}, fetch: {}", criteria, fetch);
+        if (!LivrableQueryService.FETCH_PROFILE.supports(fetch)) {
+            throw new BadRequestAlertException("Unknown collection to fetch", ENTITY_NAME, "fetchinvalid");
         }
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Livrable> page = livrableQueryService.findByCriteria(criteria, pageable, fetch);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            LivrableQueryService.FETCH_PROFILE.getEntityClasses(fetch, Livrable.class, Projet.class)
+        );
+    }
+
+    /**
+     * {@code GET  /livrables?view=summary} : get the summaries of all the livrables.
+     * <p>
+     * Only the columns of the list view are selected, as {@link LivrableSummary} rows which are not managed by the
+     * persistence context. Filtered by the criteria of the full listing, and cached like it.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries in body.
+     */
+    @GetMapping(value = "/livrables", params = "view=summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllLivrableSummaries(
+        LivrableCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Livrable summaries by criteria: {}", criteria);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<LivrableSummary> page = livrableQueryService.findSummariesByCriteria(criteria, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Livrable.class,
+            Projet.class
+        );
+    }
+
+    /**
+     * {@code GET  /livrables/count} : count all the livrables.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/livrables/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countLivrables(LivrableCriteria criteria) {
+        log.debug("REST request to count Livrables by criteria: {}", criteria);
+        return ResponseEntity.ok().body(livrableQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /livrables/export} : export all the livrables as newline-delimited JSON.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the livrables in body, one per line.
+     */
+    @GetMapping(value = "/livrables/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> exportLivrables() {
+        log.debug("REST request to export all Livrables");
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(entityExportService.export(Livrable.class, livrableRepository::streamAllWithToOneRelationships));
     }
 
     /**
      * {@code GET  /livrables/:id} : get the "id" livrable.
      *
      * @param id the id of the livrable to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the livrable, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/livrables/{id}")
-    public ResponseEntity<Livrable> getLivrable(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Livrable> getLivrable(@PathVariable Long id, ServletWebRequest request) {
         log.debug("REST request to get Livrable : {}", id);
-        Optional<Livrable> livrable = livrableRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(livrable);
+        if (entityVersionService.checkNotModified(request, Livrable.class, Projet.class)) {
+            return null;
+        }
+        return livrableRepository
+            .findOneWithEagerRelationships(id)
+            .map(livrable -> ResponseEntity.ok().eTag(getETag(livrable)).body(livrable))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /livrables/by-ref/:ref} : get the livrable by its reference.
+     *
+     * @param ref the reference of the livrable to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the livrable, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/livrables/by-ref/{ref}")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Livrable> getLivrableByRef(@PathVariable String ref, ServletWebRequest request) {
+        log.debug("REST request to get Livrable by ref : {}", ref);
+        if (entityVersionService.checkNotModified(request, Livrable.class, Projet.class)) {
+            return null;
+        }
+        return livrableRepository
+            .findBySimpleNaturalId(ref)
+            .map(livrable -> ResponseEntity.ok().eTag(getETag(livrable)).body(livrable))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /livrables/:id/activites} : get the activites of the "id" livrable.
+     * <p>
+     * Paged replacement of the {@code activites} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the livrable.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of activites in body.
+     */
+    @GetMapping(value = "/livrables/{id}/activites", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getActivitesOfLivrable(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Activites of Livrable : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Activite> page = activiteRepository.findByLivrableId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Activite.class,
+            Livrable.class
+        );
+    }
+
+    /**
+     * {@code GET  /livrables/:id/estimations} : get the estimations of the "id" livrable.
+     * <p>
+     * Paged replacement of the {@code estimations} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the livrable.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of estimations in body.
+     */
+    @GetMapping(value = "/livrables/{id}/estimations", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getEstimationsOfLivrable(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Estimations of Livrable : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Estimation> page = estimationRepository.findByLivrableId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Estimation.class,
+            Projet.class,
+            Livrable.class,
+            Activite.class
+        );
     }
 
     /**
@@ -195,4 +455,17 @@ public class LivrableResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(Livrable livrable) {
+        return entityVersionService.getETag(livrable.getVersion(), Livrable.class, Projet.class);
+    }
+
+    private void checkIfMatch(String ifMatch, Livrable livrable) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, livrable.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
@@ -2,23 +2,40 @@ package tn.itdevspace.easytask.web.rest;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tn.itdevspace.easytask.domain.Maintenance;
+import tn.itdevspace.easytask.domain.Ressource;
 import tn.itdevspace.easytask.repository.MaintenanceRepository;
+import tn.itdevspace.easytask.repository.projection.MaintenanceSummary;
+import tn.itdevspace.easytask.service.EntityExportService;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.MaintenanceQueryService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.MaintenanceCriteria;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.Maintenance}.
@@ -37,22 +54,41 @@ public class MaintenanceResource {
 
     private final MaintenanceRepository maintenanceRepository;
 
-    public MaintenanceResource(MaintenanceRepository maintenanceRepository) {
+    private final EntityExportService entityExportService;
+
+    private final MaintenanceQueryService maintenanceQueryService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ResponseCacheService responseCacheService;
+
+    public MaintenanceResource(
+        MaintenanceRepository maintenanceRepository,
+        EntityExportService entityExportService,
+        MaintenanceQueryService maintenanceQueryService,
+        EntityVersionService entityVersionService,
+        ResponseCacheService responseCacheService
+    ) {
         this.maintenanceRepository = maintenanceRepository;
+        this.entityExportService = entityExportService;
+        this.maintenanceQueryService = maintenanceQueryService;
+        this.entityVersionService = entityVersionService;
+        this.responseCacheService = responseCacheService;
     }
 
     /**
      * {@code POST  /maintenances} : Create a new maintenance.
      *
      * @param maintenance the maintenance to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new maintenance, or with status {@code 400 (Bad Request)} if the maintenance has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new maintenance, or with status {@code 400 (Bad Request)} if the ID of the maintenance is already used.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/maintenances")
     public ResponseEntity<Maintenance> createMaintenance(@Valid @RequestBody Maintenance maintenance) throws URISyntaxException {
         log.debug("REST request to save Maintenance : {}", maintenance);
-        if (maintenance.getId() != null) {
-            throw new BadRequestAlertException("A new maintenance cannot already have an ID", ENTITY_NAME, "idexists");
+        // The id is assigned when the entity is constructed: only the id of an existing maintenance is refused
+        if (maintenance.getId() != null && maintenanceRepository.existsById(maintenance.getId())) {
+            throw new BadRequestAlertException("A new maintenance cannot have the ID of an existing one", ENTITY_NAME, "idexists");
         }
         Maintenance result = maintenanceRepository.save(maintenance);
         return ResponseEntity
@@ -66,15 +102,19 @@ public class MaintenanceResource {
      *
      * @param id the id of the maintenance to save.
      * @param maintenance the maintenance to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the maintenance to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated maintenance,
      * or with status {@code 400 (Bad Request)} if the maintenance is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the maintenance has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the maintenance couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/maintenances/{id}")
     public ResponseEntity<Maintenance> updateMaintenance(
         @PathVariable(value = "id", required = false) final UUID id,
-        @Valid @RequestBody Maintenance maintenance
+        @Valid @RequestBody Maintenance maintenance,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Maintenance : {}, {}", id, maintenance);
         if (maintenance.getId() == null) {
@@ -84,14 +124,17 @@ public class MaintenanceResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!maintenanceRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Maintenance result = maintenanceRepository.save(maintenance);
+        Maintenance existingMaintenance = maintenanceRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingMaintenance);
+        // Merged into the loaded maintenance without selecting it again, the version being checked by the update
+        maintenance.setVersion(existingMaintenance.getVersion());
+        Maintenance result = maintenanceRepository.saveAndFlush(maintenance);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, maintenance.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -100,8 +143,11 @@ public class MaintenanceResource {
      *
      * @param id the id of the maintenance to save.
      * @param maintenance the maintenance to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the maintenance to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated maintenance,
      * or with status {@code 400 (Bad Request)} if the maintenance is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the maintenance has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the maintenance is not found,
      * or with status {@code 500 (Internal Server Error)} if the maintenance couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -109,7 +155,8 @@ public class MaintenanceResource {
     @PatchMapping(value = "/maintenances/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Maintenance> partialUpdateMaintenance(
         @PathVariable(value = "id", required = false) final UUID id,
-        @NotNull @RequestBody Maintenance maintenance
+        @NotNull @RequestBody Maintenance maintenance,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Maintenance partially : {}, {}", id, maintenance);
         if (maintenance.getId() == null) {
@@ -119,13 +166,10 @@ public class MaintenanceResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!maintenanceRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Maintenance> result = maintenanceRepository
-            .findById(maintenance.getId())
+        Maintenance result = maintenanceRepository
+            .findById(id)
             .map(existingMaintenance -> {
+                checkIfMatch(ifMatch, existingMaintenance);
                 if (maintenance.getDescription() != null) {
                     existingMaintenance.setDescription(maintenance.getDescription());
                 }
@@ -150,41 +194,124 @@ public class MaintenanceResource {
 
                 return existingMaintenance;
             })
-            .map(maintenanceRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(maintenanceRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, maintenance.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, maintenance.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
     }
 
     /**
      * {@code GET  /maintenances} : get all the maintenances.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param pageable the pagination information, a page of the max page size when neither {@code page} nor {@code size} is given.
+     * @param criteria the criteria which the requested entities should match.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of maintenances in body.
      */
-    @GetMapping("/maintenances")
-    public List<Maintenance> getAllMaintenances(@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
-        log.debug("REST request to get all Maintenances");
-        if (eagerload) {
-            return maintenanceRepository.findAllWithEagerRelationships();
-        } else {
-            return maintenanceRepository.findAll();
-        }
+    @GetMapping(value = "/maintenances", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllMaintenances(
+        MaintenanceCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get Maintenances by criteria: {}", criteria);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Maintenance> page = maintenanceQueryService.findByCriteria(criteria, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Maintenance.class,
+            Ressource.class
+        );
+    }
+
+    /**
+     * {@code GET  /maintenances?view=summary} : get the summaries of all the maintenances.
+     * <p>
+     * Only the columns of the list view are selected, as {@link MaintenanceSummary} rows which are not managed by the
+     * persistence context. Filtered by the criteria of the full listing, and cached like it.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries in body.
+     */
+    @GetMapping(value = "/maintenances", params = "view=summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllMaintenanceSummaries(
+        MaintenanceCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Maintenance summaries by criteria: {}", criteria);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<MaintenanceSummary> page = maintenanceQueryService.findSummariesByCriteria(criteria, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Maintenance.class,
+            Ressource.class
+        );
+    }
+
+    /**
+     * {@code GET  /maintenances/count} : count all the maintenances.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/maintenances/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countMaintenances(MaintenanceCriteria criteria) {
+        log.debug("REST request to count Maintenances by criteria: {}", criteria);
+        return ResponseEntity.ok().body(maintenanceQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /maintenances/export} : export all the maintenances as newline-delimited JSON.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the maintenances in body, one per line.
+     */
+    @GetMapping(value = "/maintenances/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> exportMaintenances() {
+        log.debug("REST request to export all Maintenances");
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(entityExportService.export(Maintenance.class, maintenanceRepository::streamAllWithToOneRelationships));
     }
 
     /**
      * {@code GET  /maintenances/:id} : get the "id" maintenance.
      *
      * @param id the id of the maintenance to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the maintenance, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/maintenances/{id}")
-    public ResponseEntity<Maintenance> getMaintenance(@PathVariable UUID id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Maintenance> getMaintenance(@PathVariable UUID id, ServletWebRequest request) {
         log.debug("REST request to get Maintenance : {}", id);
-        Optional<Maintenance> maintenance = maintenanceRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(maintenance);
+        if (entityVersionService.checkNotModified(request, Maintenance.class, Ressource.class)) {
+            return null;
+        }
+        return maintenanceRepository
+            .findOneWithEagerRelationships(id)
+            .map(maintenance -> ResponseEntity.ok().eTag(getETag(maintenance)).body(maintenance))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -202,4 +329,17 @@ public class MaintenanceResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(Maintenance maintenance) {
+        return entityVersionService.getETag(maintenance.getVersion(), Maintenance.class, Ressource.class);
+    }
+
+    private void checkIfMatch(String ifMatch, Maintenance maintenance) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, maintenance.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
@@ -1,23 +1,59 @@
 package tn.itdevspace.easytask.web.rest;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
+import tn.itdevspace.easytask.domain.Activite;
+import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Estimation;
+import tn.itdevspace.easytask.domain.Livrable;
 import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.repository.EstimationRepository;
+import tn.itdevspace.easytask.repository.LivrableRepository;
 import tn.itdevspace.easytask.repository.ProjetRepository;
+import tn.itdevspace.easytask.repository.projection.ProjetSummary;
+import tn.itdevspace.easytask.service.CsvImportService;
+import tn.itdevspace.easytask.service.EntityBatchService;
+import tn.itdevspace.easytask.service.EntityExportService;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.EstimationTreeService;
+import tn.itdevspace.easytask.service.InvalidCsvException;
+import tn.itdevspace.easytask.service.ProjetQueryService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.ProjetCriteria;
+import tn.itdevspace.easytask.service.dto.BatchItemResultDTO;
+import tn.itdevspace.easytask.service.dto.EstimationTreeDTO;
+import tn.itdevspace.easytask.service.dto.ImportReportDTO;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.Projet}.
@@ -36,8 +72,46 @@ public class ProjetResource {
 
     private final ProjetRepository projetRepository;
 
-    public ProjetResource(ProjetRepository projetRepository) {
+    private final EntityExportService entityExportService;
+
+    private final CsvImportService csvImportService;
+
+    private final EstimationTreeService estimationTreeService;
+
+    private final EntityBatchService entityBatchService;
+
+    private final ProjetQueryService projetQueryService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ResponseCacheService responseCacheService;
+
+    private final LivrableRepository livrableRepository;
+
+    private final EstimationRepository estimationRepository;
+
+    public ProjetResource(
+        ProjetRepository projetRepository,
+        EntityExportService entityExportService,
+        EstimationTreeService estimationTreeService,
+        EntityBatchService entityBatchService,
+        CsvImportService csvImportService,
+        ProjetQueryService projetQueryService,
+        EntityVersionService entityVersionService,
+        ResponseCacheService responseCacheService,
+        LivrableRepository livrableRepository,
+        EstimationRepository estimationRepository
+    ) {
         this.projetRepository = projetRepository;
+        this.entityExportService = entityExportService;
+        this.csvImportService = csvImportService;
+        this.estimationTreeService = estimationTreeService;
+        this.entityBatchService = entityBatchService;
+        this.projetQueryService = projetQueryService;
+        this.entityVersionService = entityVersionService;
+        this.responseCacheService = responseCacheService;
+        this.livrableRepository = livrableRepository;
+        this.estimationRepository = estimationRepository;
     }
 
     /**
@@ -60,20 +134,73 @@ public class ProjetResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /projets/batch} : Create or update a list of projets in one transaction.
+     *
+     * @param projets the JSON of the projets to save: those without version are created, the others update
+     * the projet of this version, or get the item status {@code 412 (Precondition Failed)} if it has been updated since.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of each item,
+     * or with status {@code 400 (Bad Request)} and the same body if one of the items is not valid, in which case none is saved.
+     */
+    @PostMapping("/projets/batch")
+    public ResponseEntity<List<BatchItemResultDTO>> saveProjets(@RequestBody List<ObjectNode> projets) {
+        log.debug("REST request to save a batch of {} Projets", projets.size());
+        if (projets.isEmpty() || projets.size() > EntityBatchService.MAX_BATCH_SIZE || projets.contains(null)) {
+            throw new BadRequestAlertException("Invalid batch size", ENTITY_NAME, "batchsize");
+        }
+        List<BatchItemResultDTO> results = entityBatchService.saveAll(projets, Projet.class, Projet::getId, projetRepository);
+        if (results.stream().anyMatch(BatchItemResultDTO::isFailed)) {
+            return ResponseEntity
+                .badRequest()
+                .headers(HeaderUtil.createFailureAlert(applicationName, true, ENTITY_NAME, "batchinvalid", "Invalid batch"))
+                .body(results);
+        }
+        return ResponseEntity.ok().body(results);
+    }
+
+    /**
+     * {@code POST  /projets/import} : Create or update projets from a CSV file, matched on their reference.
+     * <p>
+     * The file is imported in chunks, each one in its own transaction: valid rows are saved even if others are rejected.
+     *
+     * @param file the CSV file, encoded in UTF-8, with a header row naming the columns.
+     * @param separator the field separator, {@code ;} by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the import report listing the rejected rows,
+     * or with status {@code 400 (Bad Request)} if the file can't be read as CSV.
+     * @throws IOException if the file can't be read.
+     */
+    @PostMapping(value = "/projets/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ImportReportDTO> importProjets(
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(value = "separator", required = false, defaultValue = ";") char separator
+    ) throws IOException {
+        log.debug("REST request to import Projets from {}", file.getOriginalFilename());
+        try {
+            return ResponseEntity.ok().body(csvImportService.importProjets(file.getInputStream(), separator));
+        } catch (InvalidCsvException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "csvinvalid");
+        }
+    }
+
     /**
      * {@code PUT  /projets/:id} : Updates an existing projet.
      *
      * @param id the id of the projet to save.
      * @param projet the projet to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the projet to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated projet,
      * or with status {@code 400 (Bad Request)} if the projet is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the projet has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the projet couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/projets/{id}")
     public ResponseEntity<Projet> updateProjet(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody Projet projet
+        @Valid @RequestBody Projet projet,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Projet : {}, {}", id, projet);
         if (projet.getId() == null) {
@@ -83,14 +210,17 @@ public class ProjetResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!projetRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Projet result = projetRepository.save(projet);
+        Projet existingProjet = projetRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingProjet);
+        // Merged into the loaded projet without selecting it again, the version being checked by the update
+        projet.setVersion(existingProjet.getVersion());
+        Projet result = projetRepository.saveAndFlush(projet);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, projet.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -99,8 +229,11 @@ public class ProjetResource {
      *
      * @param id the id of the projet to save.
      * @param projet the projet to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the projet to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated projet,
      * or with status {@code 400 (Bad Request)} if the projet is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the projet has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the projet is not found,
      * or with status {@code 500 (Internal Server Error)} if the projet couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -108,7 +241,8 @@ public class ProjetResource {
     @PatchMapping(value = "/projets/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Projet> partialUpdateProjet(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody Projet projet
+        @NotNull @RequestBody Projet projet,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Projet partially : {}, {}", id, projet);
         if (projet.getId() == null) {
@@ -118,13 +252,10 @@ public class ProjetResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!projetRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Projet> result = projetRepository
-            .findById(projet.getId())
+        Projet result = projetRepository
+            .findById(id)
             .map(existingProjet -> {
+                checkIfMatch(ifMatch, existingProjet);
                 if (projet.getRefProjet() != null) {
                     existingProjet.setRefProjet(projet.getRefProjet());
                 }
@@ -146,41 +277,223 @@ public class ProjetResource {
 
                 return existingProjet;
             })
-            .map(projetRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(projetRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, projet.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, projet.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
     }
 
     /**
      * {@code GET  /projets} : get all the projets.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param pageable the pagination information, a page of the max page size when neither {@code page} nor {@code size} is given.
+     * @param criteria the criteria which the requested entities should match.
+     * @param fetch the collections to load with the projets, among {@link ProjetQueryService#FETCH_PROFILE}.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of projets in body.
      */
-    @GetMapping("/projets")
-    public List<Projet> getAllProjets(@RequestParam(required = false, defaultValue = "false") boolean eagerload) {
-        log.debug("REST request to get all Projets");
-        if (eagerload) {
-            return projetRepository.findAllWithEagerRelationships();
-        } else {
-            return projetRepository.findAll();
+    @GetMapping(value = "/projets", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllProjets(
+        ProjetCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(required = false) Set<String> fetch,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get Projets by criteria: {}, fetch: {}", criteria, fetch);
+        if (!ProjetQueryService.FETCH_PROFILE.supports(fetch)) {
+            throw new BadRequestAlertException("Unknown collection to fetch", ENTITY_NAME, "fetchinvalid");
         }
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Projet> page = projetQueryService.findByCriteria(criteria, pageable, fetch);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            ProjetQueryService.FETCH_PROFILE.getEntityClasses(fetch, Projet.class, Client.class)
+        );
+    }
+
+    /**
+     * {@code GET  /projets?view=summary} : get the summaries of all the projets.
+     * <p>
+     * Only the columns of the list view are selected, as {@link ProjetSummary} rows which are not managed by the
+     * persistence context. Filtered by the criteria of the full listing, and cached like it.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries in body.
+     */
+    @GetMapping(value = "/projets", params = "view=summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllProjetSummaries(
+        ProjetCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Projet summaries by criteria: {}", criteria);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<ProjetSummary> page = projetQueryService.findSummariesByCriteria(criteria, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Projet.class,
+            Client.class
+        );
+    }
+
+    /**
+     * {@code GET  /projets/count} : count all the projets.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/projets/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countProjets(ProjetCriteria criteria) {
+        log.debug("REST request to count Projets by criteria: {}", criteria);
+        return ResponseEntity.ok().body(projetQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /projets/export} : export all the projets as newline-delimited JSON.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the projets in body, one per line.
+     */
+    @GetMapping(value = "/projets/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> exportProjets() {
+        log.debug("REST request to export all Projets");
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(entityExportService.export(Projet.class, projetRepository::streamAllWithToOneRelationships));
     }
 
     /**
      * {@code GET  /projets/:id} : get the "id" projet.
      *
      * @param id the id of the projet to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the projet, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/projets/{id}")
-    public ResponseEntity<Projet> getProjet(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Projet> getProjet(@PathVariable Long id, ServletWebRequest request) {
         log.debug("REST request to get Projet : {}", id);
-        Optional<Projet> projet = projetRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(projet);
+        if (entityVersionService.checkNotModified(request, Projet.class, Client.class)) {
+            return null;
+        }
+        return projetRepository
+            .findOneWithEagerRelationships(id)
+            .map(projet -> ResponseEntity.ok().eTag(getETag(projet)).body(projet))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /projets/by-ref/:ref} : get the projet by its reference.
+     *
+     * @param ref the reference of the projet to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the projet, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/projets/by-ref/{ref}")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Projet> getProjetByRef(@PathVariable String ref, ServletWebRequest request) {
+        log.debug("REST request to get Projet by ref : {}", ref);
+        if (entityVersionService.checkNotModified(request, Projet.class, Client.class)) {
+            return null;
+        }
+        return projetRepository
+            .findBySimpleNaturalId(ref)
+            .map(projet -> ResponseEntity.ok().eTag(getETag(projet)).body(projet))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /projets/:id/estimation-tree} : get the estimations of the "id" projet, rolled up its livrables and activites.
+     *
+     * @param id the id of the projet.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the estimation tree, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/projets/{id}/estimation-tree")
+    @Transactional(readOnly = true)
+    public ResponseEntity<EstimationTreeDTO> getProjetEstimationTree(@PathVariable Long id) {
+        log.debug("REST request to get the estimation tree of Projet : {}", id);
+        return ResponseUtil.wrapOrNotFound(estimationTreeService.getEstimationTree(id));
+    }
+
+    /**
+     * {@code GET  /projets/:id/livrables} : get the livrables of the "id" projet.
+     * <p>
+     * Paged replacement of the {@code livrables} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the projet.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of livrables in body.
+     */
+    @GetMapping(value = "/projets/{id}/livrables", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getLivrablesOfProjet(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Livrables of Projet : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Livrable> page = livrableRepository.findByProjetId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Livrable.class,
+            Projet.class
+        );
+    }
+
+    /**
+     * {@code GET  /projets/:id/estimations} : get the estimations of the "id" projet.
+     * <p>
+     * Paged replacement of the {@code estimations} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the projet.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of estimations in body.
+     */
+    @GetMapping(value = "/projets/{id}/estimations", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getEstimationsOfProjet(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Estimations of Projet : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Estimation> page = estimationRepository.findByProjetId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Estimation.class,
+            Projet.class,
+            Livrable.class,
+            Activite.class
+        );
     }
 
     /**
@@ -198,4 +511,17 @@ public class ProjetResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(Projet projet) {
+        return entityVersionService.getETag(projet.getVersion(), Projet.class, Client.class);
+    }
+
+    private void checkIfMatch(String ifMatch, Projet projet) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, projet.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
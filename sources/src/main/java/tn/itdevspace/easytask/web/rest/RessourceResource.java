@@ -2,23 +2,41 @@ package tn.itdevspace.easytask.web.rest;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.domain.Maintenance;
 import tn.itdevspace.easytask.domain.Ressource;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.repository.MaintenanceRepository;
 import tn.itdevspace.easytask.repository.RessourceRepository;
+import tn.itdevspace.easytask.service.EntityVersionService;
+import tn.itdevspace.easytask.service.RessourceQueryService;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+import tn.itdevspace.easytask.service.criteria.RessourceCriteria;
 import tn.itdevspace.easytask.web.rest.errors.BadRequestAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionFailedAlertException;
+import tn.itdevspace.easytask.web.rest.errors.PreconditionRequiredAlertException;
 
 /**
  * REST controller for managing {@link tn.itdevspace.easytask.domain.Ressource}.
@@ -37,22 +55,45 @@ public class RessourceResource {
 
     private final RessourceRepository ressourceRepository;
 
-    public RessourceResource(RessourceRepository ressourceRepository) {
+    private final RessourceQueryService ressourceQueryService;
+
+    private final ResponseCacheService responseCacheService;
+
+    private final EntityVersionService entityVersionService;
+
+    private final ChargeJournaliereRepository chargeJournaliereRepository;
+
+    private final MaintenanceRepository maintenanceRepository;
+
+    public RessourceResource(
+        RessourceRepository ressourceRepository,
+        RessourceQueryService ressourceQueryService,
+        ResponseCacheService responseCacheService,
+        EntityVersionService entityVersionService,
+        ChargeJournaliereRepository chargeJournaliereRepository,
+        MaintenanceRepository maintenanceRepository
+    ) {
         this.ressourceRepository = ressourceRepository;
+        this.ressourceQueryService = ressourceQueryService;
+        this.responseCacheService = responseCacheService;
+        this.entityVersionService = entityVersionService;
+        this.chargeJournaliereRepository = chargeJournaliereRepository;
+        this.maintenanceRepository = maintenanceRepository;
     }
 
     /**
      * {@code POST  /ressources} : Create a new ressource.
      *
      * @param ressource the ressource to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new ressource, or with status {@code 400 (Bad Request)} if the ressource has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new ressource, or with status {@code 400 (Bad Request)} if the ID of the ressource is already used.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("/ressources")
     public ResponseEntity<Ressource> createRessource(@Valid @RequestBody Ressource ressource) throws URISyntaxException {
         log.debug("REST request to save Ressource : {}", ressource);
-        if (ressource.getId() != null) {
-            throw new BadRequestAlertException("A new ressource cannot already have an ID", ENTITY_NAME, "idexists");
+        // The id is assigned when the entity is constructed: only the id of an existing ressource is refused
+        if (ressource.getId() != null && ressourceRepository.existsById(ressource.getId())) {
+            throw new BadRequestAlertException("A new ressource cannot have the ID of an existing one", ENTITY_NAME, "idexists");
         }
         Ressource result = ressourceRepository.save(ressource);
         return ResponseEntity
@@ -66,15 +107,19 @@ public class RessourceResource {
      *
      * @param id the id of the ressource to save.
      * @param ressource the ressource to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the ressource to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated ressource,
      * or with status {@code 400 (Bad Request)} if the ressource is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the ressource has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 500 (Internal Server Error)} if the ressource couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/ressources/{id}")
     public ResponseEntity<Ressource> updateRessource(
         @PathVariable(value = "id", required = false) final UUID id,
-        @Valid @RequestBody Ressource ressource
+        @Valid @RequestBody Ressource ressource,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Ressource : {}, {}", id, ressource);
         if (ressource.getId() == null) {
@@ -84,14 +129,17 @@ public class RessourceResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!ressourceRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Ressource result = ressourceRepository.save(ressource);
+        Ressource existingRessource = ressourceRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        checkIfMatch(ifMatch, existingRessource);
+        // Merged into the loaded ressource without selecting it again, the version being checked by the update
+        ressource.setVersion(existingRessource.getVersion());
+        Ressource result = ressourceRepository.saveAndFlush(ressource);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, ressource.getId().toString()))
+            .eTag(getETag(result))
             .body(result);
     }
 
@@ -100,8 +148,11 @@ public class RessourceResource {
      *
      * @param id the id of the ressource to save.
      * @param ressource the ressource to update.
+     * @param ifMatch the {@code If-Match} header, with the ETag of the version of the ressource to update, required.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated ressource,
      * or with status {@code 400 (Bad Request)} if the ressource is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the ressource has been updated since this version,
+     * or with status {@code 428 (Precondition Required)} if the {@code If-Match} header is missing,
      * or with status {@code 404 (Not Found)} if the ressource is not found,
      * or with status {@code 500 (Internal Server Error)} if the ressource couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
@@ -109,7 +160,8 @@ public class RessourceResource {
     @PatchMapping(value = "/ressources/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Ressource> partialUpdateRessource(
         @PathVariable(value = "id", required = false) final UUID id,
-        @NotNull @RequestBody Ressource ressource
+        @NotNull @RequestBody Ressource ressource,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Ressource partially : {}, {}", id, ressource);
         if (ressource.getId() == null) {
@@ -119,13 +171,10 @@ public class RessourceResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!ressourceRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Ressource> result = ressourceRepository
-            .findById(ressource.getId())
+        Ressource result = ressourceRepository
+            .findById(id)
             .map(existingRessource -> {
+                checkIfMatch(ifMatch, existingRessource);
                 if (ressource.getNom() != null) {
                     existingRessource.setNom(ressource.getNom());
                 }
@@ -135,36 +184,142 @@ public class RessourceResource {
 
                 return existingRessource;
             })
-            .map(ressourceRepository::save);
+            // Flushed for the new version: only the columns changed are updated
+            .map(ressourceRepository::saveAndFlush)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, ressource.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, ressource.getId().toString()))
+            .eTag(getETag(result))
+            .body(result);
     }
 
     /**
      * {@code GET  /ressources} : get all the ressources.
+     * <p>
+     * The serialized response is cached until the next write on one of the entities it contains, and sent with an ETag.
      *
+     * @param pageable the pagination information, a page of the max page size when neither {@code page} nor {@code size} is given.
+     * @param criteria the criteria which the requested entities should match.
+     * @param fetch the collections to load with the ressources, among {@link RessourceQueryService#FETCH_PROFILE}.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of ressources in body.
      */
-    @GetMapping("/ressources")
-    public List<Ressource> getAllRessources() {
-        log.debug("REST request to get all Ressources");
-        return ressourceRepository.findAll();
+    @GetMapping(value = "/ressources", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllRessources(
+        RessourceCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(required = false) Set<String> fetch,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get Ressources by criteria: {}, fetch: {}", criteria, fetch);
+        if (!RessourceQueryService.FETCH_PROFILE.supports(fetch)) {
+            throw new BadRequestAlertException("Unknown collection to fetch", ENTITY_NAME, "fetchinvalid");
+        }
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Ressource> page = ressourceQueryService.findByCriteria(criteria, pageable, fetch);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            RessourceQueryService.FETCH_PROFILE.getEntityClasses(fetch, Ressource.class)
+        );
+    }
+
+    /**
+     * {@code GET  /ressources/count} : count all the ressources.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/ressources/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countRessources(RessourceCriteria criteria) {
+        log.debug("REST request to count Ressources by criteria: {}", criteria);
+        return ResponseEntity.ok().body(ressourceQueryService.countByCriteria(criteria));
     }
 
     /**
      * {@code GET  /ressources/:id} : get the "id" ressource.
      *
      * @param id the id of the ressource to retrieve.
+     * @param request the request, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} header matches.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ressource, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/ressources/{id}")
-    public ResponseEntity<Ressource> getRessource(@PathVariable UUID id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Ressource> getRessource(@PathVariable UUID id, ServletWebRequest request) {
         log.debug("REST request to get Ressource : {}", id);
-        Optional<Ressource> ressource = ressourceRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(ressource);
+        if (entityVersionService.checkNotModified(request, Ressource.class)) {
+            return null;
+        }
+        return ressourceRepository
+            .findById(id)
+            .map(ressource -> ResponseEntity.ok().eTag(getETag(ressource)).body(ressource))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /ressources/:id/charge-journalieres} : get the chargeJournalieres of the "id" ressource.
+     * <p>
+     * Paged replacement of the {@code chargeJournalieres} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the ressource.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of chargeJournalieres in body.
+     */
+    @GetMapping(value = "/ressources/{id}/charge-journalieres", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getChargeJournalieresOfRessource(
+        @PathVariable UUID id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of ChargeJournalieres of Ressource : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<ChargeJournaliere> page = chargeJournaliereRepository.findByRessourceId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            ChargeJournaliere.class,
+            Ressource.class
+        );
+    }
+
+    /**
+     * {@code GET  /ressources/:id/maintenances} : get the maintenances of the "id" ressource.
+     * <p>
+     * Paged replacement of the {@code maintenances} collection, read with the index of the foreign key.
+     *
+     * @param id the id of the ressource.
+     * @param pageable the pagination information.
+     * @param request the request, part of the cache key, answered with {@code 304 (Not Modified)} if its {@code If-None-Match} matches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of maintenances in body.
+     */
+    @GetMapping(value = "/ressources/{id}/maintenances", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getMaintenancesOfRessource(
+        @PathVariable UUID id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        HttpServletRequest request
+    ) {
+        log.debug("REST request to get a page of Maintenances of Ressource : {}", id);
+        return responseCacheService.getOrLoad(
+            request,
+            () -> {
+                Page<Maintenance> page = maintenanceRepository.findByRessourceId(id, pageable);
+                HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+                return ResponseEntity.ok().headers(headers).body(page.getContent());
+            },
+            Maintenance.class,
+            Ressource.class
+        );
     }
 
     /**
@@ -182,4 +337,17 @@ public class RessourceResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private String getETag(Ressource ressource) {
+        return entityVersionService.getETag(ressource.getVersion(), Ressource.class);
+    }
+
+    private void checkIfMatch(String ifMatch, Ressource ressource) {
+        if (ifMatch == null) {
+            throw new PreconditionRequiredAlertException("If-Match header required", ENTITY_NAME, "ifmatchrequired");
+        }
+        if (!entityVersionService.matchesIfMatch(ifMatch, ressource.getVersion())) {
+            throw new PreconditionFailedAlertException("Entity has been modified", ENTITY_NAME, "versionmismatch");
+        }
+    }
 }
@@ -0,0 +1,36 @@
+import { HttpHeaders, HttpResponse } from '@angular/common/http';
+import { of } from 'rxjs';
+
+import { EntityETags } from './entity-etags';
+
+describe('EntityETags', () => {
+  let etags: EntityETags<number>;
+
+  const read = (id: number, headers: HttpHeaders): void => {
+    etags.keep(id)(of(new HttpResponse({ headers }))).subscribe();
+  };
+
+  beforeEach(() => {
+    etags = new EntityETags<number>();
+  });
+
+  it('should not send If-Match for an entity which was not read', () => {
+    expect(etags.ifMatch(123).has('If-Match')).toBe(false);
+  });
+
+  it('should send the last ETag of the entity in If-Match', () => {
+    read(123, new HttpHeaders({ ETag: '"a:0"' }));
+    read(123, new HttpHeaders({ ETag: '"a:1"' }));
+    read(456, new HttpHeaders({ ETag: '"a:5"' }));
+
+    expect(etags.ifMatch(123).get('If-Match')).toBe('"a:1"');
+    expect(etags.ifMatch(456).get('If-Match')).toBe('"a:5"');
+  });
+
+  it('should keep the ETag when a response has none', () => {
+    read(123, new HttpHeaders({ ETag: '"a:0"' }));
+    read(123, new HttpHeaders());
+
+    expect(etags.ifMatch(123).get('If-Match')).toBe('"a:0"');
+  });
+});
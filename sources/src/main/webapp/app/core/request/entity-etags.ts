@@ -0,0 +1,31 @@
+import { HttpHeaders, HttpResponse } from '@angular/common/http';
+import { MonoTypeOperatorFunction } from 'rxjs';
+import { tap } from 'rxjs/operators';
+
+/**
+ * ETags of the entities read from the API, sent back in If-Match when they are updated:
+ * the update of an entity modified since it was read is rejected instead of overwriting the modification.
+ */
+export class EntityETags<K> {
+  private readonly etags = new Map<K, string>();
+
+  /**
+   * Keeps the ETag of the responses of an entity.
+   */
+  keep<T>(id: K): MonoTypeOperatorFunction<HttpResponse<T>> {
+    return tap(res => {
+      const etag = res.headers.get('ETag');
+      if (etag) {
+        this.etags.set(id, etag);
+      }
+    });
+  }
+
+  /**
+   * Headers of an update of an entity, with the ETag it was read with, if any.
+   */
+  ifMatch(id: K): HttpHeaders {
+    const etag = this.etags.get(id);
+    return etag ? new HttpHeaders({ 'If-Match': etag }) : new HttpHeaders();
+  }
+}
@@ -8,6 +8,7 @@ import { isPresent } from 'app/core/util/operators';
 import { DATE_FORMAT } from 'app/config/input.constants';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { IActivite, NewActivite } from '../activite.model';
 
 export type PartialUpdateActivite = Partial<IActivite> & Pick<IActivite, 'id'>;
@@ -30,6 +31,8 @@ export type EntityArrayResponseType = HttpResponse<IActivite[]>;
 export class ActiviteService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/activites');
 
+  protected etags = new EntityETags<number>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(activite: NewActivite): Observable<EntityResponseType> {
@@ -41,22 +44,24 @@ export class ActiviteService {
 
   update(activite: IActivite): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(activite);
+    const id = this.getActiviteIdentifier(activite);
     return this.http
-      .put<RestActivite>(`${this.resourceUrl}/${this.getActiviteIdentifier(activite)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .put<RestActivite>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   partialUpdate(activite: PartialUpdateActivite): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(activite);
+    const id = this.getActiviteIdentifier(activite);
     return this.http
-      .patch<RestActivite>(`${this.resourceUrl}/${this.getActiviteIdentifier(activite)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .patch<RestActivite>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   find(id: number): Observable<EntityResponseType> {
     return this.http
       .get<RestActivite>(`${this.resourceUrl}/${id}`, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
@@ -13,6 +13,7 @@ describe('ChargeJournaliere Management Component', () => {
   let comp: ChargeJournaliereComponent;
   let fixture: ComponentFixture<ChargeJournaliereComponent>;
   let service: ChargeJournaliereService;
+  let routerNavigateSpy: jest.SpyInstance<Promise<boolean>>;
 
   beforeEach(() => {
     TestBed.configureTestingModule({
@@ -46,8 +47,9 @@ describe('ChargeJournaliere Management Component', () => {
     fixture = TestBed.createComponent(ChargeJournaliereComponent);
     comp = fixture.componentInstance;
     service = TestBed.inject(ChargeJournaliereService);
+    routerNavigateSpy = jest.spyOn(comp.router, 'navigate');
 
-    const headers = new HttpHeaders();
+    const headers = new HttpHeaders().append('X-Total-Count', '21');
     jest.spyOn(service, 'query').mockReturnValue(
       of(
         new HttpResponse({
@@ -67,6 +69,41 @@ describe('ChargeJournaliere Management Component', () => {
     expect(comp.chargeJournalieres?.[0]).toEqual(expect.objectContaining({ id: '9fec3727-3421-4967-b213-ba36557ca194' }));
   });
 
+  it('should load a page', () => {
+    // WHEN
+    comp.navigateToPage(1);
+
+    // THEN
+    expect(routerNavigateSpy).toHaveBeenCalled();
+  });
+
+  it('should request a page of the route with its size', () => {
+    // WHEN
+    comp.ngOnInit();
+
+    // THEN
+    expect(service.query).toHaveBeenLastCalledWith(expect.objectContaining({ page: 0, size: 20, sort: ['id,desc'] }));
+    expect(comp.totalItems).toEqual(21);
+  });
+
+  it('should calculate the sort attribute for a non-id attribute', () => {
+    // GIVEN
+    comp.predicate = 'date';
+
+    // WHEN
+    comp.navigateToWithComponentValues();
+
+    // THEN
+    expect(routerNavigateSpy).toHaveBeenLastCalledWith(
+      expect.anything(),
+      expect.objectContaining({
+        queryParams: expect.objectContaining({
+          sort: ['date,asc'],
+        }),
+      })
+    );
+  });
+
   describe('trackId', () => {
     it('Should forward to chargeJournaliereService', () => {
       const entity = { id: '9fec3727-3421-4967-b213-ba36557ca194' };
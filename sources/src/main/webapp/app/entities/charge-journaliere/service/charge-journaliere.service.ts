@@ -8,6 +8,7 @@ import { isPresent } from 'app/core/util/operators';
 import { DATE_FORMAT } from 'app/config/input.constants';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { IChargeJournaliere, NewChargeJournaliere } from '../charge-journaliere.model';
 
 export type PartialUpdateChargeJournaliere = Partial<IChargeJournaliere> & Pick<IChargeJournaliere, 'id'>;
@@ -29,6 +30,8 @@ export type EntityArrayResponseType = HttpResponse<IChargeJournaliere[]>;
 export class ChargeJournaliereService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/charge-journalieres');
 
+  protected etags = new EntityETags<string>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(chargeJournaliere: NewChargeJournaliere): Observable<EntityResponseType> {
@@ -40,26 +43,24 @@ export class ChargeJournaliereService {
 
   update(chargeJournaliere: IChargeJournaliere): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(chargeJournaliere);
+    const id = this.getChargeJournaliereIdentifier(chargeJournaliere);
     return this.http
-      .put<RestChargeJournaliere>(`${this.resourceUrl}/${this.getChargeJournaliereIdentifier(chargeJournaliere)}`, copy, {
-        observe: 'response',
-      })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .put<RestChargeJournaliere>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   partialUpdate(chargeJournaliere: PartialUpdateChargeJournaliere): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(chargeJournaliere);
+    const id = this.getChargeJournaliereIdentifier(chargeJournaliere);
     return this.http
-      .patch<RestChargeJournaliere>(`${this.resourceUrl}/${this.getChargeJournaliereIdentifier(chargeJournaliere)}`, copy, {
-        observe: 'response',
-      })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .patch<RestChargeJournaliere>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   find(id: string): Observable<EntityResponseType> {
     return this.http
       .get<RestChargeJournaliere>(`${this.resourceUrl}/${id}`, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
@@ -5,6 +5,7 @@ import { Observable } from 'rxjs';
 import { isPresent } from 'app/core/util/operators';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { IClient, NewClient } from '../client.model';
 
 export type PartialUpdateClient = Partial<IClient> & Pick<IClient, 'id'>;
@@ -16,6 +17,8 @@ export type EntityArrayResponseType = HttpResponse<IClient[]>;
 export class ClientService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/clients');
 
+  protected etags = new EntityETags<number>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(client: NewClient): Observable<EntityResponseType> {
@@ -23,15 +26,21 @@ export class ClientService {
   }
 
   update(client: IClient): Observable<EntityResponseType> {
-    return this.http.put<IClient>(`${this.resourceUrl}/${this.getClientIdentifier(client)}`, client, { observe: 'response' });
+    const id = this.getClientIdentifier(client);
+    return this.http
+      .put<IClient>(`${this.resourceUrl}/${id}`, client, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id));
   }
 
   partialUpdate(client: PartialUpdateClient): Observable<EntityResponseType> {
-    return this.http.patch<IClient>(`${this.resourceUrl}/${this.getClientIdentifier(client)}`, client, { observe: 'response' });
+    const id = this.getClientIdentifier(client);
+    return this.http
+      .patch<IClient>(`${this.resourceUrl}/${id}`, client, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id));
   }
 
   find(id: number): Observable<EntityResponseType> {
-    return this.http.get<IClient>(`${this.resourceUrl}/${id}`, { observe: 'response' });
+    return this.http.get<IClient>(`${this.resourceUrl}/${id}`, { observe: 'response' }).pipe(this.etags.keep(id));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
@@ -8,6 +8,7 @@ import { isPresent } from 'app/core/util/operators';
 import { DATE_FORMAT } from 'app/config/input.constants';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { IEstimation, NewEstimation } from '../estimation.model';
 
 export type PartialUpdateEstimation = Partial<IEstimation> & Pick<IEstimation, 'id'>;
@@ -29,6 +30,8 @@ export type EntityArrayResponseType = HttpResponse<IEstimation[]>;
 export class EstimationService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/estimations');
 
+  protected etags = new EntityETags<string>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(estimation: NewEstimation): Observable<EntityResponseType> {
@@ -40,22 +43,24 @@ export class EstimationService {
 
   update(estimation: IEstimation): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(estimation);
+    const id = this.getEstimationIdentifier(estimation);
     return this.http
-      .put<RestEstimation>(`${this.resourceUrl}/${this.getEstimationIdentifier(estimation)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .put<RestEstimation>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   partialUpdate(estimation: PartialUpdateEstimation): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(estimation);
+    const id = this.getEstimationIdentifier(estimation);
     return this.http
-      .patch<RestEstimation>(`${this.resourceUrl}/${this.getEstimationIdentifier(estimation)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .patch<RestEstimation>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   find(id: string): Observable<EntityResponseType> {
     return this.http
       .get<RestEstimation>(`${this.resourceUrl}/${id}`, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
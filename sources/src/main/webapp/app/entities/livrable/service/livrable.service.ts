@@ -8,6 +8,7 @@ import { isPresent } from 'app/core/util/operators';
 import { DATE_FORMAT } from 'app/config/input.constants';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { ILivrable, NewLivrable } from '../livrable.model';
 
 export type PartialUpdateLivrable = Partial<ILivrable> & Pick<ILivrable, 'id'>;
@@ -30,6 +31,8 @@ export type EntityArrayResponseType = HttpResponse<ILivrable[]>;
 export class LivrableService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/livrables');
 
+  protected etags = new EntityETags<number>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(livrable: NewLivrable): Observable<EntityResponseType> {
@@ -41,22 +44,24 @@ export class LivrableService {
 
   update(livrable: ILivrable): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(livrable);
+    const id = this.getLivrableIdentifier(livrable);
     return this.http
-      .put<RestLivrable>(`${this.resourceUrl}/${this.getLivrableIdentifier(livrable)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .put<RestLivrable>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   partialUpdate(livrable: PartialUpdateLivrable): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(livrable);
+    const id = this.getLivrableIdentifier(livrable);
     return this.http
-      .patch<RestLivrable>(`${this.resourceUrl}/${this.getLivrableIdentifier(livrable)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .patch<RestLivrable>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   find(id: number): Observable<EntityResponseType> {
     return this.http
       .get<RestLivrable>(`${this.resourceUrl}/${id}`, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
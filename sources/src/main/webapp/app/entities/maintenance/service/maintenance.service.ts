@@ -8,6 +8,7 @@ import { isPresent } from 'app/core/util/operators';
 import { DATE_FORMAT } from 'app/config/input.constants';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { IMaintenance, NewMaintenance } from '../maintenance.model';
 
 export type PartialUpdateMaintenance = Partial<IMaintenance> & Pick<IMaintenance, 'id'>;
@@ -30,6 +31,8 @@ export type EntityArrayResponseType = HttpResponse<IMaintenance[]>;
 export class MaintenanceService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/maintenances');
 
+  protected etags = new EntityETags<string>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(maintenance: NewMaintenance): Observable<EntityResponseType> {
@@ -41,22 +44,24 @@ export class MaintenanceService {
 
   update(maintenance: IMaintenance): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(maintenance);
+    const id = this.getMaintenanceIdentifier(maintenance);
     return this.http
-      .put<RestMaintenance>(`${this.resourceUrl}/${this.getMaintenanceIdentifier(maintenance)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .put<RestMaintenance>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   partialUpdate(maintenance: PartialUpdateMaintenance): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(maintenance);
+    const id = this.getMaintenanceIdentifier(maintenance);
     return this.http
-      .patch<RestMaintenance>(`${this.resourceUrl}/${this.getMaintenanceIdentifier(maintenance)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .patch<RestMaintenance>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   find(id: string): Observable<EntityResponseType> {
     return this.http
       .get<RestMaintenance>(`${this.resourceUrl}/${id}`, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
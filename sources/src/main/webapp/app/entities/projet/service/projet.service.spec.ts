@@ -64,6 +64,21 @@ describe('Projet Service', () => {
       expect(expectedResult).toMatchObject(expected);
     });
 
+    it('should update a Projet with the ETag it was read with', () => {
+      const projet = { ...sampleWithRequiredData };
+      const returnedFromService = { ...requireRestSample };
+
+      service.find(projet.id).subscribe();
+      httpMock.expectOne({ method: 'GET' }).flush(returnedFromService, { headers: { ETag: '"a-0-0:0"' } });
+      service.update(projet).subscribe();
+      const req = httpMock.expectOne({ method: 'PUT' });
+      req.flush(returnedFromService, { headers: { ETag: '"a-1-0:1"' } });
+      service.partialUpdate(projet).subscribe();
+
+      expect(req.request.headers.get('If-Match')).toBe('"a-0-0:0"');
+      expect(httpMock.expectOne({ method: 'PATCH' }).request.headers.get('If-Match')).toBe('"a-1-0:1"');
+    });
+
     it('should partial update a Projet', () => {
       const patchObject = { ...sampleWithPartialData };
       const returnedFromService = { ...requireRestSample };
@@ -8,6 +8,7 @@ import { isPresent } from 'app/core/util/operators';
 import { DATE_FORMAT } from 'app/config/input.constants';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { IProjet, NewProjet } from '../projet.model';
 
 export type PartialUpdateProjet = Partial<IProjet> & Pick<IProjet, 'id'>;
@@ -30,6 +31,8 @@ export type EntityArrayResponseType = HttpResponse<IProjet[]>;
 export class ProjetService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/projets');
 
+  protected etags = new EntityETags<number>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(projet: NewProjet): Observable<EntityResponseType> {
@@ -41,22 +44,24 @@ export class ProjetService {
 
   update(projet: IProjet): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(projet);
+    const id = this.getProjetIdentifier(projet);
     return this.http
-      .put<RestProjet>(`${this.resourceUrl}/${this.getProjetIdentifier(projet)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .put<RestProjet>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   partialUpdate(projet: PartialUpdateProjet): Observable<EntityResponseType> {
     const copy = this.convertDateFromClient(projet);
+    const id = this.getProjetIdentifier(projet);
     return this.http
-      .patch<RestProjet>(`${this.resourceUrl}/${this.getProjetIdentifier(projet)}`, copy, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .patch<RestProjet>(`${this.resourceUrl}/${id}`, copy, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   find(id: number): Observable<EntityResponseType> {
     return this.http
       .get<RestProjet>(`${this.resourceUrl}/${id}`, { observe: 'response' })
-      .pipe(map(res => this.convertResponseFromServer(res)));
+      .pipe(this.etags.keep(id), map(res => this.convertResponseFromServer(res)));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
@@ -5,6 +5,7 @@ import { Observable } from 'rxjs';
 import { isPresent } from 'app/core/util/operators';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { EntityETags } from 'app/core/request/entity-etags';
 import { IRessource, NewRessource } from '../ressource.model';
 
 export type PartialUpdateRessource = Partial<IRessource> & Pick<IRessource, 'id'>;
@@ -16,6 +17,8 @@ export type EntityArrayResponseType = HttpResponse<IRessource[]>;
 export class RessourceService {
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/ressources');
 
+  protected etags = new EntityETags<string>();
+
   constructor(protected http: HttpClient, protected applicationConfigService: ApplicationConfigService) {}
 
   create(ressource: NewRessource): Observable<EntityResponseType> {
@@ -23,15 +26,21 @@ export class RessourceService {
   }
 
   update(ressource: IRessource): Observable<EntityResponseType> {
-    return this.http.put<IRessource>(`${this.resourceUrl}/${this.getRessourceIdentifier(ressource)}`, ressource, { observe: 'response' });
+    const id = this.getRessourceIdentifier(ressource);
+    return this.http
+      .put<IRessource>(`${this.resourceUrl}/${id}`, ressource, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id));
   }
 
   partialUpdate(ressource: PartialUpdateRessource): Observable<EntityResponseType> {
-    return this.http.patch<IRessource>(`${this.resourceUrl}/${this.getRessourceIdentifier(ressource)}`, ressource, { observe: 'response' });
+    const id = this.getRessourceIdentifier(ressource);
+    return this.http
+      .patch<IRessource>(`${this.resourceUrl}/${id}`, ressource, { headers: this.etags.ifMatch(id), observe: 'response' })
+      .pipe(this.etags.keep(id));
   }
 
   find(id: string): Observable<EntityResponseType> {
-    return this.http.get<IRessource>(`${this.resourceUrl}/${id}`, { observe: 'response' });
+    return this.http.get<IRessource>(`${this.resourceUrl}/${id}`, { observe: 'response' }).pipe(this.etags.keep(id));
   }
 
   query(req?: any): Observable<EntityArrayResponseType> {
@@ -0,0 +1,131 @@
+package tn.itdevspace.easytask.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.OrderComparator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for the {@link DatabaseConfiguration.ReadReplicaDataSource} class, and the post-processor wrapping it.
+ */
+class DatabaseConfigurationTest {
+
+    private DataSource primary;
+
+    private DataSource replica;
+
+    private Connection primaryConnection;
+
+    private Connection replicaConnection;
+
+    private final AtomicBoolean unsafe = new AtomicBoolean();
+
+    private DatabaseConfiguration.ReadReplicaDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        doReturn(primaryConnection).when(primary).getConnection();
+        doReturn(replicaConnection).when(replica).getConnection();
+
+        dataSource = new DatabaseConfiguration.ReadReplicaDataSource(primary, replica, unsafe::get);
+        clearInvocations(primary, replica);
+    }
+
+    @AfterEach
+    public void teardown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldUsePrimaryOutsideReadOnlyTransactions() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void shouldUseReplicaInReadOnlyTransactions() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // Flagged read-only after the connection is taken, as done by Spring once Hibernate has begun
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(replica).getConnection();
+        verify(replicaConnection).close();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void shouldUsePrimaryInReadOnlyTransactionsWhenUnsafe() throws SQLException {
+        unsafe.set(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void shouldNotConnectWithoutStatement() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+        }
+
+        verify(primary, never()).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRouteBeforeTheIndexAdvisorWraps() throws Exception {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getDatasource().getReplica().setUrl("jdbc:mysql://replica:3306/easytask");
+        ObjectProvider<ApplicationProperties> applicationPropertiesProvider = mock(ObjectProvider.class);
+        doReturn(applicationProperties).when(applicationPropertiesProvider).getObject();
+        List<BeanPostProcessor> postProcessors = new ArrayList<>(
+            List.of(
+                IndexAdvisorConfiguration.indexAdvisorPostProcessor(),
+                DatabaseConfiguration.readReplicaPostProcessor(applicationPropertiesProvider, mock(ObjectProvider.class))
+            )
+        );
+        // As the application context sorts them
+        OrderComparator.sort(postProcessors);
+
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:mysql://primary:3306/easytask");
+        Object bean = pool;
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            bean = postProcessor.postProcessAfterInitialization(bean, "dataSource");
+        }
+
+        assertThat(Proxy.isProxyClass(bean.getClass())).isTrue();
+        DatabaseConfiguration.ReadReplicaDataSource routing = ((DataSource) bean).unwrap(DatabaseConfiguration.ReadReplicaDataSource.class);
+        assertThat(routing).isNotNull();
+        routing.close();
+    }
+}
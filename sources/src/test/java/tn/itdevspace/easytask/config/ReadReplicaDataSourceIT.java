@@ -0,0 +1,166 @@
+package tn.itdevspace.easytask.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.service.ResponseCacheService;
+
+/**
+ * Integration tests for the {@link DatabaseConfiguration.ReadReplicaDataSource} class.
+ * <p>
+ * The replica is a second schema of the MySQL test container, holding a different row than the primary: the row read
+ * tells where a transaction was sent.
+ */
+@IntegrationTest
+class ReadReplicaDataSourceIT {
+
+    private static final String TABLE = "read_replica_routing";
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
+    private String schema;
+
+    private DriverManagerDataSource replica;
+
+    private final AtomicBoolean unsafe = new AtomicBoolean();
+
+    private JdbcTemplate routingTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        schema = jdbcTemplate.queryForObject("select database()", String.class);
+        // The root password of the test container is the one of its user
+        try (
+            Connection connection = DriverManager.getConnection(url, "root", password);
+            Statement statement = connection.createStatement()
+        ) {
+            statement.execute("create database if not exists " + schema + "_replica");
+            statement.execute("grant all on " + schema + "_replica.* to '" + username + "'@'%'");
+        }
+        jdbcTemplate.execute("create table if not exists " + TABLE + " (source varchar(16))");
+        jdbcTemplate.update("insert into " + TABLE + " values ('primary')");
+        jdbcTemplate.execute("create table if not exists " + schema + "_replica." + TABLE + " (source varchar(16))");
+        jdbcTemplate.update("insert into " + schema + "_replica." + TABLE + " values ('replica')");
+
+        DriverManagerDataSource primary = new DriverManagerDataSource(url, username, password);
+        replica = new DriverManagerDataSource(url.replaceFirst("/" + schema + "\\b", "/" + schema + "_replica"), username, password);
+        DatabaseConfiguration.ReadReplicaDataSource dataSource = new DatabaseConfiguration.ReadReplicaDataSource(
+            primary,
+            replica,
+            unsafe::get
+        );
+        routingTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.execute("drop table if exists " + TABLE);
+        jdbcTemplate.execute("drop database if exists " + schema + "_replica");
+    }
+
+    @Test
+    void shouldRouteOnReadOnlyAndLag() {
+        assertThat(readSource(false)).isEqualTo("primary");
+        assertThat(readSource(true)).isEqualTo("replica");
+
+        // Lagging replica, or recent write
+        unsafe.set(true);
+        assertThat(readSource(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldWriteToPrimary() {
+        transactionTemplate.executeWithoutResult(status -> routingTemplate.update("insert into " + TABLE + " values ('written')"));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from " + TABLE + " where source = 'written'", Integer.class)).isEqualTo(1);
+        assertThat(readSource(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldNotCacheResponsesReadFromReplica() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/read-replica-routing");
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            ResponseEntity<byte[]> response = responseCacheService.getOrLoad(
+                request,
+                () -> {
+                    loads.incrementAndGet();
+                    return ResponseEntity.ok(readSource(true));
+                },
+                ReadReplicaDataSourceIT.class
+            );
+            assertThat(new String(response.getBody())).isEqualTo("\"replica\"");
+            assertThat(response.getHeaders().getETag()).isNull();
+        }
+        assertThat(loads).hasValue(2);
+
+        // Read from the primary: cached, with its ETag
+        unsafe.set(true);
+        for (int i = 0; i < 2; i++) {
+            ResponseEntity<byte[]> response = responseCacheService.getOrLoad(
+                request,
+                () -> {
+                    loads.incrementAndGet();
+                    return ResponseEntity.ok(readSource(true));
+                },
+                ReadReplicaDataSourceIT.class
+            );
+            assertThat(new String(response.getBody())).isEqualTo("\"primary\"");
+            assertThat(response.getHeaders().getETag()).isNotNull();
+        }
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldMeasureLagOfNonReplicatingServerAsLagging() {
+        DatabaseConfiguration.ReplicaLagProbe probe = new DatabaseConfiguration.ReplicaLagProbe(
+            replica,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(1)
+        );
+
+        // Not a replica, or no privilege to read its status: it cannot be trusted
+        assertThat(probe.measureLag()).isEmpty();
+        assertThat(probe.getAsBoolean()).isTrue();
+    }
+
+    private String readSource(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> routingTemplate.queryForObject("select source from " + TABLE, String.class));
+    }
+}
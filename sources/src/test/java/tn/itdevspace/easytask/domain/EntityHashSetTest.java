@@ -0,0 +1,77 @@
+package tn.itdevspace.easytask.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Distribution of the hash codes of the entities, as the one-to-many collections hold them in hash sets.
+ * <p>
+ * A hash set only finds an element in constant time if the hash codes of its elements are distinct: the elements
+ * sharing a hash code are compared one by one.
+ */
+class EntityHashSetTest {
+
+    private static final int SIZE = 10_000;
+
+    @Test
+    void sequenceEntitiesHashOnTheirReference() {
+        assertDistributed(i -> new Projet().refProjet("PRJ-" + i));
+        assertDistributed(i -> new Livrable().refLivrable("LIV-" + i));
+        assertDistributed(i -> new Activite().refAct("ACT-" + i));
+        assertDistributed(i -> new Client().refClient("CLI-" + i));
+    }
+
+    @Test
+    void uuidEntitiesHashOnTheirId() {
+        assertDistributed(i -> new ChargeJournaliere());
+        assertDistributed(i -> new Estimation());
+        assertDistributed(i -> new Maintenance());
+        assertDistributed(i -> new Ressource());
+    }
+
+    @Test
+    void hashCodeIsKeptWhenTheIdIsAssigned() {
+        Projet projet = new Projet().refProjet("PRJ");
+        Livrable livrable = new Livrable().refLivrable("LIV");
+        projet.addLivrable(livrable);
+        int hashCode = livrable.hashCode();
+
+        livrable.setId(1L);
+
+        assertThat(livrable.hashCode()).isEqualTo(hashCode);
+        assertThat(projet.getLivrables()).contains(livrable);
+    }
+
+    @Test
+    void uuidEntitiesAreAssignedTheirIdWhenConstructed() {
+        ChargeJournaliere chargeJournaliere = new ChargeJournaliere();
+        UUID id = chargeJournaliere.getId();
+        assertThat(id).isNotNull();
+
+        Set<ChargeJournaliere> chargeJournalieres = new HashSet<>(Set.of(chargeJournaliere));
+
+        // Hashing does not change the entity
+        assertThat(chargeJournaliere.getId()).isEqualTo(id);
+        assertThat(chargeJournalieres).contains(chargeJournaliere);
+    }
+
+    private static <T> void assertDistributed(IntFunction<T> factory) {
+        Map<Integer, Long> entitiesByHashCode = IntStream
+            .range(0, SIZE)
+            .mapToObj(factory)
+            .collect(Collectors.groupingBy(Object::hashCode, Collectors.counting()));
+
+        // 32 bits hash codes may collide now and then, but never share a bucket across the set
+        assertThat(entitiesByHashCode).hasSizeGreaterThan(SIZE * 99 / 100);
+        assertThat(Collections.max(entitiesByHashCode.values())).isLessThanOrEqualTo(2L);
+    }
+}
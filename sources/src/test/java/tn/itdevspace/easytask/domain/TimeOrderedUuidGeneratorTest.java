@@ -0,0 +1,36 @@
+package tn.itdevspace.easytask.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void generatesVersion7Uuids() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // Up to a few milliseconds ahead, when borrowed by bursts of ids
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 100);
+    }
+
+    @Test
+    void generatesIncreasingUuids() {
+        UUID previous = TimeOrderedUuidGenerator.next();
+        // More than the 4096 ids of a millisecond
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = TimeOrderedUuidGenerator.next();
+            // Compared as the bytes of the binary(16) column
+            int comparison = Long.compareUnsigned(uuid.getMostSignificantBits(), previous.getMostSignificantBits());
+            if (comparison == 0) {
+                comparison = Long.compareUnsigned(uuid.getLeastSignificantBits(), previous.getLeastSignificantBits());
+            }
+            assertThat(comparison).isPositive();
+            previous = uuid;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package tn.itdevspace.easytask.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.domain.Client;
+
+/**
+ * Integration tests for the {@code *_seq} tables of the Client, Projet, Livrable and Activite ids.
+ */
+@IntegrationTest
+class IdSequenceIT {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = { "client", "projet", "livrable", "activite" })
+    void sequenceIsSeededAfterMaxId(String table) {
+        // A single row, holding the low end of the next block of ids
+        List<Long> nextValues = jdbcTemplate.queryForList("select next_val from " + table + "_seq", Long.class);
+        assertThat(nextValues).hasSize(1);
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        assertThat(nextValues.get(0)).isGreaterThan(maxId);
+    }
+
+    @Test
+    void idsAreTakenFromTheSequence() {
+        // Committed, the sequence table being read outside of the transactions writing it
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from client", Long.class);
+
+        Client first = clientRepository.saveAndFlush(new Client().refClient("SEQ-1").nom("nom").prenom("prenom").contact("contact"));
+        Client second = clientRepository.saveAndFlush(new Client().refClient("SEQ-2").nom("nom").prenom("prenom").contact("contact"));
+
+        // Increasing ids above the existing ones, the sequence table being ahead of them
+        assertThat(first.getId()).isGreaterThan(maxId);
+        assertThat(second.getId()).isGreaterThan(first.getId());
+        Long nextValue = jdbcTemplate.queryForObject("select next_val from client_seq", Long.class);
+        assertThat(nextValue).isGreaterThan(second.getId());
+
+        clientRepository.deleteAll(List.of(first, second));
+    }
+}
@@ -0,0 +1,166 @@
+package tn.itdevspace.easytask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.domain.Ressource;
+import tn.itdevspace.easytask.domain.enumeration.TypeCharge;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.repository.RessourceRepository;
+import tn.itdevspace.easytask.service.dto.ChargeReportDTO;
+
+/**
+ * Integration tests for {@link ChargeReportService}, on the {@code binary(16)} ids.
+ * <p>
+ * The native queries convert the ids with {@code uuid_to_bin} and {@code bin_to_uuid}, and the rollup is upserted with
+ * the bytes written by {@link ChargeRollupEventListener}: these must all agree with the {@code uuid-binary} type of
+ * Hibernate. The writes are committed, in months no other test uses, and deleted afterwards.
+ */
+@IntegrationTest
+class ChargeReportServiceIT {
+
+    private static final LocalDate MARCH = LocalDate.of(2997, 3, 1);
+
+    private static final LocalDate APRIL = LocalDate.of(2997, 4, 1);
+
+    @Autowired
+    private ChargeReportService chargeReportService;
+
+    @Autowired
+    private ChargeJournaliereRepository chargeJournaliereRepository;
+
+    @Autowired
+    private RessourceRepository ressourceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Ressource ressource;
+
+    private Ressource otherRessource;
+
+    private final List<UUID> chargeJournaliereIds = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        ressource = ressourceRepository.saveAndFlush(new Ressource().nom("report").prenom("first"));
+        otherRessource = ressourceRepository.saveAndFlush(new Ressource().nom("report").prenom("second"));
+        create(ressource, TypeCharge.Dev, MARCH.plusDays(2), 2D);
+        create(ressource, TypeCharge.Dev, MARCH.plusDays(3), 3D);
+        create(ressource, TypeCharge.Support, APRIL.plusDays(9), 1.5D);
+        create(otherRessource, TypeCharge.Dev, MARCH.plusDays(4), 4D);
+        // Left out of the totals, by the rollup as by the aggregates
+        create(ressource, null, MARCH.plusDays(5), 64D);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            chargeJournaliereRepository.deleteAllById(chargeJournaliereIds);
+            chargeJournaliereRepository.flush();
+            // The rows of the rollup are deleted in cascade
+            ressourceRepository.deleteAllById(List.of(ressource.getId(), otherRessource.getId()));
+        });
+    }
+
+    @Test
+    void idsAreStoredAsUuidToBin() {
+        String id = ressource.getId().toString();
+
+        // Written by Hibernate
+        assertThat(jdbcTemplate.queryForObject("select hex(id) from ressource where id = uuid_to_bin(?)", String.class, id))
+            .isEqualToIgnoringCase(id.replace("-", ""));
+        assertThat(
+            jdbcTemplate.queryForObject(
+                "select bin_to_uuid(ressource_id) from charge_journaliere where id = uuid_to_bin(?)",
+                String.class,
+                chargeJournaliereIds.get(0).toString()
+            )
+        )
+            .isEqualTo(id);
+        // Upserted by the rollup listener
+        assertThat(
+            jdbcTemplate.queryForList(
+                "select bin_to_uuid(ressource_id) from charge_mensuelle where ressource_id = uuid_to_bin(?)",
+                String.class,
+                id
+            )
+        )
+            .containsOnly(id)
+            .hasSize(2);
+    }
+
+    @Test
+    void weeklyTotalsRoundTripTheRessourceId() {
+        List<ChargeReportDTO> totals = chargeReportService.getWeeklyTotals(MARCH, APRIL.plusMonths(1).minusDays(1), ressource.getId());
+
+        assertThat(totals)
+            .extracting(
+                ChargeReportDTO::getRessourceId,
+                ChargeReportDTO::getType,
+                ChargeReportDTO::getPeriod,
+                ChargeReportDTO::getTotalDuree,
+                ChargeReportDTO::getNombre
+            )
+            .containsExactly(
+                tuple(ressource.getId(), TypeCharge.Dev, "2997-W09", 5D, 2L),
+                tuple(ressource.getId(), TypeCharge.Support, "2997-W15", 1.5D, 1L)
+            );
+        assertThat(chargeReportService.getWeeklyTotals(MARCH, APRIL.plusMonths(1).minusDays(1), null))
+            .extracting(ChargeReportDTO::getRessourceId)
+            .contains(ressource.getId(), otherRessource.getId());
+    }
+
+    @Test
+    void monthlyTotalsAreTheSameFromTheRollupAndTheAggregates() {
+        // Whole months: read from the rollup
+        List<ChargeReportDTO> rollup = chargeReportService.getMonthlyTotals(MARCH, APRIL.plusMonths(1).minusDays(1), ressource.getId());
+        // Partial months: aggregated from the chargeJournalieres
+        List<ChargeReportDTO> aggregated = chargeReportService.getMonthlyTotals(MARCH.plusDays(1), APRIL.plusDays(20), ressource.getId());
+
+        for (List<ChargeReportDTO> totals : List.of(rollup, aggregated)) {
+            assertThat(totals)
+                .extracting(
+                    ChargeReportDTO::getRessourceId,
+                    ChargeReportDTO::getNom,
+                    ChargeReportDTO::getType,
+                    ChargeReportDTO::getPeriod,
+                    ChargeReportDTO::getTotalDuree,
+                    ChargeReportDTO::getNombre
+                )
+                .containsExactly(
+                    tuple(ressource.getId(), "report", TypeCharge.Dev, "2997-03", 5D, 2L),
+                    tuple(ressource.getId(), "report", TypeCharge.Support, "2997-04", 1.5D, 1L)
+                );
+        }
+        assertThat(chargeReportService.getMonthlyTotals(MARCH, MARCH.plusMonths(1).minusDays(1), otherRessource.getId()))
+            .extracting(ChargeReportDTO::getRessourceId, ChargeReportDTO::getTotalDuree)
+            .containsExactly(tuple(otherRessource.getId(), 4D));
+    }
+
+    private void create(Ressource ressource, TypeCharge type, LocalDate date, Double duree) {
+        UUID id = transactionTemplate.execute(status ->
+            chargeJournaliereRepository.save(new ChargeJournaliere().ressource(ressource).type(type).date(date).duree(duree)).getId()
+        );
+        chargeJournaliereIds.add(id);
+    }
+}
@@ -0,0 +1,150 @@
+package tn.itdevspace.easytask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.domain.Ressource;
+import tn.itdevspace.easytask.domain.enumeration.TypeCharge;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository.ChargeTotal;
+import tn.itdevspace.easytask.repository.RessourceRepository;
+
+/**
+ * Integration tests for {@link ChargeRollupEventListener} and {@link ChargeRollupService}.
+ * <p>
+ * The rollup is written right before the commit: the writes are committed, in months no other test uses, and deleted
+ * afterwards.
+ */
+@IntegrationTest
+class ChargeRollupServiceIT {
+
+    private static final LocalDate JANUARY = LocalDate.of(2998, 1, 1);
+
+    private static final LocalDate FEBRUARY = LocalDate.of(2998, 2, 1);
+
+    @Autowired
+    private ChargeRollupService chargeRollupService;
+
+    @Autowired
+    private ChargeJournaliereRepository chargeJournaliereRepository;
+
+    @Autowired
+    private RessourceRepository ressourceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Ressource ressource;
+
+    private Ressource otherRessource;
+
+    private final List<UUID> chargeJournaliereIds = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        ressource = ressourceRepository.saveAndFlush(new Ressource().nom("rollup").prenom("first"));
+        otherRessource = ressourceRepository.saveAndFlush(new Ressource().nom("rollup").prenom("second"));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            chargeJournaliereRepository.deleteAllById(chargeJournaliereIds);
+            chargeJournaliereRepository.flush();
+            // The rows of the rollup are deleted in cascade
+            ressourceRepository.deleteAllById(List.of(ressource.getId(), otherRessource.getId()));
+        });
+    }
+
+    @Test
+    void rollupFollowsInsertUpdateAndDelete() {
+        // Insert: the chargeJournalieres of a transaction are summed per ressource, type and month
+        UUID first = create(ressource, TypeCharge.Dev, JANUARY.plusDays(9), 2D);
+        UUID second = create(ressource, TypeCharge.Dev, JANUARY.plusDays(19), 3D);
+        UUID third = create(ressource, TypeCharge.Support, FEBRUARY.plusDays(4), 1.5D);
+        assertThat(rollup(ressource)).containsOnly(Map.entry("Dev|299801", "5.0/2"), Map.entry("Support|299802", "1.5/1"));
+
+        // Update of the duree and of the month
+        update(first, chargeJournaliere -> chargeJournaliere.date(FEBRUARY.plusDays(9)).duree(4D));
+        assertThat(rollup(ressource))
+            .containsOnly(Map.entry("Dev|299801", "3.0/1"), Map.entry("Dev|299802", "4.0/1"), Map.entry("Support|299802", "1.5/1"));
+
+        // Update of the ressource
+        update(second, chargeJournaliere -> chargeJournaliere.ressource(otherRessource));
+        assertThat(rollup(ressource)).containsOnly(Map.entry("Dev|299802", "4.0/1"), Map.entry("Support|299802", "1.5/1"));
+        assertThat(rollup(otherRessource)).containsOnly(Map.entry("Dev|299801", "3.0/1"));
+
+        // Delete
+        transactionTemplate.executeWithoutResult(status -> chargeJournaliereRepository.deleteById(third));
+        assertThat(rollup(ressource)).containsOnly(Map.entry("Dev|299802", "4.0/1"));
+        assertThat(chargeRollupService.findDriftedMonths()).doesNotContain(299801, 299802);
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        create(ressource, TypeCharge.Dev, JANUARY.plusDays(9), 2D);
+        create(ressource, TypeCharge.Support, FEBRUARY.plusDays(4), 1.5D);
+
+        // Drift left by writes bypassing Hibernate: a wrong total in January, a missing row in February
+        jdbcTemplate.update(
+            "update charge_mensuelle set total_duree = total_duree + 5 where ressource_id = uuid_to_bin(?) and mois = 299801",
+            ressource.getId().toString()
+        );
+        jdbcTemplate.update(
+            "delete from charge_mensuelle where ressource_id = uuid_to_bin(?) and mois = 299802",
+            ressource.getId().toString()
+        );
+        assertThat(rollup(ressource)).containsOnly(Map.entry("Dev|299801", "7.0/1"));
+        assertThat(chargeRollupService.findDriftedMonths()).contains(299801, 299802);
+
+        chargeRollupService.reconcile();
+
+        assertThat(rollup(ressource)).containsOnly(Map.entry("Dev|299801", "2.0/1"), Map.entry("Support|299802", "1.5/1"));
+        assertThat(chargeRollupService.findDriftedMonths()).doesNotContain(299801, 299802);
+    }
+
+    private UUID create(Ressource ressource, TypeCharge type, LocalDate date, Double duree) {
+        UUID id = transactionTemplate.execute(status ->
+            chargeJournaliereRepository.save(new ChargeJournaliere().ressource(ressource).type(type).date(date).duree(duree)).getId()
+        );
+        chargeJournaliereIds.add(id);
+        return id;
+    }
+
+    private void update(UUID id, Consumer<ChargeJournaliere> change) {
+        transactionTemplate.executeWithoutResult(status -> change.accept(chargeJournaliereRepository.findById(id).orElseThrow()));
+    }
+
+    /**
+     * @return the committed rollup of the ressource, as {@code total/nombre} keyed by {@code type|mois}.
+     */
+    private Map<String, String> rollup(Ressource ressource) {
+        Map<String, String> rollup = new HashMap<>();
+        for (ChargeTotal total : chargeJournaliereRepository.findMonthlyRollup(299801, 299812, ressource.getId().toString())) {
+            assertThat(total.getRessourceId()).isEqualTo(ressource.getId().toString());
+            rollup.put(total.getType() + "|" + total.getPeriod(), total.getTotalDuree() + "/" + total.getNombre());
+        }
+        return rollup;
+    }
+}
@@ -0,0 +1,130 @@
+package tn.itdevspace.easytask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.Type;
+import tn.itdevspace.easytask.repository.ClientRepository;
+import tn.itdevspace.easytask.repository.ProjetRepository;
+import tn.itdevspace.easytask.service.dto.ImportReportDTO;
+import tn.itdevspace.easytask.service.dto.ImportRowErrorDTO;
+
+/**
+ * Integration tests for {@link CsvImportService}.
+ * <p>
+ * Each chunk is committed in its own transaction: the imported projets are deleted after each test.
+ */
+@IntegrationTest
+class CsvImportServiceIT {
+
+    private static final String HEADER = "refProjet;type;description;datedebut;datefin;etat;refClient";
+
+    private static final String REF_CLIENT = "CSV-CLIENT";
+
+    @Autowired
+    private CsvImportService csvImportService;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Client client;
+
+    @BeforeEach
+    public void init() {
+        client = clientRepository.saveAndFlush(new Client().refClient(REF_CLIENT).nom("nom").prenom("prenom").contact("contact"));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        List<String> refs = IntStream.range(0, CsvImportService.CHUNK_SIZE + 2).mapToObj(i -> "CSV-" + i).collect(Collectors.toList());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            projetRepository.deleteAll(projetRepository.findAllByRefProjetIn(refs));
+            projetRepository.flush();
+            clientRepository.deleteById(client.getId());
+        });
+    }
+
+    @Test
+    void importRejectsMalformedFiles() {
+        assertThatThrownBy(() -> importProjets("")).isInstanceOf(InvalidCsvException.class);
+        assertThatThrownBy(() -> importProjets("refProjet;type\nCSV-0;Interne")).isInstanceOf(InvalidCsvException.class);
+        assertThatThrownBy(() -> importProjets(HEADER + "\nCSV-0;Interne;\"unterminated;2023-01-01;;;" + REF_CLIENT))
+            .isInstanceOf(InvalidCsvException.class)
+            .hasMessageContaining("line 2");
+        assertThat(projetRepository.findAllByRefProjetIn(List.of("CSV-0"))).isEmpty();
+    }
+
+    @Test
+    void importCommitsEachChunk() throws IOException {
+        // A full chunk of valid rows, then a chunk whose last row passes the validation but not the database
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < CsvImportService.CHUNK_SIZE + 2; i++) {
+            String description = i == CsvImportService.CHUNK_SIZE + 1 ? "D".repeat(300) : "description " + i;
+            lines.add("CSV-" + i + ";Interne;" + description + ";2023-01-01;;Planifier;" + REF_CLIENT);
+        }
+
+        ImportReportDTO report = importProjets(String.join("\n", lines));
+
+        assertThat(report.getCreated()).isEqualTo(CsvImportService.CHUNK_SIZE);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ImportRowErrorDTO::getLine).containsExactly(502L, 503L);
+        assertThat(report.getErrors().get(0).getErrors()).allMatch(error -> error.startsWith("chunk rolled back"));
+        // The first chunk stays committed
+        assertThat(projetRepository.findAllByRefProjetIn(List.of("CSV-0", "CSV-499", "CSV-500", "CSV-501")))
+            .extracting(Projet::getRefProjet)
+            .containsExactlyInAnyOrder("CSV-0", "CSV-499");
+    }
+
+    @Test
+    void importUpdatesOnlyTheColumnsOfTheFile() throws IOException {
+        ImportReportDTO report = importProjets(HEADER + "\nCSV-0;Externe;description;2023-01-01;2023-12-31;EnCours;" + REF_CLIENT);
+        assertThat(report.getCreated()).isEqualTo(1);
+
+        // The existing projet is updated, the new one misses required columns
+        report = importProjets("refProjet;description;datefin;refClient\nCSV-0;updated;;" + REF_CLIENT + "\nCSV-1;new;;" + REF_CLIENT);
+
+        assertThat(report.getCreated()).isZero();
+        assertThat(report.getUpdated()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors().get(0).getRef()).isEqualTo("CSV-1");
+        assertThat(report.getErrors().get(0).getErrors())
+            .anyMatch(error -> error.startsWith("type: "))
+            .anyMatch(error -> error.startsWith("datedebut: "));
+        Projet projet = projetRepository.findAllByRefProjetIn(List.of("CSV-0")).get(0);
+        assertThat(projet.getDescription()).isEqualTo("updated");
+        // An empty value clears the field, a missing column keeps it
+        assertThat(projet.getDatefin()).isNull();
+        assertThat(projet.getType()).isEqualTo(Type.Externe);
+        assertThat(projet.getDatedebut()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(projet.getEtat()).isEqualTo(Etat.EnCours);
+    }
+
+    private ImportReportDTO importProjets(String csv) throws IOException {
+        return csvImportService.importProjets(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ';');
+    }
+}
@@ -0,0 +1,131 @@
+package tn.itdevspace.easytask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.config.Constants;
+import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.Type;
+import tn.itdevspace.easytask.repository.ClientRepository;
+import tn.itdevspace.easytask.repository.ProjetRepository;
+
+/**
+ * Integration tests for {@link EntityExportService}.
+ * <p>
+ * The export reads the rows in its own transaction: the exported projets are committed, and deleted after each test.
+ */
+@IntegrationTest
+class EntityExportServiceIT {
+
+    /**
+     * More rows than two fetches of the stream, so that the persistence context is cleared while exporting.
+     */
+    private static final int SIZE = 2 * Integer.parseInt(Constants.EXPORT_FETCH_SIZE) + 1;
+
+    private static final String REF_PREFIX = "EXPSRV-";
+
+    @Autowired
+    private EntityExportService entityExportService;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Client client;
+
+    private final List<Long> projetIds = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        client = clientRepository.saveAndFlush(new Client().refClient(REF_PREFIX + "CLIENT").nom("nom").prenom("prenom"));
+        List<Projet> projets = IntStream
+            .range(0, SIZE)
+            .mapToObj(i ->
+                new Projet()
+                    .refProjet(REF_PREFIX + i)
+                    .type(Type.Interne)
+                    .description("export " + i)
+                    .datedebut(LocalDate.of(2023, 1, 1))
+                    .etat(Etat.EnCours)
+                    .client(client)
+            )
+            .collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status ->
+            projetRepository.saveAll(projets).forEach(projet -> projetIds.add(projet.getId()))
+        );
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            projetRepository.deleteAllByIdInBatch(projetIds);
+            clientRepository.deleteById(client.getId());
+        });
+    }
+
+    @Test
+    void exportWritesOneLinePerRowWithItsRelationships() throws IOException {
+        String content = export(entityExportService.export(Projet.class, projetRepository::streamAllWithToOneRelationships));
+
+        assertThat(content).endsWith("\n");
+        List<JsonNode> exported = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            JsonNode projet = objectMapper.readTree(line);
+            if (projet.get("refProjet").asText().startsWith(REF_PREFIX)) {
+                exported.add(projet);
+            }
+        }
+        assertThat(exported).hasSize(SIZE);
+        assertThat(exported.stream().map(projet -> projet.get("id").asLong()).collect(Collectors.toSet()))
+            .isEqualTo(Set.copyOf(projetIds));
+        // Fetched with each row, including the ones read after the persistence context was cleared
+        assertThat(exported)
+            .allSatisfy(projet -> {
+                assertThat(projet.get("client").get("id").asLong()).isEqualTo(client.getId());
+                assertThat(projet.get("client").get("refClient").asText()).isEqualTo(client.getRefClient());
+            });
+    }
+
+    @Test
+    void exportWritesNothingWithoutRows() throws IOException {
+        assertThat(export(entityExportService.export(Projet.class, Stream::empty))).isEmpty();
+    }
+
+    private static String export(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
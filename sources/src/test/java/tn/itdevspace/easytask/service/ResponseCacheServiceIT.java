@@ -0,0 +1,329 @@
+package tn.itdevspace.easytask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.config.ApplicationProperties;
+import tn.itdevspace.easytask.domain.Activite;
+import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Livrable;
+import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.Type;
+import tn.itdevspace.easytask.repository.ActiviteRepository;
+import tn.itdevspace.easytask.repository.ClientRepository;
+import tn.itdevspace.easytask.repository.LivrableRepository;
+import tn.itdevspace.easytask.repository.ProjetRepository;
+import tn.itdevspace.easytask.web.rest.TestUtil;
+
+/**
+ * Integration tests for {@link ResponseCacheService}, through the listings of the REST controllers.
+ * <p>
+ * The entity versions only change for good once the writes are committed: the test data is committed, with references
+ * no other test uses, and deleted after each test.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ResponseCacheServiceIT {
+
+    private static final String PROJETS_URL = "/api/projets?sort=id,desc&refProjet.contains=CACHE-";
+
+    private static final String ACTIVITES_URL = "/api/activites?sort=id,desc&refAct.contains=CACHE-";
+
+    private static final String REF_CLIENT = "CACHE-CLIENT";
+
+    private static final List<String> REFS = List.of("CACHE-1", "CACHE-BATCH", "CACHE-CSV", "CACHE-ACT");
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private LivrableRepository livrableRepository;
+
+    @Autowired
+    private ActiviteRepository activiteRepository;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Client client;
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        client = clientRepository.saveAndFlush(new Client().refClient(REF_CLIENT).nom("nom").prenom("prenom").contact("contact"));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            activiteRepository.deleteAll(activiteRepository.findAllByRefActIn(REFS));
+            livrableRepository.deleteAll(livrableRepository.findAllByRefLivrableIn(REFS));
+            projetRepository.deleteAll(projetRepository.findAllByRefProjetIn(REFS));
+            projetRepository.flush();
+            clientRepository.deleteById(client.getId());
+        });
+    }
+
+    @Test
+    void listingIsNotModifiedWhileItsETagMatches() throws Exception {
+        Projet projet = saveProjet("CACHE-1");
+        String etag = getListing(PROJETS_URL, null)
+            .andExpect(jsonPath("$.[*].id").value(hasItem(projet.getId().intValue())))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        restMockMvc
+            .perform(get(PROJETS_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue()))
+            .andExpect(content().bytes(new byte[0]));
+        // Weak comparison, as done by the browsers through a compressing proxy
+        restMockMvc.perform(get(PROJETS_URL).header(HttpHeaders.IF_NONE_MATCH, "W/" + etag)).andExpect(status().isNotModified());
+    }
+
+    @Test
+    void listingIsServedFromTheCache() throws Exception {
+        saveProjet("CACHE-1");
+        String body = getListing(PROJETS_URL, null).andReturn().getResponse().getContentAsString();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            MvcResult result = getListing(PROJETS_URL, null).andExpect(header().exists("X-Total-Count")).andReturn();
+            assertThat(result.getResponse().getContentAsString()).isEqualTo(body);
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void listingChangesAfterAWriteThroughTheResource() throws Exception {
+        String etag = getETag(PROJETS_URL);
+
+        // Create
+        Projet projet = new Projet()
+            .refProjet("CACHE-1")
+            .type(Type.Interne)
+            .description("description")
+            .datedebut(LocalDate.of(2023, 1, 1))
+            .client(client);
+        restMockMvc
+            .perform(post("/api/projets").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(projet)))
+            .andExpect(status().isCreated());
+        etag =
+            assertChanged(PROJETS_URL, etag)
+                .andExpect(jsonPath("$.[*].refProjet").value(hasItem("CACHE-1")))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // Delete
+        Long id = projetRepository.findAllByRefProjetIn(List.of("CACHE-1")).get(0).getId();
+        restMockMvc.perform(delete("/api/projets/{id}", id)).andExpect(status().isNoContent());
+        assertChanged(PROJETS_URL, etag).andExpect(jsonPath("$.[*].refProjet").value(not(hasItem("CACHE-1"))));
+    }
+
+    @Test
+    void listingChangesAfterAWriteOfARelationship() throws Exception {
+        saveProjet("CACHE-1");
+        String etag = getETag(PROJETS_URL);
+
+        // The client is serialized with its projets
+        transactionTemplate.executeWithoutResult(status ->
+            clientRepository.findById(client.getId()).orElseThrow().setNom("renamed")
+        );
+
+        assertChanged(PROJETS_URL, etag).andExpect(jsonPath("$.[*].client.nom").value(hasItem("renamed")));
+    }
+
+    @Test
+    void listingChangesAfterABatch() throws Exception {
+        String etag = getETag(PROJETS_URL);
+
+        Projet projet = new Projet()
+            .refProjet("CACHE-BATCH")
+            .type(Type.Interne)
+            .description("description")
+            .datedebut(LocalDate.of(2023, 1, 1))
+            .client(client);
+        restMockMvc
+            .perform(
+                post("/api/projets/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(projet)))
+            )
+            .andExpect(status().isOk());
+
+        assertChanged(PROJETS_URL, etag).andExpect(jsonPath("$.[*].refProjet").value(hasItem("CACHE-BATCH")));
+    }
+
+    @Test
+    void listingChangesAfterAnImport() throws Exception {
+        String etag = getETag(PROJETS_URL);
+
+        String csv = "refProjet;type;description;datedebut;refClient\nCACHE-CSV;Interne;description;2023-01-01;" + REF_CLIENT;
+        MockMultipartFile file = new MockMultipartFile("file", "projets.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+        restMockMvc
+            .perform(multipart("/api/projets/import").file(file))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1));
+
+        assertChanged(PROJETS_URL, etag).andExpect(jsonPath("$.[*].refProjet").value(hasItem("CACHE-CSV")));
+    }
+
+    @Test
+    void listingChangesAfterABulkUpdate() throws Exception {
+        Projet projet = saveProjet("CACHE-1");
+        Livrable livrable = livrableRepository.saveAndFlush(
+            new Livrable()
+                .refLivrable("CACHE-1")
+                .dateDebut(LocalDate.of(2023, 1, 1))
+                .description("description")
+                .etat(Etat.Planifier)
+                .projet(projet)
+        );
+        activiteRepository.saveAndFlush(
+            new Activite()
+                .refAct("CACHE-ACT")
+                .description("description")
+                .dateDebut(LocalDate.of(2023, 1, 1))
+                .raf("raf")
+                .etat(Etat.Planifier)
+                .livrable(livrable)
+        );
+        String etag = getETag(ACTIVITES_URL);
+
+        // Bypassing the Hibernate events
+        restMockMvc
+            .perform(
+                patch("/api/activites")
+                    .param("refAct.equals", "CACHE-ACT")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(new Activite().etat(Etat.Termine)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+
+        assertChanged(ACTIVITES_URL, etag).andExpect(jsonPath("$.[*].etat").value(hasItem(Etat.Termine.toString())));
+    }
+
+    @Test
+    void listingIsCompressedForTheClientsAcceptingIt() throws Exception {
+        ApplicationProperties.ResponseCache properties = applicationProperties.getResponseCache();
+        boolean gzip = properties.isGzip();
+        int gzipMinSize = properties.getGzipMinSize();
+        properties.setGzip(true);
+        properties.setGzipMinSize(0);
+        try {
+            // A write, so that the response is not already cached without its compressed copy
+            saveProjet("CACHE-1");
+
+            byte[] body = getListing(PROJETS_URL, null)
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+            byte[] gzippedBody = getListing(PROJETS_URL, "gzip, deflate, br")
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+            assertThat(gunzip(gzippedBody)).isEqualTo(body);
+
+            // Not below the minimum size
+            properties.setGzipMinSize(Integer.MAX_VALUE);
+            saveProjet("CACHE-BATCH");
+            getListing(PROJETS_URL, "gzip")
+                .andExpect(header().stringValues(HttpHeaders.VARY, not(hasItem(HttpHeaders.ACCEPT_ENCODING))))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        } finally {
+            properties.setGzip(gzip);
+            properties.setGzipMinSize(gzipMinSize);
+        }
+    }
+
+    private Projet saveProjet(String ref) {
+        return projetRepository.saveAndFlush(
+            new Projet().refProjet(ref).type(Type.Interne).description("description").datedebut(LocalDate.of(2023, 1, 1)).client(client)
+        );
+    }
+
+    private ResultActions getListing(String url, String acceptEncoding) throws Exception {
+        return restMockMvc
+            .perform(acceptEncoding == null ? get(url) : get(url).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    private String getETag(String url) throws Exception {
+        return getListing(url, null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    /**
+     * Check that the listing is sent again to a client having its previous version, with a new ETag.
+     */
+    private ResultActions assertChanged(String url, String etag) throws Exception {
+        return restMockMvc
+            .perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package tn.itdevspace.easytask.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -24,6 +25,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -250,6 +252,49 @@ class ActiviteResourceIT {
             .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllActiviteSummaries() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get the summaries of all the activiteList
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(activite.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refAct").value(hasItem(DEFAULT_REF_ACT)))
+            .andExpect(jsonPath("$.[*].dateDebut").value(hasItem(DEFAULT_DATE_DEBUT.toString())))
+            .andExpect(jsonPath("$.[*].dateFin").value(hasItem(DEFAULT_DATE_FIN.toString())))
+            .andExpect(jsonPath("$.[*].raf").value(hasItem(DEFAULT_RAF)))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())))
+            .andExpect(jsonPath("$.[*].livrableId").value(hasItem(activite.getLivrable().getId().intValue())))
+            .andExpect(jsonPath("$.[*].description").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllActiviteSummariesByCriteria() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get the summaries of the activiteList where refAct equals to DEFAULT_REF_ACT
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&refAct.equals=" + DEFAULT_REF_ACT))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(activite.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refAct").value(hasItem(DEFAULT_REF_ACT)));
+
+        // Get the summaries of the activiteList where refAct equals to UPDATED_REF_ACT
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&refAct.equals=" + UPDATED_REF_ACT))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllActivitesWithEagerRelationshipsIsEnabled() throws Exception {
         when(activiteRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -287,6 +332,263 @@ class ActiviteResourceIT {
             .andExpect(jsonPath("$.etat").value(DEFAULT_ETAT.toString()));
     }
 
+    @Test
+    @Transactional
+    void getActivitesByIdFiltering() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        Long id = activite.getId();
+
+        defaultActiviteShouldBeFound("id.equals=" + id);
+        defaultActiviteShouldNotBeFound("id.notEquals=" + id);
+
+        defaultActiviteShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultActiviteShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultActiviteShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultActiviteShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllActivitesByRefActFiltering() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get all the activiteList where refAct equals to DEFAULT_REF_ACT
+        defaultActiviteShouldBeFound("refAct.equals=" + DEFAULT_REF_ACT);
+        // Get all the activiteList where refAct equals to UPDATED_REF_ACT
+        defaultActiviteShouldNotBeFound("refAct.equals=" + UPDATED_REF_ACT);
+
+        // Get all the activiteList where refAct in DEFAULT_REF_ACT or UPDATED_REF_ACT
+        defaultActiviteShouldBeFound("refAct.in=" + DEFAULT_REF_ACT + "," + UPDATED_REF_ACT);
+        // Get all the activiteList where refAct in UPDATED_REF_ACT
+        defaultActiviteShouldNotBeFound("refAct.in=" + UPDATED_REF_ACT);
+
+        // Get all the activiteList where refAct is not null
+        defaultActiviteShouldBeFound("refAct.specified=true");
+        // Get all the activiteList where refAct is null
+        defaultActiviteShouldNotBeFound("refAct.specified=false");
+
+        // Get all the activiteList where refAct contains DEFAULT_REF_ACT
+        defaultActiviteShouldBeFound("refAct.contains=" + DEFAULT_REF_ACT);
+        // Get all the activiteList where refAct contains UPDATED_REF_ACT
+        defaultActiviteShouldNotBeFound("refAct.contains=" + UPDATED_REF_ACT);
+
+        // Get all the activiteList where refAct does not contain DEFAULT_REF_ACT
+        defaultActiviteShouldNotBeFound("refAct.doesNotContain=" + DEFAULT_REF_ACT);
+        // Get all the activiteList where refAct does not contain UPDATED_REF_ACT
+        defaultActiviteShouldBeFound("refAct.doesNotContain=" + UPDATED_REF_ACT);
+    }
+
+    @Test
+    @Transactional
+    void getAllActivitesByDescriptionFiltering() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get all the activiteList where description equals to DEFAULT_DESCRIPTION
+        defaultActiviteShouldBeFound("description.equals=" + DEFAULT_DESCRIPTION);
+        // Get all the activiteList where description equals to UPDATED_DESCRIPTION
+        defaultActiviteShouldNotBeFound("description.equals=" + UPDATED_DESCRIPTION);
+
+        // Get all the activiteList where description in DEFAULT_DESCRIPTION or UPDATED_DESCRIPTION
+        defaultActiviteShouldBeFound("description.in=" + DEFAULT_DESCRIPTION + "," + UPDATED_DESCRIPTION);
+        // Get all the activiteList where description in UPDATED_DESCRIPTION
+        defaultActiviteShouldNotBeFound("description.in=" + UPDATED_DESCRIPTION);
+
+        // Get all the activiteList where description is not null
+        defaultActiviteShouldBeFound("description.specified=true");
+        // Get all the activiteList where description is null
+        defaultActiviteShouldNotBeFound("description.specified=false");
+
+        // Get all the activiteList where description contains DEFAULT_DESCRIPTION
+        defaultActiviteShouldBeFound("description.contains=" + DEFAULT_DESCRIPTION);
+        // Get all the activiteList where description contains UPDATED_DESCRIPTION
+        defaultActiviteShouldNotBeFound("description.contains=" + UPDATED_DESCRIPTION);
+
+        // Get all the activiteList where description does not contain DEFAULT_DESCRIPTION
+        defaultActiviteShouldNotBeFound("description.doesNotContain=" + DEFAULT_DESCRIPTION);
+        // Get all the activiteList where description does not contain UPDATED_DESCRIPTION
+        defaultActiviteShouldBeFound("description.doesNotContain=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    void getAllActivitesByDateDebutFiltering() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get all the activiteList where dateDebut equals to DEFAULT_DATE_DEBUT
+        defaultActiviteShouldBeFound("dateDebut.equals=" + DEFAULT_DATE_DEBUT);
+        // Get all the activiteList where dateDebut equals to UPDATED_DATE_DEBUT
+        defaultActiviteShouldNotBeFound("dateDebut.equals=" + UPDATED_DATE_DEBUT);
+
+        // Get all the activiteList where dateDebut in DEFAULT_DATE_DEBUT or UPDATED_DATE_DEBUT
+        defaultActiviteShouldBeFound("dateDebut.in=" + DEFAULT_DATE_DEBUT + "," + UPDATED_DATE_DEBUT);
+        // Get all the activiteList where dateDebut in UPDATED_DATE_DEBUT
+        defaultActiviteShouldNotBeFound("dateDebut.in=" + UPDATED_DATE_DEBUT);
+
+        // Get all the activiteList where dateDebut is not null
+        defaultActiviteShouldBeFound("dateDebut.specified=true");
+        // Get all the activiteList where dateDebut is null
+        defaultActiviteShouldNotBeFound("dateDebut.specified=false");
+
+        // Get all the activiteList where dateDebut is greater than or equal to DEFAULT_DATE_DEBUT
+        defaultActiviteShouldBeFound("dateDebut.greaterThanOrEqual=" + DEFAULT_DATE_DEBUT);
+        // Get all the activiteList where dateDebut is greater than DEFAULT_DATE_DEBUT
+        defaultActiviteShouldNotBeFound("dateDebut.greaterThan=" + DEFAULT_DATE_DEBUT);
+
+        // Get all the activiteList where dateDebut is less than or equal to DEFAULT_DATE_DEBUT
+        defaultActiviteShouldBeFound("dateDebut.lessThanOrEqual=" + DEFAULT_DATE_DEBUT);
+        // Get all the activiteList where dateDebut is less than DEFAULT_DATE_DEBUT
+        defaultActiviteShouldNotBeFound("dateDebut.lessThan=" + DEFAULT_DATE_DEBUT);
+    }
+
+    @Test
+    @Transactional
+    void getAllActivitesByDateFinFiltering() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get all the activiteList where dateFin equals to DEFAULT_DATE_FIN
+        defaultActiviteShouldBeFound("dateFin.equals=" + DEFAULT_DATE_FIN);
+        // Get all the activiteList where dateFin equals to UPDATED_DATE_FIN
+        defaultActiviteShouldNotBeFound("dateFin.equals=" + UPDATED_DATE_FIN);
+
+        // Get all the activiteList where dateFin in DEFAULT_DATE_FIN or UPDATED_DATE_FIN
+        defaultActiviteShouldBeFound("dateFin.in=" + DEFAULT_DATE_FIN + "," + UPDATED_DATE_FIN);
+        // Get all the activiteList where dateFin in UPDATED_DATE_FIN
+        defaultActiviteShouldNotBeFound("dateFin.in=" + UPDATED_DATE_FIN);
+
+        // Get all the activiteList where dateFin is not null
+        defaultActiviteShouldBeFound("dateFin.specified=true");
+        // Get all the activiteList where dateFin is null
+        defaultActiviteShouldNotBeFound("dateFin.specified=false");
+
+        // Get all the activiteList where dateFin is greater than or equal to DEFAULT_DATE_FIN
+        defaultActiviteShouldBeFound("dateFin.greaterThanOrEqual=" + DEFAULT_DATE_FIN);
+        // Get all the activiteList where dateFin is greater than DEFAULT_DATE_FIN
+        defaultActiviteShouldNotBeFound("dateFin.greaterThan=" + DEFAULT_DATE_FIN);
+
+        // Get all the activiteList where dateFin is less than or equal to DEFAULT_DATE_FIN
+        defaultActiviteShouldBeFound("dateFin.lessThanOrEqual=" + DEFAULT_DATE_FIN);
+        // Get all the activiteList where dateFin is less than DEFAULT_DATE_FIN
+        defaultActiviteShouldNotBeFound("dateFin.lessThan=" + DEFAULT_DATE_FIN);
+    }
+
+    @Test
+    @Transactional
+    void getAllActivitesByRafFiltering() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get all the activiteList where raf equals to DEFAULT_RAF
+        defaultActiviteShouldBeFound("raf.equals=" + DEFAULT_RAF);
+        // Get all the activiteList where raf equals to UPDATED_RAF
+        defaultActiviteShouldNotBeFound("raf.equals=" + UPDATED_RAF);
+
+        // Get all the activiteList where raf in DEFAULT_RAF or UPDATED_RAF
+        defaultActiviteShouldBeFound("raf.in=" + DEFAULT_RAF + "," + UPDATED_RAF);
+        // Get all the activiteList where raf in UPDATED_RAF
+        defaultActiviteShouldNotBeFound("raf.in=" + UPDATED_RAF);
+
+        // Get all the activiteList where raf is not null
+        defaultActiviteShouldBeFound("raf.specified=true");
+        // Get all the activiteList where raf is null
+        defaultActiviteShouldNotBeFound("raf.specified=false");
+
+        // Get all the activiteList where raf contains DEFAULT_RAF
+        defaultActiviteShouldBeFound("raf.contains=" + DEFAULT_RAF);
+        // Get all the activiteList where raf contains UPDATED_RAF
+        defaultActiviteShouldNotBeFound("raf.contains=" + UPDATED_RAF);
+
+        // Get all the activiteList where raf does not contain DEFAULT_RAF
+        defaultActiviteShouldNotBeFound("raf.doesNotContain=" + DEFAULT_RAF);
+        // Get all the activiteList where raf does not contain UPDATED_RAF
+        defaultActiviteShouldBeFound("raf.doesNotContain=" + UPDATED_RAF);
+    }
+
+    @Test
+    @Transactional
+    void getAllActivitesByEtatFiltering() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get all the activiteList where etat equals to DEFAULT_ETAT
+        defaultActiviteShouldBeFound("etat.equals=" + DEFAULT_ETAT);
+        // Get all the activiteList where etat equals to UPDATED_ETAT
+        defaultActiviteShouldNotBeFound("etat.equals=" + UPDATED_ETAT);
+
+        // Get all the activiteList where etat in DEFAULT_ETAT or UPDATED_ETAT
+        defaultActiviteShouldBeFound("etat.in=" + DEFAULT_ETAT + "," + UPDATED_ETAT);
+        // Get all the activiteList where etat in UPDATED_ETAT
+        defaultActiviteShouldNotBeFound("etat.in=" + UPDATED_ETAT);
+
+        // Get all the activiteList where etat is not null
+        defaultActiviteShouldBeFound("etat.specified=true");
+        // Get all the activiteList where etat is null
+        defaultActiviteShouldNotBeFound("etat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllActivitesByLivrableIsEqualToSomething() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+        Long livrableId = activite.getLivrable().getId();
+
+        // Get all the activiteList where livrable equals to livrableId
+        defaultActiviteShouldBeFound("livrableId.equals=" + livrableId);
+
+        // Get all the activiteList where livrable equals to another livrable
+        defaultActiviteShouldNotBeFound("livrableId.equals=" + (livrableId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultActiviteShouldBeFound(String filter) throws Exception {
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(activite.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refAct").value(hasItem(DEFAULT_REF_ACT)))
+            .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)))
+            .andExpect(jsonPath("$.[*].dateDebut").value(hasItem(DEFAULT_DATE_DEBUT.toString())))
+            .andExpect(jsonPath("$.[*].dateFin").value(hasItem(DEFAULT_DATE_FIN.toString())))
+            .andExpect(jsonPath("$.[*].raf").value(hasItem(DEFAULT_RAF)))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())));
+
+        // Check, that the count call also returns 1
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultActiviteShouldNotBeFound(String filter) throws Exception {
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingActivite() throws Exception {
@@ -294,6 +596,28 @@ class ActiviteResourceIT {
         restActiviteMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getActiviteByRef() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Get the activite by its reference
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL + "/by-ref/{ref}", DEFAULT_REF_ACT))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(activite.getId().intValue()))
+            .andExpect(jsonPath("$.refAct").value(DEFAULT_REF_ACT));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingActiviteByRef() throws Exception {
+        // Get the activite
+        restActiviteMockMvc.perform(get(ENTITY_API_URL + "/by-ref/{ref}", UPDATED_REF_ACT)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingActivite() throws Exception {
@@ -317,6 +641,7 @@ class ActiviteResourceIT {
         restActiviteMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedActivite.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedActivite.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedActivite))
             )
@@ -412,6 +737,7 @@ class ActiviteResourceIT {
         restActiviteMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedActivite.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedActivite.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedActivite))
             )
@@ -429,6 +755,64 @@ class ActiviteResourceIT {
         assertThat(testActivite.getEtat()).isEqualTo(DEFAULT_ETAT);
     }
 
+    @Test
+    @Transactional
+    void partialUpdateActiviteWithIfMatch() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        String etag = restActiviteMockMvc
+            .perform(get(ENTITY_API_URL_ID, activite.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(0))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        restActiviteMockMvc
+            .perform(get(ENTITY_API_URL_ID, activite.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        // Update the activite at the version of the ETag, which is required
+        Activite partialUpdatedActivite = new Activite();
+        partialUpdatedActivite.setId(activite.getId());
+        partialUpdatedActivite.raf(UPDATED_RAF);
+
+        restActiviteMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedActivite.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedActivite))
+            )
+            .andExpect(status().isPreconditionRequired())
+            .andExpect(jsonPath("$.message").value("error.ifmatchrequired"));
+        restActiviteMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedActivite.getId())
+                    .header(HttpHeaders.IF_MATCH, etag)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedActivite))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+            .andExpect(jsonPath("$.version").value(1));
+
+        // The ETag no longer matches the version of the activite
+        partialUpdatedActivite.raf(DEFAULT_RAF);
+        restActiviteMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedActivite.getId())
+                    .header(HttpHeaders.IF_MATCH, etag)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedActivite))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        // Validate the Activite in the database
+        Activite testActivite = activiteRepository.findById(activite.getId()).orElseThrow();
+        assertThat(testActivite.getRaf()).isEqualTo(UPDATED_RAF);
+        assertThat(testActivite.getVersion()).isEqualTo(1L);
+    }
+
     @Test
     @Transactional
     void fullUpdateActiviteWithPatch() throws Exception {
@@ -452,6 +836,7 @@ class ActiviteResourceIT {
         restActiviteMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedActivite.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedActivite.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedActivite))
             )
@@ -469,6 +854,50 @@ class ActiviteResourceIT {
         assertThat(testActivite.getEtat()).isEqualTo(UPDATED_ETAT);
     }
 
+    @Test
+    @Transactional
+    void bulkUpdateActivites() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        // Close the activites of the livrable
+        restActiviteMockMvc
+            .perform(
+                patch(ENTITY_API_URL)
+                    .param("livrableId.equals", activite.getLivrable().getId().toString())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(new Activite().etat(Etat.Termine)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+
+        // Validate the Activite in the database, the bulk statement bypassing the persistence context
+        em.clear();
+        Activite testActivite = activiteRepository.findById(activite.getId()).orElseThrow();
+        assertThat(testActivite.getEtat()).isEqualTo(Etat.Termine);
+        assertThat(testActivite.getRaf()).isEqualTo(DEFAULT_RAF);
+        assertThat(testActivite.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @Transactional
+    void bulkUpdateActivitesWithoutCriteria() throws Exception {
+        // Initialize the database
+        activiteRepository.saveAndFlush(activite);
+
+        restActiviteMockMvc
+            .perform(
+                patch(ENTITY_API_URL)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(new Activite().etat(Etat.Termine)))
+            )
+            .andExpect(status().isBadRequest());
+
+        // Validate the Activite in the database
+        em.clear();
+        assertThat(activiteRepository.findById(activite.getId()).orElseThrow().getEtat()).isEqualTo(DEFAULT_ETAT);
+    }
+
     @Test
     @Transactional
     void patchNonExistingActivite() throws Exception {
@@ -542,4 +971,14 @@ class ActiviteResourceIT {
         List<Activite> activiteList = activiteRepository.findAll();
         assertThat(activiteList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private String getETag(Long id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restActiviteMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }
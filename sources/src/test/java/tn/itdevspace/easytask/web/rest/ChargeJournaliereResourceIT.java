@@ -1,16 +1,21 @@
 package tn.itdevspace.easytask.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.jayway.jsonpath.JsonPath;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,9 +27,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import tn.itdevspace.easytask.IntegrationTest;
 import tn.itdevspace.easytask.domain.ChargeJournaliere;
@@ -166,6 +173,75 @@ class ChargeJournaliereResourceIT {
         assertThat(chargeJournaliereList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void saveChargeJournalieresInBatches() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+        int databaseSizeBeforeSave = chargeJournaliereRepository.findAll().size();
+        Long version = chargeJournaliere.getVersion();
+        // Disconnect from session so that the updates on chargeJournaliere are not directly saved in db
+        em.detach(chargeJournaliere);
+        chargeJournaliere.setDuree(UPDATED_DUREE);
+        ChargeJournaliere newChargeJournaliere = createEntity(em).description(UPDATED_DESCRIPTION);
+        ChargeJournaliere invalidChargeJournaliere = createEntity(em).ressource(null);
+
+        // One invalid item: each item gets its result, and nothing is saved
+        restChargeJournaliereMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(chargeJournaliere, newChargeJournaliere, invalidChargeJournaliere)))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$.[0].status").value("UPDATED"))
+            .andExpect(jsonPath("$.[0].id").value(chargeJournaliere.getId().toString()))
+            .andExpect(jsonPath("$.[1].status").value("CREATED"))
+            .andExpect(jsonPath("$.[2].status").value("INVALID"))
+            .andExpect(jsonPath("$.[2].code").value(400))
+            .andExpect(jsonPath("$.[2].errors.[0]").value(startsWith("ressource: ")));
+
+        // An update of an unknown chargeJournaliere
+        ChargeJournaliere unknownChargeJournaliere = createEntity(em).id(UUID.randomUUID());
+        unknownChargeJournaliere.setVersion(0L);
+        restChargeJournaliereMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(newChargeJournaliere, unknownChargeJournaliere)))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.[1].status").value("NOT_FOUND"))
+            .andExpect(jsonPath("$.[1].code").value(404));
+        em.clear();
+        assertThat(chargeJournaliereRepository.findAll()).hasSize(databaseSizeBeforeSave);
+
+        // An update and an insert
+        MvcResult result = restChargeJournaliereMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(chargeJournaliere, newChargeJournaliere)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].status").value("UPDATED"))
+            .andExpect(jsonPath("$.[0].code").value(200))
+            .andExpect(jsonPath("$.[1].status").value("CREATED"))
+            .andExpect(jsonPath("$.[1].code").value(201))
+            .andReturn();
+
+        // Validate the ChargeJournalieres in the database
+        em.clear();
+        assertThat(chargeJournaliereRepository.findAll()).hasSize(databaseSizeBeforeSave + 1);
+        ChargeJournaliere testChargeJournaliere = chargeJournaliereRepository.findById(chargeJournaliere.getId()).get();
+        assertThat(testChargeJournaliere.getDuree()).isEqualTo(UPDATED_DUREE);
+        assertThat(testChargeJournaliere.getVersion()).isEqualTo(version + 1);
+        String id = JsonPath.read(result.getResponse().getContentAsString(), "$.[1].id");
+        assertThat(chargeJournaliereRepository.findById(UUID.fromString(id)).get().getDescription()).isEqualTo(UPDATED_DESCRIPTION);
+    }
+
     @Test
     @Transactional
     void getAllChargeJournalieres() throws Exception {
@@ -219,6 +295,194 @@ class ChargeJournaliereResourceIT {
             .andExpect(jsonPath("$.description").value(DEFAULT_DESCRIPTION));
     }
 
+    @Test
+    @Transactional
+    void getChargeJournalieresByIdFiltering() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+
+        UUID id = chargeJournaliere.getId();
+
+        defaultChargeJournaliereShouldBeFound("id.equals=" + id);
+        defaultChargeJournaliereShouldNotBeFound("id.notEquals=" + id);
+
+        defaultChargeJournaliereShouldBeFound("id.in=" + id + "," + UUID.randomUUID());
+        defaultChargeJournaliereShouldNotBeFound("id.in=" + UUID.randomUUID());
+    }
+
+    @Test
+    @Transactional
+    void getAllChargeJournalieresByDateFiltering() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+
+        // Get all the chargeJournaliereList where date equals to DEFAULT_DATE
+        defaultChargeJournaliereShouldBeFound("date.equals=" + DEFAULT_DATE);
+        // Get all the chargeJournaliereList where date equals to UPDATED_DATE
+        defaultChargeJournaliereShouldNotBeFound("date.equals=" + UPDATED_DATE);
+
+        // Get all the chargeJournaliereList where date in DEFAULT_DATE or UPDATED_DATE
+        defaultChargeJournaliereShouldBeFound("date.in=" + DEFAULT_DATE + "," + UPDATED_DATE);
+        // Get all the chargeJournaliereList where date in UPDATED_DATE
+        defaultChargeJournaliereShouldNotBeFound("date.in=" + UPDATED_DATE);
+
+        // Get all the chargeJournaliereList where date is not null
+        defaultChargeJournaliereShouldBeFound("date.specified=true");
+        // Get all the chargeJournaliereList where date is null
+        defaultChargeJournaliereShouldNotBeFound("date.specified=false");
+
+        // Get all the chargeJournaliereList where date is greater than or equal to DEFAULT_DATE
+        defaultChargeJournaliereShouldBeFound("date.greaterThanOrEqual=" + DEFAULT_DATE);
+        // Get all the chargeJournaliereList where date is greater than DEFAULT_DATE
+        defaultChargeJournaliereShouldNotBeFound("date.greaterThan=" + DEFAULT_DATE);
+
+        // Get all the chargeJournaliereList where date is less than or equal to DEFAULT_DATE
+        defaultChargeJournaliereShouldBeFound("date.lessThanOrEqual=" + DEFAULT_DATE);
+        // Get all the chargeJournaliereList where date is less than DEFAULT_DATE
+        defaultChargeJournaliereShouldNotBeFound("date.lessThan=" + DEFAULT_DATE);
+    }
+
+    @Test
+    @Transactional
+    void getAllChargeJournalieresByTypeFiltering() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+
+        // Get all the chargeJournaliereList where type equals to DEFAULT_TYPE
+        defaultChargeJournaliereShouldBeFound("type.equals=" + DEFAULT_TYPE);
+        // Get all the chargeJournaliereList where type equals to UPDATED_TYPE
+        defaultChargeJournaliereShouldNotBeFound("type.equals=" + UPDATED_TYPE);
+
+        // Get all the chargeJournaliereList where type in DEFAULT_TYPE or UPDATED_TYPE
+        defaultChargeJournaliereShouldBeFound("type.in=" + DEFAULT_TYPE + "," + UPDATED_TYPE);
+        // Get all the chargeJournaliereList where type in UPDATED_TYPE
+        defaultChargeJournaliereShouldNotBeFound("type.in=" + UPDATED_TYPE);
+
+        // Get all the chargeJournaliereList where type is not null
+        defaultChargeJournaliereShouldBeFound("type.specified=true");
+        // Get all the chargeJournaliereList where type is null
+        defaultChargeJournaliereShouldNotBeFound("type.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllChargeJournalieresByDureeFiltering() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+
+        // Get all the chargeJournaliereList where duree equals to DEFAULT_DUREE
+        defaultChargeJournaliereShouldBeFound("duree.equals=" + DEFAULT_DUREE);
+        // Get all the chargeJournaliereList where duree equals to UPDATED_DUREE
+        defaultChargeJournaliereShouldNotBeFound("duree.equals=" + UPDATED_DUREE);
+
+        // Get all the chargeJournaliereList where duree in DEFAULT_DUREE or UPDATED_DUREE
+        defaultChargeJournaliereShouldBeFound("duree.in=" + DEFAULT_DUREE + "," + UPDATED_DUREE);
+        // Get all the chargeJournaliereList where duree in UPDATED_DUREE
+        defaultChargeJournaliereShouldNotBeFound("duree.in=" + UPDATED_DUREE);
+
+        // Get all the chargeJournaliereList where duree is not null
+        defaultChargeJournaliereShouldBeFound("duree.specified=true");
+        // Get all the chargeJournaliereList where duree is null
+        defaultChargeJournaliereShouldNotBeFound("duree.specified=false");
+
+        // Get all the chargeJournaliereList where duree is greater than or equal to DEFAULT_DUREE
+        defaultChargeJournaliereShouldBeFound("duree.greaterThanOrEqual=" + DEFAULT_DUREE);
+        // Get all the chargeJournaliereList where duree is greater than DEFAULT_DUREE
+        defaultChargeJournaliereShouldNotBeFound("duree.greaterThan=" + DEFAULT_DUREE);
+
+        // Get all the chargeJournaliereList where duree is less than or equal to DEFAULT_DUREE
+        defaultChargeJournaliereShouldBeFound("duree.lessThanOrEqual=" + DEFAULT_DUREE);
+        // Get all the chargeJournaliereList where duree is less than DEFAULT_DUREE
+        defaultChargeJournaliereShouldNotBeFound("duree.lessThan=" + DEFAULT_DUREE);
+    }
+
+    @Test
+    @Transactional
+    void getAllChargeJournalieresByDescriptionFiltering() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+
+        // Get all the chargeJournaliereList where description equals to DEFAULT_DESCRIPTION
+        defaultChargeJournaliereShouldBeFound("description.equals=" + DEFAULT_DESCRIPTION);
+        // Get all the chargeJournaliereList where description equals to UPDATED_DESCRIPTION
+        defaultChargeJournaliereShouldNotBeFound("description.equals=" + UPDATED_DESCRIPTION);
+
+        // Get all the chargeJournaliereList where description in DEFAULT_DESCRIPTION or UPDATED_DESCRIPTION
+        defaultChargeJournaliereShouldBeFound("description.in=" + DEFAULT_DESCRIPTION + "," + UPDATED_DESCRIPTION);
+        // Get all the chargeJournaliereList where description in UPDATED_DESCRIPTION
+        defaultChargeJournaliereShouldNotBeFound("description.in=" + UPDATED_DESCRIPTION);
+
+        // Get all the chargeJournaliereList where description is not null
+        defaultChargeJournaliereShouldBeFound("description.specified=true");
+        // Get all the chargeJournaliereList where description is null
+        defaultChargeJournaliereShouldNotBeFound("description.specified=false");
+
+        // Get all the chargeJournaliereList where description contains DEFAULT_DESCRIPTION
+        defaultChargeJournaliereShouldBeFound("description.contains=" + DEFAULT_DESCRIPTION);
+        // Get all the chargeJournaliereList where description contains UPDATED_DESCRIPTION
+        defaultChargeJournaliereShouldNotBeFound("description.contains=" + UPDATED_DESCRIPTION);
+
+        // Get all the chargeJournaliereList where description does not contain DEFAULT_DESCRIPTION
+        defaultChargeJournaliereShouldNotBeFound("description.doesNotContain=" + DEFAULT_DESCRIPTION);
+        // Get all the chargeJournaliereList where description does not contain UPDATED_DESCRIPTION
+        defaultChargeJournaliereShouldBeFound("description.doesNotContain=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    void getAllChargeJournalieresByRessourceIsEqualToSomething() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+        UUID ressourceId = chargeJournaliere.getRessource().getId();
+
+        // Get all the chargeJournaliereList where ressource equals to ressourceId
+        defaultChargeJournaliereShouldBeFound("ressourceId.equals=" + ressourceId);
+
+        // Get all the chargeJournaliereList where ressource equals to another ressource
+        defaultChargeJournaliereShouldNotBeFound("ressourceId.equals=" + UUID.randomUUID());
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultChargeJournaliereShouldBeFound(String filter) throws Exception {
+        restChargeJournaliereMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(chargeJournaliere.getId().toString())))
+            .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())))
+            .andExpect(jsonPath("$.[*].type").value(hasItem(DEFAULT_TYPE.toString())))
+            .andExpect(jsonPath("$.[*].duree").value(hasItem(DEFAULT_DUREE.doubleValue())))
+            .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)));
+
+        // Check, that the count call also returns 1
+        restChargeJournaliereMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultChargeJournaliereShouldNotBeFound(String filter) throws Exception {
+        restChargeJournaliereMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restChargeJournaliereMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingChargeJournaliere() throws Exception {
@@ -226,6 +490,54 @@ class ChargeJournaliereResourceIT {
         restChargeJournaliereMockMvc.perform(get(ENTITY_API_URL_ID, UUID.randomUUID().toString())).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void seekChargeJournalieresFirstPage() throws Exception {
+        // Initialize the database, with a chargeJournaliere without date out of the cursor order
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+        chargeJournaliereRepository.saveAndFlush(createEntity(em).date(null));
+
+        restChargeJournaliereMockMvc
+            .perform(get(ENTITY_API_URL + "/seek?size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[*].date").value(everyItem(notNullValue())))
+            .andExpect(header().string("X-Total-Count", Long.toString(chargeJournaliereRepository.countByDateIsNotNull())))
+            .andExpect(header().exists(HttpHeaders.LINK));
+    }
+
+    @Test
+    @Transactional
+    void seekChargeJournalieresWalksCursor() throws Exception {
+        // Initialize the database: 3 chargeJournalieres on the same date, ordered by id, then 2 on the next day
+        LocalDate seekDate = LocalDate.of(2999, 1, 1);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(chargeJournaliereRepository.saveAndFlush(createEntity(em).date(i < 3 ? seekDate : seekDate.plusDays(1))).getId());
+        }
+
+        // Walk the pages of 2 from the day before, with the lowest id
+        List<String> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String url = ENTITY_API_URL + "/seek?size=2&afterDate=" + seekDate.minusDays(1) + "&afterId=" + new UUID(0L, 0L);
+        while (url != null) {
+            MvcResult result = restChargeJournaliereMockMvc
+                .perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andReturn();
+            List<String> pageIds = JsonPath.read(result.getResponse().getContentAsString(), "$.[*].id");
+            seen.addAll(pageIds);
+            pageSizes.add(pageIds.size());
+            String link = result.getResponse().getHeader(HttpHeaders.LINK);
+            url = link == null ? null : link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        }
+
+        // Each row once, the ties on the date broken by id, and no link after the last, partial, page
+        assertThat(seen).containsExactlyElementsOf(ids.stream().map(UUID::toString).collect(Collectors.toList()));
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+    }
+
     @Test
     @Transactional
     void putExistingChargeJournaliere() throws Exception {
@@ -243,6 +555,7 @@ class ChargeJournaliereResourceIT {
         restChargeJournaliereMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedChargeJournaliere.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedChargeJournaliere.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedChargeJournaliere))
             )
@@ -333,6 +646,7 @@ class ChargeJournaliereResourceIT {
         restChargeJournaliereMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedChargeJournaliere.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedChargeJournaliere.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedChargeJournaliere))
             )
@@ -365,6 +679,7 @@ class ChargeJournaliereResourceIT {
         restChargeJournaliereMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedChargeJournaliere.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedChargeJournaliere.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedChargeJournaliere))
             )
@@ -440,6 +755,45 @@ class ChargeJournaliereResourceIT {
         assertThat(chargeJournaliereList).hasSize(databaseSizeBeforeUpdate);
     }
 
+    @Test
+    @Transactional
+    void bulkDeleteChargeJournalieres() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+
+        int databaseSizeBeforeDelete = chargeJournaliereRepository.findAll().size();
+
+        // Delete the chargeJournalieres of the ressource before a date
+        restChargeJournaliereMockMvc
+            .perform(
+                delete(ENTITY_API_URL)
+                    .param("ressourceId.equals", chargeJournaliere.getRessource().getId().toString())
+                    .param("date.lessThan", UPDATED_DATE.toString())
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+
+        // Validate the database contains one less item, the bulk statement bypassing the persistence context
+        em.clear();
+        List<ChargeJournaliere> chargeJournaliereList = chargeJournaliereRepository.findAll();
+        assertThat(chargeJournaliereList).hasSize(databaseSizeBeforeDelete - 1);
+    }
+
+    @Test
+    @Transactional
+    void bulkDeleteChargeJournalieresWithoutCriteria() throws Exception {
+        // Initialize the database
+        chargeJournaliereRepository.saveAndFlush(chargeJournaliere);
+
+        int databaseSizeBeforeDelete = chargeJournaliereRepository.findAll().size();
+
+        restChargeJournaliereMockMvc.perform(delete(ENTITY_API_URL).accept(MediaType.APPLICATION_JSON)).andExpect(status().isBadRequest());
+
+        // Validate nothing was deleted
+        assertThat(chargeJournaliereRepository.findAll()).hasSize(databaseSizeBeforeDelete);
+    }
+
     @Test
     @Transactional
     void deleteChargeJournaliere() throws Exception {
@@ -457,4 +811,14 @@ class ChargeJournaliereResourceIT {
         List<ChargeJournaliere> chargeJournaliereList = chargeJournaliereRepository.findAll();
         assertThat(chargeJournaliereList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private String getETag(UUID id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restChargeJournaliereMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }
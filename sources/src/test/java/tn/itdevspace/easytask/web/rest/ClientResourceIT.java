@@ -13,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -209,6 +210,193 @@ class ClientResourceIT {
             .andExpect(jsonPath("$.contact").value(DEFAULT_CONTACT));
     }
 
+    @Test
+    @Transactional
+    void getClientsByIdFiltering() throws Exception {
+        // Initialize the database
+        clientRepository.saveAndFlush(client);
+
+        Long id = client.getId();
+
+        defaultClientShouldBeFound("id.equals=" + id);
+        defaultClientShouldNotBeFound("id.notEquals=" + id);
+
+        defaultClientShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultClientShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultClientShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultClientShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllClientsByRefClientFiltering() throws Exception {
+        // Initialize the database
+        clientRepository.saveAndFlush(client);
+
+        // Get all the clientList where refClient equals to DEFAULT_REF_CLIENT
+        defaultClientShouldBeFound("refClient.equals=" + DEFAULT_REF_CLIENT);
+        // Get all the clientList where refClient equals to UPDATED_REF_CLIENT
+        defaultClientShouldNotBeFound("refClient.equals=" + UPDATED_REF_CLIENT);
+
+        // Get all the clientList where refClient in DEFAULT_REF_CLIENT or UPDATED_REF_CLIENT
+        defaultClientShouldBeFound("refClient.in=" + DEFAULT_REF_CLIENT + "," + UPDATED_REF_CLIENT);
+        // Get all the clientList where refClient in UPDATED_REF_CLIENT
+        defaultClientShouldNotBeFound("refClient.in=" + UPDATED_REF_CLIENT);
+
+        // Get all the clientList where refClient is not null
+        defaultClientShouldBeFound("refClient.specified=true");
+        // Get all the clientList where refClient is null
+        defaultClientShouldNotBeFound("refClient.specified=false");
+
+        // Get all the clientList where refClient contains DEFAULT_REF_CLIENT
+        defaultClientShouldBeFound("refClient.contains=" + DEFAULT_REF_CLIENT);
+        // Get all the clientList where refClient contains UPDATED_REF_CLIENT
+        defaultClientShouldNotBeFound("refClient.contains=" + UPDATED_REF_CLIENT);
+
+        // Get all the clientList where refClient does not contain DEFAULT_REF_CLIENT
+        defaultClientShouldNotBeFound("refClient.doesNotContain=" + DEFAULT_REF_CLIENT);
+        // Get all the clientList where refClient does not contain UPDATED_REF_CLIENT
+        defaultClientShouldBeFound("refClient.doesNotContain=" + UPDATED_REF_CLIENT);
+    }
+
+    @Test
+    @Transactional
+    void getAllClientsByNomFiltering() throws Exception {
+        // Initialize the database
+        clientRepository.saveAndFlush(client);
+
+        // Get all the clientList where nom equals to DEFAULT_NOM
+        defaultClientShouldBeFound("nom.equals=" + DEFAULT_NOM);
+        // Get all the clientList where nom equals to UPDATED_NOM
+        defaultClientShouldNotBeFound("nom.equals=" + UPDATED_NOM);
+
+        // Get all the clientList where nom in DEFAULT_NOM or UPDATED_NOM
+        defaultClientShouldBeFound("nom.in=" + DEFAULT_NOM + "," + UPDATED_NOM);
+        // Get all the clientList where nom in UPDATED_NOM
+        defaultClientShouldNotBeFound("nom.in=" + UPDATED_NOM);
+
+        // Get all the clientList where nom is not null
+        defaultClientShouldBeFound("nom.specified=true");
+        // Get all the clientList where nom is null
+        defaultClientShouldNotBeFound("nom.specified=false");
+
+        // Get all the clientList where nom contains DEFAULT_NOM
+        defaultClientShouldBeFound("nom.contains=" + DEFAULT_NOM);
+        // Get all the clientList where nom contains UPDATED_NOM
+        defaultClientShouldNotBeFound("nom.contains=" + UPDATED_NOM);
+
+        // Get all the clientList where nom does not contain DEFAULT_NOM
+        defaultClientShouldNotBeFound("nom.doesNotContain=" + DEFAULT_NOM);
+        // Get all the clientList where nom does not contain UPDATED_NOM
+        defaultClientShouldBeFound("nom.doesNotContain=" + UPDATED_NOM);
+    }
+
+    @Test
+    @Transactional
+    void getAllClientsByPrenomFiltering() throws Exception {
+        // Initialize the database
+        clientRepository.saveAndFlush(client);
+
+        // Get all the clientList where prenom equals to DEFAULT_PRENOM
+        defaultClientShouldBeFound("prenom.equals=" + DEFAULT_PRENOM);
+        // Get all the clientList where prenom equals to UPDATED_PRENOM
+        defaultClientShouldNotBeFound("prenom.equals=" + UPDATED_PRENOM);
+
+        // Get all the clientList where prenom in DEFAULT_PRENOM or UPDATED_PRENOM
+        defaultClientShouldBeFound("prenom.in=" + DEFAULT_PRENOM + "," + UPDATED_PRENOM);
+        // Get all the clientList where prenom in UPDATED_PRENOM
+        defaultClientShouldNotBeFound("prenom.in=" + UPDATED_PRENOM);
+
+        // Get all the clientList where prenom is not null
+        defaultClientShouldBeFound("prenom.specified=true");
+        // Get all the clientList where prenom is null
+        defaultClientShouldNotBeFound("prenom.specified=false");
+
+        // Get all the clientList where prenom contains DEFAULT_PRENOM
+        defaultClientShouldBeFound("prenom.contains=" + DEFAULT_PRENOM);
+        // Get all the clientList where prenom contains UPDATED_PRENOM
+        defaultClientShouldNotBeFound("prenom.contains=" + UPDATED_PRENOM);
+
+        // Get all the clientList where prenom does not contain DEFAULT_PRENOM
+        defaultClientShouldNotBeFound("prenom.doesNotContain=" + DEFAULT_PRENOM);
+        // Get all the clientList where prenom does not contain UPDATED_PRENOM
+        defaultClientShouldBeFound("prenom.doesNotContain=" + UPDATED_PRENOM);
+    }
+
+    @Test
+    @Transactional
+    void getAllClientsByContactFiltering() throws Exception {
+        // Initialize the database
+        clientRepository.saveAndFlush(client);
+
+        // Get all the clientList where contact equals to DEFAULT_CONTACT
+        defaultClientShouldBeFound("contact.equals=" + DEFAULT_CONTACT);
+        // Get all the clientList where contact equals to UPDATED_CONTACT
+        defaultClientShouldNotBeFound("contact.equals=" + UPDATED_CONTACT);
+
+        // Get all the clientList where contact in DEFAULT_CONTACT or UPDATED_CONTACT
+        defaultClientShouldBeFound("contact.in=" + DEFAULT_CONTACT + "," + UPDATED_CONTACT);
+        // Get all the clientList where contact in UPDATED_CONTACT
+        defaultClientShouldNotBeFound("contact.in=" + UPDATED_CONTACT);
+
+        // Get all the clientList where contact is not null
+        defaultClientShouldBeFound("contact.specified=true");
+        // Get all the clientList where contact is null
+        defaultClientShouldNotBeFound("contact.specified=false");
+
+        // Get all the clientList where contact contains DEFAULT_CONTACT
+        defaultClientShouldBeFound("contact.contains=" + DEFAULT_CONTACT);
+        // Get all the clientList where contact contains UPDATED_CONTACT
+        defaultClientShouldNotBeFound("contact.contains=" + UPDATED_CONTACT);
+
+        // Get all the clientList where contact does not contain DEFAULT_CONTACT
+        defaultClientShouldNotBeFound("contact.doesNotContain=" + DEFAULT_CONTACT);
+        // Get all the clientList where contact does not contain UPDATED_CONTACT
+        defaultClientShouldBeFound("contact.doesNotContain=" + UPDATED_CONTACT);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultClientShouldBeFound(String filter) throws Exception {
+        restClientMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(client.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refClient").value(hasItem(DEFAULT_REF_CLIENT)))
+            .andExpect(jsonPath("$.[*].nom").value(hasItem(DEFAULT_NOM)))
+            .andExpect(jsonPath("$.[*].prenom").value(hasItem(DEFAULT_PRENOM)))
+            .andExpect(jsonPath("$.[*].contact").value(hasItem(DEFAULT_CONTACT)));
+
+        // Check, that the count call also returns 1
+        restClientMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultClientShouldNotBeFound(String filter) throws Exception {
+        restClientMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restClientMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingClient() throws Exception {
@@ -216,6 +404,28 @@ class ClientResourceIT {
         restClientMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getClientByRef() throws Exception {
+        // Initialize the database
+        clientRepository.saveAndFlush(client);
+
+        // Get the client by its reference
+        restClientMockMvc
+            .perform(get(ENTITY_API_URL + "/by-ref/{ref}", DEFAULT_REF_CLIENT))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(client.getId().intValue()))
+            .andExpect(jsonPath("$.refClient").value(DEFAULT_REF_CLIENT));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingClientByRef() throws Exception {
+        // Get the client
+        restClientMockMvc.perform(get(ENTITY_API_URL + "/by-ref/{ref}", UPDATED_REF_CLIENT)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingClient() throws Exception {
@@ -233,6 +443,7 @@ class ClientResourceIT {
         restClientMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedClient.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedClient.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedClient))
             )
@@ -321,6 +532,7 @@ class ClientResourceIT {
         restClientMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedClient.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedClient.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedClient))
             )
@@ -353,6 +565,7 @@ class ClientResourceIT {
         restClientMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedClient.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedClient.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedClient))
             )
@@ -441,4 +654,14 @@ class ClientResourceIT {
         List<Client> clientList = clientRepository.findAll();
         assertThat(clientList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private String getETag(Long id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restClientMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }
@@ -0,0 +1,260 @@
+package tn.itdevspace.easytask.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.config.Constants;
+import tn.itdevspace.easytask.domain.Activite;
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Estimation;
+import tn.itdevspace.easytask.domain.Livrable;
+import tn.itdevspace.easytask.domain.Maintenance;
+import tn.itdevspace.easytask.domain.Projet;
+import tn.itdevspace.easytask.domain.Ressource;
+import tn.itdevspace.easytask.domain.enumeration.Etat;
+import tn.itdevspace.easytask.domain.enumeration.Type;
+import tn.itdevspace.easytask.domain.enumeration.TypeCharge;
+import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
+import tn.itdevspace.easytask.repository.ActiviteRepository;
+import tn.itdevspace.easytask.repository.ChargeJournaliereRepository;
+import tn.itdevspace.easytask.repository.ClientRepository;
+import tn.itdevspace.easytask.repository.EstimationRepository;
+import tn.itdevspace.easytask.repository.LivrableRepository;
+import tn.itdevspace.easytask.repository.MaintenanceRepository;
+import tn.itdevspace.easytask.repository.ProjetRepository;
+import tn.itdevspace.easytask.repository.RessourceRepository;
+
+/**
+ * Integration tests for the {@code /export} endpoints of the entity resources, streamed by
+ * {@link tn.itdevspace.easytask.service.EntityExportService}.
+ * <p>
+ * The body is written on an async request thread, in its own transaction: the exported entities are committed, and
+ * deleted after each test. Each endpoint exports more rows than a single fetch of its stream.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class EntityExportResourceIT {
+
+    private static final int SIZE = Integer.parseInt(Constants.EXPORT_FETCH_SIZE) + 1;
+
+    private static final String REF_PREFIX = "EXPRES-";
+
+    private static final LocalDate DATE = LocalDate.of(2023, 1, 1);
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private LivrableRepository livrableRepository;
+
+    @Autowired
+    private ActiviteRepository activiteRepository;
+
+    @Autowired
+    private EstimationRepository estimationRepository;
+
+    @Autowired
+    private RessourceRepository ressourceRepository;
+
+    @Autowired
+    private ChargeJournaliereRepository chargeJournaliereRepository;
+
+    @Autowired
+    private MaintenanceRepository maintenanceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Client client;
+
+    private Ressource ressource;
+
+    private List<Projet> projets;
+
+    private List<Livrable> livrables;
+
+    private List<Activite> activites;
+
+    private List<Estimation> estimations;
+
+    private List<ChargeJournaliere> chargeJournalieres;
+
+    private List<Maintenance> maintenances;
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            client = clientRepository.save(new Client().refClient(REF_PREFIX + "CLIENT").nom("nom").prenom("prenom"));
+            projets =
+                projetRepository.saveAll(
+                    create(i ->
+                        new Projet()
+                            .refProjet(REF_PREFIX + i)
+                            .type(Type.Interne)
+                            .description("export")
+                            .datedebut(DATE)
+                            .etat(Etat.EnCours)
+                            .client(client)
+                    )
+                );
+            livrables =
+                livrableRepository.saveAll(
+                    create(i -> new Livrable().refLivrable(REF_PREFIX + i).dateDebut(DATE).description("export").projet(projets.get(0)))
+                );
+            activites =
+                activiteRepository.saveAll(
+                    create(i -> new Activite().refAct(REF_PREFIX + i).description("export").dateDebut(DATE).livrable(livrables.get(0)))
+                );
+            estimations =
+                estimationRepository.saveAll(
+                    create(i ->
+                        new Estimation()
+                            .date(DATE)
+                            .valeurJour((double) i)
+                            .type(TypeEntite.Activite)
+                            .projet(projets.get(0))
+                            .livrable(livrables.get(0))
+                            .activite(activites.get(0))
+                    )
+                );
+            ressource = ressourceRepository.save(new Ressource().nom(REF_PREFIX + "RESSOURCE").prenom("prenom"));
+            chargeJournalieres =
+                chargeJournaliereRepository.saveAll(
+                    create(i -> new ChargeJournaliere().date(DATE).type(TypeCharge.Dev).duree(1D).ressource(ressource))
+                );
+            maintenances =
+                maintenanceRepository.saveAll(create(i -> new Maintenance().description("export").dateDebut(DATE).ressource(ressource)));
+        });
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            estimationRepository.deleteAllInBatch(estimations);
+            activiteRepository.deleteAllInBatch(activites);
+            livrableRepository.deleteAllInBatch(livrables);
+            projetRepository.deleteAllInBatch(projets);
+            clientRepository.deleteById(client.getId());
+            chargeJournaliereRepository.deleteAllInBatch(chargeJournalieres);
+            maintenanceRepository.deleteAllInBatch(maintenances);
+            // The rows of the charge rollup are deleted in cascade
+            ressourceRepository.deleteById(ressource.getId());
+        });
+    }
+
+    @Test
+    void exportProjets() throws Exception {
+        assertExported("/api/projets/export", projets, Projet::getId, Map.of("client", client.getId()));
+    }
+
+    @Test
+    void exportLivrables() throws Exception {
+        assertExported("/api/livrables/export", livrables, Livrable::getId, Map.of("projet", projets.get(0).getId()));
+    }
+
+    @Test
+    void exportActivites() throws Exception {
+        assertExported("/api/activites/export", activites, Activite::getId, Map.of("livrable", livrables.get(0).getId()));
+    }
+
+    @Test
+    void exportEstimations() throws Exception {
+        assertExported(
+            "/api/estimations/export",
+            estimations,
+            Estimation::getId,
+            Map.of("projet", projets.get(0).getId(), "livrable", livrables.get(0).getId(), "activite", activites.get(0).getId())
+        );
+    }
+
+    @Test
+    void exportChargeJournalieres() throws Exception {
+        assertExported(
+            "/api/charge-journalieres/export",
+            chargeJournalieres,
+            ChargeJournaliere::getId,
+            Map.of("ressource", ressource.getId())
+        );
+    }
+
+    @Test
+    void exportMaintenances() throws Exception {
+        assertExported("/api/maintenances/export", maintenances, Maintenance::getId, Map.of("ressource", ressource.getId()));
+    }
+
+    /**
+     * Check that the export lists each of the given entities once, on its own line, with the given related entities.
+     */
+    private <T> void assertExported(String url, Collection<T> entities, Function<T, Object> idGetter, Map<String, Object> relationships)
+        throws Exception {
+        MvcResult result = restMockMvc.perform(get(url)).andExpect(request().asyncStarted()).andReturn();
+        String content = restMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThat(content).endsWith("\n");
+        Set<String> ids = entities.stream().map(idGetter).map(String::valueOf).collect(Collectors.toSet());
+        List<JsonNode> exportedEntities = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            JsonNode entity = objectMapper.readTree(line);
+            if (ids.contains(entity.get("id").asText())) {
+                exportedEntities.add(entity);
+            }
+        }
+        assertThat(exportedEntities).hasSize(SIZE);
+        assertThat(exportedEntities.stream().map(entity -> entity.get("id").asText()).collect(Collectors.toSet())).isEqualTo(ids);
+        for (Map.Entry<String, Object> relationship : relationships.entrySet()) {
+            assertThat(exportedEntities)
+                .allSatisfy(entity ->
+                    assertThat(entity.get(relationship.getKey()).get("id").asText()).isEqualTo(String.valueOf(relationship.getValue()))
+                );
+        }
+    }
+
+    private static <T> List<T> create(IntFunction<T> factory) {
+        return IntStream.range(0, SIZE).mapToObj(factory).collect(Collectors.toList());
+    }
+}
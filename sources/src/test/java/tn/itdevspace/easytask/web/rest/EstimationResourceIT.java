@@ -6,6 +6,8 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.jayway.jsonpath.JsonPath;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -22,9 +24,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import tn.itdevspace.easytask.IntegrationTest;
 import tn.itdevspace.easytask.domain.Estimation;
@@ -147,6 +151,55 @@ class EstimationResourceIT {
         assertThat(estimationList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void saveEstimationsInBatches() throws Exception {
+        // Initialize the database
+        estimationRepository.saveAndFlush(estimation);
+        int databaseSizeBeforeSave = estimationRepository.findAll().size();
+        Long version = estimation.getVersion();
+        // Disconnect from session so that the updates on estimation are not directly saved in db
+        em.detach(estimation);
+        estimation.setValeurJour(UPDATED_VALEUR_JOUR);
+        Estimation newEstimation = createEntity(em).type(UPDATED_TYPE);
+        String items = new String(TestUtil.convertObjectToJsonBytes(List.of(estimation, newEstimation)), StandardCharsets.UTF_8);
+
+        // An item which is not an estimation: each item gets its result, and nothing is saved
+        restEstimationMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(items.substring(0, items.length() - 1) + ",{\"type\":\"Unknown\"}]")
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$.[0].status").value("UPDATED"))
+            .andExpect(jsonPath("$.[1].status").value("CREATED"))
+            .andExpect(jsonPath("$.[2].status").value("INVALID"))
+            .andExpect(jsonPath("$.[2].code").value(400))
+            .andExpect(jsonPath("$.[2].errors.length()").value(1));
+        em.clear();
+        assertThat(estimationRepository.findAll()).hasSize(databaseSizeBeforeSave);
+
+        // An update and an insert
+        MvcResult result = restEstimationMockMvc
+            .perform(post(ENTITY_API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content(items))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].status").value("UPDATED"))
+            .andExpect(jsonPath("$.[0].id").value(estimation.getId().toString()))
+            .andExpect(jsonPath("$.[1].status").value("CREATED"))
+            .andReturn();
+
+        // Validate the Estimations in the database
+        em.clear();
+        assertThat(estimationRepository.findAll()).hasSize(databaseSizeBeforeSave + 1);
+        Estimation testEstimation = estimationRepository.findById(estimation.getId()).get();
+        assertThat(testEstimation.getValeurJour()).isEqualTo(UPDATED_VALEUR_JOUR);
+        assertThat(testEstimation.getVersion()).isEqualTo(version + 1);
+        String id = JsonPath.read(result.getResponse().getContentAsString(), "$.[1].id");
+        assertThat(estimationRepository.findById(UUID.fromString(id)).get().getType()).isEqualTo(UPDATED_TYPE);
+    }
+
     @Test
     @Transactional
     void getAllEstimations() throws Exception {
@@ -202,6 +255,198 @@ class EstimationResourceIT {
             .andExpect(jsonPath("$.type").value(DEFAULT_TYPE.toString()));
     }
 
+    @Test
+    @Transactional
+    void getEstimationsByIdFiltering() throws Exception {
+        // Initialize the database
+        estimationRepository.saveAndFlush(estimation);
+
+        UUID id = estimation.getId();
+
+        defaultEstimationShouldBeFound("id.equals=" + id);
+        defaultEstimationShouldNotBeFound("id.notEquals=" + id);
+
+        defaultEstimationShouldBeFound("id.in=" + id + "," + UUID.randomUUID());
+        defaultEstimationShouldNotBeFound("id.in=" + UUID.randomUUID());
+    }
+
+    @Test
+    @Transactional
+    void getAllEstimationsByDateFiltering() throws Exception {
+        // Initialize the database
+        estimationRepository.saveAndFlush(estimation);
+
+        // Get all the estimationList where date equals to DEFAULT_DATE
+        defaultEstimationShouldBeFound("date.equals=" + DEFAULT_DATE);
+        // Get all the estimationList where date equals to UPDATED_DATE
+        defaultEstimationShouldNotBeFound("date.equals=" + UPDATED_DATE);
+
+        // Get all the estimationList where date in DEFAULT_DATE or UPDATED_DATE
+        defaultEstimationShouldBeFound("date.in=" + DEFAULT_DATE + "," + UPDATED_DATE);
+        // Get all the estimationList where date in UPDATED_DATE
+        defaultEstimationShouldNotBeFound("date.in=" + UPDATED_DATE);
+
+        // Get all the estimationList where date is not null
+        defaultEstimationShouldBeFound("date.specified=true");
+        // Get all the estimationList where date is null
+        defaultEstimationShouldNotBeFound("date.specified=false");
+
+        // Get all the estimationList where date is greater than or equal to DEFAULT_DATE
+        defaultEstimationShouldBeFound("date.greaterThanOrEqual=" + DEFAULT_DATE);
+        // Get all the estimationList where date is greater than DEFAULT_DATE
+        defaultEstimationShouldNotBeFound("date.greaterThan=" + DEFAULT_DATE);
+
+        // Get all the estimationList where date is less than or equal to DEFAULT_DATE
+        defaultEstimationShouldBeFound("date.lessThanOrEqual=" + DEFAULT_DATE);
+        // Get all the estimationList where date is less than DEFAULT_DATE
+        defaultEstimationShouldNotBeFound("date.lessThan=" + DEFAULT_DATE);
+    }
+
+    @Test
+    @Transactional
+    void getAllEstimationsByValeurJourFiltering() throws Exception {
+        // Initialize the database
+        estimationRepository.saveAndFlush(estimation);
+
+        // Get all the estimationList where valeurJour equals to DEFAULT_VALEUR_JOUR
+        defaultEstimationShouldBeFound("valeurJour.equals=" + DEFAULT_VALEUR_JOUR);
+        // Get all the estimationList where valeurJour equals to UPDATED_VALEUR_JOUR
+        defaultEstimationShouldNotBeFound("valeurJour.equals=" + UPDATED_VALEUR_JOUR);
+
+        // Get all the estimationList where valeurJour in DEFAULT_VALEUR_JOUR or UPDATED_VALEUR_JOUR
+        defaultEstimationShouldBeFound("valeurJour.in=" + DEFAULT_VALEUR_JOUR + "," + UPDATED_VALEUR_JOUR);
+        // Get all the estimationList where valeurJour in UPDATED_VALEUR_JOUR
+        defaultEstimationShouldNotBeFound("valeurJour.in=" + UPDATED_VALEUR_JOUR);
+
+        // Get all the estimationList where valeurJour is not null
+        defaultEstimationShouldBeFound("valeurJour.specified=true");
+        // Get all the estimationList where valeurJour is null
+        defaultEstimationShouldNotBeFound("valeurJour.specified=false");
+
+        // Get all the estimationList where valeurJour is greater than or equal to DEFAULT_VALEUR_JOUR
+        defaultEstimationShouldBeFound("valeurJour.greaterThanOrEqual=" + DEFAULT_VALEUR_JOUR);
+        // Get all the estimationList where valeurJour is greater than DEFAULT_VALEUR_JOUR
+        defaultEstimationShouldNotBeFound("valeurJour.greaterThan=" + DEFAULT_VALEUR_JOUR);
+
+        // Get all the estimationList where valeurJour is less than or equal to DEFAULT_VALEUR_JOUR
+        defaultEstimationShouldBeFound("valeurJour.lessThanOrEqual=" + DEFAULT_VALEUR_JOUR);
+        // Get all the estimationList where valeurJour is less than DEFAULT_VALEUR_JOUR
+        defaultEstimationShouldNotBeFound("valeurJour.lessThan=" + DEFAULT_VALEUR_JOUR);
+    }
+
+    @Test
+    @Transactional
+    void getAllEstimationsByValeurHeureFiltering() throws Exception {
+        // Initialize the database
+        estimationRepository.saveAndFlush(estimation);
+
+        // Get all the estimationList where valeurHeure equals to DEFAULT_VALEUR_HEURE
+        defaultEstimationShouldBeFound("valeurHeure.equals=" + DEFAULT_VALEUR_HEURE);
+        // Get all the estimationList where valeurHeure equals to UPDATED_VALEUR_HEURE
+        defaultEstimationShouldNotBeFound("valeurHeure.equals=" + UPDATED_VALEUR_HEURE);
+
+        // Get all the estimationList where valeurHeure in DEFAULT_VALEUR_HEURE or UPDATED_VALEUR_HEURE
+        defaultEstimationShouldBeFound("valeurHeure.in=" + DEFAULT_VALEUR_HEURE + "," + UPDATED_VALEUR_HEURE);
+        // Get all the estimationList where valeurHeure in UPDATED_VALEUR_HEURE
+        defaultEstimationShouldNotBeFound("valeurHeure.in=" + UPDATED_VALEUR_HEURE);
+
+        // Get all the estimationList where valeurHeure is not null
+        defaultEstimationShouldBeFound("valeurHeure.specified=true");
+        // Get all the estimationList where valeurHeure is null
+        defaultEstimationShouldNotBeFound("valeurHeure.specified=false");
+
+        // Get all the estimationList where valeurHeure is greater than or equal to DEFAULT_VALEUR_HEURE
+        defaultEstimationShouldBeFound("valeurHeure.greaterThanOrEqual=" + DEFAULT_VALEUR_HEURE);
+        // Get all the estimationList where valeurHeure is greater than DEFAULT_VALEUR_HEURE
+        defaultEstimationShouldNotBeFound("valeurHeure.greaterThan=" + DEFAULT_VALEUR_HEURE);
+
+        // Get all the estimationList where valeurHeure is less than or equal to DEFAULT_VALEUR_HEURE
+        defaultEstimationShouldBeFound("valeurHeure.lessThanOrEqual=" + DEFAULT_VALEUR_HEURE);
+        // Get all the estimationList where valeurHeure is less than DEFAULT_VALEUR_HEURE
+        defaultEstimationShouldNotBeFound("valeurHeure.lessThan=" + DEFAULT_VALEUR_HEURE);
+    }
+
+    @Test
+    @Transactional
+    void getAllEstimationsByPriseEnChargeFiltering() throws Exception {
+        // Initialize the database
+        estimationRepository.saveAndFlush(estimation);
+
+        // Get all the estimationList where priseEnCharge equals to DEFAULT_PRISE_EN_CHARGE
+        defaultEstimationShouldBeFound("priseEnCharge.equals=" + DEFAULT_PRISE_EN_CHARGE);
+        // Get all the estimationList where priseEnCharge equals to UPDATED_PRISE_EN_CHARGE
+        defaultEstimationShouldNotBeFound("priseEnCharge.equals=" + UPDATED_PRISE_EN_CHARGE);
+
+        // Get all the estimationList where priseEnCharge is not null
+        defaultEstimationShouldBeFound("priseEnCharge.specified=true");
+        // Get all the estimationList where priseEnCharge is null
+        defaultEstimationShouldNotBeFound("priseEnCharge.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllEstimationsByTypeFiltering() throws Exception {
+        // Initialize the database
+        estimationRepository.saveAndFlush(estimation);
+
+        // Get all the estimationList where type equals to DEFAULT_TYPE
+        defaultEstimationShouldBeFound("type.equals=" + DEFAULT_TYPE);
+        // Get all the estimationList where type equals to UPDATED_TYPE
+        defaultEstimationShouldNotBeFound("type.equals=" + UPDATED_TYPE);
+
+        // Get all the estimationList where type in DEFAULT_TYPE or UPDATED_TYPE
+        defaultEstimationShouldBeFound("type.in=" + DEFAULT_TYPE + "," + UPDATED_TYPE);
+        // Get all the estimationList where type in UPDATED_TYPE
+        defaultEstimationShouldNotBeFound("type.in=" + UPDATED_TYPE);
+
+        // Get all the estimationList where type is not null
+        defaultEstimationShouldBeFound("type.specified=true");
+        // Get all the estimationList where type is null
+        defaultEstimationShouldNotBeFound("type.specified=false");
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultEstimationShouldBeFound(String filter) throws Exception {
+        restEstimationMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(estimation.getId().toString())))
+            .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())))
+            .andExpect(jsonPath("$.[*].valeurJour").value(hasItem(DEFAULT_VALEUR_JOUR.doubleValue())))
+            .andExpect(jsonPath("$.[*].valeurHeure").value(hasItem(DEFAULT_VALEUR_HEURE.doubleValue())))
+            .andExpect(jsonPath("$.[*].priseEnCharge").value(hasItem(DEFAULT_PRISE_EN_CHARGE.booleanValue())))
+            .andExpect(jsonPath("$.[*].type").value(hasItem(DEFAULT_TYPE.toString())));
+
+        // Check, that the count call also returns 1
+        restEstimationMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultEstimationShouldNotBeFound(String filter) throws Exception {
+        restEstimationMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restEstimationMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingEstimation() throws Exception {
@@ -231,6 +476,7 @@ class EstimationResourceIT {
         restEstimationMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedEstimation.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedEstimation.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedEstimation))
             )
@@ -320,6 +566,7 @@ class EstimationResourceIT {
         restEstimationMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedEstimation.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedEstimation.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedEstimation))
             )
@@ -358,6 +605,7 @@ class EstimationResourceIT {
         restEstimationMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedEstimation.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedEstimation.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedEstimation))
             )
@@ -449,4 +697,14 @@ class EstimationResourceIT {
         List<Estimation> estimationList = estimationRepository.findAll();
         assertThat(estimationList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private String getETag(UUID id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restEstimationMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }
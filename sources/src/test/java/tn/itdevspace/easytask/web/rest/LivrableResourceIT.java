@@ -24,6 +24,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -243,6 +244,48 @@ class LivrableResourceIT {
             .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllLivrableSummaries() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get the summaries of all the livrableList
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(livrable.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refLivrable").value(hasItem(DEFAULT_REF_LIVRABLE)))
+            .andExpect(jsonPath("$.[*].dateDebut").value(hasItem(DEFAULT_DATE_DEBUT.toString())))
+            .andExpect(jsonPath("$.[*].dateFin").value(hasItem(DEFAULT_DATE_FIN.toString())))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())))
+            .andExpect(jsonPath("$.[*].projetId").value(hasItem(livrable.getProjet().getId().intValue())))
+            .andExpect(jsonPath("$.[*].description").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllLivrableSummariesByCriteria() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get the summaries of the livrableList where refLivrable equals to DEFAULT_REF_LIVRABLE
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&refLivrable.equals=" + DEFAULT_REF_LIVRABLE))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(livrable.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refLivrable").value(hasItem(DEFAULT_REF_LIVRABLE)));
+
+        // Get the summaries of the livrableList where refLivrable equals to UPDATED_REF_LIVRABLE
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&refLivrable.equals=" + UPDATED_REF_LIVRABLE))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllLivrablesWithEagerRelationshipsIsEnabled() throws Exception {
         when(livrableRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -279,6 +322,230 @@ class LivrableResourceIT {
             .andExpect(jsonPath("$.etat").value(DEFAULT_ETAT.toString()));
     }
 
+    @Test
+    @Transactional
+    void getLivrablesByIdFiltering() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        Long id = livrable.getId();
+
+        defaultLivrableShouldBeFound("id.equals=" + id);
+        defaultLivrableShouldNotBeFound("id.notEquals=" + id);
+
+        defaultLivrableShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultLivrableShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultLivrableShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultLivrableShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllLivrablesByRefLivrableFiltering() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get all the livrableList where refLivrable equals to DEFAULT_REF_LIVRABLE
+        defaultLivrableShouldBeFound("refLivrable.equals=" + DEFAULT_REF_LIVRABLE);
+        // Get all the livrableList where refLivrable equals to UPDATED_REF_LIVRABLE
+        defaultLivrableShouldNotBeFound("refLivrable.equals=" + UPDATED_REF_LIVRABLE);
+
+        // Get all the livrableList where refLivrable in DEFAULT_REF_LIVRABLE or UPDATED_REF_LIVRABLE
+        defaultLivrableShouldBeFound("refLivrable.in=" + DEFAULT_REF_LIVRABLE + "," + UPDATED_REF_LIVRABLE);
+        // Get all the livrableList where refLivrable in UPDATED_REF_LIVRABLE
+        defaultLivrableShouldNotBeFound("refLivrable.in=" + UPDATED_REF_LIVRABLE);
+
+        // Get all the livrableList where refLivrable is not null
+        defaultLivrableShouldBeFound("refLivrable.specified=true");
+        // Get all the livrableList where refLivrable is null
+        defaultLivrableShouldNotBeFound("refLivrable.specified=false");
+
+        // Get all the livrableList where refLivrable contains DEFAULT_REF_LIVRABLE
+        defaultLivrableShouldBeFound("refLivrable.contains=" + DEFAULT_REF_LIVRABLE);
+        // Get all the livrableList where refLivrable contains UPDATED_REF_LIVRABLE
+        defaultLivrableShouldNotBeFound("refLivrable.contains=" + UPDATED_REF_LIVRABLE);
+
+        // Get all the livrableList where refLivrable does not contain DEFAULT_REF_LIVRABLE
+        defaultLivrableShouldNotBeFound("refLivrable.doesNotContain=" + DEFAULT_REF_LIVRABLE);
+        // Get all the livrableList where refLivrable does not contain UPDATED_REF_LIVRABLE
+        defaultLivrableShouldBeFound("refLivrable.doesNotContain=" + UPDATED_REF_LIVRABLE);
+    }
+
+    @Test
+    @Transactional
+    void getAllLivrablesByDateDebutFiltering() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get all the livrableList where dateDebut equals to DEFAULT_DATE_DEBUT
+        defaultLivrableShouldBeFound("dateDebut.equals=" + DEFAULT_DATE_DEBUT);
+        // Get all the livrableList where dateDebut equals to UPDATED_DATE_DEBUT
+        defaultLivrableShouldNotBeFound("dateDebut.equals=" + UPDATED_DATE_DEBUT);
+
+        // Get all the livrableList where dateDebut in DEFAULT_DATE_DEBUT or UPDATED_DATE_DEBUT
+        defaultLivrableShouldBeFound("dateDebut.in=" + DEFAULT_DATE_DEBUT + "," + UPDATED_DATE_DEBUT);
+        // Get all the livrableList where dateDebut in UPDATED_DATE_DEBUT
+        defaultLivrableShouldNotBeFound("dateDebut.in=" + UPDATED_DATE_DEBUT);
+
+        // Get all the livrableList where dateDebut is not null
+        defaultLivrableShouldBeFound("dateDebut.specified=true");
+        // Get all the livrableList where dateDebut is null
+        defaultLivrableShouldNotBeFound("dateDebut.specified=false");
+
+        // Get all the livrableList where dateDebut is greater than or equal to DEFAULT_DATE_DEBUT
+        defaultLivrableShouldBeFound("dateDebut.greaterThanOrEqual=" + DEFAULT_DATE_DEBUT);
+        // Get all the livrableList where dateDebut is greater than DEFAULT_DATE_DEBUT
+        defaultLivrableShouldNotBeFound("dateDebut.greaterThan=" + DEFAULT_DATE_DEBUT);
+
+        // Get all the livrableList where dateDebut is less than or equal to DEFAULT_DATE_DEBUT
+        defaultLivrableShouldBeFound("dateDebut.lessThanOrEqual=" + DEFAULT_DATE_DEBUT);
+        // Get all the livrableList where dateDebut is less than DEFAULT_DATE_DEBUT
+        defaultLivrableShouldNotBeFound("dateDebut.lessThan=" + DEFAULT_DATE_DEBUT);
+    }
+
+    @Test
+    @Transactional
+    void getAllLivrablesByDateFinFiltering() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get all the livrableList where dateFin equals to DEFAULT_DATE_FIN
+        defaultLivrableShouldBeFound("dateFin.equals=" + DEFAULT_DATE_FIN);
+        // Get all the livrableList where dateFin equals to UPDATED_DATE_FIN
+        defaultLivrableShouldNotBeFound("dateFin.equals=" + UPDATED_DATE_FIN);
+
+        // Get all the livrableList where dateFin in DEFAULT_DATE_FIN or UPDATED_DATE_FIN
+        defaultLivrableShouldBeFound("dateFin.in=" + DEFAULT_DATE_FIN + "," + UPDATED_DATE_FIN);
+        // Get all the livrableList where dateFin in UPDATED_DATE_FIN
+        defaultLivrableShouldNotBeFound("dateFin.in=" + UPDATED_DATE_FIN);
+
+        // Get all the livrableList where dateFin is not null
+        defaultLivrableShouldBeFound("dateFin.specified=true");
+        // Get all the livrableList where dateFin is null
+        defaultLivrableShouldNotBeFound("dateFin.specified=false");
+
+        // Get all the livrableList where dateFin is greater than or equal to DEFAULT_DATE_FIN
+        defaultLivrableShouldBeFound("dateFin.greaterThanOrEqual=" + DEFAULT_DATE_FIN);
+        // Get all the livrableList where dateFin is greater than DEFAULT_DATE_FIN
+        defaultLivrableShouldNotBeFound("dateFin.greaterThan=" + DEFAULT_DATE_FIN);
+
+        // Get all the livrableList where dateFin is less than or equal to DEFAULT_DATE_FIN
+        defaultLivrableShouldBeFound("dateFin.lessThanOrEqual=" + DEFAULT_DATE_FIN);
+        // Get all the livrableList where dateFin is less than DEFAULT_DATE_FIN
+        defaultLivrableShouldNotBeFound("dateFin.lessThan=" + DEFAULT_DATE_FIN);
+    }
+
+    @Test
+    @Transactional
+    void getAllLivrablesByDescriptionFiltering() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get all the livrableList where description equals to DEFAULT_DESCRIPTION
+        defaultLivrableShouldBeFound("description.equals=" + DEFAULT_DESCRIPTION);
+        // Get all the livrableList where description equals to UPDATED_DESCRIPTION
+        defaultLivrableShouldNotBeFound("description.equals=" + UPDATED_DESCRIPTION);
+
+        // Get all the livrableList where description in DEFAULT_DESCRIPTION or UPDATED_DESCRIPTION
+        defaultLivrableShouldBeFound("description.in=" + DEFAULT_DESCRIPTION + "," + UPDATED_DESCRIPTION);
+        // Get all the livrableList where description in UPDATED_DESCRIPTION
+        defaultLivrableShouldNotBeFound("description.in=" + UPDATED_DESCRIPTION);
+
+        // Get all the livrableList where description is not null
+        defaultLivrableShouldBeFound("description.specified=true");
+        // Get all the livrableList where description is null
+        defaultLivrableShouldNotBeFound("description.specified=false");
+
+        // Get all the livrableList where description contains DEFAULT_DESCRIPTION
+        defaultLivrableShouldBeFound("description.contains=" + DEFAULT_DESCRIPTION);
+        // Get all the livrableList where description contains UPDATED_DESCRIPTION
+        defaultLivrableShouldNotBeFound("description.contains=" + UPDATED_DESCRIPTION);
+
+        // Get all the livrableList where description does not contain DEFAULT_DESCRIPTION
+        defaultLivrableShouldNotBeFound("description.doesNotContain=" + DEFAULT_DESCRIPTION);
+        // Get all the livrableList where description does not contain UPDATED_DESCRIPTION
+        defaultLivrableShouldBeFound("description.doesNotContain=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    void getAllLivrablesByEtatFiltering() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get all the livrableList where etat equals to DEFAULT_ETAT
+        defaultLivrableShouldBeFound("etat.equals=" + DEFAULT_ETAT);
+        // Get all the livrableList where etat equals to UPDATED_ETAT
+        defaultLivrableShouldNotBeFound("etat.equals=" + UPDATED_ETAT);
+
+        // Get all the livrableList where etat in DEFAULT_ETAT or UPDATED_ETAT
+        defaultLivrableShouldBeFound("etat.in=" + DEFAULT_ETAT + "," + UPDATED_ETAT);
+        // Get all the livrableList where etat in UPDATED_ETAT
+        defaultLivrableShouldNotBeFound("etat.in=" + UPDATED_ETAT);
+
+        // Get all the livrableList where etat is not null
+        defaultLivrableShouldBeFound("etat.specified=true");
+        // Get all the livrableList where etat is null
+        defaultLivrableShouldNotBeFound("etat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllLivrablesByProjetIsEqualToSomething() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+        Long projetId = livrable.getProjet().getId();
+
+        // Get all the livrableList where projet equals to projetId
+        defaultLivrableShouldBeFound("projetId.equals=" + projetId);
+
+        // Get all the livrableList where projet equals to another projet
+        defaultLivrableShouldNotBeFound("projetId.equals=" + (projetId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultLivrableShouldBeFound(String filter) throws Exception {
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(livrable.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refLivrable").value(hasItem(DEFAULT_REF_LIVRABLE)))
+            .andExpect(jsonPath("$.[*].dateDebut").value(hasItem(DEFAULT_DATE_DEBUT.toString())))
+            .andExpect(jsonPath("$.[*].dateFin").value(hasItem(DEFAULT_DATE_FIN.toString())))
+            .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())));
+
+        // Check, that the count call also returns 1
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultLivrableShouldNotBeFound(String filter) throws Exception {
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingLivrable() throws Exception {
@@ -286,6 +553,28 @@ class LivrableResourceIT {
         restLivrableMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getLivrableByRef() throws Exception {
+        // Initialize the database
+        livrableRepository.saveAndFlush(livrable);
+
+        // Get the livrable by its reference
+        restLivrableMockMvc
+            .perform(get(ENTITY_API_URL + "/by-ref/{ref}", DEFAULT_REF_LIVRABLE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(livrable.getId().intValue()))
+            .andExpect(jsonPath("$.refLivrable").value(DEFAULT_REF_LIVRABLE));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingLivrableByRef() throws Exception {
+        // Get the livrable
+        restLivrableMockMvc.perform(get(ENTITY_API_URL + "/by-ref/{ref}", UPDATED_REF_LIVRABLE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingLivrable() throws Exception {
@@ -308,6 +597,7 @@ class LivrableResourceIT {
         restLivrableMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedLivrable.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedLivrable.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedLivrable))
             )
@@ -397,6 +687,7 @@ class LivrableResourceIT {
         restLivrableMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedLivrable.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedLivrable.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedLivrable))
             )
@@ -435,6 +726,7 @@ class LivrableResourceIT {
         restLivrableMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedLivrable.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedLivrable.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedLivrable))
             )
@@ -524,4 +816,14 @@ class LivrableResourceIT {
         List<Livrable> livrableList = livrableRepository.findAll();
         assertThat(livrableList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private String getETag(Long id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restLivrableMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }
@@ -22,6 +22,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -235,6 +236,49 @@ class MaintenanceResourceIT {
             .andExpect(jsonPath("$.[*].duree").value(hasItem(DEFAULT_DUREE.doubleValue())));
     }
 
+    @Test
+    @Transactional
+    void getAllMaintenanceSummaries() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get the summaries of all the maintenanceList
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(maintenance.getId().toString())))
+            .andExpect(jsonPath("$.[*].produit").value(hasItem(DEFAULT_PRODUIT)))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())))
+            .andExpect(jsonPath("$.[*].dateDebut").value(hasItem(DEFAULT_DATE_DEBUT.toString())))
+            .andExpect(jsonPath("$.[*].dateFin").value(hasItem(DEFAULT_DATE_FIN.toString())))
+            .andExpect(jsonPath("$.[*].duree").value(hasItem(DEFAULT_DUREE.doubleValue())))
+            .andExpect(jsonPath("$.[*].ressourceId").value(hasItem(maintenance.getRessource().getId().toString())))
+            .andExpect(jsonPath("$.[*].description").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenanceSummariesByCriteria() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get the summaries of the maintenanceList where produit equals to DEFAULT_PRODUIT
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&produit.equals=" + DEFAULT_PRODUIT))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(maintenance.getId().toString())))
+            .andExpect(jsonPath("$.[*].produit").value(hasItem(DEFAULT_PRODUIT)));
+
+        // Get the summaries of the maintenanceList where produit equals to UPDATED_PRODUIT
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&produit.equals=" + UPDATED_PRODUIT))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllMaintenancesWithEagerRelationshipsIsEnabled() throws Exception {
         when(maintenanceRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -273,6 +317,293 @@ class MaintenanceResourceIT {
             .andExpect(jsonPath("$.duree").value(DEFAULT_DUREE.doubleValue()));
     }
 
+    @Test
+    @Transactional
+    void getMaintenancesByIdFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        UUID id = maintenance.getId();
+
+        defaultMaintenanceShouldBeFound("id.equals=" + id);
+        defaultMaintenanceShouldNotBeFound("id.notEquals=" + id);
+
+        defaultMaintenanceShouldBeFound("id.in=" + id + "," + UUID.randomUUID());
+        defaultMaintenanceShouldNotBeFound("id.in=" + UUID.randomUUID());
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByDescriptionFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where description equals to DEFAULT_DESCRIPTION
+        defaultMaintenanceShouldBeFound("description.equals=" + DEFAULT_DESCRIPTION);
+        // Get all the maintenanceList where description equals to UPDATED_DESCRIPTION
+        defaultMaintenanceShouldNotBeFound("description.equals=" + UPDATED_DESCRIPTION);
+
+        // Get all the maintenanceList where description in DEFAULT_DESCRIPTION or UPDATED_DESCRIPTION
+        defaultMaintenanceShouldBeFound("description.in=" + DEFAULT_DESCRIPTION + "," + UPDATED_DESCRIPTION);
+        // Get all the maintenanceList where description in UPDATED_DESCRIPTION
+        defaultMaintenanceShouldNotBeFound("description.in=" + UPDATED_DESCRIPTION);
+
+        // Get all the maintenanceList where description is not null
+        defaultMaintenanceShouldBeFound("description.specified=true");
+        // Get all the maintenanceList where description is null
+        defaultMaintenanceShouldNotBeFound("description.specified=false");
+
+        // Get all the maintenanceList where description contains DEFAULT_DESCRIPTION
+        defaultMaintenanceShouldBeFound("description.contains=" + DEFAULT_DESCRIPTION);
+        // Get all the maintenanceList where description contains UPDATED_DESCRIPTION
+        defaultMaintenanceShouldNotBeFound("description.contains=" + UPDATED_DESCRIPTION);
+
+        // Get all the maintenanceList where description does not contain DEFAULT_DESCRIPTION
+        defaultMaintenanceShouldNotBeFound("description.doesNotContain=" + DEFAULT_DESCRIPTION);
+        // Get all the maintenanceList where description does not contain UPDATED_DESCRIPTION
+        defaultMaintenanceShouldBeFound("description.doesNotContain=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByProduitFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where produit equals to DEFAULT_PRODUIT
+        defaultMaintenanceShouldBeFound("produit.equals=" + DEFAULT_PRODUIT);
+        // Get all the maintenanceList where produit equals to UPDATED_PRODUIT
+        defaultMaintenanceShouldNotBeFound("produit.equals=" + UPDATED_PRODUIT);
+
+        // Get all the maintenanceList where produit in DEFAULT_PRODUIT or UPDATED_PRODUIT
+        defaultMaintenanceShouldBeFound("produit.in=" + DEFAULT_PRODUIT + "," + UPDATED_PRODUIT);
+        // Get all the maintenanceList where produit in UPDATED_PRODUIT
+        defaultMaintenanceShouldNotBeFound("produit.in=" + UPDATED_PRODUIT);
+
+        // Get all the maintenanceList where produit is not null
+        defaultMaintenanceShouldBeFound("produit.specified=true");
+        // Get all the maintenanceList where produit is null
+        defaultMaintenanceShouldNotBeFound("produit.specified=false");
+
+        // Get all the maintenanceList where produit contains DEFAULT_PRODUIT
+        defaultMaintenanceShouldBeFound("produit.contains=" + DEFAULT_PRODUIT);
+        // Get all the maintenanceList where produit contains UPDATED_PRODUIT
+        defaultMaintenanceShouldNotBeFound("produit.contains=" + UPDATED_PRODUIT);
+
+        // Get all the maintenanceList where produit does not contain DEFAULT_PRODUIT
+        defaultMaintenanceShouldNotBeFound("produit.doesNotContain=" + DEFAULT_PRODUIT);
+        // Get all the maintenanceList where produit does not contain UPDATED_PRODUIT
+        defaultMaintenanceShouldBeFound("produit.doesNotContain=" + UPDATED_PRODUIT);
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesBySolutionFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where solution equals to DEFAULT_SOLUTION
+        defaultMaintenanceShouldBeFound("solution.equals=" + DEFAULT_SOLUTION);
+        // Get all the maintenanceList where solution equals to UPDATED_SOLUTION
+        defaultMaintenanceShouldNotBeFound("solution.equals=" + UPDATED_SOLUTION);
+
+        // Get all the maintenanceList where solution in DEFAULT_SOLUTION or UPDATED_SOLUTION
+        defaultMaintenanceShouldBeFound("solution.in=" + DEFAULT_SOLUTION + "," + UPDATED_SOLUTION);
+        // Get all the maintenanceList where solution in UPDATED_SOLUTION
+        defaultMaintenanceShouldNotBeFound("solution.in=" + UPDATED_SOLUTION);
+
+        // Get all the maintenanceList where solution is not null
+        defaultMaintenanceShouldBeFound("solution.specified=true");
+        // Get all the maintenanceList where solution is null
+        defaultMaintenanceShouldNotBeFound("solution.specified=false");
+
+        // Get all the maintenanceList where solution contains DEFAULT_SOLUTION
+        defaultMaintenanceShouldBeFound("solution.contains=" + DEFAULT_SOLUTION);
+        // Get all the maintenanceList where solution contains UPDATED_SOLUTION
+        defaultMaintenanceShouldNotBeFound("solution.contains=" + UPDATED_SOLUTION);
+
+        // Get all the maintenanceList where solution does not contain DEFAULT_SOLUTION
+        defaultMaintenanceShouldNotBeFound("solution.doesNotContain=" + DEFAULT_SOLUTION);
+        // Get all the maintenanceList where solution does not contain UPDATED_SOLUTION
+        defaultMaintenanceShouldBeFound("solution.doesNotContain=" + UPDATED_SOLUTION);
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByEtatFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where etat equals to DEFAULT_ETAT
+        defaultMaintenanceShouldBeFound("etat.equals=" + DEFAULT_ETAT);
+        // Get all the maintenanceList where etat equals to UPDATED_ETAT
+        defaultMaintenanceShouldNotBeFound("etat.equals=" + UPDATED_ETAT);
+
+        // Get all the maintenanceList where etat in DEFAULT_ETAT or UPDATED_ETAT
+        defaultMaintenanceShouldBeFound("etat.in=" + DEFAULT_ETAT + "," + UPDATED_ETAT);
+        // Get all the maintenanceList where etat in UPDATED_ETAT
+        defaultMaintenanceShouldNotBeFound("etat.in=" + UPDATED_ETAT);
+
+        // Get all the maintenanceList where etat is not null
+        defaultMaintenanceShouldBeFound("etat.specified=true");
+        // Get all the maintenanceList where etat is null
+        defaultMaintenanceShouldNotBeFound("etat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByDateDebutFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where dateDebut equals to DEFAULT_DATE_DEBUT
+        defaultMaintenanceShouldBeFound("dateDebut.equals=" + DEFAULT_DATE_DEBUT);
+        // Get all the maintenanceList where dateDebut equals to UPDATED_DATE_DEBUT
+        defaultMaintenanceShouldNotBeFound("dateDebut.equals=" + UPDATED_DATE_DEBUT);
+
+        // Get all the maintenanceList where dateDebut in DEFAULT_DATE_DEBUT or UPDATED_DATE_DEBUT
+        defaultMaintenanceShouldBeFound("dateDebut.in=" + DEFAULT_DATE_DEBUT + "," + UPDATED_DATE_DEBUT);
+        // Get all the maintenanceList where dateDebut in UPDATED_DATE_DEBUT
+        defaultMaintenanceShouldNotBeFound("dateDebut.in=" + UPDATED_DATE_DEBUT);
+
+        // Get all the maintenanceList where dateDebut is not null
+        defaultMaintenanceShouldBeFound("dateDebut.specified=true");
+        // Get all the maintenanceList where dateDebut is null
+        defaultMaintenanceShouldNotBeFound("dateDebut.specified=false");
+
+        // Get all the maintenanceList where dateDebut is greater than or equal to DEFAULT_DATE_DEBUT
+        defaultMaintenanceShouldBeFound("dateDebut.greaterThanOrEqual=" + DEFAULT_DATE_DEBUT);
+        // Get all the maintenanceList where dateDebut is greater than DEFAULT_DATE_DEBUT
+        defaultMaintenanceShouldNotBeFound("dateDebut.greaterThan=" + DEFAULT_DATE_DEBUT);
+
+        // Get all the maintenanceList where dateDebut is less than or equal to DEFAULT_DATE_DEBUT
+        defaultMaintenanceShouldBeFound("dateDebut.lessThanOrEqual=" + DEFAULT_DATE_DEBUT);
+        // Get all the maintenanceList where dateDebut is less than DEFAULT_DATE_DEBUT
+        defaultMaintenanceShouldNotBeFound("dateDebut.lessThan=" + DEFAULT_DATE_DEBUT);
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByDateFinFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where dateFin equals to DEFAULT_DATE_FIN
+        defaultMaintenanceShouldBeFound("dateFin.equals=" + DEFAULT_DATE_FIN);
+        // Get all the maintenanceList where dateFin equals to UPDATED_DATE_FIN
+        defaultMaintenanceShouldNotBeFound("dateFin.equals=" + UPDATED_DATE_FIN);
+
+        // Get all the maintenanceList where dateFin in DEFAULT_DATE_FIN or UPDATED_DATE_FIN
+        defaultMaintenanceShouldBeFound("dateFin.in=" + DEFAULT_DATE_FIN + "," + UPDATED_DATE_FIN);
+        // Get all the maintenanceList where dateFin in UPDATED_DATE_FIN
+        defaultMaintenanceShouldNotBeFound("dateFin.in=" + UPDATED_DATE_FIN);
+
+        // Get all the maintenanceList where dateFin is not null
+        defaultMaintenanceShouldBeFound("dateFin.specified=true");
+        // Get all the maintenanceList where dateFin is null
+        defaultMaintenanceShouldNotBeFound("dateFin.specified=false");
+
+        // Get all the maintenanceList where dateFin is greater than or equal to DEFAULT_DATE_FIN
+        defaultMaintenanceShouldBeFound("dateFin.greaterThanOrEqual=" + DEFAULT_DATE_FIN);
+        // Get all the maintenanceList where dateFin is greater than DEFAULT_DATE_FIN
+        defaultMaintenanceShouldNotBeFound("dateFin.greaterThan=" + DEFAULT_DATE_FIN);
+
+        // Get all the maintenanceList where dateFin is less than or equal to DEFAULT_DATE_FIN
+        defaultMaintenanceShouldBeFound("dateFin.lessThanOrEqual=" + DEFAULT_DATE_FIN);
+        // Get all the maintenanceList where dateFin is less than DEFAULT_DATE_FIN
+        defaultMaintenanceShouldNotBeFound("dateFin.lessThan=" + DEFAULT_DATE_FIN);
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByDureeFiltering() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where duree equals to DEFAULT_DUREE
+        defaultMaintenanceShouldBeFound("duree.equals=" + DEFAULT_DUREE);
+        // Get all the maintenanceList where duree equals to UPDATED_DUREE
+        defaultMaintenanceShouldNotBeFound("duree.equals=" + UPDATED_DUREE);
+
+        // Get all the maintenanceList where duree in DEFAULT_DUREE or UPDATED_DUREE
+        defaultMaintenanceShouldBeFound("duree.in=" + DEFAULT_DUREE + "," + UPDATED_DUREE);
+        // Get all the maintenanceList where duree in UPDATED_DUREE
+        defaultMaintenanceShouldNotBeFound("duree.in=" + UPDATED_DUREE);
+
+        // Get all the maintenanceList where duree is not null
+        defaultMaintenanceShouldBeFound("duree.specified=true");
+        // Get all the maintenanceList where duree is null
+        defaultMaintenanceShouldNotBeFound("duree.specified=false");
+
+        // Get all the maintenanceList where duree is greater than or equal to DEFAULT_DUREE
+        defaultMaintenanceShouldBeFound("duree.greaterThanOrEqual=" + DEFAULT_DUREE);
+        // Get all the maintenanceList where duree is greater than DEFAULT_DUREE
+        defaultMaintenanceShouldNotBeFound("duree.greaterThan=" + DEFAULT_DUREE);
+
+        // Get all the maintenanceList where duree is less than or equal to DEFAULT_DUREE
+        defaultMaintenanceShouldBeFound("duree.lessThanOrEqual=" + DEFAULT_DUREE);
+        // Get all the maintenanceList where duree is less than DEFAULT_DUREE
+        defaultMaintenanceShouldNotBeFound("duree.lessThan=" + DEFAULT_DUREE);
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByRessourceIsEqualToSomething() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+        UUID ressourceId = maintenance.getRessource().getId();
+
+        // Get all the maintenanceList where ressource equals to ressourceId
+        defaultMaintenanceShouldBeFound("ressourceId.equals=" + ressourceId);
+
+        // Get all the maintenanceList where ressource equals to another ressource
+        defaultMaintenanceShouldNotBeFound("ressourceId.equals=" + UUID.randomUUID());
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultMaintenanceShouldBeFound(String filter) throws Exception {
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(maintenance.getId().toString())))
+            .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)))
+            .andExpect(jsonPath("$.[*].produit").value(hasItem(DEFAULT_PRODUIT)))
+            .andExpect(jsonPath("$.[*].solution").value(hasItem(DEFAULT_SOLUTION)))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())))
+            .andExpect(jsonPath("$.[*].dateDebut").value(hasItem(DEFAULT_DATE_DEBUT.toString())))
+            .andExpect(jsonPath("$.[*].dateFin").value(hasItem(DEFAULT_DATE_FIN.toString())))
+            .andExpect(jsonPath("$.[*].duree").value(hasItem(DEFAULT_DUREE.doubleValue())));
+
+        // Check, that the count call also returns 1
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultMaintenanceShouldNotBeFound(String filter) throws Exception {
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingMaintenance() throws Exception {
@@ -304,6 +635,7 @@ class MaintenanceResourceIT {
         restMaintenanceMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedMaintenance.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedMaintenance.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedMaintenance))
             )
@@ -401,6 +733,7 @@ class MaintenanceResourceIT {
         restMaintenanceMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedMaintenance.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedMaintenance.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedMaintenance))
             )
@@ -443,6 +776,7 @@ class MaintenanceResourceIT {
         restMaintenanceMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedMaintenance.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedMaintenance.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedMaintenance))
             )
@@ -536,4 +870,14 @@ class MaintenanceResourceIT {
         List<Maintenance> maintenanceList = maintenanceRepository.findAll();
         assertThat(maintenanceList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private String getETag(UUID id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }
@@ -1,11 +1,15 @@
 package tn.itdevspace.easytask.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.jayway.jsonpath.JsonPath;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -13,26 +17,42 @@ import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.domain.Activite;
 import tn.itdevspace.easytask.domain.Client;
+import tn.itdevspace.easytask.domain.Estimation;
+import tn.itdevspace.easytask.domain.Livrable;
 import tn.itdevspace.easytask.domain.Projet;
 import tn.itdevspace.easytask.domain.enumeration.Etat;
 import tn.itdevspace.easytask.domain.enumeration.Type;
+import tn.itdevspace.easytask.domain.enumeration.TypeEntite;
+import tn.itdevspace.easytask.repository.ClientRepository;
 import tn.itdevspace.easytask.repository.ProjetRepository;
 
 /**
@@ -65,21 +85,34 @@ class ProjetResourceIT {
     private static final String ENTITY_API_URL = "/api/projets";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final int BATCH_SIZE = 100;
+
     private static Random random = new Random();
     private static AtomicLong count = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
+    private final Logger log = LoggerFactory.getLogger(ProjetResourceIT.class);
+
     @Autowired
     private ProjetRepository projetRepository;
 
+    @Autowired
+    private ClientRepository clientRepository;
+
     @Mock
     private ProjetRepository projetRepositoryMock;
 
+    @Value("${spring.data.web.pageable.max-page-size}")
+    private int maxPageSize;
+
     @Autowired
     private EntityManager em;
 
     @Autowired
     private MockMvc restProjetMockMvc;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Projet projet;
 
     /**
@@ -180,6 +213,143 @@ class ProjetResourceIT {
         assertThat(projetList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void saveProjetsInBatches() throws Exception {
+        int databaseSizeBeforeCreate = projetRepository.findAll().size();
+        List<Projet> projets = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            projets.add(createEntity(em).refProjet("BATCH-" + i));
+        }
+
+        // Create the Projets with one request
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        long start = System.nanoTime();
+        MvcResult result;
+        try {
+            result =
+                restProjetMockMvc
+                    .perform(
+                        post(ENTITY_API_URL + "/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(TestUtil.convertObjectToJsonBytes(projets))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(BATCH_SIZE))
+                    .andExpect(jsonPath("$.[*].status").value(everyItem(is("CREATED"))))
+                    .andReturn();
+            // Inserts sent as JDBC batches and ids taken from the sequence by blocks: a few statements, not one per projet
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(BATCH_SIZE);
+            assertThat(statistics.getPrepareStatementCount()).isLessThan(BATCH_SIZE / 4);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        long batchedNanos = System.nanoTime() - start;
+
+        // Ids assigned in request order, below the next value of the sequence table
+        List<String> ids = JsonPath.read(result.getResponse().getContentAsString(), "$.[*].id");
+        List<Long> sortedIds = ids.stream().map(Long::valueOf).sorted().collect(Collectors.toList());
+        assertThat(ids.stream().map(Long::valueOf).collect(Collectors.toList())).doesNotHaveDuplicates().isEqualTo(sortedIds);
+        // Read in a new transaction, as the sequence table is written by transactions of its own
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Number nextVal = newTransaction.execute(status ->
+            (Number) em.createNativeQuery("select next_val from projet_seq").getSingleResult()
+        );
+        assertThat(sortedIds.get(sortedIds.size() - 1)).isLessThan(nextVal.longValue());
+        assertThat(projetRepository.findAll()).hasSize(databaseSizeBeforeCreate + BATCH_SIZE);
+
+        // The same number of projets created one request at a time, for comparison
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        start = System.nanoTime();
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                restProjetMockMvc
+                    .perform(
+                        post(ENTITY_API_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(TestUtil.convertObjectToJsonBytes(createEntity(em).refProjet("SINGLE-" + i)))
+                    )
+                    .andExpect(status().isCreated());
+                // As the commit of each request would
+                em.flush();
+            }
+            // At least one insert statement per projet
+            assertThat(statistics.getPrepareStatementCount()).isGreaterThanOrEqualTo(BATCH_SIZE);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        long singleNanos = System.nanoTime() - start;
+        log.info(
+            "Created {} projets with POST {}/batch at {} rows/s, with one POST {} each at {} rows/s",
+            BATCH_SIZE,
+            ENTITY_API_URL,
+            BATCH_SIZE * 1_000_000_000L / batchedNanos,
+            ENTITY_API_URL,
+            BATCH_SIZE * 1_000_000_000L / singleNanos
+        );
+        assertThat(batchedNanos).isLessThan(singleNanos);
+    }
+
+    @Test
+    @Transactional
+    void updateProjetsInBatchesOfTheirVersion() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+        Projet otherProjet = projetRepository.saveAndFlush(createEntity(em).refProjet("BATCH-OTHER"));
+        Long version = projet.getVersion();
+        // Disconnect from session so that the updates are not directly saved in db
+        em.detach(projet);
+        em.detach(otherProjet);
+        projet.setDescription(UPDATED_DESCRIPTION);
+        otherProjet.setDescription(UPDATED_DESCRIPTION);
+
+        // The other projet was read before an update: nothing is saved
+        otherProjet.setVersion(otherProjet.getVersion() - 1);
+        restProjetMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(projet, otherProjet)))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.[0].status").value("UPDATED"))
+            .andExpect(jsonPath("$.[1].status").value("PRECONDITION_FAILED"))
+            .andExpect(jsonPath("$.[1].code").value(412));
+
+        // An existing projet is not overwritten without its version
+        otherProjet.setVersion(null);
+        restProjetMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(projet, otherProjet)))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.[1].status").value("INVALID"))
+            .andExpect(jsonPath("$.[1].errors.[0]").value("version: required to update an existing entity"));
+        em.clear();
+        assertThat(projetRepository.findById(projet.getId()).get().getDescription()).isEqualTo(DEFAULT_DESCRIPTION);
+
+        restProjetMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(projet)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].status").value("UPDATED"))
+            .andExpect(jsonPath("$.[0].code").value(200));
+        em.clear();
+        Projet testProjet = projetRepository.findById(projet.getId()).get();
+        assertThat(testProjet.getDescription()).isEqualTo(UPDATED_DESCRIPTION);
+        assertThat(testProjet.getVersion()).isEqualTo(version + 1);
+        assertThat(projetRepository.findById(otherProjet.getId()).get().getDescription()).isEqualTo(DEFAULT_DESCRIPTION);
+    }
+
     @Test
     @Transactional
     void checkRefProjetIsRequired() throws Exception {
@@ -268,6 +438,85 @@ class ProjetResourceIT {
             .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllProjetsWithoutPage() throws Exception {
+        // Initialize the database with more projets than a default page
+        for (int i = 0; i < 25; i++) {
+            projetRepository.save(createEntity(em).refProjet("PAGE-" + i));
+        }
+        projetRepository.flush();
+        long databaseSize = projetRepository.count();
+
+        // A page of the max page size when no page is requested, as the webapp does
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", Long.toString(databaseSize)))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("size=" + maxPageSize)))
+            .andExpect(jsonPath("$.length()").value((int) Math.min(databaseSize, maxPageSize)));
+
+        // Never more than the max page size
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=" + (maxPageSize + 1)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.LINK, containsString("size=" + maxPageSize)));
+
+        // A page of the requested size otherwise
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=20"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", Long.toString(databaseSize)))
+            .andExpect(jsonPath("$.length()").value(20));
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&page=1&size=20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value((int) databaseSize - 20));
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetSummaries() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get the summaries of all the projetList
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(projet.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refProjet").value(hasItem(DEFAULT_REF_PROJET)))
+            .andExpect(jsonPath("$.[*].type").value(hasItem(DEFAULT_TYPE.toString())))
+            .andExpect(jsonPath("$.[*].datedebut").value(hasItem(DEFAULT_DATEDEBUT.toString())))
+            .andExpect(jsonPath("$.[*].datefin").value(hasItem(DEFAULT_DATEFIN.toString())))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())))
+            .andExpect(jsonPath("$.[*].clientId").value(hasItem(projet.getClient().getId().intValue())))
+            .andExpect(jsonPath("$.[*].description").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetSummariesByCriteria() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get the summaries of the projetList where refProjet equals to DEFAULT_REF_PROJET
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&refProjet.equals=" + DEFAULT_REF_PROJET))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(projet.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refProjet").value(hasItem(DEFAULT_REF_PROJET)));
+
+        // Get the summaries of the projetList where refProjet equals to UPDATED_REF_PROJET
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&refProjet.equals=" + UPDATED_REF_PROJET))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllProjetsWithEagerRelationshipsIsEnabled() throws Exception {
         when(projetRepositoryMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -285,6 +534,58 @@ class ProjetResourceIT {
         verify(projetRepositoryMock, times(1)).findAll(any(Pageable.class));
     }
 
+    @Test
+    @Transactional
+    void getAllProjetsFetchingCollectionsByBatches() throws Exception {
+        // Initialize the database with two projets, one with a livrable
+        projetRepository.saveAndFlush(projet);
+        projetRepository.saveAndFlush(createEntity(em).refProjet(UPDATED_REF_PROJET));
+        Livrable livrable = LivrableResourceIT.createEntity(em);
+        livrable.setProjet(projet);
+        em.persist(livrable);
+        em.flush();
+
+        // One select for the page and the clients, then one per collection fetched, whatever the number of projets
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc")).isEqualTo(1);
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc&fetch=livrables")).isEqualTo(2);
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc&fetch=estimations")).isEqualTo(2);
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc&fetch=livrables,estimations")).isEqualTo(3);
+
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&fetch=livrables"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].livrables[*].id").value(hasItem(livrable.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsFetchingUnknownCollection() throws Exception {
+        restProjetMockMvc.perform(get(ENTITY_API_URL + "?fetch=client")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getLivrablesOfProjet() throws Exception {
+        // Initialize the database with a livrable of the projet, and one of another projet
+        projetRepository.saveAndFlush(projet);
+        Livrable livrable = LivrableResourceIT.createEntity(em);
+        livrable.setProjet(projet);
+        em.persist(livrable);
+        Projet otherProjet = createEntity(em).refProjet(UPDATED_REF_PROJET);
+        em.persist(otherProjet);
+        Livrable otherLivrable = LivrableResourceIT.createEntity(em).refLivrable("BBBBBBBBBB");
+        otherLivrable.setProjet(otherProjet);
+        em.persist(otherLivrable);
+        em.flush();
+
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/livrables?sort=id,desc", projet.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(livrable.getId().intValue()));
+    }
+
     @Test
     @Transactional
     void getProjet() throws Exception {
@@ -305,6 +606,253 @@ class ProjetResourceIT {
             .andExpect(jsonPath("$.etat").value(DEFAULT_ETAT.toString()));
     }
 
+    @Test
+    @Transactional
+    void getProjetsByIdFiltering() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        Long id = projet.getId();
+
+        defaultProjetShouldBeFound("id.equals=" + id);
+        defaultProjetShouldNotBeFound("id.notEquals=" + id);
+
+        defaultProjetShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultProjetShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultProjetShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultProjetShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsByRefProjetFiltering() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get all the projetList where refProjet equals to DEFAULT_REF_PROJET
+        defaultProjetShouldBeFound("refProjet.equals=" + DEFAULT_REF_PROJET);
+        // Get all the projetList where refProjet equals to UPDATED_REF_PROJET
+        defaultProjetShouldNotBeFound("refProjet.equals=" + UPDATED_REF_PROJET);
+
+        // Get all the projetList where refProjet in DEFAULT_REF_PROJET or UPDATED_REF_PROJET
+        defaultProjetShouldBeFound("refProjet.in=" + DEFAULT_REF_PROJET + "," + UPDATED_REF_PROJET);
+        // Get all the projetList where refProjet in UPDATED_REF_PROJET
+        defaultProjetShouldNotBeFound("refProjet.in=" + UPDATED_REF_PROJET);
+
+        // Get all the projetList where refProjet is not null
+        defaultProjetShouldBeFound("refProjet.specified=true");
+        // Get all the projetList where refProjet is null
+        defaultProjetShouldNotBeFound("refProjet.specified=false");
+
+        // Get all the projetList where refProjet contains DEFAULT_REF_PROJET
+        defaultProjetShouldBeFound("refProjet.contains=" + DEFAULT_REF_PROJET);
+        // Get all the projetList where refProjet contains UPDATED_REF_PROJET
+        defaultProjetShouldNotBeFound("refProjet.contains=" + UPDATED_REF_PROJET);
+
+        // Get all the projetList where refProjet does not contain DEFAULT_REF_PROJET
+        defaultProjetShouldNotBeFound("refProjet.doesNotContain=" + DEFAULT_REF_PROJET);
+        // Get all the projetList where refProjet does not contain UPDATED_REF_PROJET
+        defaultProjetShouldBeFound("refProjet.doesNotContain=" + UPDATED_REF_PROJET);
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsByTypeFiltering() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get all the projetList where type equals to DEFAULT_TYPE
+        defaultProjetShouldBeFound("type.equals=" + DEFAULT_TYPE);
+        // Get all the projetList where type equals to UPDATED_TYPE
+        defaultProjetShouldNotBeFound("type.equals=" + UPDATED_TYPE);
+
+        // Get all the projetList where type in DEFAULT_TYPE or UPDATED_TYPE
+        defaultProjetShouldBeFound("type.in=" + DEFAULT_TYPE + "," + UPDATED_TYPE);
+        // Get all the projetList where type in UPDATED_TYPE
+        defaultProjetShouldNotBeFound("type.in=" + UPDATED_TYPE);
+
+        // Get all the projetList where type is not null
+        defaultProjetShouldBeFound("type.specified=true");
+        // Get all the projetList where type is null
+        defaultProjetShouldNotBeFound("type.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsByDescriptionFiltering() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get all the projetList where description equals to DEFAULT_DESCRIPTION
+        defaultProjetShouldBeFound("description.equals=" + DEFAULT_DESCRIPTION);
+        // Get all the projetList where description equals to UPDATED_DESCRIPTION
+        defaultProjetShouldNotBeFound("description.equals=" + UPDATED_DESCRIPTION);
+
+        // Get all the projetList where description in DEFAULT_DESCRIPTION or UPDATED_DESCRIPTION
+        defaultProjetShouldBeFound("description.in=" + DEFAULT_DESCRIPTION + "," + UPDATED_DESCRIPTION);
+        // Get all the projetList where description in UPDATED_DESCRIPTION
+        defaultProjetShouldNotBeFound("description.in=" + UPDATED_DESCRIPTION);
+
+        // Get all the projetList where description is not null
+        defaultProjetShouldBeFound("description.specified=true");
+        // Get all the projetList where description is null
+        defaultProjetShouldNotBeFound("description.specified=false");
+
+        // Get all the projetList where description contains DEFAULT_DESCRIPTION
+        defaultProjetShouldBeFound("description.contains=" + DEFAULT_DESCRIPTION);
+        // Get all the projetList where description contains UPDATED_DESCRIPTION
+        defaultProjetShouldNotBeFound("description.contains=" + UPDATED_DESCRIPTION);
+
+        // Get all the projetList where description does not contain DEFAULT_DESCRIPTION
+        defaultProjetShouldNotBeFound("description.doesNotContain=" + DEFAULT_DESCRIPTION);
+        // Get all the projetList where description does not contain UPDATED_DESCRIPTION
+        defaultProjetShouldBeFound("description.doesNotContain=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsByDatedebutFiltering() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get all the projetList where datedebut equals to DEFAULT_DATEDEBUT
+        defaultProjetShouldBeFound("datedebut.equals=" + DEFAULT_DATEDEBUT);
+        // Get all the projetList where datedebut equals to UPDATED_DATEDEBUT
+        defaultProjetShouldNotBeFound("datedebut.equals=" + UPDATED_DATEDEBUT);
+
+        // Get all the projetList where datedebut in DEFAULT_DATEDEBUT or UPDATED_DATEDEBUT
+        defaultProjetShouldBeFound("datedebut.in=" + DEFAULT_DATEDEBUT + "," + UPDATED_DATEDEBUT);
+        // Get all the projetList where datedebut in UPDATED_DATEDEBUT
+        defaultProjetShouldNotBeFound("datedebut.in=" + UPDATED_DATEDEBUT);
+
+        // Get all the projetList where datedebut is not null
+        defaultProjetShouldBeFound("datedebut.specified=true");
+        // Get all the projetList where datedebut is null
+        defaultProjetShouldNotBeFound("datedebut.specified=false");
+
+        // Get all the projetList where datedebut is greater than or equal to DEFAULT_DATEDEBUT
+        defaultProjetShouldBeFound("datedebut.greaterThanOrEqual=" + DEFAULT_DATEDEBUT);
+        // Get all the projetList where datedebut is greater than DEFAULT_DATEDEBUT
+        defaultProjetShouldNotBeFound("datedebut.greaterThan=" + DEFAULT_DATEDEBUT);
+
+        // Get all the projetList where datedebut is less than or equal to DEFAULT_DATEDEBUT
+        defaultProjetShouldBeFound("datedebut.lessThanOrEqual=" + DEFAULT_DATEDEBUT);
+        // Get all the projetList where datedebut is less than DEFAULT_DATEDEBUT
+        defaultProjetShouldNotBeFound("datedebut.lessThan=" + DEFAULT_DATEDEBUT);
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsByDatefinFiltering() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get all the projetList where datefin equals to DEFAULT_DATEFIN
+        defaultProjetShouldBeFound("datefin.equals=" + DEFAULT_DATEFIN);
+        // Get all the projetList where datefin equals to UPDATED_DATEFIN
+        defaultProjetShouldNotBeFound("datefin.equals=" + UPDATED_DATEFIN);
+
+        // Get all the projetList where datefin in DEFAULT_DATEFIN or UPDATED_DATEFIN
+        defaultProjetShouldBeFound("datefin.in=" + DEFAULT_DATEFIN + "," + UPDATED_DATEFIN);
+        // Get all the projetList where datefin in UPDATED_DATEFIN
+        defaultProjetShouldNotBeFound("datefin.in=" + UPDATED_DATEFIN);
+
+        // Get all the projetList where datefin is not null
+        defaultProjetShouldBeFound("datefin.specified=true");
+        // Get all the projetList where datefin is null
+        defaultProjetShouldNotBeFound("datefin.specified=false");
+
+        // Get all the projetList where datefin is greater than or equal to DEFAULT_DATEFIN
+        defaultProjetShouldBeFound("datefin.greaterThanOrEqual=" + DEFAULT_DATEFIN);
+        // Get all the projetList where datefin is greater than DEFAULT_DATEFIN
+        defaultProjetShouldNotBeFound("datefin.greaterThan=" + DEFAULT_DATEFIN);
+
+        // Get all the projetList where datefin is less than or equal to DEFAULT_DATEFIN
+        defaultProjetShouldBeFound("datefin.lessThanOrEqual=" + DEFAULT_DATEFIN);
+        // Get all the projetList where datefin is less than DEFAULT_DATEFIN
+        defaultProjetShouldNotBeFound("datefin.lessThan=" + DEFAULT_DATEFIN);
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsByEtatFiltering() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get all the projetList where etat equals to DEFAULT_ETAT
+        defaultProjetShouldBeFound("etat.equals=" + DEFAULT_ETAT);
+        // Get all the projetList where etat equals to UPDATED_ETAT
+        defaultProjetShouldNotBeFound("etat.equals=" + UPDATED_ETAT);
+
+        // Get all the projetList where etat in DEFAULT_ETAT or UPDATED_ETAT
+        defaultProjetShouldBeFound("etat.in=" + DEFAULT_ETAT + "," + UPDATED_ETAT);
+        // Get all the projetList where etat in UPDATED_ETAT
+        defaultProjetShouldNotBeFound("etat.in=" + UPDATED_ETAT);
+
+        // Get all the projetList where etat is not null
+        defaultProjetShouldBeFound("etat.specified=true");
+        // Get all the projetList where etat is null
+        defaultProjetShouldNotBeFound("etat.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllProjetsByClientIsEqualToSomething() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+        Long clientId = projet.getClient().getId();
+
+        // Get all the projetList where client equals to clientId
+        defaultProjetShouldBeFound("clientId.equals=" + clientId);
+
+        // Get all the projetList where client equals to another client
+        defaultProjetShouldNotBeFound("clientId.equals=" + (clientId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultProjetShouldBeFound(String filter) throws Exception {
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(projet.getId().intValue())))
+            .andExpect(jsonPath("$.[*].refProjet").value(hasItem(DEFAULT_REF_PROJET)))
+            .andExpect(jsonPath("$.[*].type").value(hasItem(DEFAULT_TYPE.toString())))
+            .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)))
+            .andExpect(jsonPath("$.[*].datedebut").value(hasItem(DEFAULT_DATEDEBUT.toString())))
+            .andExpect(jsonPath("$.[*].datefin").value(hasItem(DEFAULT_DATEFIN.toString())))
+            .andExpect(jsonPath("$.[*].etat").value(hasItem(DEFAULT_ETAT.toString())));
+
+        // Check, that the count call also returns 1
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultProjetShouldNotBeFound(String filter) throws Exception {
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingProjet() throws Exception {
@@ -312,6 +860,116 @@ class ProjetResourceIT {
         restProjetMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getProjetEstimationTree() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+        Livrable livrable = new Livrable().refLivrable("TREE-LIV").dateDebut(DEFAULT_DATEDEBUT).description("livrable").projet(projet);
+        em.persist(livrable);
+        Activite activite = new Activite().refAct("TREE-ACT").dateDebut(DEFAULT_DATEDEBUT).description("activite").livrable(livrable);
+        em.persist(activite);
+        // Each estimation counts once: on the level of its type if it is linked to it, otherwise on the deepest one
+        em.persist(new Estimation().type(TypeEntite.Projet).valeurJour(1D).valeurHeure(8D).projet(projet));
+        em.persist(new Estimation().valeurJour(2D).projet(projet).livrable(livrable));
+        em.persist(new Estimation().valeurJour(4D).projet(projet).livrable(livrable).activite(activite));
+        em.persist(new Estimation().type(TypeEntite.Livrable).valeurJour(8D).livrable(livrable).activite(activite));
+        em.persist(new Estimation().type(TypeEntite.Activite).valeurJour(16D).projet(projet).livrable(livrable));
+        em.persist(new Estimation().type(TypeEntite.Projet).valeurJour(32D).activite(activite));
+        em.flush();
+
+        // Get the estimation tree
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/estimation-tree", projet.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.type").value("Projet"))
+            .andExpect(jsonPath("$.id").value(projet.getId().intValue()))
+            .andExpect(jsonPath("$.valeurJour").value(1D))
+            .andExpect(jsonPath("$.totalValeurJour").value(63D))
+            .andExpect(jsonPath("$.totalValeurHeure").value(8D))
+            .andExpect(jsonPath("$.children.length()").value(1))
+            .andExpect(jsonPath("$.children[0].type").value("Livrable"))
+            .andExpect(jsonPath("$.children[0].ref").value("TREE-LIV"))
+            .andExpect(jsonPath("$.children[0].valeurJour").value(26D))
+            .andExpect(jsonPath("$.children[0].totalValeurJour").value(62D))
+            .andExpect(jsonPath("$.children[0].children.length()").value(1))
+            .andExpect(jsonPath("$.children[0].children[0].type").value("Activite"))
+            .andExpect(jsonPath("$.children[0].children[0].ref").value("TREE-ACT"))
+            .andExpect(jsonPath("$.children[0].children[0].valeurJour").value(36D))
+            .andExpect(jsonPath("$.children[0].children[0].totalValeurJour").value(36D));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingProjetEstimationTree() throws Exception {
+        restProjetMockMvc.perform(get(ENTITY_API_URL_ID + "/estimation-tree", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getProjetByRef() throws Exception {
+        // Initialize the database
+        projetRepository.saveAndFlush(projet);
+
+        // Get the projet by its reference
+        restProjetMockMvc
+            .perform(get(ENTITY_API_URL + "/by-ref/{ref}", DEFAULT_REF_PROJET))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(projet.getId().intValue()))
+            .andExpect(jsonPath("$.refProjet").value(DEFAULT_REF_PROJET));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingProjetByRef() throws Exception {
+        // Get the projet
+        restProjetMockMvc.perform(get(ENTITY_API_URL + "/by-ref/{ref}", UPDATED_REF_PROJET)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getProjetByRefAfterRefChange() throws Exception {
+        // Committed, the natural id cache being shared by the transactions
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Client client = clientRepository.saveAndFlush(
+            new Client().refClient("BYREF-CLIENT").nom("nom").prenom("prenom").contact("contact")
+        );
+        Projet saved = projetRepository.saveAndFlush(
+            new Projet()
+                .refProjet("BYREF-1")
+                .type(DEFAULT_TYPE)
+                .description(DEFAULT_DESCRIPTION)
+                .datedebut(DEFAULT_DATEDEBUT)
+                .client(client)
+        );
+        try {
+            // Resolved, then cached
+            restProjetMockMvc
+                .perform(get(ENTITY_API_URL + "/by-ref/{ref}", "BYREF-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(saved.getId().intValue()));
+
+            transactionTemplate.executeWithoutResult(status ->
+                projetRepository.findById(saved.getId()).orElseThrow().setRefProjet("BYREF-2")
+            );
+
+            // The cached reference is not resolved anymore, the new one is
+            restProjetMockMvc.perform(get(ENTITY_API_URL + "/by-ref/{ref}", "BYREF-1")).andExpect(status().isNotFound());
+            restProjetMockMvc
+                .perform(get(ENTITY_API_URL + "/by-ref/{ref}", "BYREF-2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(saved.getId().intValue()))
+                .andExpect(jsonPath("$.refProjet").value("BYREF-2"));
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                projetRepository.deleteById(saved.getId());
+                projetRepository.flush();
+                clientRepository.deleteById(client.getId());
+            });
+        }
+    }
+
     @Test
     @Transactional
     void putExistingProjet() throws Exception {
@@ -335,6 +993,7 @@ class ProjetResourceIT {
         restProjetMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedProjet.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedProjet.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedProjet))
             )
@@ -425,6 +1084,7 @@ class ProjetResourceIT {
         restProjetMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedProjet.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedProjet.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedProjet))
             )
@@ -465,6 +1125,7 @@ class ProjetResourceIT {
         restProjetMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedProjet.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedProjet.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedProjet))
             )
@@ -555,4 +1216,27 @@ class ProjetResourceIT {
         List<Projet> projetList = projetRepository.findAll();
         assertThat(projetList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private long countStatements(String url) throws Exception {
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            restProjetMockMvc.perform(get(url)).andExpect(status().isOk());
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private String getETag(Long id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restProjetMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }
@@ -5,18 +5,25 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import tn.itdevspace.easytask.IntegrationTest;
+import tn.itdevspace.easytask.domain.ChargeJournaliere;
+import tn.itdevspace.easytask.domain.Maintenance;
 import tn.itdevspace.easytask.domain.Ressource;
 import tn.itdevspace.easytask.repository.RessourceRepository;
 
@@ -160,6 +167,72 @@ class RessourceResourceIT {
             .andExpect(jsonPath("$.[*].prenom").value(hasItem(DEFAULT_PRENOM)));
     }
 
+    @Test
+    @Transactional
+    void createRessourceHashedBeforeSave() {
+        // The id assigned at construction is the one saved, so a ressource put in a set before being saved stays in it
+        UUID id = ressource.getId();
+        Set<Ressource> ressources = new HashSet<>(Set.of(ressource));
+        assertThat(ressource.getId()).isEqualTo(id);
+
+        ressourceRepository.saveAndFlush(ressource);
+
+        assertThat(ressource.getId()).isEqualTo(id);
+        assertThat(ressources).contains(ressource);
+        em.clear();
+        assertThat(ressourceRepository.findById(id)).isPresent();
+    }
+
+    @Test
+    @Transactional
+    void getAllRessourcesFetchingCollectionsByBatches() throws Exception {
+        // Initialize the database with two ressources, one with a maintenance and a chargeJournaliere
+        ressourceRepository.saveAndFlush(ressource);
+        ressourceRepository.saveAndFlush(createEntity(em));
+        Maintenance maintenance = MaintenanceResourceIT.createEntity(em);
+        maintenance.setRessource(ressource);
+        em.persist(maintenance);
+        ChargeJournaliere chargeJournaliere = ChargeJournaliereResourceIT.createEntity(em);
+        chargeJournaliere.setRessource(ressource);
+        em.persist(chargeJournaliere);
+        em.flush();
+
+        // One select for the page, then one per collection fetched, whatever the number of ressources
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc")).isEqualTo(1);
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc&fetch=maintenances")).isEqualTo(2);
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc&fetch=chargeJournalieres")).isEqualTo(2);
+        assertThat(countStatements(ENTITY_API_URL + "?sort=id,desc&fetch=maintenances,chargeJournalieres")).isEqualTo(3);
+
+        restRessourceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&fetch=maintenances,chargeJournalieres"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].maintenances[*].id").value(hasItem(maintenance.getId().toString())))
+            .andExpect(jsonPath("$.[*].chargeJournalieres[*].id").value(hasItem(chargeJournaliere.getId().toString())));
+    }
+
+    @Test
+    @Transactional
+    void getChargeJournalieresOfRessource() throws Exception {
+        // Initialize the database with a chargeJournaliere of the ressource, and one of another ressource
+        ressourceRepository.saveAndFlush(ressource);
+        ChargeJournaliere chargeJournaliere = ChargeJournaliereResourceIT.createEntity(em);
+        chargeJournaliere.setRessource(ressource);
+        em.persist(chargeJournaliere);
+        Ressource otherRessource = createEntity(em);
+        em.persist(otherRessource);
+        ChargeJournaliere otherChargeJournaliere = ChargeJournaliereResourceIT.createEntity(em);
+        otherChargeJournaliere.setRessource(otherRessource);
+        em.persist(otherChargeJournaliere);
+        em.flush();
+
+        restRessourceMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/charge-journalieres?sort=date,desc", ressource.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(chargeJournaliere.getId().toString()));
+    }
+
     @Test
     @Transactional
     void getRessource() throws Exception {
@@ -176,6 +249,124 @@ class RessourceResourceIT {
             .andExpect(jsonPath("$.prenom").value(DEFAULT_PRENOM));
     }
 
+    @Test
+    @Transactional
+    void getRessourcesByIdFiltering() throws Exception {
+        // Initialize the database
+        ressourceRepository.saveAndFlush(ressource);
+
+        UUID id = ressource.getId();
+
+        defaultRessourceShouldBeFound("id.equals=" + id);
+        defaultRessourceShouldNotBeFound("id.notEquals=" + id);
+
+        defaultRessourceShouldBeFound("id.in=" + id + "," + UUID.randomUUID());
+        defaultRessourceShouldNotBeFound("id.in=" + UUID.randomUUID());
+    }
+
+    @Test
+    @Transactional
+    void getAllRessourcesByNomFiltering() throws Exception {
+        // Initialize the database
+        ressourceRepository.saveAndFlush(ressource);
+
+        // Get all the ressourceList where nom equals to DEFAULT_NOM
+        defaultRessourceShouldBeFound("nom.equals=" + DEFAULT_NOM);
+        // Get all the ressourceList where nom equals to UPDATED_NOM
+        defaultRessourceShouldNotBeFound("nom.equals=" + UPDATED_NOM);
+
+        // Get all the ressourceList where nom in DEFAULT_NOM or UPDATED_NOM
+        defaultRessourceShouldBeFound("nom.in=" + DEFAULT_NOM + "," + UPDATED_NOM);
+        // Get all the ressourceList where nom in UPDATED_NOM
+        defaultRessourceShouldNotBeFound("nom.in=" + UPDATED_NOM);
+
+        // Get all the ressourceList where nom is not null
+        defaultRessourceShouldBeFound("nom.specified=true");
+        // Get all the ressourceList where nom is null
+        defaultRessourceShouldNotBeFound("nom.specified=false");
+
+        // Get all the ressourceList where nom contains DEFAULT_NOM
+        defaultRessourceShouldBeFound("nom.contains=" + DEFAULT_NOM);
+        // Get all the ressourceList where nom contains UPDATED_NOM
+        defaultRessourceShouldNotBeFound("nom.contains=" + UPDATED_NOM);
+
+        // Get all the ressourceList where nom does not contain DEFAULT_NOM
+        defaultRessourceShouldNotBeFound("nom.doesNotContain=" + DEFAULT_NOM);
+        // Get all the ressourceList where nom does not contain UPDATED_NOM
+        defaultRessourceShouldBeFound("nom.doesNotContain=" + UPDATED_NOM);
+    }
+
+    @Test
+    @Transactional
+    void getAllRessourcesByPrenomFiltering() throws Exception {
+        // Initialize the database
+        ressourceRepository.saveAndFlush(ressource);
+
+        // Get all the ressourceList where prenom equals to DEFAULT_PRENOM
+        defaultRessourceShouldBeFound("prenom.equals=" + DEFAULT_PRENOM);
+        // Get all the ressourceList where prenom equals to UPDATED_PRENOM
+        defaultRessourceShouldNotBeFound("prenom.equals=" + UPDATED_PRENOM);
+
+        // Get all the ressourceList where prenom in DEFAULT_PRENOM or UPDATED_PRENOM
+        defaultRessourceShouldBeFound("prenom.in=" + DEFAULT_PRENOM + "," + UPDATED_PRENOM);
+        // Get all the ressourceList where prenom in UPDATED_PRENOM
+        defaultRessourceShouldNotBeFound("prenom.in=" + UPDATED_PRENOM);
+
+        // Get all the ressourceList where prenom is not null
+        defaultRessourceShouldBeFound("prenom.specified=true");
+        // Get all the ressourceList where prenom is null
+        defaultRessourceShouldNotBeFound("prenom.specified=false");
+
+        // Get all the ressourceList where prenom contains DEFAULT_PRENOM
+        defaultRessourceShouldBeFound("prenom.contains=" + DEFAULT_PRENOM);
+        // Get all the ressourceList where prenom contains UPDATED_PRENOM
+        defaultRessourceShouldNotBeFound("prenom.contains=" + UPDATED_PRENOM);
+
+        // Get all the ressourceList where prenom does not contain DEFAULT_PRENOM
+        defaultRessourceShouldNotBeFound("prenom.doesNotContain=" + DEFAULT_PRENOM);
+        // Get all the ressourceList where prenom does not contain UPDATED_PRENOM
+        defaultRessourceShouldBeFound("prenom.doesNotContain=" + UPDATED_PRENOM);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultRessourceShouldBeFound(String filter) throws Exception {
+        restRessourceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(ressource.getId().toString())))
+            .andExpect(jsonPath("$.[*].nom").value(hasItem(DEFAULT_NOM)))
+            .andExpect(jsonPath("$.[*].prenom").value(hasItem(DEFAULT_PRENOM)));
+
+        // Check, that the count call also returns 1
+        restRessourceMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultRessourceShouldNotBeFound(String filter) throws Exception {
+        restRessourceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restRessourceMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingRessource() throws Exception {
@@ -200,6 +391,7 @@ class RessourceResourceIT {
         restRessourceMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, updatedRessource.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(updatedRessource.getId()))
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(updatedRessource))
             )
@@ -284,6 +476,7 @@ class RessourceResourceIT {
         restRessourceMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedRessource.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedRessource.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedRessource))
             )
@@ -314,6 +507,7 @@ class RessourceResourceIT {
         restRessourceMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedRessource.getId())
+                    .header(HttpHeaders.IF_MATCH, getETag(partialUpdatedRessource.getId()))
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedRessource))
             )
@@ -402,4 +596,27 @@ class RessourceResourceIT {
         List<Ressource> ressourceList = ressourceRepository.findAll();
         assertThat(ressourceList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    private long countStatements(String url) throws Exception {
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            restRessourceMockMvc.perform(get(url)).andExpect(status().isOk());
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private String getETag(UUID id) throws Exception {
+        // As read by the web application, which sends it back in If-Match when updating
+        return restRessourceMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    }
 }